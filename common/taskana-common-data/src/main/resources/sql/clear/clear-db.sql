@@ -13,4 +13,7 @@ DELETE FROM CLASSIFICATION;
 DELETE FROM OBJECT_REFERENCE;
 DELETE FROM SCHEDULED_JOB;
 DELETE FROM USER_INFO;
+DELETE FROM GROUP_INFO;
+DELETE FROM MONITOR_TASK_AGGREGATE;
+DELETE FROM CHANGE_VERSION;
 COMMIT;
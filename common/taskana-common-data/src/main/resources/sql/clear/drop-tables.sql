@@ -13,5 +13,8 @@ DROP TABLE CLASSIFICATION;
 DROP TABLE OBJECT_REFERENCE;
 DROP TABLE SCHEDULED_JOB;
 DROP TABLE USER_INFO;
+DROP TABLE GROUP_INFO;
+DROP TABLE MONITOR_TASK_AGGREGATE;
+DROP TABLE CHANGE_VERSION;
 DROP SEQUENCE SCHEDULED_JOB_SEQ;
 COMMIT;
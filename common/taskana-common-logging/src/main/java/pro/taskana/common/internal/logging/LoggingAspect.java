@@ -14,11 +14,32 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Traces the entry to and the exit from all methods of TASKANA, if the system property {@value
+ * #ENABLE_LOGGING_ASPECT_PROPERTY_KEY} is set to true and the logger of the class has the level
+ * TRACE.
+ *
+ * <p>If the system property {@value #LOGGING_ASPECT_SAMPLING_PROPERTY_KEY} is set as well, only a
+ * sample of the calls is traced by the {@linkplain SampledTraceLogger}, which renders the calls
+ * asynchronously. Its value contains the sampling rules, e.g. {@code
+ * pro.taskana.task.internal.*=0.1,pro.taskana.*=0.001}. The capacity of its queue can be set with
+ * the system property {@value #LOGGING_ASPECT_QUEUE_CAPACITY_PROPERTY_KEY}. Invalid sampling rules
+ * disable the sampling and an invalid capacity is replaced by the default capacity. Both are
+ * logged as a warning.
+ *
+ * <p>Both checks are done by if() pointcuts, so that the JoinPoint is only created for calls which
+ * are traced or pass the pre-sampling.
+ */
 @NoLogging
 @Aspect
 public class LoggingAspect {
 
   public static final String ENABLE_LOGGING_ASPECT_PROPERTY_KEY = "enableLoggingAspect";
+  public static final String LOGGING_ASPECT_SAMPLING_PROPERTY_KEY = "loggingAspectSampling";
+  public static final String LOGGING_ASPECT_QUEUE_CAPACITY_PROPERTY_KEY =
+      "loggingAspectQueueCapacity";
+  private static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+  private static final Logger LOGGER = LoggerFactory.getLogger(LoggingAspect.class);
   private static final Map<String, Logger> CLASS_TO_LOGGER = new ConcurrentHashMap<>();
 
   @Pointcut(
@@ -33,54 +54,97 @@ public class LoggingAspect {
           + " && !execution(boolean *.equals(Object))")
   public void traceLogging() {}
 
+  @Pointcut("if()")
+  public static boolean entryIsTraced() {
+    return isLoggingAspectEnabled() && LazyHolder.SAMPLED_TRACE_LOGGER == null;
+  }
+
+  @Pointcut("if()")
+  public static boolean exitIsTraced() {
+    return isLoggingAspectEnabled()
+        && (LazyHolder.SAMPLED_TRACE_LOGGER == null
+            || LazyHolder.SAMPLED_TRACE_LOGGER.isPreSampled());
+  }
+
   // This method exists, so that we can mock the system property during testing.
   public static boolean isLoggingAspectEnabled() {
     return LazyHolder.LOGGING_ASPECT_ENABLED;
   }
 
-  @Before("traceLogging()")
+  @Before("traceLogging() && entryIsTraced()")
   public void beforeMethodExecuted(JoinPoint joinPoint) {
-    if (isLoggingAspectEnabled()) {
-      MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-      String declaringTypeName = methodSignature.getDeclaringTypeName();
-      Logger currentLogger =
-          CLASS_TO_LOGGER.computeIfAbsent(declaringTypeName, LoggerFactory::getLogger);
-
-      if (currentLogger.isTraceEnabled()) {
-        String methodName = methodSignature.getName();
-        Object[] values = joinPoint.getArgs();
-        String[] parameterNames = methodSignature.getParameterNames();
-        String parametersValues = mapParametersNameValue(parameterNames, values);
-
-        currentLogger.trace("entry to {}({})", methodName, parametersValues);
-      }
+    MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+    String declaringTypeName = methodSignature.getDeclaringTypeName();
+    Logger currentLogger =
+        CLASS_TO_LOGGER.computeIfAbsent(declaringTypeName, LoggerFactory::getLogger);
+
+    if (currentLogger.isTraceEnabled()) {
+      String methodName = methodSignature.getName();
+      Object[] values = joinPoint.getArgs();
+      String[] parameterNames = methodSignature.getParameterNames();
+      String parametersValues = mapParametersNameValue(parameterNames, values);
+
+      currentLogger.trace("entry to {}({})", methodName, parametersValues);
     }
   }
 
-  @AfterReturning(pointcut = "traceLogging()", returning = "returnedObject")
+  @AfterReturning(pointcut = "traceLogging() && exitIsTraced()", returning = "returnedObject")
   public void afterMethodExecuted(JoinPoint joinPoint, Object returnedObject) {
-    if (isLoggingAspectEnabled()) {
-      MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
-      String declaringTypeName = methodSignature.getDeclaringTypeName();
-      Logger currentLogger =
-          CLASS_TO_LOGGER.computeIfAbsent(declaringTypeName, LoggerFactory::getLogger);
-
-      if (currentLogger.isTraceEnabled()) {
-        String methodName = methodSignature.getName();
-        // unfortunately necessary, because this method returns a raw type
-        Class<?> returnType = methodSignature.getReturnType();
-        if (returnType.isAssignableFrom(void.class)) {
-          currentLogger.trace("exit from {}.", methodName);
-        } else {
-          currentLogger.trace(
-              "exit from {}. Returning: '{}'",
-              methodName,
-              Objects.toString(returnedObject, "null"));
-        }
+    SampledTraceLogger sampledTraceLogger = LazyHolder.SAMPLED_TRACE_LOGGER;
+    if (sampledTraceLogger != null) {
+      if (sampledTraceLogger.isSampled(joinPoint.getStaticPart())) {
+        sampledTraceLogger.trace(joinPoint.getStaticPart(), joinPoint.getArgs(), returnedObject);
+      }
+      return;
+    }
+    MethodSignature methodSignature = (MethodSignature) joinPoint.getSignature();
+    String declaringTypeName = methodSignature.getDeclaringTypeName();
+    Logger currentLogger =
+        CLASS_TO_LOGGER.computeIfAbsent(declaringTypeName, LoggerFactory::getLogger);
+
+    if (currentLogger.isTraceEnabled()) {
+      String methodName = methodSignature.getName();
+      // unfortunately necessary, because this method returns a raw type
+      Class<?> returnType = methodSignature.getReturnType();
+      if (returnType.isAssignableFrom(void.class)) {
+        currentLogger.trace("exit from {}.", methodName);
+      } else {
+        currentLogger.trace(
+            "exit from {}. Returning: '{}'", methodName, Objects.toString(returnedObject, "null"));
       }
     }
   }
 
+  // This method must not throw an exception, because it is called by the static initializer of the
+  // LazyHolder. Otherwise every woven method would throw a NoClassDefFoundError.
+  static SampledTraceLogger createSampledTraceLogger(String samplingRules, String queueCapacity) {
+    int capacity = DEFAULT_QUEUE_CAPACITY;
+    if (queueCapacity != null) {
+      try {
+        capacity = Integer.parseInt(queueCapacity.trim());
+      } catch (NumberFormatException e) {
+        capacity = 0;
+      }
+      if (capacity < 1) {
+        LOGGER.warn(
+            "The system property {} has the invalid value '{}'. Using the default capacity {}.",
+            LOGGING_ASPECT_QUEUE_CAPACITY_PROPERTY_KEY,
+            queueCapacity,
+            DEFAULT_QUEUE_CAPACITY);
+        capacity = DEFAULT_QUEUE_CAPACITY;
+      }
+    }
+    try {
+      return new SampledTraceLogger(samplingRules, capacity);
+    } catch (IllegalArgumentException e) {
+      LOGGER.warn(
+          "The system property {} contains invalid sampling rules. All calls are traced.",
+          LOGGING_ASPECT_SAMPLING_PROPERTY_KEY,
+          e);
+      return null;
+    }
+  }
+
   private static String mapParametersNameValue(String[] parameterNames, Object[] values) {
     Map<String, Object> parametersNameToValue = new HashMap<>();
 
@@ -104,5 +168,20 @@ public class LoggingAspect {
   private static class LazyHolder {
     private static final boolean LOGGING_ASPECT_ENABLED =
         "true".equals(System.getProperty(ENABLE_LOGGING_ASPECT_PROPERTY_KEY));
+    private static final SampledTraceLogger SAMPLED_TRACE_LOGGER = createSampledTraceLogger();
+
+    private static SampledTraceLogger createSampledTraceLogger() {
+      String samplingRules = System.getProperty(LOGGING_ASPECT_SAMPLING_PROPERTY_KEY);
+      if (!LOGGING_ASPECT_ENABLED || samplingRules == null || samplingRules.trim().isEmpty()) {
+        return null;
+      }
+      SampledTraceLogger sampledTraceLogger =
+          LoggingAspect.createSampledTraceLogger(
+              samplingRules, System.getProperty(LOGGING_ASPECT_QUEUE_CAPACITY_PROPERTY_KEY));
+      if (sampledTraceLogger != null) {
+        sampledTraceLogger.start();
+      }
+      return sampledTraceLogger;
+    }
   }
 }
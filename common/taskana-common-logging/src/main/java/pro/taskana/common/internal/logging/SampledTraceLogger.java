@@ -0,0 +1,206 @@
+package pro.taskana.common.internal.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.Signature;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Traces a sample of the method calls asynchronously.
+ *
+ * <p>The sampling rules have the form {@code pattern=rate,pattern=rate}. The pattern is matched
+ * against the qualified name of the method, e.g. {@code
+ * pro.taskana.task.internal.TaskServiceImpl.claim}, and may contain the wildcard {@code *}. The
+ * rate is the fraction of the calls which are traced. The first matching rule applies and the
+ * calls of methods without a matching rule are not traced.
+ *
+ * <p>The sampling is done in two steps, because the method is only known once the JoinPoint has
+ * been created. At first, all calls are pre-sampled with the highest rate of all rules. Only for
+ * the pre-sampled calls the JoinPoint is created and the call is sampled with the rate of its rule
+ * divided by the highest rate.
+ *
+ * <p>A sampled call is traced once it has returned. The calling thread only checks the level of
+ * the logger and puts the arguments and the return value into a bounded queue. They are rendered
+ * and written by a single daemon thread, so the calling thread never pays for their toString().
+ * Therefore, the trace shows mutable arguments in the state at the time of writing, which may
+ * differ from their state at the time of the return. If the queue is full, the call is dropped and
+ * the number of dropped calls is logged later.
+ */
+@NoLogging
+final class SampledTraceLogger {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SampledTraceLogger.class);
+
+  private final List<SamplingRule> samplingRules;
+  private final double maxRate;
+  private final Map<JoinPoint.StaticPart, Double> rateByJoinPoint = new ConcurrentHashMap<>();
+  private final BlockingQueue<TracedCall> queue;
+  private final AtomicLong numberOfDroppedCalls = new AtomicLong();
+  private final Map<String, Logger> classToLogger = new ConcurrentHashMap<>();
+
+  SampledTraceLogger(String samplingRules, int queueCapacity) {
+    this.samplingRules =
+        Stream.of(samplingRules.split(","))
+            .map(String::trim)
+            .filter(rule -> !rule.isEmpty())
+            .map(SamplingRule::parse)
+            .collect(Collectors.toList());
+    this.maxRate =
+        Math.min(1, this.samplingRules.stream().mapToDouble(rule -> rule.rate).max().orElse(0));
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  void start() {
+    Thread writingThread = new Thread(this::writeContinuously, "taskana-trace-logger");
+    writingThread.setDaemon(true);
+    writingThread.start();
+  }
+
+  boolean isPreSampled() {
+    return isHit(maxRate);
+  }
+
+  boolean isSampled(JoinPoint.StaticPart staticPart) {
+    return isHit(rateByJoinPoint.computeIfAbsent(staticPart, this::determineRate) / maxRate);
+  }
+
+  void trace(JoinPoint.StaticPart staticPart, Object[] arguments, Object returnedObject) {
+    MethodSignature methodSignature = (MethodSignature) staticPart.getSignature();
+    Logger logger =
+        classToLogger.computeIfAbsent(
+            methodSignature.getDeclaringTypeName(), LoggerFactory::getLogger);
+    if (logger.isTraceEnabled()
+        && !queue.offer(new TracedCall(logger, methodSignature, arguments, returnedObject))) {
+      numberOfDroppedCalls.incrementAndGet();
+    }
+  }
+
+  // writes the queued calls in the current thread, as long as the writing thread is not started
+  void writeQueuedCalls() {
+    List<TracedCall> tracedCalls = new ArrayList<>();
+    queue.drainTo(tracedCalls);
+    tracedCalls.forEach(this::write);
+  }
+
+  private void writeContinuously() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        write(queue.take());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void write(TracedCall tracedCall) {
+    long dropped = numberOfDroppedCalls.getAndSet(0);
+    if (dropped > 0) {
+      LOGGER.warn("{} sampled calls were not traced, because the queue was full.", dropped);
+    }
+    MethodSignature methodSignature = tracedCall.methodSignature;
+    try {
+      String parameters =
+          renderParameters(methodSignature.getParameterNames(), tracedCall.arguments);
+      if (methodSignature.getReturnType() == void.class) {
+        tracedCall.logger.trace("call of {}({}).", methodSignature.getName(), parameters);
+      } else {
+        tracedCall.logger.trace(
+            "call of {}({}). Returning: '{}'",
+            methodSignature.getName(),
+            parameters,
+            Objects.toString(tracedCall.returnedObject, "null"));
+      }
+    } catch (RuntimeException e) {
+      LOGGER.warn("Could not trace the call of {}.", methodSignature.getName(), e);
+    }
+  }
+
+  private static String renderParameters(String[] parameterNames, Object[] values) {
+    StringBuilder stringBuilder = new StringBuilder();
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        stringBuilder.append(", ");
+      }
+      if (parameterNames != null && i < parameterNames.length) {
+        stringBuilder.append(parameterNames[i]).append(" = ");
+      }
+      stringBuilder.append(values[i]);
+    }
+    return stringBuilder.toString();
+  }
+
+  private static boolean isHit(double rate) {
+    return rate >= 1 || rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+  }
+
+  private double determineRate(JoinPoint.StaticPart staticPart) {
+    Signature signature = staticPart.getSignature();
+    String methodName = signature.getDeclaringTypeName() + "." + signature.getName();
+    return samplingRules.stream()
+        .filter(rule -> rule.pattern.matcher(methodName).matches())
+        .mapToDouble(rule -> rule.rate)
+        .findFirst()
+        .orElse(0);
+  }
+
+  private static class SamplingRule {
+
+    private final Pattern pattern;
+    private final double rate;
+
+    private SamplingRule(Pattern pattern, double rate) {
+      this.pattern = pattern;
+      this.rate = rate;
+    }
+
+    private static SamplingRule parse(String rule) {
+      int separator = rule.lastIndexOf('=');
+      if (separator < 1) {
+        throw new IllegalArgumentException(
+            String.format("The sampling rule '%s' does not have the form pattern=rate.", rule));
+      }
+      double rate;
+      try {
+        rate = Double.parseDouble(rule.substring(separator + 1).trim());
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException(
+            String.format("The rate of the sampling rule '%s' is not a number.", rule), e);
+      }
+      String[] parts = rule.substring(0, separator).trim().split("\\*", -1);
+      String regex =
+          Stream.of(parts)
+              .map(part -> part.isEmpty() ? "" : Pattern.quote(part))
+              .collect(Collectors.joining(".*"));
+      return new SamplingRule(Pattern.compile(regex), rate);
+    }
+  }
+
+  private static class TracedCall {
+
+    private final Logger logger;
+    private final MethodSignature methodSignature;
+    private final Object[] arguments;
+    private final Object returnedObject;
+
+    private TracedCall(
+        Logger logger, MethodSignature methodSignature, Object[] arguments, Object returnedObject) {
+      this.logger = logger;
+      this.methodSignature = methodSignature;
+      this.arguments = arguments;
+      this.returnedObject = returnedObject;
+    }
+  }
+}
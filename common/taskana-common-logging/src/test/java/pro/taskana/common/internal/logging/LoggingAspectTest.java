@@ -169,6 +169,29 @@ class LoggingAspectTest {
     assertThat(logger.getLoggingEvents()).isEmpty();
   }
 
+  @Test
+  void should_TraceAllCallsInsteadOfFailing_When_SamplingRuleIsInvalid() {
+    TestLogger warningLogger = TestLoggerFactory.getTestLogger(LoggingAspect.class);
+
+    assertThat(LoggingAspect.createSampledTraceLogger("pro.taskana.*", null)).isNull();
+
+    assertThat(warningLogger.getLoggingEvents())
+        .singleElement()
+        .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN));
+  }
+
+  @Test
+  void should_UseDefaultQueueCapacity_When_QueueCapacityIsInvalid() {
+    TestLogger warningLogger = TestLoggerFactory.getTestLogger(LoggingAspect.class);
+
+    assertThat(LoggingAspect.createSampledTraceLogger("pro.taskana.*=1", "0")).isNotNull();
+    assertThat(LoggingAspect.createSampledTraceLogger("pro.taskana.*=1", "many")).isNotNull();
+
+    assertThat(warningLogger.getLoggingEvents())
+        .hasSize(2)
+        .allSatisfy(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN));
+  }
+
   private void verifyLoggingStatement(
       TestLogger logger, String methodName, String arguments, Object returnValue) {
     assertThat(logger.getLoggingEvents()).hasSize(2);
@@ -0,0 +1,189 @@
+package pro.taskana.common.internal.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import uk.org.lidalia.slf4jext.Level;
+import uk.org.lidalia.slf4jtest.TestLogger;
+import uk.org.lidalia.slf4jtest.TestLoggerFactory;
+
+@NoLogging
+class SampledTraceLoggerTest {
+
+  private static final String DECLARING_TYPE_NAME = LoggingTestClass.class.getName();
+
+  @BeforeEach
+  void clearLoggers() {
+    TestLoggerFactory.clear();
+  }
+
+  @Test
+  void should_TraceCallAsynchronously_When_MethodMatchesRuleWithRateOne() {
+    SampledTraceLogger sampledTraceLogger =
+        new SampledTraceLogger("pro.taskana.*.LoggingTestClass.log*=1", 10);
+    JoinPoint.StaticPart staticPart =
+        createStaticPart("logInternalMethodWithReturnValueAndArguments", String.class);
+    final TestLogger logger = TestLoggerFactory.getTestLogger(DECLARING_TYPE_NAME);
+
+    assertThat(sampledTraceLogger.isPreSampled()).isTrue();
+    assertThat(sampledTraceLogger.isSampled(staticPart)).isTrue();
+    sampledTraceLogger.trace(staticPart, new Object[] {"message"}, "return value");
+
+    assertThat(logger.getLoggingEvents()).isEmpty();
+    sampledTraceLogger.writeQueuedCalls();
+    assertThat(logger.getLoggingEvents())
+        .singleElement()
+        .satisfies(
+            event -> {
+              assertThat(event.getLevel()).isEqualTo(Level.TRACE);
+              assertThat(event.getArguments())
+                  .containsExactly(
+                      "logInternalMethodWithReturnValueAndArguments",
+                      "param = message",
+                      "return value");
+            });
+  }
+
+  @Test
+  void should_RenderArgumentsAndReturnValueWhenWriting_When_CallIsTraced() {
+    SampledTraceLogger sampledTraceLogger = new SampledTraceLogger("pro.taskana.*=1", 10);
+    JoinPoint.StaticPart staticPart =
+        createStaticPart("logInternalMethodWithReturnValueAndArguments", String.class);
+    final TestLogger logger = TestLoggerFactory.getTestLogger(DECLARING_TYPE_NAME);
+    List<String> renderedObjects = new ArrayList<>();
+
+    sampledTraceLogger.trace(
+        staticPart,
+        new Object[] {new RenderedObject("argument", renderedObjects)},
+        new RenderedObject("return value", renderedObjects));
+
+    assertThat(renderedObjects).isEmpty();
+    sampledTraceLogger.writeQueuedCalls();
+    assertThat(renderedObjects).containsExactly("argument", "return value");
+    assertThat(logger.getLoggingEvents())
+        .singleElement()
+        .satisfies(
+            event ->
+                assertThat(event.getArguments())
+                    .containsExactly(
+                        "logInternalMethodWithReturnValueAndArguments",
+                        "param = argument",
+                        "return value"));
+  }
+
+  @Test
+  void should_WriteFollowingCalls_When_RenderingOfCallFails() {
+    SampledTraceLogger sampledTraceLogger = new SampledTraceLogger("pro.taskana.*=1", 10);
+    JoinPoint.StaticPart staticPart =
+        createStaticPart("logInternalMethodWithReturnValueAndArguments", String.class);
+    final TestLogger logger = TestLoggerFactory.getTestLogger(DECLARING_TYPE_NAME);
+    final TestLogger warningLogger = TestLoggerFactory.getTestLogger(SampledTraceLogger.class);
+    Object unrenderable =
+        new Object() {
+          @Override
+          public String toString() {
+            throw new IllegalStateException("modified concurrently");
+          }
+        };
+
+    sampledTraceLogger.trace(staticPart, new Object[] {unrenderable}, "first");
+    sampledTraceLogger.trace(staticPart, new Object[] {"message"}, "second");
+    sampledTraceLogger.writeQueuedCalls();
+
+    assertThat(warningLogger.getLoggingEvents())
+        .singleElement()
+        .satisfies(event -> assertThat(event.getLevel()).isEqualTo(Level.WARN));
+    assertThat(logger.getLoggingEvents())
+        .singleElement()
+        .satisfies(event -> assertThat(event.getArguments()).contains("second"));
+  }
+
+  @Test
+  void should_NotSampleCall_When_NoRuleMatchesMethod() {
+    SampledTraceLogger sampledTraceLogger =
+        new SampledTraceLogger("pro.taskana.task.*=1, pro.taskana.*.doStuff=0.5", 10);
+    JoinPoint.StaticPart staticPart = createStaticPart("logInternalMethod", void.class);
+
+    assertThat(IntStream.range(0, 100).filter(i -> sampledTraceLogger.isSampled(staticPart)))
+        .isEmpty();
+  }
+
+  @Test
+  void should_SampleCallsWithRateOfFirstMatchingRule_When_SeveralRulesMatch() {
+    SampledTraceLogger sampledTraceLogger =
+        new SampledTraceLogger("pro.taskana.*.logInternalMethod=0.25,pro.taskana.*=1", 10);
+    JoinPoint.StaticPart staticPart = createStaticPart("logInternalMethod", void.class);
+
+    long numberOfSampledCalls =
+        IntStream.range(0, 10_000).filter(i -> sampledTraceLogger.isSampled(staticPart)).count();
+
+    assertThat(numberOfSampledCalls).isBetween(2_000L, 3_000L);
+  }
+
+  @Test
+  void should_LogNumberOfDroppedCalls_When_QueueWasFull() {
+    SampledTraceLogger sampledTraceLogger = new SampledTraceLogger("pro.taskana.*=1", 1);
+    JoinPoint.StaticPart staticPart = createStaticPart("logInternalMethod", void.class);
+    final TestLogger logger = TestLoggerFactory.getTestLogger(DECLARING_TYPE_NAME);
+    final TestLogger warningLogger = TestLoggerFactory.getTestLogger(SampledTraceLogger.class);
+
+    sampledTraceLogger.trace(staticPart, new Object[0], null);
+    sampledTraceLogger.trace(staticPart, new Object[0], null);
+    sampledTraceLogger.trace(staticPart, new Object[0], null);
+    sampledTraceLogger.writeQueuedCalls();
+
+    assertThat(logger.getLoggingEvents())
+        .singleElement()
+        .satisfies(
+            event -> assertThat(event.getArguments()).containsExactly("logInternalMethod", ""));
+    assertThat(warningLogger.getLoggingEvents())
+        .singleElement()
+        .satisfies(event -> assertThat(event.getArguments()).containsExactly(2L));
+  }
+
+  @Test
+  void should_ThrowException_When_SamplingRuleHasNoRate() {
+    assertThatThrownBy(() -> new SampledTraceLogger("pro.taskana.*", 10))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new SampledTraceLogger("pro.taskana.*=often", 10))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static class RenderedObject {
+
+    private final String value;
+    private final List<String> renderedObjects;
+
+    private RenderedObject(String value, List<String> renderedObjects) {
+      this.value = value;
+      this.renderedObjects = renderedObjects;
+    }
+
+    @Override
+    public String toString() {
+      renderedObjects.add(value);
+      return value;
+    }
+  }
+
+  private static JoinPoint.StaticPart createStaticPart(String methodName, Class<?> returnType) {
+    MethodSignature methodSignature = mock(MethodSignature.class);
+    when(methodSignature.getDeclaringTypeName()).thenReturn(DECLARING_TYPE_NAME);
+    when(methodSignature.getName()).thenReturn(methodName);
+    when(methodSignature.getReturnType()).thenReturn(returnType);
+    when(methodSignature.getParameterNames())
+        .thenReturn(returnType == void.class ? new String[0] : new String[] {"param"});
+    JoinPoint.StaticPart staticPart = mock(JoinPoint.StaticPart.class);
+    when(staticPart.getSignature()).thenReturn(methodSignature);
+    return staticPart;
+  }
+}
@@ -2,6 +2,10 @@ package pro.taskana.common.api;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
 
 /**
  * Main query interface.
@@ -58,6 +62,43 @@ public interface BaseQuery<T, U extends Enum<U> & QueryColumnName> {
     return list(offset, limit);
   }
 
+  /**
+   * This method will return a stream of all objects of {@link T} which match the query. The stream
+   * may hold an open database cursor and the database connection of the query until it is closed.
+   * Therefore it must always be closed after its use, preferably by a try-with-resources statement:
+   *
+   * <pre>
+   * try (Stream&lt;TaskSummary&gt; tasks = taskService.createTaskQuery().stream()) {
+   *   tasks.forEach(...);
+   * }
+   * </pre>
+   *
+   * <p>Terminal operations do not close the stream. Use {@linkplain #forEach(Consumer, int)} if
+   * the cursor should be closed automatically. In case of a TaskQuery, this method can throw a
+   * NotAuthorizedToQueryWorkbasketException.
+   *
+   * @return Stream containing elements of type T
+   */
+  default Stream<T> stream() {
+    return list().stream();
+  }
+
+  /**
+   * This method will pass all objects of {@link T} which match the query to the given consumer.
+   * Implementations may read the objects with a database cursor instead of loading all of them
+   * into memory at once. The cursor is closed when this method returns. The consumer is called
+   * while the database connection of the query is held, so it must not change the objects in the
+   * database. In case of a TaskQuery, this method
+   * can throw a NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param consumer consumes every element of type T
+   * @param fetchSize number of rows which are fetched from the database at once
+   * @throws InvalidArgumentException if the fetchSize is less than 1
+   */
+  default void forEach(Consumer<T> consumer, int fetchSize) throws InvalidArgumentException {
+    list().forEach(consumer);
+  }
+
   /**
    * This method will return a single object of {@link T}. This method can throw a
    * TooManyResultsException. In case of a TaskQuery, this method can throw a
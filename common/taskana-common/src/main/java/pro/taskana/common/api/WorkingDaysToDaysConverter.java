@@ -6,13 +6,16 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.OptionalLong;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.LongStream;
 import java.util.stream.LongStream.Builder;
 
@@ -21,6 +24,10 @@ import pro.taskana.common.api.exceptions.SystemException;
 /**
  * The WorkingDaysToDaysConverter provides a method to convert an age in working days into an age in
  * days.
+ *
+ * <p>The working days are precomputed in a {@linkplain WorkingDayCalendar calendar} which is
+ * extended by whole years on demand. Therefore, adding working days to an instant or checking for
+ * working days in between two instants are constant time lookups.
  */
 public class WorkingDaysToDaysConverter {
 
@@ -30,6 +37,9 @@ public class WorkingDaysToDaysConverter {
   private static final long OFFSET_ASCENSION_DAY = 39; // Ascension Day
   private static final long OFFSET_WHIT_MONDAY = 50; // Whit Monday
   private static final long OFFSET_CORPUS_CHRISTI = 60; // Corpus Christi
+  private static final long SECONDS_PER_DAY = 86400;
+  // larger ranges are not indexed, but computed day by day
+  private static final int MAX_CALENDAR_YEARS = 1000;
   private static final Set<CustomHoliday> GERMAN_HOLIDAYS =
       new HashSet<>(
           Arrays.asList(
@@ -44,6 +54,7 @@ public class WorkingDaysToDaysConverter {
   private final boolean corpusChristiEnabled;
   private final Set<CustomHoliday> customHolidays;
   private final EasterCalculator easterCalculator;
+  private volatile WorkingDayCalendar calendar;
 
   public WorkingDaysToDaysConverter(boolean germanHolidaysEnabled, boolean corpusChristiEnabled) {
     this(germanHolidaysEnabled, corpusChristiEnabled, Collections.emptySet());
@@ -80,14 +91,33 @@ public class WorkingDaysToDaysConverter {
   // counts working days between two dates, exclusive for both margins.
   public boolean hasWorkingDaysInBetween(Instant left, Instant right) {
     long days = Duration.between(left, right).abs().toDays();
+    if (days < 2) {
+      return false;
+    }
     Instant firstInstant = left.isBefore(right) ? left : right;
+    ZoneId zone = ZoneId.systemDefault();
+    if (hasStableLocalDate(firstInstant, days, zone)) {
+      long firstDay = toEpochDay(firstInstant, zone) + 1;
+      long endDay = firstDay + days - 1;
+      WorkingDayCalendar workingDayCalendar = getCalendar(firstDay, endDay);
+      if (workingDayCalendar != null) {
+        return workingDayCalendar.getOrdinal(endDay) > workingDayCalendar.getOrdinal(firstDay);
+      }
+    }
     return LongStream.range(1, days).anyMatch(day -> isWorkingDay(firstInstant.plus(day, DAYS)));
   }
 
   public boolean isWorkingDay(Instant referenceDate) {
-    LocalDate dateToCheck =
-        LocalDateTime.ofInstant(referenceDate, ZoneId.systemDefault()).toLocalDate();
-    return !isWeekend(dateToCheck) && !isHoliday(dateToCheck);
+    long epochDay = toEpochDay(referenceDate, ZoneId.systemDefault());
+    WorkingDayCalendar workingDayCalendar = getCalendar(epochDay, epochDay + 1);
+    if (workingDayCalendar != null) {
+      return workingDayCalendar.isWorkingDay(epochDay);
+    }
+    return isWorkingDay(LocalDate.ofEpochDay(epochDay));
+  }
+
+  private boolean isWorkingDay(LocalDate date) {
+    return !isWeekend(date) && !isHoliday(date);
   }
 
   public boolean isWeekend(LocalDate dateToCheck) {
@@ -134,6 +164,11 @@ public class WorkingDaysToDaysConverter {
     }
     int direction = calculateDirection(numberOfDays, zeroDirection);
     long limit = Math.abs(numberOfDays);
+    ZoneId zone = ZoneId.systemDefault();
+    OptionalLong days = findWorkingDay(toEpochDay(startTime, zone), direction, limit);
+    if (days.isPresent() && hasStableLocalDate(startTime, days.getAsLong(), zone)) {
+      return days.getAsLong();
+    }
     return LongStream.iterate(0, i -> i + direction)
         .filter(day -> isWorkingDay(startTime.plus(day, DAYS)))
         .skip(limit)
@@ -141,6 +176,95 @@ public class WorkingDaysToDaysConverter {
         .orElse(0);
   }
 
+  // Returns the distance to the working day which is reached by skipping the given number of
+  // working days. The start day counts as working day if it is one. The result is empty if the
+  // range is too large for the calendar.
+  private OptionalLong findWorkingDay(long startDay, int direction, long limit) {
+    long fromDay = startDay;
+    long endDay = startDay + 1;
+    while (true) {
+      WorkingDayCalendar workingDayCalendar = getCalendar(fromDay, endDay);
+      if (workingDayCalendar == null) {
+        return OptionalLong.empty();
+      }
+      long ordinal =
+          direction > 0
+              ? workingDayCalendar.getOrdinal(startDay) + limit
+              : workingDayCalendar.getOrdinal(startDay + 1) - 1 - limit;
+      if (workingDayCalendar.hasOrdinal(ordinal)) {
+        return OptionalLong.of(workingDayCalendar.getDayOfOrdinal((int) ordinal) - startDay);
+      }
+      // every year has far more than 100 working days
+      long missingDays = (limit / 100 + 1) * 366;
+      if (direction > 0) {
+        endDay = workingDayCalendar.getEndDay() + missingDays;
+      } else {
+        fromDay = workingDayCalendar.getFirstDay() - missingDays;
+      }
+    }
+  }
+
+  // Checks whether the local date of each instant which is up to the given number of days away from
+  // the start is the local date of the start moved by the same number of days. This is not the
+  // case if a change of the zone offset moves a time close to midnight into another day.
+  private boolean hasStableLocalDate(Instant start, long days, ZoneId zone) {
+    ZoneRules rules = zone.getRules();
+    if (rules.isFixedOffset()) {
+      return true;
+    }
+    int startOffset = rules.getOffset(start).getTotalSeconds();
+    long secondOfDay = Math.floorMod(start.getEpochSecond() + startOffset, SECONDS_PER_DAY);
+    long endSecond = start.getEpochSecond() + days * SECONDS_PER_DAY;
+    Instant from = days >= 0 ? start : Instant.ofEpochSecond(endSecond);
+    long toSecond = Math.max(start.getEpochSecond(), endSecond);
+    ZoneOffsetTransition transition = rules.nextTransition(from);
+    while (transition != null && transition.getInstant().getEpochSecond() <= toSecond) {
+      if (!isSameDay(secondOfDay, transition.getOffsetBefore().getTotalSeconds() - startOffset)
+          || !isSameDay(secondOfDay, transition.getOffsetAfter().getTotalSeconds() - startOffset)) {
+        return false;
+      }
+      transition = rules.nextTransition(transition.getInstant());
+    }
+    return true;
+  }
+
+  private WorkingDayCalendar getCalendar(long fromDay, long endDay) {
+    WorkingDayCalendar workingDayCalendar = calendar;
+    if (workingDayCalendar != null && workingDayCalendar.contains(fromDay, endDay)) {
+      return workingDayCalendar;
+    }
+    return extendCalendar(fromDay, endDay);
+  }
+
+  private synchronized WorkingDayCalendar extendCalendar(long fromDay, long endDay) {
+    WorkingDayCalendar workingDayCalendar = calendar;
+    if (workingDayCalendar != null && workingDayCalendar.contains(fromDay, endDay)) {
+      return workingDayCalendar;
+    }
+    // one additional year on both sides avoids rebuilding the calendar too often
+    long firstYear = LocalDate.ofEpochDay(fromDay).getYear() - 1L;
+    long lastYear = LocalDate.ofEpochDay(endDay).getYear() + 1L;
+    if (workingDayCalendar != null) {
+      firstYear = Math.min(firstYear, workingDayCalendar.getFirstYear());
+      lastYear = Math.max(lastYear, workingDayCalendar.getLastYear());
+    }
+    if (lastYear - firstYear >= MAX_CALENDAR_YEARS) {
+      return null;
+    }
+    calendar = new WorkingDayCalendar((int) firstYear, (int) lastYear, this::isWorkingDay);
+    return calendar;
+  }
+
+  private static long toEpochDay(Instant instant, ZoneId zone) {
+    long offset = zone.getRules().getOffset(instant).getTotalSeconds();
+    return Math.floorDiv(instant.getEpochSecond() + offset, SECONDS_PER_DAY);
+  }
+
+  private static boolean isSameDay(long secondOfDay, long offsetDifference) {
+    long shiftedSecondOfDay = secondOfDay + offsetDifference;
+    return shiftedSecondOfDay >= 0 && shiftedSecondOfDay < SECONDS_PER_DAY;
+  }
+
   private int calculateDirection(long numberOfDays, ZeroDirection zeroDirection) {
     if (numberOfDays == 0) {
       return zeroDirection.getDirection();
@@ -177,6 +301,86 @@ public class WorkingDaysToDaysConverter {
     }
   }
 
+  /**
+   * Immutable index of the working days of a range of whole years. The days are addressed by their
+   * epoch day.
+   */
+  private static final class WorkingDayCalendar {
+
+    private final int firstYear;
+    private final int lastYear;
+    private final long firstDay;
+    private final long endDay;
+    // bit i is set if the i-th day of the calendar is a working day
+    private final long[] workingDays;
+    // ordinals[i] is the number of working days before the i-th day of the calendar
+    private final int[] ordinals;
+    // the index of each working day in the calendar, ordered by its ordinal
+    private final int[] workingDayIndexes;
+
+    private WorkingDayCalendar(int firstYear, int lastYear, Predicate<LocalDate> isWorkingDay) {
+      this.firstYear = firstYear;
+      this.lastYear = lastYear;
+      firstDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+      endDay = LocalDate.of(lastYear + 1, 1, 1).toEpochDay();
+      int size = (int) (endDay - firstDay);
+      workingDays = new long[(size + 63) >>> 6];
+      ordinals = new int[size + 1];
+      int[] indexes = new int[size];
+      int count = 0;
+      LocalDate date = LocalDate.ofEpochDay(firstDay);
+      for (int i = 0; i < size; i++) {
+        ordinals[i] = count;
+        if (isWorkingDay.test(date)) {
+          workingDays[i >>> 6] |= 1L << i;
+          indexes[count++] = i;
+        }
+        date = date.plusDays(1);
+      }
+      ordinals[size] = count;
+      workingDayIndexes = Arrays.copyOf(indexes, count);
+    }
+
+    private int getFirstYear() {
+      return firstYear;
+    }
+
+    private int getLastYear() {
+      return lastYear;
+    }
+
+    private long getFirstDay() {
+      return firstDay;
+    }
+
+    private long getEndDay() {
+      return endDay;
+    }
+
+    // checks whether the calendar contains all days from fromDay inclusive to endDay exclusive
+    private boolean contains(long fromDay, long endDay) {
+      return fromDay >= firstDay && endDay <= this.endDay;
+    }
+
+    private boolean isWorkingDay(long epochDay) {
+      int index = (int) (epochDay - firstDay);
+      return (workingDays[index >>> 6] & (1L << index)) != 0;
+    }
+
+    // returns the number of working days of the calendar before the given day
+    private int getOrdinal(long epochDay) {
+      return ordinals[(int) (epochDay - firstDay)];
+    }
+
+    private boolean hasOrdinal(long ordinal) {
+      return ordinal >= 0 && ordinal < workingDayIndexes.length;
+    }
+
+    private long getDayOfOrdinal(int ordinal) {
+      return firstDay + workingDayIndexes[ordinal];
+    }
+  }
+
   static class EasterCalculator {
     LocalDate cachedEasterDay;
 
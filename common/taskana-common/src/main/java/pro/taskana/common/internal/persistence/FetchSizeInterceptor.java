@@ -0,0 +1,46 @@
+package pro.taskana.common.internal.persistence;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+
+/**
+ * Applies the JDBC fetch size of a {@linkplain FetchSizeAware query} to the statement which
+ * executes it. MyBatis only supports a fetch size per mapped statement.
+ */
+@Intercepts(
+    @Signature(
+        type = StatementHandler.class,
+        method = "prepare",
+        args = {Connection.class, Integer.class}))
+public class FetchSizeInterceptor implements Interceptor {
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Statement statement = (Statement) invocation.proceed();
+    Object parameter =
+        ((StatementHandler) invocation.getTarget()).getParameterHandler().getParameterObject();
+    if (parameter instanceof FetchSizeAware) {
+      Integer fetchSize = ((FetchSizeAware) parameter).getFetchSize();
+      if (fetchSize != null) {
+        statement.setFetchSize(fetchSize);
+      }
+    }
+    return statement;
+  }
+
+  /** A query parameter which determines the JDBC fetch size of its statement. */
+  public interface FetchSizeAware {
+
+    /**
+     * Returns the fetch size for the statement of this query.
+     *
+     * @return the fetch size or null if the default of the statement should be used
+     */
+    Integer getFetchSize();
+  }
+}
@@ -0,0 +1,198 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+/**
+ * A map which holds the JSON object it has been read from and parses it on the first access.
+ *
+ * <p>As long as the map is not dirty, the {@linkplain MapTypeHandler} writes the JSON object back
+ * without serializing the map again. The map becomes dirty with the first call of a modifying
+ * method or of a method which returns a view of the map, because the view can be modified as
+ * well. The same applies to reading a nested map or list.
+ *
+ * <p>The JSON object is parsed only once, even if the map is read by several threads. Like a
+ * HashMap, the map must not be modified concurrently.
+ */
+final class LazyJsonMap implements Map<String, Object> {
+
+  // null, as soon as the map is dirty
+  private volatile String json;
+  // null, until the JSON object is parsed
+  private volatile Map<String, Object> map;
+
+  LazyJsonMap(String json) {
+    this.json = json;
+  }
+
+  /**
+   * Returns the JSON object this map has been read from, as long as the map is not dirty.
+   *
+   * @return the JSON object or null, if the map is dirty
+   */
+  String getUnchangedJson() {
+    return json;
+  }
+
+  @Override
+  public int size() {
+    return read().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return read().isEmpty();
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return read().containsKey(key);
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    return read().containsValue(value);
+  }
+
+  @Override
+  public Object get(Object key) {
+    return markDirtyIfMutable(read().get(key));
+  }
+
+  @Override
+  public Object getOrDefault(Object key, Object defaultValue) {
+    return markDirtyIfMutable(read().getOrDefault(key, defaultValue));
+  }
+
+  @Override
+  public Object put(String key, Object value) {
+    return write().put(key, value);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return write().remove(key);
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ?> m) {
+    write().putAll(m);
+  }
+
+  @Override
+  public void clear() {
+    write().clear();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return write().keySet();
+  }
+
+  @Override
+  public Collection<Object> values() {
+    return write().values();
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    return write().entrySet();
+  }
+
+  @Override
+  public void forEach(BiConsumer<? super String, ? super Object> action) {
+    read().forEach((key, value) -> action.accept(key, markDirtyIfMutable(value)));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o == this || read().equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return read().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return read().toString();
+  }
+
+  private Map<String, Object> read() {
+    Map<String, Object> parsedMap = map;
+    if (parsedMap == null) {
+      synchronized (this) {
+        parsedMap = map;
+        if (parsedMap == null) {
+          parsedMap = parse(json);
+          map = parsedMap;
+        }
+      }
+    }
+    return parsedMap;
+  }
+
+  private Map<String, Object> write() {
+    Map<String, Object> parsedMap = read();
+    json = null;
+    return parsedMap;
+  }
+
+  private Object markDirtyIfMutable(Object value) {
+    if (value instanceof Map || value instanceof List) {
+      json = null;
+    }
+    return value;
+  }
+
+  // reads the entries one by one, like JSONObject does, but without an intermediate JSONObject
+  private static Map<String, Object> parse(String json) {
+    JSONTokener tokener = new JSONTokener(json);
+    if (tokener.nextClean() != '{') {
+      throw tokener.syntaxError("A JSONObject text must begin with '{'");
+    }
+    Map<String, Object> parsedMap = new HashMap<>();
+    if (tokener.nextClean() == '}') {
+      return parsedMap;
+    }
+    tokener.back();
+    while (true) {
+      String key = tokener.nextValue().toString();
+      if (tokener.nextClean() != ':') {
+        throw tokener.syntaxError("Expected a ':' after a key");
+      }
+      parsedMap.put(key, unwrap(tokener.nextValue()));
+      switch (tokener.nextClean()) {
+        case ',':
+          if (tokener.nextClean() == '}') {
+            return parsedMap;
+          }
+          tokener.back();
+          break;
+        case '}':
+          return parsedMap;
+        default:
+          throw tokener.syntaxError("Expected a ',' or '}'");
+      }
+    }
+  }
+
+  private static Object unwrap(Object value) {
+    if (value instanceof JSONObject) {
+      return ((JSONObject) value).toMap();
+    } else if (value instanceof JSONArray) {
+      return ((JSONArray) value).toList();
+    } else if (JSONObject.NULL.equals(value)) {
+      return null;
+    }
+    return value;
+  }
+}
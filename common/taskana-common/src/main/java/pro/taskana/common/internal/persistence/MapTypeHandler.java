@@ -1,33 +1,50 @@
 package pro.taskana.common.internal.persistence;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
 import org.apache.ibatis.type.BaseTypeHandler;
 import org.apache.ibatis.type.JdbcType;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** This Typehandler will transfer a Map into an xml blob and back. */
+/**
+ * This Typehandler will transfer a Map into a JSON object and back.
+ *
+ * <p>The JSON object is only parsed when the returned map is accessed for the first time. As long
+ * as that map has not been changed, it is written back as it has been read.
+ */
 public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MapTypeHandler.class);
+  private static final Pattern EMPTY_JSON_OBJECT = Pattern.compile("\\s*\\{\\s*}\\s*");
 
   @Override
   public void setNonNullParameter(
       PreparedStatement ps, int i, Map<String, Object> parameter, JdbcType jdbcType)
       throws SQLException {
-    if (parameter != null && parameter.size() > 0) {
+    String unchangedJson =
+        parameter instanceof LazyJsonMap ? ((LazyJsonMap) parameter).getUnchangedJson() : null;
+    if (unchangedJson != null) {
+      if (EMPTY_JSON_OBJECT.matcher(unchangedJson).matches()) {
+        ps.setNull(i, Types.BLOB);
+      } else {
+        ps.setString(i, unchangedJson);
+      }
+    } else if (parameter != null && parameter.size() > 0) {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Input-Map before serializing: {}", parameter);
       }
-      // Convert Map to JSON string
-      JSONObject jsonObj = new JSONObject(parameter);
-      ps.setString(i, jsonObj.toString());
+      ps.setString(i, convertToJson(parameter));
     } else {
       ps.setNull(i, Types.BLOB);
     }
@@ -38,7 +55,7 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
       throws SQLException {
     String fieldValue = rs.getString(columnName);
     if (fieldValue != null) {
-      return convertToMap(fieldValue);
+      return new LazyJsonMap(fieldValue);
     }
     return null;
   }
@@ -47,7 +64,7 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
   public Map<String, Object> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
     String fieldValue = rs.getString(columnIndex);
     if (fieldValue != null) {
-      return convertToMap(fieldValue);
+      return new LazyJsonMap(fieldValue);
     }
     return null;
   }
@@ -57,13 +74,37 @@ public class MapTypeHandler extends BaseTypeHandler<Map<String, Object>> {
       throws SQLException {
     String fieldValue = cs.getString(columnIndex);
     if (fieldValue != null) {
-      return convertToMap(fieldValue);
+      return new LazyJsonMap(fieldValue);
     }
     return null;
   }
 
-  private Map<String, Object> convertToMap(String fieldValue) {
-    JSONObject jsonObj = new JSONObject(fieldValue);
-    return jsonObj.toMap();
+  // writes the entries one by one and skips null values, like JSONObject does
+  private static String convertToJson(Map<String, Object> map) {
+    StringWriter json = new StringWriter(map.size() * 64);
+    try {
+      json.write('{');
+      boolean first = true;
+      for (Entry<String, Object> entry : map.entrySet()) {
+        Object value = entry.getValue();
+        if (value != null) {
+          if (!first) {
+            json.write(',');
+          }
+          first = false;
+          JSONObject.quote(entry.getKey(), json);
+          json.write(':');
+          if (value instanceof String) {
+            JSONObject.quote((String) value, json);
+          } else {
+            json.write(JSONObject.valueToString(value));
+          }
+        }
+      }
+      json.write('}');
+    } catch (IOException e) {
+      throw new JSONException(e);
+    }
+    return json.toString();
   }
 }
@@ -8,6 +8,20 @@ public interface TaskanaTransactionProvider {
 
   <T> T executeInTransaction(Supplier<T> supplier);
 
+  /**
+   * Executes the supplier in a transaction of its own, which is committed even if a transaction
+   * which is already active is rolled back later on. This is e.g. needed for jobs which commit
+   * their progress in chunks. By default, {@linkplain #executeInTransaction(Supplier)} is used,
+   * which has to start a new transaction then.
+   *
+   * @param supplier the supplier to execute
+   * @param <T> the type of the result
+   * @return the result of the supplier
+   */
+  default <T> T executeInNewTransaction(Supplier<T> supplier) {
+    return executeInTransaction(supplier);
+  }
+
   static <T> T executeInTransactionIfPossible(
       TaskanaTransactionProvider transactionProvider, Supplier<T> supplier) {
     return transactionProvider != null
@@ -24,4 +38,11 @@ public interface TaskanaTransactionProvider {
           return null;
         });
   }
+
+  static <T> T executeInNewTransactionIfPossible(
+      TaskanaTransactionProvider transactionProvider, Supplier<T> supplier) {
+    return transactionProvider != null
+        ? transactionProvider.executeInNewTransaction(supplier)
+        : supplier.get();
+  }
 }
@@ -1,8 +1,20 @@
 package pro.taskana.common.internal.util;
 
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
-/** This class contains util methods for generating ids. */
+/**
+ * This class contains util methods for generating ids.
+ *
+ * <p>By default, the ids consist of the prefix and a time ordered UUID in the layout of UUID
+ * version 7: the first 48 bits contain the current unix time in milliseconds, followed by a 12 bit
+ * sequence which keeps the ids of the same millisecond ascending, and 62 random bits of a thread
+ * local random source. Therefore, ids generated one after another are inserted next to each other
+ * into the primary key indexes. The generation can be replaced with {@linkplain
+ * #setIdGeneration(UnaryOperator)}.
+ */
 public final class IdGenerator {
 
   public static final String ID_PREFIX_CLASSIFICATION = "CLI";
@@ -22,6 +34,16 @@ public final class IdGenerator {
   public static final String ID_PREFIX_TASK_HISTORY_EVENT = "THI";
 
   private static final String SEPARATOR = ":";
+  private static final int SEQUENCE_BITS = 12;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+  private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+  // the unix time in milliseconds and the sequence within this millisecond of the last id
+  private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+  private static final UnaryOperator<String> DEFAULT_ID_GENERATION =
+      IdGenerator::generateTimeOrdered;
+
+  private static volatile UnaryOperator<String> idGeneration = DEFAULT_ID_GENERATION;
 
   // disable initialization
   private IdGenerator() {}
@@ -33,6 +55,40 @@ public final class IdGenerator {
    * @return a String with a length of 40 characters
    */
   public static String generateWithPrefix(String prefix) {
-    return prefix + SEPARATOR + UUID.randomUUID();
+    return idGeneration.apply(prefix);
+  }
+
+  /**
+   * Replaces the generation of the ids for the whole JVM.
+   *
+   * @param idGeneration creates the id for the given prefix. The id has to start with the prefix
+   *     followed by a colon and must not be longer than 40 characters. If null, the default
+   *     generation of time ordered ids is restored.
+   */
+  public static void setIdGeneration(UnaryOperator<String> idGeneration) {
+    IdGenerator.idGeneration = idGeneration == null ? DEFAULT_ID_GENERATION : idGeneration;
+  }
+
+  /**
+   * Creates a time ordered UUID. Every UUID is greater than all UUIDs created before by this JVM,
+   * as long as the system clock is not set back.
+   *
+   * @return the time ordered UUID
+   */
+  public static UUID generateTimeOrderedUuid() {
+    long now = System.currentTimeMillis() << SEQUENCE_BITS;
+    // if more than 4096 ids are created within one millisecond, the timestamp runs ahead
+    long timestampAndSequence =
+        LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(last -> Math.max(last + 1, now));
+    long timestamp = timestampAndSequence >>> SEQUENCE_BITS;
+    long sequence = timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+    long mostSignificantBits = timestamp << 16 | VERSION_7 | sequence;
+    long leastSignificantBits =
+        ThreadLocalRandom.current().nextLong() & VARIANT_MASK | VARIANT_RFC_4122;
+    return new UUID(mostSignificantBits, leastSignificantBits);
+  }
+
+  private static String generateTimeOrdered(String prefix) {
+    return prefix + SEPARATOR + generateTimeOrderedUuid();
   }
 }
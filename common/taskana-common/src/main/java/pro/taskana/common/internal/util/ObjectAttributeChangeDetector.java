@@ -1,20 +1,47 @@
 package pro.taskana.common.internal.util;
 
-import static pro.taskana.common.internal.util.CheckedFunction.wrap;
-
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import org.json.JSONObject;
 
 import pro.taskana.common.api.exceptions.SystemException;
 
+/**
+ * Determines the changes between two objects as JSON string.
+ *
+ * <p>The fields of a class are read by {@linkplain MethodHandle}s, which are created once per
+ * class and cached. Fields with the primitive types int, long and boolean are compared without
+ * boxing. The JSON is written directly into a buffer which is reused by the calling thread.
+ */
 public class ObjectAttributeChangeDetector {
 
+  // the keys are written in the order in which org.json has written them before
+  private static final String CHANGES_START = "{\"changes\":[";
+  private static final String CHANGES_END = "]}";
+  private static final String NEW_VALUE_START = "{\"newValue\":";
+  private static final String EMPTY_VALUE = "\"\"";
+  // larger buffers are not reused, so that a single big change does not occupy memory forever
+  private static final int MAX_REUSED_BUFFER_LENGTH = 1 << 16;
+
+  private static final ClassValue<List<FieldComparator>> FIELD_COMPARATORS =
+      new ClassValue<List<FieldComparator>>() {
+        @Override
+        protected List<FieldComparator> computeValue(Class<?> type) {
+          return createFieldComparators(type);
+        }
+      };
+  private static final ThreadLocal<StringWriter> BUFFER =
+      ThreadLocal.withInitial(StringWriter::new);
+
   private ObjectAttributeChangeDetector() {
     throw new IllegalStateException("Utility class");
   }
@@ -50,38 +77,74 @@ public class ObjectAttributeChangeDetector {
               oldObject.getClass().getName(), newObject.getClass().getName()));
     }
 
-    List<JSONObject> changedAttributes =
-        retrieveAllFields(objectClass).stream()
-            .peek(field -> field.setAccessible(true))
-            .filter(field -> !"customAttributes".equals(field.getName()))
-            .map(wrap(field -> Triplet.of(field, field.get(oldObject), field.get(newObject))))
-            .filter(t -> !Objects.equals(t.getMiddle(), t.getRight()))
-            .map(t -> generateChangedAttribute(t.getLeft(), t.getMiddle(), t.getRight()))
-            .collect(Collectors.toList());
+    StringWriter writer = BUFFER.get();
+    StringBuffer buffer = writer.getBuffer();
+    buffer.setLength(0);
+    try {
+      buffer.append(CHANGES_START);
+      boolean first = true;
+      for (FieldComparator comparator : FIELD_COMPARATORS.get(objectClass)) {
+        if (comparator.writeChangeIfDiffers(oldObject, newObject, writer, first)) {
+          first = false;
+        }
+      }
+      buffer.append(CHANGES_END);
+      return buffer.toString();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new SystemException(
+          String.format("Could not determine the changes of %s", objectClass.getName()), e);
+    } finally {
+      if (buffer.length() > MAX_REUSED_BUFFER_LENGTH) {
+        BUFFER.remove();
+      }
+    }
+  }
 
-    JSONObject changes = new JSONObject();
-    changes.put("changes", changedAttributes);
-    return changes.toString();
+  private static List<FieldComparator> createFieldComparators(Class<?> objectClass) {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    List<FieldComparator> comparators = new ArrayList<>();
+    Class<?> currentClass = objectClass;
+    while (currentClass.getSuperclass() != null) {
+      for (Field field : currentClass.getDeclaredFields()) {
+        // static fields are equal for both objects and custom attributes are never compared
+        if (!Modifier.isStatic(field.getModifiers())
+            && !"customAttributes".equals(field.getName())) {
+          field.setAccessible(true);
+          try {
+            comparators.add(createFieldComparator(field, lookup.unreflectGetter(field)));
+          } catch (IllegalAccessException e) {
+            throw new SystemException(
+                String.format("Could not access the field %s", field.getName()), e);
+          }
+        }
+      }
+      currentClass = currentClass.getSuperclass();
+    }
+    return Collections.unmodifiableList(comparators);
   }
 
-  private static JSONObject generateChangedAttribute(
-      Field field, Object oldValue, Object newValue) {
-    JSONObject changedAttribute = new JSONObject();
-    changedAttribute.put("fieldName", field.getName());
-    changedAttribute.put(
-        "oldValue", Optional.ofNullable(oldValue).map(JSONObject::wrap).orElse(""));
-    changedAttribute.put(
-        "newValue", Optional.ofNullable(newValue).map(JSONObject::wrap).orElse(""));
-    return changedAttribute;
+  private static FieldComparator createFieldComparator(Field field, MethodHandle getter) {
+    Class<?> type = field.getType();
+    if (type == int.class) {
+      return new IntFieldComparator(field, getter);
+    } else if (type == long.class) {
+      return new LongFieldComparator(field, getter);
+    } else if (type == boolean.class) {
+      return new BooleanFieldComparator(field, getter);
+    }
+    return new ObjectFieldComparator(field, getter);
   }
 
-  private static List<Field> retrieveAllFields(Class<?> currentClass) {
-    List<Field> fields = new ArrayList<>();
-    while (currentClass.getSuperclass() != null) {
-      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
-      currentClass = currentClass.getSuperclass();
+  private static void writeValue(Object value, StringWriter writer) throws IOException {
+    if (value == null) {
+      writer.write(EMPTY_VALUE);
+    } else if (value instanceof String) {
+      JSONObject.quote((String) value, writer);
+    } else {
+      writer.write(JSONObject.valueToString(JSONObject.wrap(value)));
     }
-    return fields;
   }
 
   private static <T> String compareLists(T oldObject, T newObject) {
@@ -98,4 +161,124 @@ public class ObjectAttributeChangeDetector {
 
     return changes.toString();
   }
+
+  /** Compares one field of two objects and writes the change if the values differ. */
+  private abstract static class FieldComparator {
+
+    // the JSON between the new and the old value, which contains the name of the field
+    private final String fieldNameAndOldValueKey;
+
+    FieldComparator(Field field) {
+      fieldNameAndOldValueKey =
+          ",\"fieldName\":" + JSONObject.quote(field.getName()) + ",\"oldValue\":";
+    }
+
+    abstract boolean writeChangeIfDiffers(
+        Object oldObject, Object newObject, StringWriter writer, boolean first) throws Throwable;
+
+    void writeRawChange(String oldValue, String newValue, StringWriter writer, boolean first) {
+      writer.write(first ? NEW_VALUE_START : "," + NEW_VALUE_START);
+      writer.write(newValue);
+      writer.write(fieldNameAndOldValueKey);
+      writer.write(oldValue);
+      writer.write('}');
+    }
+
+    void writeChange(Object oldValue, Object newValue, StringWriter writer, boolean first)
+        throws IOException {
+      writer.write(first ? NEW_VALUE_START : "," + NEW_VALUE_START);
+      writeValue(newValue, writer);
+      writer.write(fieldNameAndOldValueKey);
+      writeValue(oldValue, writer);
+      writer.write('}');
+    }
+  }
+
+  private static class IntFieldComparator extends FieldComparator {
+
+    private final MethodHandle getter;
+
+    IntFieldComparator(Field field, MethodHandle getter) {
+      super(field);
+      this.getter = getter.asType(MethodType.methodType(int.class, Object.class));
+    }
+
+    @Override
+    boolean writeChangeIfDiffers(
+        Object oldObject, Object newObject, StringWriter writer, boolean first) throws Throwable {
+      int oldValue = (int) getter.invokeExact(oldObject);
+      int newValue = (int) getter.invokeExact(newObject);
+      if (oldValue == newValue) {
+        return false;
+      }
+      writeRawChange(String.valueOf(oldValue), String.valueOf(newValue), writer, first);
+      return true;
+    }
+  }
+
+  private static class LongFieldComparator extends FieldComparator {
+
+    private final MethodHandle getter;
+
+    LongFieldComparator(Field field, MethodHandle getter) {
+      super(field);
+      this.getter = getter.asType(MethodType.methodType(long.class, Object.class));
+    }
+
+    @Override
+    boolean writeChangeIfDiffers(
+        Object oldObject, Object newObject, StringWriter writer, boolean first) throws Throwable {
+      long oldValue = (long) getter.invokeExact(oldObject);
+      long newValue = (long) getter.invokeExact(newObject);
+      if (oldValue == newValue) {
+        return false;
+      }
+      writeRawChange(String.valueOf(oldValue), String.valueOf(newValue), writer, first);
+      return true;
+    }
+  }
+
+  private static class BooleanFieldComparator extends FieldComparator {
+
+    private final MethodHandle getter;
+
+    BooleanFieldComparator(Field field, MethodHandle getter) {
+      super(field);
+      this.getter = getter.asType(MethodType.methodType(boolean.class, Object.class));
+    }
+
+    @Override
+    boolean writeChangeIfDiffers(
+        Object oldObject, Object newObject, StringWriter writer, boolean first) throws Throwable {
+      boolean oldValue = (boolean) getter.invokeExact(oldObject);
+      boolean newValue = (boolean) getter.invokeExact(newObject);
+      if (oldValue == newValue) {
+        return false;
+      }
+      writeRawChange(String.valueOf(oldValue), String.valueOf(newValue), writer, first);
+      return true;
+    }
+  }
+
+  private static class ObjectFieldComparator extends FieldComparator {
+
+    private final MethodHandle getter;
+
+    ObjectFieldComparator(Field field, MethodHandle getter) {
+      super(field);
+      this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+    }
+
+    @Override
+    boolean writeChangeIfDiffers(
+        Object oldObject, Object newObject, StringWriter writer, boolean first) throws Throwable {
+      Object oldValue = getter.invokeExact(oldObject);
+      Object newValue = getter.invokeExact(newObject);
+      if (Objects.equals(oldValue, newValue)) {
+        return false;
+      }
+      writeChange(oldValue, newValue, writer, first);
+      return true;
+    }
+  }
 }
@@ -7,7 +7,7 @@ CREATE TABLE TASKANA_SCHEMA_VERSION(
         PRIMARY KEY (ID)
 );
 -- The VERSION value must match the value of TaskanaEngineConfiguration.TASKANA_SCHEMA_VERSION
-INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.8.0', CURRENT_TIMESTAMP);
+INSERT INTO TASKANA_SCHEMA_VERSION (VERSION, CREATED) VALUES ('4.9.0', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION(
     ID VARCHAR(40) NOT NULL,
@@ -126,6 +126,9 @@ CREATE TABLE TASK (
         CONSTRAINT TASK_CLASS FOREIGN KEY (CLASSIFICATION_ID) REFERENCES CLASSIFICATION ON DELETE NO ACTION
 );
 
+-- supports the TaskCleanupJob, which checks whether all tasks of a parent business process are completed
+CREATE INDEX IDX_TASK_3 ON TASK (PARENT_BUSINESS_PROCESS_ID ASC, COMPLETED ASC);
+
 CREATE TABLE DISTRIBUTION_TARGETS(
         SOURCE_ID VARCHAR(40) NOT NULL,
         TARGET_ID VARCHAR(40) NOT NULL,
@@ -252,6 +255,12 @@ CREATE TABLE TASK_HISTORY_EVENT (
     PRIMARY KEY (ID)
 );
 
+-- supports the HistoryCleanupJob, which selects the task history events by their age, their task and
+-- their parent business process
+CREATE INDEX IDX_TASK_HISTORY_EVENT_1 ON TASK_HISTORY_EVENT (CREATED ASC, EVENT_TYPE ASC, TASK_ID ASC);
+CREATE INDEX IDX_TASK_HISTORY_EVENT_2 ON TASK_HISTORY_EVENT (TASK_ID ASC, EVENT_TYPE ASC, CREATED ASC);
+CREATE INDEX IDX_TASK_HISTORY_EVENT_3 ON TASK_HISTORY_EVENT (PARENT_BUSINESS_PROCESS_ID ASC, EVENT_TYPE ASC, TASK_ID ASC);
+
 CREATE TABLE WORKBASKET_HISTORY_EVENT
 (
     ID                            VARCHAR(40) NOT NULL,
@@ -322,6 +331,44 @@ CREATE TABLE USER_INFO (
     PRIMARY KEY (USER_ID)
 );
 
+-- the groups which the users are member of, e.g. synchronized from an LDAP
+CREATE TABLE GROUP_INFO (
+    USER_ID                     VARCHAR(32)     NOT NULL,
+    GROUP_ID                    VARCHAR(256)    NOT NULL,
+    PRIMARY KEY (USER_ID, GROUP_ID)
+);
+
+
+-- counts of tasks per day of the due date, state, workbasket and classification for the reports of the
+-- MonitorService. ATTACHMENT_JOIN_COUNT is the number of rows when joined with the attachments.
+-- The table holds deltas, a group is the sum of all of its rows.
+CREATE TABLE MONITOR_TASK_AGGREGATE
+(
+    WORKBASKET_ID                 VARCHAR(40)  NULL,
+    WORKBASKET_KEY                VARCHAR(64)  NULL,
+    DOMAIN                        VARCHAR(32)  NULL,
+    CLASSIFICATION_CATEGORY       VARCHAR(32)  NULL,
+    CLASSIFICATION_ID             VARCHAR(40)  NULL,
+    CLASSIFICATION_KEY            VARCHAR(32)  NULL,
+    STATE                         VARCHAR(20)  NULL,
+    DUE_DAY                       DATE         NULL,
+    TASK_COUNT                    INT          NOT NULL,
+    ATTACHMENT_JOIN_COUNT         INT          NOT NULL
+);
+
+CREATE INDEX IDX_MONITOR_TASK_AGGREGATE_1 ON MONITOR_TASK_AGGREGATE (WORKBASKET_ID ASC, STATE ASC, CLASSIFICATION_ID ASC, DUE_DAY ASC);
+
+-- change versions of the cached master data, every engine polls them to clear its caches
+CREATE TABLE CHANGE_VERSION
+(
+    NAME                          VARCHAR(32)  NOT NULL,
+    VERSION                       BIGINT       NOT NULL,
+    PRIMARY KEY (NAME)
+);
+
+INSERT INTO CHANGE_VERSION (NAME, VERSION) VALUES ('CLASSIFICATION', 0);
+INSERT INTO CHANGE_VERSION (NAME, VERSION) VALUES ('WORKBASKET', 0);
+INSERT INTO CHANGE_VERSION (NAME, VERSION) VALUES ('DISTRIBUTION_TARGETS', 0);
 
 CREATE SEQUENCE SCHEDULED_JOB_SEQ
   MINVALUE 1
@@ -5,8 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DynamicNode;
@@ -186,6 +189,50 @@ class WorkingDaysToDaysConverterTest {
     assertThat(days).isEqualTo(freitag0427.plus(5, ChronoUnit.DAYS)); // 2.5.
   }
 
+  @Test
+  void should_AddAndSubtractWorkingDays_When_RangeSpansSeveralYears() {
+    Instant tuesday = Instant.parse("2018-01-02T07:00:00.000Z");
+
+    Instant added = converter.addWorkingDaysToInstant(tuesday, Duration.ofDays(2500));
+    Instant subtracted = converter.subtractWorkingDaysFromInstant(tuesday, Duration.ofDays(2500));
+
+    long daysToAdd = countDays(converter, tuesday, 2500, 1);
+    long daysToSubtract = countDays(converter, tuesday, 2500, -1);
+    assertThat(added).isEqualTo(tuesday.plus(daysToAdd, ChronoUnit.DAYS));
+    assertThat(subtracted).isEqualTo(tuesday.minus(daysToSubtract, ChronoUnit.DAYS));
+    assertThat(converter.subtractWorkingDaysFromInstant(added, Duration.ofDays(2500)))
+        .isEqualTo(tuesday);
+  }
+
+  @Test
+  void should_MatchDayByDayCalculation_When_ZoneHasDaylightSavingTime() {
+    TimeZone defaultTimeZone = TimeZone.getDefault();
+    TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+    try {
+      WorkingDaysToDaysConverter converter = new WorkingDaysToDaysConverter(true, true);
+      Instant start = Instant.parse("2020-03-01T22:30:00.000Z");
+      for (int hour = 0; hour < 24 * 400; hour += 7) {
+        Instant instant = start.plus(hour, ChronoUnit.HOURS);
+        for (int workingDays : new int[] {0, 1, 3, 20}) {
+          Duration duration = Duration.ofDays(workingDays);
+          long daysToAdd = countDays(converter, instant, workingDays, 1);
+          long daysToSubtract = countDays(converter, instant, workingDays, -1);
+          assertThat(converter.addWorkingDaysToInstant(instant, duration))
+              .isEqualTo(instant.plus(daysToAdd, ChronoUnit.DAYS));
+          assertThat(converter.subtractWorkingDaysFromInstant(instant, duration))
+              .isEqualTo(instant.minus(daysToSubtract, ChronoUnit.DAYS));
+        }
+        Instant later = instant.plus(3, ChronoUnit.DAYS);
+        assertThat(converter.hasWorkingDaysInBetween(instant, later))
+            .isEqualTo(
+                converter.isWorkingDay(instant.plus(1, ChronoUnit.DAYS))
+                    || converter.isWorkingDay(instant.plus(2, ChronoUnit.DAYS)));
+      }
+    } finally {
+      TimeZone.setDefault(defaultTimeZone);
+    }
+  }
+
   @Test
   void testGetEasterSunday() {
     EasterCalculator easterCalculator = new EasterCalculator();
@@ -211,4 +258,18 @@ class WorkingDaysToDaysConverterTest {
     assertThat(easterCalculator.getEasterSunday(2050)).isEqualTo(LocalDate.of(2050, 4, 10));
     assertThat(easterCalculator.getEasterSunday(2100)).isEqualTo(LocalDate.of(2100, 3, 28));
   }
+
+  private static long countDays(
+      WorkingDaysToDaysConverter converter, Instant start, int workingDays, int direction) {
+    long days = 0;
+    int remaining = workingDays;
+    while (true) {
+      Instant instant = start.plus(direction * days, ChronoUnit.DAYS);
+      LocalDate date = LocalDateTime.ofInstant(instant, ZoneId.systemDefault()).toLocalDate();
+      if (!converter.isWeekend(date) && !converter.isHoliday(date) && remaining-- == 0) {
+        return days;
+      }
+      days++;
+    }
+  }
 }
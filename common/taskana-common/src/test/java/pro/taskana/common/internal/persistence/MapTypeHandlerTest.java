@@ -0,0 +1,171 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Test;
+
+class MapTypeHandlerTest {
+
+  private final MapTypeHandler mapTypeHandler = new MapTypeHandler();
+  private final List<String> calls = new ArrayList<>();
+
+  @Test
+  void should_ReadSameMapAsJsonObject_When_JsonObjectContainsDifferentTypes() throws Exception {
+    String json =
+        "{\"text\":\"value\",\"number\":42,\"flag\":true,\"null\":null,"
+            + "\"list\":[1,\"two\"],\"map\":{\"key\":\"value\"}}";
+
+    Map<String, Object> map = read(json);
+
+    assertThat(map).isEqualTo(new JSONObject(json).toMap());
+  }
+
+  @Test
+  void should_WriteUnchangedJson_When_MapWasOnlyRead() throws Exception {
+    String json = "{ \"key1\" : \"value1\", \"key2\" : \"value2\" }";
+    Map<String, Object> map = read(json);
+
+    assertThat(map.get("key1")).isEqualTo("value1");
+    assertThat(map).hasSize(2).containsKey("key2");
+    write(map);
+
+    assertThat(calls).containsExactly("setString " + json);
+  }
+
+  @Test
+  void should_SerializeMap_When_MapWasChanged() throws Exception {
+    Map<String, Object> map = read("{ \"key1\" : \"value1\", \"key2\" : \"value2\" }");
+
+    map.put("key3", "value3");
+    map.remove("key1");
+    write(map);
+
+    assertThat(calls).containsExactly("setString {\"key2\":\"value2\",\"key3\":\"value3\"}");
+  }
+
+  @Test
+  void should_SerializeMap_When_EntriesWereAccessed() throws Exception {
+    Map<String, Object> map = read("{ \"key\" : \"value\" }");
+
+    map.entrySet().forEach(entry -> entry.setValue("new value"));
+    write(map);
+
+    assertThat(calls).containsExactly("setString {\"key\":\"new value\"}");
+  }
+
+  @Test
+  void should_SerializeMap_When_NestedMapWasRead() throws Exception {
+    Map<String, Object> map = read("{ \"map\" : { \"key\" : \"value\" } }");
+
+    @SuppressWarnings("unchecked")
+    Map<String, Object> nestedMap = (Map<String, Object>) map.get("map");
+    nestedMap.put("key", "new value");
+    write(map);
+
+    assertThat(calls).containsExactly("setString {\"map\":{\"key\":\"new value\"}}");
+  }
+
+  @Test
+  void should_SerializeMapLikeJsonObject_When_MapIsNotReadFromDatabase() throws Exception {
+    Map<String, Object> map = new HashMap<>();
+    map.put("text", "\"quoted\" value");
+    map.put("number", 42);
+    map.put("null", null);
+    map.put("list", Arrays.asList(1, "two"));
+
+    write(map);
+
+    assertThat(calls).singleElement().asString().startsWith("setString ");
+    JSONObject writtenJson = new JSONObject(calls.get(0).substring("setString ".length()));
+    assertThat(writtenJson.similar(new JSONObject(map))).isTrue();
+  }
+
+  @Test
+  void should_ParseJsonOnlyOnce_When_MapIsReadByManyThreads() throws Exception {
+    String json =
+        IntStream.range(0, 200)
+            .mapToObj(i -> "\"key" + i + "\":\"value" + i + "\"")
+            .collect(Collectors.joining(",", "{", "}"));
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    try {
+      for (int run = 0; run < 20; run++) {
+        Map<String, Object> map = read(json);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+          results.add(
+              executorService.submit(
+                  () -> {
+                    start.await();
+                    return map.size() + " " + map.get("key199");
+                  }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+          assertThat(result.get()).isEqualTo("200 value199");
+        }
+        write(map);
+        assertThat(calls).last().isEqualTo("setString " + json);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void should_WriteNull_When_MapIsEmpty() throws Exception {
+    Map<String, Object> map = read("{ }");
+
+    write(map);
+    write(new HashMap<>());
+    map.put("key", "value");
+    map.remove("key");
+    write(map);
+
+    assertThat(calls).containsExactly("setNull", "setNull", "setNull");
+  }
+
+  private Map<String, Object> read(String json) throws SQLException {
+    ResultSet resultSet =
+        (ResultSet)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> json);
+    return mapTypeHandler.getNullableResult(resultSet, "CUSTOM_ATTRIBUTES");
+  }
+
+  private void write(Map<String, Object> map) throws SQLException {
+    PreparedStatement preparedStatement =
+        (PreparedStatement)
+            Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] {PreparedStatement.class},
+                (proxy, method, args) -> {
+                  if ("setString".equals(method.getName())) {
+                    calls.add("setString " + args[1]);
+                  } else {
+                    calls.add(method.getName());
+                  }
+                  return null;
+                });
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, map, null);
+  }
+}
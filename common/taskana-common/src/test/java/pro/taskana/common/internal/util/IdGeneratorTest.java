@@ -0,0 +1,83 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class IdGeneratorTest {
+
+  @AfterEach
+  void resetIdGeneration() {
+    IdGenerator.setIdGeneration(null);
+  }
+
+  @Test
+  void should_GenerateIdWithPrefixAndMaximumLength_When_DefaultGenerationIsUsed() {
+    String id = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+
+    assertThat(id).startsWith("TKI:").hasSize(40);
+    UUID uuid = UUID.fromString(id.substring(4));
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void should_GenerateAscendingIds_When_IdsAreGeneratedOneAfterAnother() {
+    List<String> ids =
+        IntStream.range(0, 10_000)
+            .mapToObj(i -> IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK))
+            .collect(Collectors.toList());
+
+    assertThat(ids).isSorted().doesNotHaveDuplicates();
+  }
+
+  @Test
+  void should_ContainCurrentTime_When_TimeOrderedUuidIsGenerated() {
+    long before = System.currentTimeMillis();
+    UUID uuid = IdGenerator.generateTimeOrderedUuid();
+
+    assertThat(uuid.getMostSignificantBits() >>> 16).isGreaterThanOrEqualTo(before);
+  }
+
+  @Test
+  void should_GenerateUniqueIds_When_IdsAreGeneratedConcurrently() throws Exception {
+    List<List<String>> idsPerThread = new ArrayList<>();
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      List<String> ids = new ArrayList<>();
+      idsPerThread.add(ids);
+      threads.add(
+          new Thread(
+              () -> {
+                for (int j = 0; j < 10_000; j++) {
+                  ids.add(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_ATTACHMENT));
+                }
+              }));
+    }
+    threads.forEach(Thread::start);
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    assertThat(idsPerThread).allSatisfy(ids -> assertThat(ids).isSorted());
+    assertThat(idsPerThread.stream().flatMap(List::stream)).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void should_UseReplacedGeneration_When_IdGenerationIsSet() {
+    IdGenerator.setIdGeneration(prefix -> prefix + ":CUSTOM");
+
+    assertThat(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET))
+        .isEqualTo("WBI:CUSTOM");
+
+    IdGenerator.setIdGeneration(null);
+
+    assertThat(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET)).hasSize(40);
+  }
+}
@@ -0,0 +1,233 @@
+package pro.taskana.simplehistory.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+
+/**
+ * Buffers task history events in a bounded queue and writes them in batches on a background
+ * thread. A batch is written as soon as it is full or its oldest event reached the maximum batch
+ * age.
+ *
+ * <p>If the queue is full, the caller waits up to the enqueue timeout for free space and writes
+ * the event itself afterwards. Therefore, no event is dropped. Pending events are written when the
+ * writer is closed, at the latest by a shutdown hook of the JVM which closes all open writers.
+ *
+ * <p>The getters expose the queue depth and the flush latency for monitoring.
+ */
+public class HistoryEventWriter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventWriter.class);
+  // a single shutdown hook for all writers, which is registered with the first writer
+  private static final Set<HistoryEventWriter> OPEN_WRITERS = ConcurrentHashMap.newKeySet();
+  private static final AtomicBoolean SHUTDOWN_HOOK_REGISTERED = new AtomicBoolean();
+
+  private final BlockingQueue<TaskHistoryEvent> queue;
+  private final Consumer<List<TaskHistoryEvent>> batchWriter;
+  private final int batchSize;
+  private final long maxBatchAgeNanos;
+  private final long enqueueTimeoutNanos;
+  private final Thread writerThread;
+  private final AtomicLong enqueuedEvents = new AtomicLong();
+  private final AtomicLong writtenEvents = new AtomicLong();
+  private final AtomicLong failedEvents = new AtomicLong();
+  private final AtomicLong synchronouslyWrittenEvents = new AtomicLong();
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong totalFlushNanos = new AtomicLong();
+  private final AtomicLong maxFlushNanos = new AtomicLong();
+  private final Object flushMonitor = new Object();
+  private volatile boolean running = true;
+
+  HistoryEventWriter(
+      Consumer<List<TaskHistoryEvent>> batchWriter,
+      int queueCapacity,
+      int batchSize,
+      Duration maxBatchAge,
+      Duration enqueueTimeout) {
+    if (queueCapacity < 1 || batchSize < 1) {
+      throw new SystemException(
+          String.format(
+              "Queue capacity (%d) and batch size (%d) must be positive",
+              queueCapacity, batchSize));
+    }
+    this.batchWriter = batchWriter;
+    this.batchSize = batchSize;
+    this.maxBatchAgeNanos = maxBatchAge.toNanos();
+    this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    writerThread = new Thread(this::writeEvents, "taskana-history-event-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+    OPEN_WRITERS.add(this);
+    if (SHUTDOWN_HOOK_REGISTERED.compareAndSet(false, true)) {
+      Runtime.getRuntime()
+          .addShutdownHook(
+              new Thread(
+                  HistoryEventWriter::closeOpenWriters, "taskana-history-event-writer-shutdown"));
+    }
+  }
+
+  /**
+   * Adds the event to the queue. If the queue stays full for the enqueue timeout or the writer is
+   * already closed, the event is written by the calling thread.
+   *
+   * @param event the event to write
+   */
+  void enqueue(TaskHistoryEvent event) {
+    boolean enqueued = false;
+    if (running) {
+      try {
+        enqueued = queue.offer(event, enqueueTimeoutNanos, TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    enqueuedEvents.incrementAndGet();
+    if (!enqueued) {
+      synchronouslyWrittenEvents.incrementAndGet();
+      writeBatch(Collections.singletonList(event));
+    }
+  }
+
+  /**
+   * Waits until all events which were enqueued before this call are written.
+   *
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public void flush() throws InterruptedException {
+    long target = enqueuedEvents.get();
+    synchronized (flushMonitor) {
+      while (getProcessedEvents() < target && writerThread.isAlive()) {
+        flushMonitor.wait(100);
+      }
+    }
+  }
+
+  /** Stops accepting events, writes all pending events and stops the background thread. */
+  @Override
+  public void close() {
+    OPEN_WRITERS.remove(this);
+    running = false;
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOGGER.warn("Interrupted while writing {} pending history events", queue.size());
+    }
+    // events which were enqueued while the background thread stopped
+    List<TaskHistoryEvent> remainingEvents = new ArrayList<>();
+    queue.drainTo(remainingEvents);
+    if (!remainingEvents.isEmpty()) {
+      writeBatch(remainingEvents);
+    }
+  }
+
+  public int getQueueDepth() {
+    return queue.size();
+  }
+
+  public long getWrittenEvents() {
+    return writtenEvents.get();
+  }
+
+  public long getFailedEvents() {
+    return failedEvents.get();
+  }
+
+  public long getSynchronouslyWrittenEvents() {
+    return synchronouslyWrittenEvents.get();
+  }
+
+  public long getFlushCount() {
+    return flushes.get();
+  }
+
+  public Duration getAverageFlushLatency() {
+    long count = flushes.get();
+    return count == 0 ? Duration.ZERO : Duration.ofNanos(totalFlushNanos.get() / count);
+  }
+
+  public Duration getMaxFlushLatency() {
+    return Duration.ofNanos(maxFlushNanos.get());
+  }
+
+  static int getNumberOfOpenWriters() {
+    return OPEN_WRITERS.size();
+  }
+
+  private static void closeOpenWriters() {
+    new ArrayList<>(OPEN_WRITERS).forEach(HistoryEventWriter::close);
+  }
+
+  private long getProcessedEvents() {
+    return writtenEvents.get() + failedEvents.get();
+  }
+
+  private void writeEvents() {
+    while (running || !queue.isEmpty()) {
+      List<TaskHistoryEvent> batch = new ArrayList<>(batchSize);
+      try {
+        collectBatch(batch);
+      } catch (InterruptedException e) {
+        // the pending events are written nevertheless
+        running = false;
+      }
+      if (!batch.isEmpty()) {
+        writeBatch(batch);
+      }
+    }
+  }
+
+  private void collectBatch(List<TaskHistoryEvent> batch) throws InterruptedException {
+    TaskHistoryEvent first = queue.poll(maxBatchAgeNanos, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+    long deadline = System.nanoTime() + maxBatchAgeNanos;
+    queue.drainTo(batch, batchSize - batch.size());
+    while (running && batch.size() < batchSize) {
+      long remaining = deadline - System.nanoTime();
+      TaskHistoryEvent next =
+          remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+      queue.drainTo(batch, batchSize - batch.size());
+    }
+  }
+
+  private void writeBatch(List<TaskHistoryEvent> batch) {
+    long start = System.nanoTime();
+    try {
+      batchWriter.accept(batch);
+      writtenEvents.addAndGet(batch.size());
+    } catch (Exception e) {
+      failedEvents.addAndGet(batch.size());
+      LOGGER.error("Could not write {} task history events", batch.size(), e);
+    } finally {
+      long latency = System.nanoTime() - start;
+      flushes.incrementAndGet();
+      totalFlushNanos.addAndGet(latency);
+      maxFlushNanos.accumulateAndGet(latency, Math::max);
+      synchronized (flushMonitor) {
+        flushMonitor.notifyAll();
+      }
+    }
+  }
+}
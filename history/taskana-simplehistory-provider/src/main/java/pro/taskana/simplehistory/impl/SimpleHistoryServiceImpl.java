@@ -1,8 +1,14 @@
 package pro.taskana.simplehistory.impl;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +16,8 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
 import pro.taskana.simplehistory.impl.classification.ClassificationHistoryQuery;
 import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
@@ -22,17 +30,42 @@ import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
 import pro.taskana.spi.history.api.exceptions.TaskanaHistoryEventNotFoundException;
 
-/** This is the implementation of TaskanaHistory. */
+/**
+ * This is the implementation of TaskanaHistory.
+ *
+ * <p>If <b>taskana.history.async.enabled</b> is set, task history events are not inserted within
+ * the calling transaction, but handed over to a {@linkplain HistoryEventWriter} which writes them
+ * in batches. The events are handed over as soon as the calling transaction has been committed and
+ * are discarded if it is rolled back. If the engine can not observe the end of the transaction,
+ * e.g. in mode EXPLICIT, they are handed over immediately. The writer keeps the events in memory
+ * only, so they are lost if the JVM terminates abnormally before they are written.
+ */
 public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(SimpleHistoryServiceImpl.class);
+  private static final String TASKANA_HISTORY_ASYNC_ENABLED = "taskana.history.async.enabled";
+  private static final String TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY =
+      "taskana.history.async.queueCapacity";
+  private static final String TASKANA_HISTORY_ASYNC_BATCH_SIZE = "taskana.history.async.batchSize";
+  private static final String TASKANA_HISTORY_ASYNC_MAX_BATCH_AGE =
+      "taskana.history.async.maxBatchAge";
+  private static final String TASKANA_HISTORY_ASYNC_ENQUEUE_TIMEOUT =
+      "taskana.history.async.enqueueTimeout";
+  private TaskanaEngine taskanaEngine;
   private TaskanaHistoryEngineImpl taskanaHistoryEngine;
   private TaskHistoryEventMapper taskHistoryEventMapper;
   private WorkbasketHistoryEventMapper workbasketHistoryEventMapper;
   private ClassificationHistoryEventMapper classificationHistoryEventMapper;
+  private boolean asyncEnabled = false;
+  private int asyncQueueCapacity = 10000;
+  private int asyncBatchSize = 100;
+  private Duration asyncMaxBatchAge = Duration.ofSeconds(1);
+  private Duration asyncEnqueueTimeout = Duration.ofSeconds(1);
+  private volatile HistoryEventWriter eventWriter;
 
   public void initialize(TaskanaEngine taskanaEngine) {
 
+    this.taskanaEngine = taskanaEngine;
     this.taskanaHistoryEngine = getTaskanaEngine(taskanaEngine);
 
     if (LOGGER.isDebugEnabled()) {
@@ -47,16 +80,22 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
         this.taskanaHistoryEngine.getSqlSession().getMapper(WorkbasketHistoryEventMapper.class);
     this.classificationHistoryEventMapper =
         this.taskanaHistoryEngine.getSqlSession().getMapper(ClassificationHistoryEventMapper.class);
+
+    initAsyncParameters(taskanaEngine.getConfiguration().readPropertiesFromFile());
   }
 
   @Override
   public void create(TaskHistoryEvent event) {
+    if (event.getCreated() == null) {
+      Instant now = Instant.now();
+      event.setCreated(now);
+    }
+    if (asyncEnabled) {
+      enqueueAfterCommit(Collections.singletonList(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       taskHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting task history event into database", e);
@@ -65,6 +104,28 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  @Override
+  public void create(List<TaskHistoryEvent> events) {
+    if (events.isEmpty()) {
+      return;
+    }
+    Instant now = Instant.now();
+    for (TaskHistoryEvent event : events) {
+      if (event.getCreated() == null) {
+        event.setCreated(now);
+      }
+    }
+    if (asyncEnabled) {
+      enqueueAfterCommit(new ArrayList<>(events));
+      return;
+    }
+    try {
+      insertTaskHistoryEvents(events);
+    } catch (SQLException e) {
+      LOGGER.error("Error while inserting task history events into database", e);
+    }
+  }
+
   @Override
   public void create(WorkbasketHistoryEvent event) {
     try {
@@ -100,6 +161,19 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
   @Override
   public void deleteHistoryEventsByTaskIds(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
+    deleteTaskHistoryEventsByTaskIds(taskIds);
+  }
+
+  /**
+   * Deletes all task history events of the given tasks.
+   *
+   * @param taskIds the ids of the tasks whose history events are deleted
+   * @return the number of deleted history events
+   * @throws InvalidArgumentException if the given list is null
+   * @throws NotAuthorizedException if the current user is not an admin
+   */
+  public int deleteTaskHistoryEventsByTaskIds(List<String> taskIds)
+      throws InvalidArgumentException, NotAuthorizedException {
     taskanaHistoryEngine.checkRoleMembership(TaskanaRole.ADMIN);
 
     if (taskIds == null) {
@@ -108,9 +182,37 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
     try {
       taskanaHistoryEngine.openConnection();
-      taskHistoryEventMapper.deleteMultipleByTaskIds(taskIds);
+      return taskHistoryEventMapper.deleteMultipleByTaskIds(taskIds);
     } catch (SQLException e) {
       LOGGER.error("Caught exception while trying to delete history events", e);
+      return 0;
+    } finally {
+      taskanaHistoryEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Returns the ids of the next tasks whose history events can be cleaned up, ordered by the id.
+   * The history events of a task can be cleaned up if it was completed, cancelled or terminated at
+   * or before the given instant.
+   *
+   * @param createdBefore the latest instant at which the tasks must have been ended
+   * @param allCompletedSameParentBusiness if true, a task with a parent business process is only
+   *     returned if all tasks of this parent business process were ended at or before the given
+   *     instant
+   * @param lastTaskId if not null, only the ids greater than this id are returned
+   * @param limit the maximum number of returned ids
+   * @return the ids of the tasks whose history events can be cleaned up
+   * @throws SystemException if the task history events could not be read
+   */
+  public List<String> findTaskIdsToCleanUp(
+      Instant createdBefore, boolean allCompletedSameParentBusiness, String lastTaskId, int limit) {
+    try {
+      taskanaHistoryEngine.openConnection();
+      return taskHistoryEventMapper.findTaskIdsToCleanUp(
+          createdBefore, allCompletedSameParentBusiness, lastTaskId, limit);
+    } catch (SQLException e) {
+      throw new SystemException("Could not read the task history events to clean up.", e);
     } finally {
       taskanaHistoryEngine.returnConnection();
     }
@@ -149,10 +251,126 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     return new ClassificationHistoryQueryImpl(taskanaHistoryEngine);
   }
 
+  /**
+   * Returns the writer of the asynchronous task history events. It is only present if the
+   * asynchronous mode is enabled and an event was created.
+   *
+   * @return the writer of the asynchronous task history events
+   */
+  public Optional<HistoryEventWriter> getHistoryEventWriter() {
+    return Optional.ofNullable(eventWriter);
+  }
+
   /*
    * ATTENTION: This method exists for testing purposes.
    */
   TaskanaHistoryEngineImpl getTaskanaEngine(TaskanaEngine taskanaEngine) {
     return TaskanaHistoryEngineImpl.createTaskanaEngine(taskanaEngine);
   }
+
+  private void enqueueAfterCommit(List<TaskHistoryEvent> events) {
+    ((TaskanaEngineImpl) taskanaEngine)
+        .runAfterCompletion(
+            committed -> {
+              if (committed) {
+                HistoryEventWriter writer = getOrCreateEventWriter();
+                events.forEach(writer::enqueue);
+              }
+            });
+  }
+
+  private HistoryEventWriter getOrCreateEventWriter() {
+    // created lazily, because the cleanup job and the REST API never create events
+    HistoryEventWriter writer = eventWriter;
+    if (writer == null) {
+      synchronized (this) {
+        writer = eventWriter;
+        if (writer == null) {
+          writer =
+              new HistoryEventWriter(
+                  events -> {
+                    try {
+                      insertTaskHistoryEvents(events);
+                    } catch (SQLException e) {
+                      throw new SystemException("Could not insert task history events", e);
+                    }
+                  },
+                  asyncQueueCapacity,
+                  asyncBatchSize,
+                  asyncMaxBatchAge,
+                  asyncEnqueueTimeout);
+          eventWriter = writer;
+        }
+      }
+    }
+    return writer;
+  }
+
+  private void insertTaskHistoryEvents(List<TaskHistoryEvent> events) throws SQLException {
+    try (SqlSession batchSession = taskanaHistoryEngine.openBatchSession()) {
+      TaskHistoryEventMapper batchMapper = batchSession.getMapper(TaskHistoryEventMapper.class);
+      for (TaskHistoryEvent event : events) {
+        batchMapper.insert(event);
+      }
+      batchSession.commit();
+    }
+  }
+
+  private void initAsyncParameters(Properties props) {
+    asyncEnabled = Boolean.parseBoolean(props.getProperty(TASKANA_HISTORY_ASYNC_ENABLED));
+    String queueCapacityProperty = props.getProperty(TASKANA_HISTORY_ASYNC_QUEUE_CAPACITY);
+    if (queueCapacityProperty != null && !queueCapacityProperty.isEmpty()) {
+      try {
+        asyncQueueCapacity = Integer.parseInt(queueCapacityProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse queueCapacityProperty ({}). Using default. Exception: {} ",
+            queueCapacityProperty,
+            e.getMessage());
+      }
+    }
+    String batchSizeProperty = props.getProperty(TASKANA_HISTORY_ASYNC_BATCH_SIZE);
+    if (batchSizeProperty != null && !batchSizeProperty.isEmpty()) {
+      try {
+        asyncBatchSize = Integer.parseInt(batchSizeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse batchSizeProperty ({}). Using default. Exception: {} ",
+            batchSizeProperty,
+            e.getMessage());
+      }
+    }
+    String maxBatchAgeProperty = props.getProperty(TASKANA_HISTORY_ASYNC_MAX_BATCH_AGE);
+    if (maxBatchAgeProperty != null && !maxBatchAgeProperty.isEmpty()) {
+      try {
+        asyncMaxBatchAge = Duration.parse(maxBatchAgeProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse maxBatchAgeProperty ({}). Using default. Exception: {} ",
+            maxBatchAgeProperty,
+            e.getMessage());
+      }
+    }
+    String enqueueTimeoutProperty = props.getProperty(TASKANA_HISTORY_ASYNC_ENQUEUE_TIMEOUT);
+    if (enqueueTimeoutProperty != null && !enqueueTimeoutProperty.isEmpty()) {
+      try {
+        asyncEnqueueTimeout = Duration.parse(enqueueTimeoutProperty);
+      } catch (Exception e) {
+        LOGGER.warn(
+            "Could not parse enqueueTimeoutProperty ({}). Using default. Exception: {} ",
+            enqueueTimeoutProperty,
+            e.getMessage());
+      }
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Configured asynchronous history events: enabled={}, queueCapacity={}, batchSize={}, "
+              + "maxBatchAge={}, enqueueTimeout={}",
+          asyncEnabled,
+          asyncQueueCapacity,
+          asyncBatchSize,
+          asyncMaxBatchAge,
+          asyncEnqueueTimeout);
+    }
+  }
 }
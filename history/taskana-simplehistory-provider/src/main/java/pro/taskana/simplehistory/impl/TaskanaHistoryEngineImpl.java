@@ -9,6 +9,7 @@ import java.util.HashSet;
 import java.util.Set;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -196,6 +197,19 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     }
   }
 
+  /**
+   * Opens a new session which collects all statements into JDBC batches. The batches are flushed
+   * when the session is committed. The caller is responsible for closing the session.
+   *
+   * @return the batch session
+   * @throws SQLException thrown if the connection could not be opened.
+   */
+  SqlSession openBatchSession() throws SQLException {
+    SqlSession batchSession = this.sessionManager.openSession(ExecutorType.BATCH);
+    batchSession.getConnection().setSchema(taskanaEngineConfiguration.getSchemaName());
+    return batchSession;
+  }
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession() {
     this.sessionManager.startManagedSession();
@@ -1,34 +1,25 @@
 package pro.taskana.simplehistory.impl.jobs;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
-import static java.util.stream.Collectors.toList;
-
 import java.time.Duration;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
-import java.util.Set;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
 import pro.taskana.simplehistory.impl.TaskanaHistoryEngineImpl;
-import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
-import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
 
 public class HistoryCleanupJob extends AbstractTaskanaJob {
 
@@ -39,6 +30,9 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
   private static final String TASKANA_JOB_HISTORY_CLEANUP_MINIMUM_AGE =
       "taskana.jobs.history.cleanup.minimumAge";
 
+  private static final String CREATED_BEFORE = "createdBefore";
+  private static final String LAST_TASK_ID = "lastTaskId";
+
   private final TaskanaHistoryEngineImpl taskanaHistoryEngine =
       TaskanaHistoryEngineImpl.createTaskanaEngine(taskanaEngineImpl);
 
@@ -61,66 +55,38 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
 
   @Override
   public void execute() {
+    // a retried job continues at the checkpoint of the failed run
+    Instant createdBefore = getCheckpointArgument(CREATED_BEFORE).map(Instant::parse).orElse(null);
+    String lastTaskId = getCheckpointArgument(LAST_TASK_ID).orElse(null);
+    if (createdBefore == null) {
+      createdBefore = Instant.now().minus(minimumAge);
+      lastTaskId = null;
+    }
 
-    Instant createdBefore = Instant.now().minus(minimumAge);
-
-    LOGGER.info("Running job to delete all history events created before ({})", createdBefore);
+    LOGGER.info(
+        "Running job to delete all history events created before ({}), starting after task ({})",
+        createdBefore,
+        lastTaskId);
 
     try {
       SimpleHistoryServiceImpl simpleHistoryService =
           (SimpleHistoryServiceImpl) taskanaHistoryEngine.getTaskanaHistoryService();
 
-      List<TaskHistoryEvent> historyEventCandidatesToClean =
-          simpleHistoryService
-              .createTaskHistoryQuery()
-              .createdWithin(new TimeInterval(null, createdBefore))
-              .eventTypeIn(
-                  TaskHistoryEventType.COMPLETED.getName(),
-                  TaskHistoryEventType.CANCELLED.getName(),
-                  TaskHistoryEventType.TERMINATED.getName())
-              .list();
-
-      Set<String> taskIdsToDeleteHistoryEventsFor;
-      if (allCompletedSameParentBusiness) {
+      int totalNumberOfHistoryEventsDeleted = 0;
+      List<String> taskIdsToDeleteHistoryEventsFor;
+      do {
+        // the eligible tasks are determined by the database, one chunk per transaction
         taskIdsToDeleteHistoryEventsFor =
-            historyEventCandidatesToClean.stream()
-                .filter(
-                    event ->
-                        event.getParentBusinessProcessId() == null
-                            || event.getParentBusinessProcessId().isEmpty())
-                .map(TaskHistoryEvent::getTaskId)
-                .collect(Collectors.toSet());
-        historyEventCandidatesToClean.removeIf(
-            event -> taskIdsToDeleteHistoryEventsFor.contains(event.getTaskId()));
-
-        if (!historyEventCandidatesToClean.isEmpty()) {
-          String[] parentBusinessProcessIds =
-              historyEventCandidatesToClean.stream()
-                  .map(TaskHistoryEvent::getParentBusinessProcessId)
-                  .distinct()
-                  .toArray(String[]::new);
-
-          historyEventCandidatesToClean.addAll(
-              simpleHistoryService
-                  .createTaskHistoryQuery()
-                  .parentBusinessProcessIdIn(parentBusinessProcessIds)
-                  .eventTypeIn(TaskHistoryEventType.CREATED.getName())
-                  .list());
-
-          taskIdsToDeleteHistoryEventsFor.addAll(
-              filterSameParentBusinessHistoryEventsQualifiedToClean(historyEventCandidatesToClean));
+            simpleHistoryService.findTaskIdsToCleanUp(
+                createdBefore, allCompletedSameParentBusiness, lastTaskId, batchSize);
+        if (!taskIdsToDeleteHistoryEventsFor.isEmpty()) {
+          lastTaskId =
+              taskIdsToDeleteHistoryEventsFor.get(taskIdsToDeleteHistoryEventsFor.size() - 1);
+          totalNumberOfHistoryEventsDeleted +=
+              deleteHistoryEventsTransactionally(
+                  taskIdsToDeleteHistoryEventsFor, createdBefore, lastTaskId);
         }
-      } else {
-        taskIdsToDeleteHistoryEventsFor =
-            historyEventCandidatesToClean.stream()
-                .map(TaskHistoryEvent::getTaskId)
-                .collect(Collectors.toSet());
-      }
-
-      int totalNumberOfHistoryEventsDeleted =
-          CollectionUtil.partitionBasedOnSize(taskIdsToDeleteHistoryEventsFor, batchSize).stream()
-              .mapToInt(this::deleteHistoryEventsTransactionally)
-              .sum();
+      } while (taskIdsToDeleteHistoryEventsFor.size() == batchSize);
 
       LOGGER.info(
           "Job ended successfully. {} history events deleted.", totalNumberOfHistoryEventsDeleted);
@@ -147,45 +113,22 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
     return HistoryCleanupJob.class.getName();
   }
 
-  private List<String> filterSameParentBusinessHistoryEventsQualifiedToClean(
-      List<TaskHistoryEvent> historyEventCandidatesToClean) {
-
-    Map<String, Map<String, List<String>>> taskHistoryIdsByEventTypeByParentBusinessProcessId =
-        historyEventCandidatesToClean.stream()
-            .collect(
-                groupingBy(
-                    TaskHistoryEvent::getParentBusinessProcessId,
-                    groupingBy(
-                        TaskHistoryEvent::getEventType,
-                        mapping(TaskHistoryEvent::getTaskId, toList()))));
-
-    List<String> taskIdsToDeleteHistoryEventsFor = new ArrayList<>();
-
-    taskHistoryIdsByEventTypeByParentBusinessProcessId.forEach(
-        (parentBusinessProcessId, taskHistoryIdsByEventType) -> {
-          if (taskHistoryIdsByEventType.get(TaskHistoryEventType.CREATED.getName()).size()
-              == taskHistoryIdsByEventType.entrySet().stream()
-                  .filter(entry -> !entry.getKey().equals(TaskHistoryEventType.CREATED.getName()))
-                  .mapToInt(stringListEntry -> stringListEntry.getValue().size())
-                  .sum()) {
-            taskIdsToDeleteHistoryEventsFor.addAll(
-                taskHistoryIdsByEventType.get(TaskHistoryEventType.CREATED.getName()));
-          }
-        });
-
-    return taskIdsToDeleteHistoryEventsFor;
-  }
-
-  private int deleteHistoryEventsTransactionally(List<String> taskIdsToDeleteHistoryEventsFor) {
-    return TaskanaTransactionProvider.executeInTransactionIfPossible(
+  // every chunk commits its deletes together with the checkpoint, even if the job runs within a
+  // transaction which is rolled back later on
+  private int deleteHistoryEventsTransactionally(
+      List<String> taskIdsToDeleteHistoryEventsFor, Instant createdBefore, String lastTaskId) {
+    return TaskanaTransactionProvider.executeInNewTransactionIfPossible(
         txProvider,
         () -> {
+          int deletedEventsCount;
           try {
-            return deleteEvents(taskIdsToDeleteHistoryEventsFor);
+            deletedEventsCount = deleteEvents(taskIdsToDeleteHistoryEventsFor);
           } catch (Exception e) {
             LOGGER.warn("Could not delete history events.", e);
-            return 0;
+            deletedEventsCount = 0;
           }
+          saveCheckpoint(createdBefore, lastTaskId);
+          return deletedEventsCount;
         });
   }
 
@@ -194,20 +137,32 @@ public class HistoryCleanupJob extends AbstractTaskanaJob {
     SimpleHistoryServiceImpl simpleHistoryService =
         (SimpleHistoryServiceImpl) taskanaHistoryEngine.getTaskanaHistoryService();
 
-    int deletedTasksCount =
-        (int)
-            simpleHistoryService
-                .createTaskHistoryQuery()
-                .taskIdIn(taskIdsToDeleteHistoryEventsFor.toArray(new String[0]))
-                .count();
-
-    simpleHistoryService.deleteHistoryEventsByTaskIds(taskIdsToDeleteHistoryEventsFor);
+    int deletedEventsCount =
+        simpleHistoryService.deleteTaskHistoryEventsByTaskIds(taskIdsToDeleteHistoryEventsFor);
 
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("{} events deleted.", deletedTasksCount);
+      LOGGER.debug("{} events deleted.", deletedEventsCount);
     }
 
-    return deletedTasksCount;
+    return deletedEventsCount;
+  }
+
+  private Optional<String> getCheckpointArgument(String name) {
+    if (scheduledJob == null || scheduledJob.getArguments() == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(scheduledJob.getArguments().get(name));
+  }
+
+  private void saveCheckpoint(Instant createdBefore, String lastTaskId) {
+    // the checkpoint can only be stored for a job which was scheduled
+    if (scheduledJob != null && scheduledJob.getJobId() != null) {
+      Map<String, String> checkpoint = new HashMap<>();
+      checkpoint.put(CREATED_BEFORE, createdBefore.toString());
+      checkpoint.put(LAST_TASK_ID, lastTaskId);
+      ((JobServiceImpl) taskanaEngineImpl.getJobService())
+          .updateJobArguments(scheduledJob, checkpoint);
+    }
   }
 
   private void initJobParameters(Properties props) {
@@ -1,5 +1,6 @@
 package pro.taskana.simplehistory.impl.task;
 
+import java.time.Instant;
 import java.util.List;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
@@ -62,7 +63,28 @@ public interface TaskHistoryEventMapper {
   @Result(property = "details", column = "DETAILS")
   TaskHistoryEvent findById(@Param("id") String id);
 
+  @Select(
+      "<script>SELECT DISTINCT e.TASK_ID FROM TASK_HISTORY_EVENT e "
+          + "WHERE e.EVENT_TYPE IN ('COMPLETED', 'CANCELLED', 'TERMINATED') "
+          + "AND e.CREATED &lt;= #{createdBefore} "
+          + "<if test='lastTaskId != null'>AND e.TASK_ID &gt; #{lastTaskId} </if>"
+          + "<if test='allCompletedSameParentBusiness'>"
+          + "AND (e.PARENT_BUSINESS_PROCESS_ID IS NULL OR e.PARENT_BUSINESS_PROCESS_ID = '' "
+          + "OR NOT EXISTS (SELECT c.TASK_ID FROM TASK_HISTORY_EVENT c "
+          + "WHERE c.PARENT_BUSINESS_PROCESS_ID = e.PARENT_BUSINESS_PROCESS_ID AND c.EVENT_TYPE = 'CREATED' "
+          + "AND NOT EXISTS (SELECT d.TASK_ID FROM TASK_HISTORY_EVENT d "
+          + "WHERE d.TASK_ID = c.TASK_ID AND d.EVENT_TYPE IN ('COMPLETED', 'CANCELLED', 'TERMINATED') "
+          + "AND d.CREATED &lt;= #{createdBefore}))) "
+          + "</if>"
+          + "ORDER BY e.TASK_ID FETCH FIRST ${limit} ROWS ONLY"
+          + "</script>")
+  List<String> findTaskIdsToCleanUp(
+      @Param("createdBefore") Instant createdBefore,
+      @Param("allCompletedSameParentBusiness") boolean allCompletedSameParentBusiness,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("limit") int limit);
+
   @Delete(
       "<script>DELETE FROM TASK_HISTORY_EVENT WHERE TASK_ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>)</script>")
-  void deleteMultipleByTaskIds(@Param("taskIds") List<String> taskIds);
+  int deleteMultipleByTaskIds(@Param("taskIds") List<String> taskIds);
 }
@@ -46,4 +46,36 @@ class CreateHistoryEventOnTaskCreationAccTest extends AbstractAccTest {
 
     assertThat(eventType).isEqualTo(TaskHistoryEventType.CREATED.getName());
   }
+
+  @Test
+  @WithAccessId(user = "admin")
+  void should_CreateCreatedHistoryEvents_When_TasksAreCreatedInBulk() throws Exception {
+
+    TaskImpl newTask1 = (TaskImpl) taskService.newTask("WBI:100000000000000000000000000000000006");
+    newTask1.setClassificationKey("T2100");
+    newTask1.setPrimaryObjRef(
+        createObjectRef("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    TaskImpl newTask2 = (TaskImpl) taskService.newTask("WBI:100000000000000000000000000000000006");
+    newTask2.setClassificationKey("T2100");
+    newTask2.setPrimaryObjRef(
+        createObjectRef("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "7654321"));
+    taskService.createTasks(List.of(newTask1, newTask2));
+
+    TaskHistoryQueryMapper taskHistoryQueryMapper = getHistoryQueryMapper();
+
+    List<TaskHistoryEvent> events =
+        taskHistoryQueryMapper.queryHistoryEvents(
+            (TaskHistoryQueryImpl)
+                historyService
+                    .createTaskHistoryQuery()
+                    .taskIdIn(newTask1.getId(), newTask2.getId()));
+
+    assertThat(events)
+        .extracting(TaskHistoryEvent::getEventType)
+        .containsExactly(
+            TaskHistoryEventType.CREATED.getName(), TaskHistoryEventType.CREATED.getName());
+    assertThat(events)
+        .extracting(TaskHistoryEvent::getTaskId)
+        .containsExactlyInAnyOrder(newTask1.getId(), newTask2.getId());
+  }
 }
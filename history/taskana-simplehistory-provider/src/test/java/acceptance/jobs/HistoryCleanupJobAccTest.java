@@ -8,6 +8,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -373,6 +374,50 @@ class HistoryCleanupJobAccTest extends AbstractAccTest {
     assertThat(getHistoryService().createTaskHistoryQuery().count()).isEqualTo(15);
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ContinueAtCheckpoint_When_ScheduledJobContainsCheckpoint() throws Exception {
+    for (String taskId : List.of("taskId1", "taskId2")) {
+      TaskHistoryEvent event =
+          createTaskHistoryEvent(
+              "wbKey1",
+              taskId,
+              TaskHistoryEventType.COMPLETED.getName(),
+              "wbKey2",
+              "someUserId",
+              "someDetails");
+      event.setCreated(Instant.now().minus(20, ChronoUnit.DAYS));
+      getHistoryService().create(event);
+    }
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(false);
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(HistoryCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minus(1, ChronoUnit.MINUTES));
+    scheduledJob.setArguments(
+        Map.of(
+            "createdBefore",
+            Instant.now().minus(10, ChronoUnit.DAYS).toString(),
+            "lastTaskId",
+            "taskId1"));
+    taskanaEngine.getJobService().createJob(scheduledJob);
+    ScheduledJob storedScheduledJob =
+        getJobMapper().findJobsToRun(Instant.now()).stream()
+            .filter(storedJob -> storedJob.getType().equals(HistoryCleanupJob.class.getName()))
+            .findFirst()
+            .orElseThrow();
+
+    HistoryCleanupJob job = new HistoryCleanupJob(taskanaEngine, null, storedScheduledJob);
+    job.run();
+
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn("taskId1").count())
+        .isEqualTo(1);
+    assertThat(getHistoryService().createTaskHistoryQuery().taskIdIn("taskId2").count()).isZero();
+    assertThat(getJobMapper().findJobsToRun(Instant.now()))
+        .filteredOn(storedJob -> storedJob.getJobId().equals(storedScheduledJob.getJobId()))
+        .extracting(storedJob -> storedJob.getArguments().get("lastTaskId"))
+        .containsExactly("taskId2");
+  }
+
   @WithAccessId(user = "admin")
   @Test
   void should_DeleteOldHistoryCleanupJobs_When_InitializingSchedule() throws Exception {
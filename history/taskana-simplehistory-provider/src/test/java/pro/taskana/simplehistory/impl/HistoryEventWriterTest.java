@@ -0,0 +1,144 @@
+package pro.taskana.simplehistory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+
+/** Unit Test for HistoryEventWriter. */
+class HistoryEventWriterTest {
+
+  private final List<List<TaskHistoryEvent>> writtenBatches =
+      Collections.synchronizedList(new ArrayList<>());
+
+  @Test
+  void should_WriteFullBatches_When_BatchSizeIsReached() throws Exception {
+    try (HistoryEventWriter writer =
+        new HistoryEventWriter(
+            writtenBatches::add, 100, 2, Duration.ofMinutes(1), Duration.ofSeconds(1))) {
+      for (int i = 0; i < 4; i++) {
+        writer.enqueue(createEvent());
+      }
+      writer.flush();
+
+      assertThat(writtenBatches).hasSize(2).allSatisfy(batch -> assertThat(batch).hasSize(2));
+      assertThat(writer.getWrittenEvents()).isEqualTo(4);
+      assertThat(writer.getFlushCount()).isEqualTo(2);
+      assertThat(writer.getQueueDepth()).isZero();
+    }
+  }
+
+  @Test
+  void should_WritePartialBatch_When_MaxBatchAgeIsReached() throws Exception {
+    try (HistoryEventWriter writer =
+        new HistoryEventWriter(
+            writtenBatches::add, 100, 100, Duration.ofMillis(50), Duration.ofSeconds(1))) {
+      writer.enqueue(createEvent());
+      writer.flush();
+
+      assertThat(writtenBatches).hasSize(1);
+      assertThat(writtenBatches.get(0)).hasSize(1);
+    }
+  }
+
+  @Test
+  void should_WriteEventSynchronously_When_QueueIsFull() throws Exception {
+    CountDownLatch blockWriter = new CountDownLatch(1);
+    Consumer<List<TaskHistoryEvent>> blockingBatchWriter =
+        batch -> {
+          if (Thread.currentThread().getName().equals("taskana-history-event-writer")) {
+            await(blockWriter);
+          }
+          writtenBatches.add(new ArrayList<>(batch));
+        };
+    try (HistoryEventWriter writer =
+        new HistoryEventWriter(
+            blockingBatchWriter, 1, 1, Duration.ofMillis(10), Duration.ofMillis(10))) {
+      // the first event blocks the writer thread, the second one fills the queue
+      writer.enqueue(createEvent());
+      writer.enqueue(createEvent());
+      writer.enqueue(createEvent());
+      blockWriter.countDown();
+      writer.flush();
+
+      assertThat(writer.getSynchronouslyWrittenEvents()).isPositive();
+      assertThat(writer.getWrittenEvents()).isEqualTo(3);
+      assertThat(writtenBatches).flatExtracting(batch -> batch).hasSize(3);
+    }
+  }
+
+  @Test
+  void should_WritePendingEvents_When_WriterIsClosed() {
+    HistoryEventWriter writer =
+        new HistoryEventWriter(
+            writtenBatches::add, 100, 10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+    for (int i = 0; i < 5; i++) {
+      writer.enqueue(createEvent());
+    }
+    writer.close();
+
+    assertThat(writtenBatches).flatExtracting(batch -> batch).hasSize(5);
+    assertThat(writer.getWrittenEvents()).isEqualTo(5);
+
+    writer.enqueue(createEvent());
+    assertThat(writer.getSynchronouslyWrittenEvents()).isEqualTo(1);
+    assertThat(writer.getWrittenEvents()).isEqualTo(6);
+  }
+
+  @Test
+  void should_NotKeepWriterForShutdownHook_When_WriterIsClosed() {
+    int openWriters = HistoryEventWriter.getNumberOfOpenWriters();
+    HistoryEventWriter writer =
+        new HistoryEventWriter(
+            writtenBatches::add, 100, 10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+    assertThat(HistoryEventWriter.getNumberOfOpenWriters()).isEqualTo(openWriters + 1);
+
+    writer.close();
+
+    assertThat(HistoryEventWriter.getNumberOfOpenWriters()).isEqualTo(openWriters);
+  }
+
+  @Test
+  void should_CountFailedEvents_When_BatchWriterThrowsException() throws Exception {
+    try (HistoryEventWriter writer =
+        new HistoryEventWriter(
+            batch -> {
+              throw new IllegalStateException("database is down");
+            },
+            100,
+            10,
+            Duration.ofMillis(10),
+            Duration.ofSeconds(1))) {
+      writer.enqueue(createEvent());
+      writer.enqueue(createEvent());
+      writer.flush();
+
+      assertThat(writer.getFailedEvents()).isEqualTo(2);
+      assertThat(writer.getWrittenEvents()).isZero();
+      assertThat(writer.getMaxFlushLatency()).isGreaterThanOrEqualTo(Duration.ZERO);
+      assertThat(writer.getAverageFlushLatency()).isLessThanOrEqualTo(writer.getMaxFlushLatency());
+    }
+  }
+
+  private static TaskHistoryEvent createEvent() {
+    return AbstractAccTest.createTaskHistoryEvent(
+        "wbKey1", "taskId1", "type1", "wbKey2", "someUserId", "someDetails");
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -2,7 +2,9 @@ package pro.taskana.simplehistory.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -11,6 +13,8 @@ import acceptance.AbstractAccTest;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
+import java.util.function.Consumer;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionManager;
 import org.junit.jupiter.api.Test;
@@ -22,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
 import pro.taskana.simplehistory.impl.task.TaskHistoryQueryMapper;
 import pro.taskana.simplehistory.impl.workbasket.WorkbasketHistoryEventMapper;
@@ -50,6 +55,8 @@ class SimpleHistoryServiceImplTest {
 
   @Mock private TaskanaEngine taskanaEngine;
 
+  @Mock private TaskanaEngineImpl taskanaEngineImplMock;
+
   @Mock private SqlSessionManager sqlSessionManagerMock;
 
   @Mock private SqlSession sqlSessionMock;
@@ -63,6 +70,8 @@ class SimpleHistoryServiceImplTest {
     when(taskanaHistoryEngineMock.getSqlSession()).thenReturn(sqlSessionManagerMock);
     doReturn(taskanaHistoryEngineMock).when(cutSpy).getTaskanaEngine(taskanaEngine);
     doReturn(taskanaEngine).when(taskanaEngineConfiguration).buildTaskanaEngine();
+    when(taskanaEngine.getConfiguration()).thenReturn(taskanaEngineConfiguration);
+    when(taskanaEngineConfiguration.readPropertiesFromFile()).thenReturn(new Properties());
     cutSpy.initialize(taskanaEngineConfiguration.buildTaskanaEngine());
 
     verify(sqlSessionManagerMock, times(3)).getMapper(any());
@@ -82,6 +91,46 @@ class SimpleHistoryServiceImplTest {
     assertThat(expectedWb.getCreated()).isNotNull();
   }
 
+  @Test
+  void should_WriteTaskHistoryEventOnlyAfterCommit_When_AsyncIsEnabled() throws Exception {
+    Properties properties = new Properties();
+    properties.setProperty("taskana.history.async.enabled", "true");
+    List<Consumer<Boolean>> afterCompletionActions = new ArrayList<>();
+    doReturn(taskanaHistoryEngineMock).when(cutSpy).getTaskanaEngine(taskanaEngineImplMock);
+    when(taskanaHistoryEngineMock.getSqlSession()).thenReturn(sqlSessionManagerMock);
+    when(taskanaEngineImplMock.getConfiguration()).thenReturn(taskanaEngineConfiguration);
+    when(taskanaEngineConfiguration.readPropertiesFromFile()).thenReturn(properties);
+    doAnswer(invocation -> afterCompletionActions.add(invocation.getArgument(0)))
+        .when(taskanaEngineImplMock)
+        .runAfterCompletion(any());
+    when(taskanaHistoryEngineMock.openBatchSession()).thenReturn(sqlSessionMock);
+    when(sqlSessionMock.getMapper(TaskHistoryEventMapper.class))
+        .thenReturn(taskHistoryEventMapperMock);
+    cutSpy.initialize(taskanaEngineImplMock);
+    TaskHistoryEvent committedEvent =
+        AbstractAccTest.createTaskHistoryEvent(
+            "wbKey1", "taskId1", "type1", "wbKey2", "someUserId", "someDetails");
+    TaskHistoryEvent rolledBackEvent =
+        AbstractAccTest.createTaskHistoryEvent(
+            "wbKey1", "taskId2", "type1", "wbKey2", "someUserId", "someDetails");
+
+    cutSpy.create(committedEvent);
+    cutSpy.create(rolledBackEvent);
+    assertThat(cutSpy.getHistoryEventWriter()).isEmpty();
+    afterCompletionActions.get(0).accept(true);
+    afterCompletionActions.get(1).accept(false);
+
+    HistoryEventWriter writer = cutSpy.getHistoryEventWriter().orElseThrow();
+    try {
+      writer.flush();
+      verify(taskHistoryEventMapperMock, times(1)).insert(committedEvent);
+      verify(taskHistoryEventMapperMock, never()).insert(rolledBackEvent);
+      verify(taskanaHistoryEngineMock, never()).openConnection();
+    } finally {
+      writer.close();
+    }
+  }
+
   @Test
   void should_VerifyMethodInvocations_When_CreateWorkbasketHisoryEvent() throws Exception {
     WorkbasketHistoryEvent expectedEvent =
@@ -0,0 +1,78 @@
+package pro.taskana.simplehistory.impl.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.CheckedRunnable;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.test.rest.TaskanaSpringBootTest;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.simplehistory.impl.TaskanaHistoryEngineImpl;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
+
+/** Test for the {@linkplain HistoryCleanupJob} within spring managed transactions. */
+@TaskanaSpringBootTest
+class HistoryCleanupJobIntTest {
+
+  private final TaskanaEngine taskanaEngine;
+  private final TaskanaTransactionProvider transactionProvider;
+
+  @Autowired
+  HistoryCleanupJobIntTest(
+      TaskanaEngine taskanaEngine, TaskanaTransactionProvider transactionProvider) {
+    this.taskanaEngine = taskanaEngine;
+    this.transactionProvider = transactionProvider;
+  }
+
+  @Test
+  void should_CommitChunkAndCheckpoint_When_TransactionOfJobIsRolledBack() {
+    String taskId = "TKI:spring-cleanup";
+    TaskHistoryEvent event = new TaskHistoryEvent();
+    event.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT));
+    event.setTaskId(taskId);
+    event.setEventType(TaskHistoryEventType.COMPLETED.getName());
+    event.setCreated(Instant.parse("2000-01-01T00:00:00Z"));
+    SimpleHistoryServiceImpl historyService =
+        (SimpleHistoryServiceImpl)
+            TaskanaHistoryEngineImpl.createTaskanaEngine(taskanaEngine).getTaskanaHistoryService();
+    historyService.create(event);
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(HistoryCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minusSeconds(60));
+    scheduledJob.setArguments(Map.of("createdBefore", "2000-01-02T00:00:00Z"));
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    jobService.createJob(scheduledJob);
+
+    try {
+      HistoryCleanupJob job =
+          new HistoryCleanupJob(taskanaEngine, transactionProvider, scheduledJob);
+      assertThatThrownBy(
+              () ->
+                  transactionProvider.executeInTransaction(
+                      () -> {
+                        taskanaEngine.runAsAdmin(CheckedRunnable.wrap(job::run));
+                        throw new SystemException("the transaction of the job is rolled back");
+                      }))
+          .isInstanceOf(SystemException.class);
+
+      assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isZero();
+      assertThat(jobService.findJobsToRun())
+          .filteredOn(storedJob -> storedJob.getJobId().equals(scheduledJob.getJobId()))
+          .extracting(storedJob -> storedJob.getArguments().get("lastTaskId"))
+          .containsExactly(taskId);
+    } finally {
+      jobService.deleteJob(scheduledJob);
+    }
+  }
+}
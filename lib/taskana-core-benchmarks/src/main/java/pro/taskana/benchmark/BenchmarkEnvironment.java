@@ -0,0 +1,132 @@
+package pro.taskana.benchmark;
+
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.security.auth.Subject;
+import javax.sql.DataSource;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.security.GroupPrincipal;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * The BenchmarkEnvironment creates the TASKANA engine of a benchmark on a database which is seeded
+ * by the {@linkplain SampleDataGenerator}.
+ *
+ * <p>By default an in-memory H2 database is used. Another database can be chosen with the system
+ * properties <b>jdbcDriver, jdbcUrl, dbUserName, dbPassword and schemaName</b>, e.g. by passing
+ * them with <code>-jvmArgsAppend</code> to the forked benchmark JVMs.
+ */
+final class BenchmarkEnvironment {
+
+  static final String GROUP_1_DN =
+      "cn=Organisationseinheit KSC 1,cn=Organisationseinheit KSC,cn=organisation,OU=Test,O=TASKANA";
+  static final String WORKBASKET_USER_1_1 = "WBI:100000000000000000000000000000000006";
+  static final String WORKBASKET_USER_1_2 = "WBI:100000000000000000000000000000000007";
+
+  private BenchmarkEnvironment() {}
+
+  static TaskanaEngine createTaskanaEngineWithTestData() {
+    return createTaskanaEngineWithTestData(configuration -> {});
+  }
+
+  static TaskanaEngine createTaskanaEngineWithTestData(
+      Consumer<TaskanaEngineConfiguration> configurer) {
+    return createTaskanaEngine(configurer, SampleDataGenerator::generateTestData);
+  }
+
+  static TaskanaEngine createTaskanaEngineWithMonitorData() {
+    return createTaskanaEngine(configuration -> {}, SampleDataGenerator::generateMonitorData);
+  }
+
+  static Subject createSubject(String userId, String... groupIds) {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal(userId));
+    for (String groupId : groupIds) {
+      subject.getPrincipals().add(new GroupPrincipal(groupId));
+    }
+    return subject;
+  }
+
+  static <T> T runAs(Subject subject, PrivilegedExceptionAction<T> action) {
+    try {
+      return Subject.doAs(subject, action);
+    } catch (PrivilegedActionException e) {
+      throw new SystemException("Benchmark invocation failed", e.getException());
+    }
+  }
+
+  static List<String> createTasks(TaskService taskService, String workbasketKey, int count)
+      throws Exception {
+    List<String> taskIds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      taskIds.add(taskService.createTask(newTask(taskService, workbasketKey)).getId());
+    }
+    return taskIds;
+  }
+
+  static Task newTask(TaskService taskService, String workbasketKey) {
+    Task task = taskService.newTask(workbasketKey, "DOMAIN_A");
+    task.setClassificationKey("T2100");
+    ObjectReference objectReference = new ObjectReference();
+    objectReference.setCompany("COMPANY_A");
+    objectReference.setSystem("SYSTEM_A");
+    objectReference.setSystemInstance("INSTANCE_A");
+    objectReference.setType("VNR");
+    objectReference.setValue("1234567");
+    task.setPrimaryObjRef(objectReference);
+    return task;
+  }
+
+  private static TaskanaEngine createTaskanaEngine(
+      Consumer<TaskanaEngineConfiguration> configurer, Consumer<SampleDataGenerator> sampleData) {
+    String schemaName = System.getProperty("schemaName", "TASKANA");
+    DataSource dataSource = createDataSource(schemaName);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(dataSource, false, schemaName);
+    configurer.accept(configuration);
+    try {
+      TaskanaEngine taskanaEngine =
+          configuration.buildTaskanaEngine(ConnectionManagementMode.AUTOCOMMIT);
+      SampleDataGenerator sampleDataGenerator =
+          new SampleDataGenerator(dataSource, configuration.getSchemaName());
+      sampleDataGenerator.clearDb();
+      sampleData.accept(sampleDataGenerator);
+      return taskanaEngine;
+    } catch (Exception e) {
+      throw new SystemException("Could not create the TASKANA engine of the benchmark", e);
+    }
+  }
+
+  private static DataSource createDataSource(String schemaName) {
+    String jdbcUrl =
+        System.getProperty(
+            "jdbcUrl",
+            "jdbc:h2:mem:taskana;INIT=CREATE SCHEMA IF NOT EXISTS "
+                + schemaName
+                + "\\;SET COLLATION DEFAULT_de_DE");
+    PooledDataSource dataSource =
+        new PooledDataSource(
+            Thread.currentThread().getContextClassLoader(),
+            System.getProperty("jdbcDriver", "org.h2.Driver"),
+            jdbcUrl,
+            System.getProperty("dbUserName", "sa"),
+            System.getProperty("dbPassword", "sa"));
+    // the pool must not limit the threads of the contention benchmarks
+    dataSource.setPoolMaximumActiveConnections(32);
+    dataSource.setPoolMaximumIdleConnections(32);
+    dataSource.forceCloseAll();
+    return dataSource;
+  }
+}
@@ -0,0 +1,66 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.task.api.TaskService;
+
+/** Benchmarks the completion of a batch of claimed tasks. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CompleteTasksBenchmark {
+
+  @Param({"10", "100"})
+  public int batchSize;
+
+  private TaskService taskService;
+  private Subject user;
+  private List<String> taskIds;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    user = BenchmarkEnvironment.createSubject("user-1-1", BenchmarkEnvironment.GROUP_1_DN);
+  }
+
+  @Setup(Level.Invocation)
+  public void createClaimedTasks() {
+    taskIds =
+        runAs(
+            user,
+            () -> {
+              List<String> createdTaskIds =
+                  BenchmarkEnvironment.createTasks(taskService, "USER-1-1", batchSize);
+              for (String taskId : createdTaskIds) {
+                taskService.claim(taskId);
+              }
+              return createdTaskIds;
+            });
+  }
+
+  @Benchmark
+  public BulkOperationResults<String, TaskanaException> completeTasks() {
+    return runAs(user, () -> taskService.completeTasks(taskIds));
+  }
+}
@@ -0,0 +1,45 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+
+/** Benchmarks the creation of a task including its service level calculation. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class CreateTaskBenchmark {
+
+  private TaskService taskService;
+  private Subject user;
+
+  @Setup
+  public void setup() {
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    user = BenchmarkEnvironment.createSubject("user-1-1", BenchmarkEnvironment.GROUP_1_DN);
+  }
+
+  @Benchmark
+  public Task createTask() {
+    return runAs(
+        user,
+        () -> taskService.createTask(BenchmarkEnvironment.newTask(taskService, "USER-1-1")));
+  }
+}
@@ -0,0 +1,103 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+/**
+ * Benchmarks the distribution targets of a hub workbasket with thousands of targets. Every call
+ * of setDistributionTargets replaces a tenth of the targets. With the master data cache, the
+ * distribution targets are read from the cached distribution graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class DistributionTargetsBenchmark {
+
+  private static final int NUMBER_OF_TARGETS = 2000;
+
+  @Param({"false", "true"})
+  public boolean masterDataCache;
+
+  private WorkbasketService workbasketService;
+  private Subject admin;
+  private String hubId;
+  private List<String> targetIds;
+  private List<String> changedTargetIds;
+  private boolean changeBack;
+
+  @Setup
+  public void setup() {
+    workbasketService =
+        BenchmarkEnvironment.createTaskanaEngineWithTestData(
+                configuration -> configuration.setMasterDataCacheEnabled(masterDataCache))
+            .getWorkbasketService();
+    admin = BenchmarkEnvironment.createSubject("admin");
+    List<String> workbasketIds = new ArrayList<>();
+    runAs(
+        admin,
+        () -> {
+          hubId = createWorkbasket("HUB").getId();
+          for (int i = 0; i < NUMBER_OF_TARGETS + NUMBER_OF_TARGETS / 10; i++) {
+            workbasketIds.add(createWorkbasket("TARGET-" + i).getId());
+          }
+          return null;
+        });
+    targetIds = workbasketIds.subList(0, NUMBER_OF_TARGETS);
+    changedTargetIds = workbasketIds.subList(NUMBER_OF_TARGETS / 10, workbasketIds.size());
+    runAs(
+        admin,
+        () -> {
+          workbasketService.setDistributionTargets(hubId, targetIds);
+          return null;
+        });
+  }
+
+  @Benchmark
+  public boolean setDistributionTargets() {
+    // the targets are switched back and forth between two sets which differ in a tenth
+    List<String> newTargetIds = changeBack ? targetIds : changedTargetIds;
+    changeBack = !changeBack;
+    runAs(
+        admin,
+        () -> {
+          workbasketService.setDistributionTargets(hubId, newTargetIds);
+          return null;
+        });
+    return changeBack;
+  }
+
+  @Benchmark
+  public List<WorkbasketSummary> getDistributionTargets() {
+    return runAs(admin, () -> workbasketService.getDistributionTargets(hubId));
+  }
+
+  private Workbasket createWorkbasket(String key) throws Exception {
+    Workbasket workbasket = workbasketService.newWorkbasket(key, "DOMAIN_A");
+    workbasket.setName(key);
+    workbasket.setType(WorkbasketType.GROUP);
+    return workbasketService.createWorkbasket(workbasket);
+  }
+}
@@ -0,0 +1,41 @@
+package pro.taskana.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.internal.util.IdGenerator;
+
+/**
+ * Benchmarks the generation of ids by several threads. The time ordered ids of the {@linkplain
+ * IdGenerator} are compared to ids with a random UUID, which is created with a shared {@linkplain
+ * java.security.SecureRandom}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class IdGenerationBenchmark {
+
+  @Benchmark
+  public String timeOrderedId() {
+    return IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+  }
+
+  @Benchmark
+  public String randomUuidId() {
+    return IdGenerator.ID_PREFIX_TASK + ":" + UUID.randomUUID();
+  }
+}
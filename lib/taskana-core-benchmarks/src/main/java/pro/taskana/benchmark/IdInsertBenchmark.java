@@ -0,0 +1,106 @@
+package pro.taskana.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.util.IdGenerator;
+
+/**
+ * Benchmarks the insert throughput into a table whose primary key is a VARCHAR(40) id, like the
+ * ids of the TASKANA tables. Time ordered ids are appended to the primary key index, while random
+ * UUIDs are inserted at random positions of the index and split its pages.
+ *
+ * <p>Before every iteration, the table is filled with <b>existingRows</b> rows. Every invocation
+ * inserts a batch of <b>batchSize</b> rows in one transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class IdInsertBenchmark {
+
+  private static final String PAYLOAD = String.join("", Collections.nCopies(20, "0123456789"));
+
+  @Param({"timeOrdered", "randomUuid"})
+  public String idGeneration;
+
+  @Param({"500000"})
+  public int existingRows;
+
+  @Param({"1000"})
+  public int batchSize;
+
+  private DataSource dataSource;
+  private String schemaName;
+  private Supplier<String> ids;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    TaskanaEngine taskanaEngine = BenchmarkEnvironment.createTaskanaEngineWithTestData();
+    dataSource = taskanaEngine.getConfiguration().getDatasource();
+    schemaName = taskanaEngine.getConfiguration().getSchemaName();
+    ids =
+        "timeOrdered".equals(idGeneration)
+            ? () -> IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK)
+            : () -> IdGenerator.ID_PREFIX_TASK + ":" + UUID.randomUUID();
+  }
+
+  @Setup(Level.Iteration)
+  public void createTable() throws SQLException {
+    try (Connection connection = getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.executeUpdate("DROP TABLE IF EXISTS ID_BENCHMARK");
+      statement.executeUpdate(
+          "CREATE TABLE ID_BENCHMARK (ID VARCHAR(40) NOT NULL, PAYLOAD VARCHAR(255), "
+              + "PRIMARY KEY (ID))");
+      connection.commit();
+    }
+    for (int i = 0; i < existingRows; i += batchSize) {
+      insertRows();
+    }
+  }
+
+  @Benchmark
+  public void insertRows() throws SQLException {
+    try (Connection connection = getConnection();
+        PreparedStatement statement =
+            connection.prepareStatement("INSERT INTO ID_BENCHMARK (ID, PAYLOAD) VALUES (?, ?)")) {
+      for (int i = 0; i < batchSize; i++) {
+        statement.setString(1, ids.get());
+        statement.setString(2, PAYLOAD);
+        statement.addBatch();
+      }
+      statement.executeBatch();
+      connection.commit();
+    }
+  }
+
+  private Connection getConnection() throws SQLException {
+    Connection connection = dataSource.getConnection();
+    connection.setSchema(schemaName);
+    connection.setAutoCommit(false);
+    return connection;
+  }
+}
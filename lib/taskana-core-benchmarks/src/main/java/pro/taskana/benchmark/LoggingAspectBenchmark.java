@@ -0,0 +1,87 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.apache.ibatis.logging.LogFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.internal.logging.LoggingAspect;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * Benchmarks the overhead of the {@linkplain LoggingAspect} on the calls of the {@linkplain
+ * TaskService}. Every forked JVM uses one of the following <b>tracing</b> modes:
+ *
+ * <ul>
+ *   <li><b>disabled</b>: the aspect is woven, but not enabled
+ *   <li><b>traceLevelOff</b>: the aspect is enabled, but the loggers do not have the level TRACE
+ *   <li><b>synchronous</b>: all calls are traced by the calling thread
+ *   <li><b>sampled</b>: 1% of the calls are traced asynchronously
+ * </ul>
+ *
+ * <p>The traces are written into a temporary file. The statement logging of MyBatis is turned off,
+ * because it would log on the level TRACE as well. The baseline without the aspect is measured
+ * with a benchmark jar which is built after taskana-core has been installed with
+ * <code>-DskipAspectJ</code>. Then all tracing modes show the same result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingAspectBenchmark {
+
+  private static final String TASK_ID = "TKI:000000000000000000000000000000000000";
+
+  @Param({"disabled", "traceLevelOff", "synchronous", "sampled"})
+  public String tracing;
+
+  private TaskService taskService;
+  private Subject admin;
+
+  @Setup
+  public void setup() throws IOException {
+    LogFactory.useNoLogging();
+    // the properties are read by the first traced call and the first logger of the forked JVM
+    if (!"disabled".equals(tracing)) {
+      System.setProperty(LoggingAspect.ENABLE_LOGGING_ASPECT_PROPERTY_KEY, "true");
+    }
+    if ("synchronous".equals(tracing) || "sampled".equals(tracing)) {
+      File traceFile = File.createTempFile("taskana-trace", ".log");
+      traceFile.deleteOnExit();
+      System.setProperty("org.slf4j.simpleLogger.logFile", traceFile.getAbsolutePath());
+      System.setProperty("org.slf4j.simpleLogger.log.pro.taskana", "trace");
+    }
+    if ("sampled".equals(tracing)) {
+      System.setProperty(LoggingAspect.LOGGING_ASPECT_SAMPLING_PROPERTY_KEY, "pro.taskana.*=0.01");
+    }
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    admin = BenchmarkEnvironment.createSubject("admin");
+  }
+
+  @Benchmark
+  public Task getTask() {
+    return runAs(admin, () -> taskService.getTask(TASK_ID));
+  }
+
+  @Benchmark
+  public Task newTask() {
+    return runAs(admin, () -> BenchmarkEnvironment.newTask(taskService, "USER-1-1"));
+  }
+}
@@ -0,0 +1,111 @@
+package pro.taskana.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.internal.persistence.MapTypeHandler;
+
+/**
+ * Benchmarks the (de)serialization of the custom attributes by the {@linkplain MapTypeHandler}.
+ * The JDBC statement and result set are replaced by proxies, so that only the conversion is
+ * measured.
+ *
+ * <p>Besides the plain conversions, the benchmark measures a task which is read and updated: once
+ * with a single custom attribute being read and once with a single custom attribute being changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapTypeHandlerBenchmark {
+
+  private static final String COLUMN_NAME = "CUSTOM_ATTRIBUTES";
+
+  @Param({"50", "100", "200"})
+  public int numberOfEntries;
+
+  private MapTypeHandler mapTypeHandler;
+  private Map<String, Object> customAttributes;
+  private PreparedStatement preparedStatement;
+  private ResultSet resultSet;
+  private String serializedValue;
+
+  @Setup
+  public void setup() throws SQLException {
+    mapTypeHandler = new MapTypeHandler();
+    customAttributes = new HashMap<>();
+    for (int i = 0; i < numberOfEntries; i++) {
+      customAttributes.put("Property_" + i, "Property Value of Property_" + i);
+    }
+    preparedStatement =
+        createProxy(
+            PreparedStatement.class,
+            (method, args) -> {
+              if ("setString".equals(method)) {
+                serializedValue = (String) args[1];
+              }
+              return null;
+            });
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, customAttributes, null);
+    String json = serializedValue;
+    resultSet = createProxy(ResultSet.class, (method, args) -> json);
+  }
+
+  @Benchmark
+  public String serialize() throws SQLException {
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, customAttributes, null);
+    return serializedValue;
+  }
+
+  @Benchmark
+  public Map<String, Object> deserialize() throws SQLException {
+    return mapTypeHandler.getNullableResult(resultSet, COLUMN_NAME);
+  }
+
+  @Benchmark
+  public String readAttributeAndWriteBack() throws SQLException {
+    Map<String, Object> readAttributes = mapTypeHandler.getNullableResult(resultSet, COLUMN_NAME);
+    readAttributes.get("Property_0");
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, readAttributes, null);
+    return serializedValue;
+  }
+
+  @Benchmark
+  public String changeAttributeAndWriteBack() throws SQLException {
+    Map<String, Object> readAttributes = mapTypeHandler.getNullableResult(resultSet, COLUMN_NAME);
+    readAttributes.put("Property_0", "changed value");
+    mapTypeHandler.setNonNullParameter(preparedStatement, 1, readAttributes, null);
+    return serializedValue;
+  }
+
+  private static <T> T createProxy(Class<T> type, MethodHandler methodHandler) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            MapTypeHandlerBenchmark.class.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> methodHandler.invoke(method.getName(), args)));
+  }
+
+  private interface MethodHandler {
+
+    Object invoke(String methodName, Object[] args);
+  }
+}
@@ -0,0 +1,126 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.header.PriorityColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.task.api.TaskCustomField;
+
+/** Benchmarks each report of the {@linkplain MonitorService} on the monitor sample data. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class MonitorServiceBenchmark {
+
+  private static final List<TimeIntervalColumnHeader> TIME_INTERVAL_COLUMN_HEADERS =
+      Arrays.asList(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+          new TimeIntervalColumnHeader(-10, -6),
+          new TimeIntervalColumnHeader(-5, -2),
+          new TimeIntervalColumnHeader(-1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1),
+          new TimeIntervalColumnHeader(2, 5),
+          new TimeIntervalColumnHeader(6, 10),
+          new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+  private static final List<PriorityColumnHeader> PRIORITY_COLUMN_HEADERS =
+      Arrays.asList(
+          new PriorityColumnHeader(Integer.MIN_VALUE, 249),
+          new PriorityColumnHeader(250, 500),
+          new PriorityColumnHeader(501, Integer.MAX_VALUE));
+
+  @Param
+  public ReportType reportType;
+
+  private MonitorService monitorService;
+  private Subject monitor;
+
+  @Setup
+  public void setup() {
+    monitorService = BenchmarkEnvironment.createTaskanaEngineWithMonitorData().getMonitorService();
+    monitor = BenchmarkEnvironment.createSubject("monitor");
+  }
+
+  @Benchmark
+  public Report<?, ?> buildReport() {
+    return runAs(monitor, this::createReport);
+  }
+
+  private Report<?, ?> createReport() throws Exception {
+    switch (reportType) {
+      case WORKBASKET:
+        return monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildReport();
+      case WORKBASKET_PRIORITY:
+        return monitorService
+            .createWorkbasketPriorityReportBuilder()
+            .withColumnHeaders(PRIORITY_COLUMN_HEADERS)
+            .buildReport();
+      case CLASSIFICATION_CATEGORY:
+        return monitorService
+            .createClassificationCategoryReportBuilder()
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildReport();
+      case CLASSIFICATION:
+        return monitorService
+            .createClassificationReportBuilder()
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildReport();
+      case DETAILED_CLASSIFICATION:
+        return monitorService
+            .createClassificationReportBuilder()
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildDetailedReport();
+      case TASK_CUSTOM_FIELD_VALUE:
+        return monitorService
+            .createTaskCustomFieldValueReportBuilder(TaskCustomField.CUSTOM_1)
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildReport();
+      case TASK_STATUS:
+        return monitorService.createTaskStatusReportBuilder().buildReport();
+      case TIMESTAMP:
+        return monitorService
+            .createTimestampReportBuilder()
+            .withColumnHeaders(TIME_INTERVAL_COLUMN_HEADERS)
+            .buildReport();
+      default:
+        throw new SystemException("Unknown report type " + reportType);
+    }
+  }
+
+  /** The report which is built by the benchmark. */
+  public enum ReportType {
+    WORKBASKET,
+    WORKBASKET_PRIORITY,
+    CLASSIFICATION_CATEGORY,
+    CLASSIFICATION,
+    DETAILED_CLASSIFICATION,
+    TASK_CUSTOM_FIELD_VALUE,
+    TASK_STATUS,
+    TIMESTAMP
+  }
+}
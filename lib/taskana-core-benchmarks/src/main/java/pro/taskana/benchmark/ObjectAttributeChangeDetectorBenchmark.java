@@ -0,0 +1,114 @@
+package pro.taskana.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.models.TaskImpl;
+
+/**
+ * Benchmarks the {@linkplain ObjectAttributeChangeDetector} for an update of a task, which
+ * changes a few of its fields. The precompiled comparison is compared to the previous
+ * implementation, which read all fields by reflection and built the JSON with org.json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ObjectAttributeChangeDetectorBenchmark {
+
+  private TaskImpl oldTask;
+  private TaskImpl newTask;
+
+  @Setup
+  public void setup() {
+    final Instant now = Instant.now();
+    oldTask = new TaskImpl();
+    oldTask.setId("TKI:000000000000000000000000000000000001");
+    oldTask.setExternalId("ETI:000000000000000000000000000000000001");
+    oldTask.setCreated(now.minus(2, ChronoUnit.DAYS));
+    oldTask.setModified(now.minus(1, ChronoUnit.DAYS));
+    oldTask.setPlanned(now.minus(2, ChronoUnit.DAYS));
+    oldTask.setDue(now.plus(3, ChronoUnit.DAYS));
+    oldTask.setName("Task name");
+    oldTask.setCreator("user-1-1");
+    oldTask.setPriority(1);
+    oldTask.setState(TaskState.READY);
+    oldTask.setBusinessProcessId("BPI:01");
+    oldTask.setCustom1("custom1");
+
+    newTask = oldTask.copy();
+    newTask.setId(oldTask.getId());
+    newTask.setExternalId(oldTask.getExternalId());
+    newTask.setCreated(oldTask.getCreated());
+    newTask.setModified(now);
+    newTask.setOwner("user-1-2");
+    newTask.setPriority(5);
+    newTask.setRead(true);
+    newTask.setState(TaskState.CLAIMED);
+  }
+
+  @Benchmark
+  public String precompiledComparison() {
+    return ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask);
+  }
+
+  @Benchmark
+  public String reflectionBasedComparison() throws IllegalAccessException {
+    return determineChangesByReflection(oldTask, newTask);
+  }
+
+  private static String determineChangesByReflection(Object oldObject, Object newObject)
+      throws IllegalAccessException {
+    List<JSONObject> changedAttributes = new ArrayList<>();
+    for (Field field : retrieveAllFields(oldObject.getClass())) {
+      field.setAccessible(true);
+      if (!"customAttributes".equals(field.getName())) {
+        Object oldValue = field.get(oldObject);
+        Object newValue = field.get(newObject);
+        if (!Objects.equals(oldValue, newValue)) {
+          JSONObject changedAttribute = new JSONObject();
+          changedAttribute.put("fieldName", field.getName());
+          changedAttribute.put(
+              "oldValue", Optional.ofNullable(oldValue).map(JSONObject::wrap).orElse(""));
+          changedAttribute.put(
+              "newValue", Optional.ofNullable(newValue).map(JSONObject::wrap).orElse(""));
+          changedAttributes.add(changedAttribute);
+        }
+      }
+    }
+    JSONObject changes = new JSONObject();
+    changes.put("changes", changedAttributes);
+    return changes.toString();
+  }
+
+  private static List<Field> retrieveAllFields(Class<?> currentClass) {
+    List<Field> fields = new ArrayList<>();
+    while (currentClass.getSuperclass() != null) {
+      fields.addAll(Arrays.asList(currentClass.getDeclaredFields()));
+      currentClass = currentClass.getSuperclass();
+    }
+    return fields;
+  }
+}
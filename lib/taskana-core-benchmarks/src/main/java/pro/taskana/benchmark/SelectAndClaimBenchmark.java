@@ -0,0 +1,60 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * Benchmarks selectAndClaim while several threads compete for the tasks of the same workbasket.
+ * Each claim is cancelled again, so that the number of ready tasks stays constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SelectAndClaimBenchmark {
+
+  private TaskService taskService;
+  private Subject user;
+
+  @Setup
+  public void setup() {
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    user = BenchmarkEnvironment.createSubject("user-1-1", BenchmarkEnvironment.GROUP_1_DN);
+    runAs(user, () -> BenchmarkEnvironment.createTasks(taskService, "USER-1-1", 50));
+  }
+
+  @Benchmark
+  public Task selectAndClaim() {
+    return runAs(
+        user,
+        () -> {
+          Task task =
+              taskService.selectAndClaim(
+                  taskService
+                      .createTaskQuery()
+                      .workbasketIdIn(BenchmarkEnvironment.WORKBASKET_USER_1_1)
+                      .stateIn(TaskState.READY));
+          return taskService.cancelClaim(task.getId());
+        });
+  }
+}
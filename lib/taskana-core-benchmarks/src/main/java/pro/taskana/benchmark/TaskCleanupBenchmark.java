@@ -0,0 +1,193 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskCleanupJob;
+
+/**
+ * Benchmarks the {@linkplain TaskCleanupJob} with all tasks of a parent business process having
+ * to be completed. The set based job is compared to the previous implementation, which read every
+ * completed task and counted the tasks of every parent business process with a separate query.
+ *
+ * <p>Before every iteration, <b>taskCount</b> completed tasks are inserted. Every second parent
+ * business process contains one task which is not completed, so that its tasks must be kept.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class TaskCleanupBenchmark {
+
+  private static final String TASK_ID_PREFIX = "TKI:BENCHMARK";
+  private static final String INSERT_TASK =
+      "INSERT INTO TASK (ID, EXTERNAL_ID, CREATED, COMPLETED, MODIFIED, STATE, "
+          + "CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID, "
+          + "WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, PRIORITY, "
+          + "POR_COMPANY, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED) "
+          + "VALUES (?, ?, ?, ?, ?, ?, 'MANUAL', 'T2100', "
+          + "'CLI:100000000000000000000000000000000010', ?, 'USER-1-1', 'DOMAIN_A', ?, ?, 1, "
+          + "'COMPANY_A', 'VNR', '1234567', 0, 0)";
+
+  @Param({"1000000"})
+  public int taskCount;
+
+  @Param({"10"})
+  public int tasksPerParentBusinessProcess;
+
+  private TaskanaEngine taskanaEngine;
+  private Subject admin;
+  private int batchSize;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    taskanaEngine = BenchmarkEnvironment.createTaskanaEngineWithTestData();
+    taskanaEngine.getConfiguration().setCleanupJobMinimumAge(Duration.ofDays(1));
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    batchSize = taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+    admin = BenchmarkEnvironment.createSubject("admin");
+  }
+
+  @Setup(Level.Iteration)
+  public void insertTasks() throws SQLException {
+    Timestamp created = Timestamp.from(Instant.now().minus(60, ChronoUnit.DAYS));
+    Timestamp completed = Timestamp.from(Instant.now().minus(30, ChronoUnit.DAYS));
+    try (Connection connection = taskanaEngine.getConfiguration().getDatasource().getConnection()) {
+      connection.setSchema(taskanaEngine.getConfiguration().getSchemaName());
+      connection.setAutoCommit(false);
+      try (Statement statement = connection.createStatement()) {
+        statement.executeUpdate("DELETE FROM TASK WHERE ID LIKE '" + TASK_ID_PREFIX + "%'");
+      }
+      try (PreparedStatement statement = connection.prepareStatement(INSERT_TASK)) {
+        for (int i = 0; i < taskCount; i++) {
+          int parent = i / tasksPerParentBusinessProcess;
+          boolean open = parent % 2 == 1 && i % tasksPerParentBusinessProcess == 0;
+          String id = String.format("%s%027d", TASK_ID_PREFIX, i);
+          statement.setString(1, id);
+          statement.setString(2, "ETI:" + id);
+          statement.setTimestamp(3, created);
+          statement.setTimestamp(4, open ? null : completed);
+          statement.setTimestamp(5, open ? created : completed);
+          statement.setString(6, open ? "READY" : "COMPLETED");
+          statement.setString(7, BenchmarkEnvironment.WORKBASKET_USER_1_1);
+          statement.setString(8, "BPI:" + i);
+          statement.setString(9, "PBPI:" + parent);
+          statement.addBatch();
+          if (i % 1000 == 999) {
+            statement.executeBatch();
+          }
+        }
+        statement.executeBatch();
+      }
+      connection.commit();
+    }
+  }
+
+  @Benchmark
+  public void setBasedCleanup() {
+    runAs(
+        admin,
+        () -> {
+          new TaskCleanupJob(taskanaEngine, null, null).run();
+          return null;
+        });
+  }
+
+  @Benchmark
+  public int queryBasedCleanup() {
+    return runAs(admin, this::deleteTasksWithCountPerParentBusinessProcess);
+  }
+
+  private int deleteTasksWithCountPerParentBusinessProcess() throws InvalidArgumentException {
+    TaskService taskService = taskanaEngine.getTaskService();
+    Instant completedBefore =
+        Instant.now().minus(taskanaEngine.getConfiguration().getCleanupJobMinimumAge());
+    List<String> deletionBatch = new ArrayList<>();
+    List<TaskSummary> tasksOfParent = new ArrayList<>();
+    int[] numberOfDeletedTasks = new int[1];
+    taskService
+        .createTaskQuery()
+        .completedWithin(new TimeInterval(null, completedBefore))
+        .orderByParentBusinessProcessId(SortDirection.ASCENDING)
+        .forEach(
+            task -> {
+              if (!tasksOfParent.isEmpty()
+                  && !Objects.equals(
+                      tasksOfParent.get(0).getParentBusinessProcessId(),
+                      task.getParentBusinessProcessId())) {
+                addIfAllTasksOfParentAreCompleted(taskService, deletionBatch, tasksOfParent);
+                tasksOfParent.clear();
+                if (deletionBatch.size() >= batchSize) {
+                  numberOfDeletedTasks[0] += deleteTasks(taskService, deletionBatch);
+                }
+              }
+              tasksOfParent.add(task);
+            },
+            batchSize);
+    addIfAllTasksOfParentAreCompleted(taskService, deletionBatch, tasksOfParent);
+    numberOfDeletedTasks[0] += deleteTasks(taskService, deletionBatch);
+    return numberOfDeletedTasks[0];
+  }
+
+  private static void addIfAllTasksOfParentAreCompleted(
+      TaskService taskService, List<String> deletionBatch, List<TaskSummary> tasksOfParent) {
+    if (tasksOfParent.isEmpty()) {
+      return;
+    }
+    String parentBusinessProcessId = tasksOfParent.get(0).getParentBusinessProcessId();
+    if (parentBusinessProcessId == null
+        || parentBusinessProcessId.isEmpty()
+        || taskService.createTaskQuery().parentBusinessProcessIdIn(parentBusinessProcessId).count()
+            == tasksOfParent.size()) {
+      tasksOfParent.forEach(task -> deletionBatch.add(task.getId()));
+    }
+  }
+
+  private static int deleteTasks(TaskService taskService, List<String> taskIds) {
+    if (taskIds.isEmpty()) {
+      return 0;
+    }
+    try {
+      int numberOfDeletedTasks =
+          taskIds.size() - taskService.deleteTasks(taskIds).getFailedIds().size();
+      taskIds.clear();
+      return numberOfDeletedTasks;
+    } catch (Exception e) {
+      throw new SystemException("Could not delete the tasks of the benchmark", e);
+    }
+  }
+}
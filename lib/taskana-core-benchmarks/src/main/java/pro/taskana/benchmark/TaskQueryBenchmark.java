@@ -0,0 +1,59 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Benchmarks the task query. Without access id filtering the query is executed by an admin,
+ * otherwise by a user whose workbasket permissions restrict the result.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TaskQueryBenchmark {
+
+  @Param({"true", "false"})
+  public boolean accessIdFiltering;
+
+  private TaskService taskService;
+  private Subject subject;
+
+  @Setup
+  public void setup() {
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    subject =
+        accessIdFiltering
+            ? BenchmarkEnvironment.createSubject("user-1-1", BenchmarkEnvironment.GROUP_1_DN)
+            : BenchmarkEnvironment.createSubject("admin");
+  }
+
+  @Benchmark
+  public List<TaskSummary> list() {
+    return runAs(subject, () -> taskService.createTaskQuery().list());
+  }
+
+  @Benchmark
+  public long count() {
+    return runAs(subject, () -> taskService.createTaskQuery().count());
+  }
+}
@@ -0,0 +1,59 @@
+package pro.taskana.benchmark;
+
+import static pro.taskana.benchmark.BenchmarkEnvironment.runAs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.task.api.TaskService;
+
+/** Benchmarks the transfer of a batch of tasks to another workbasket. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TransferTasksBenchmark {
+
+  @Param({"10", "100"})
+  public int batchSize;
+
+  private TaskService taskService;
+  private Subject admin;
+  private List<String> taskIds;
+  private boolean transferBack;
+
+  @Setup
+  public void setup() {
+    taskService = BenchmarkEnvironment.createTaskanaEngineWithTestData().getTaskService();
+    admin = BenchmarkEnvironment.createSubject("admin");
+    taskIds =
+        runAs(admin, () -> BenchmarkEnvironment.createTasks(taskService, "USER-1-1", batchSize));
+  }
+
+  @Benchmark
+  public BulkOperationResults<String, TaskanaException> transferTasks() {
+    // the tasks are moved back and forth between two workbaskets
+    String destination =
+        transferBack
+            ? BenchmarkEnvironment.WORKBASKET_USER_1_1
+            : BenchmarkEnvironment.WORKBASKET_USER_1_2;
+    transferBack = !transferBack;
+    return runAs(admin, () -> taskService.transferTasks(destination, taskIds));
+  }
+}
@@ -0,0 +1,59 @@
+package pro.taskana.benchmark;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pro.taskana.common.api.WorkingDaysToDaysConverter;
+
+/** Benchmarks the working day calculations of the service level handling. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WorkingDaysToDaysConverterBenchmark {
+
+  @Param({"1", "10", "250"})
+  public int workingDays;
+
+  private WorkingDaysToDaysConverter converter;
+  private Instant start;
+  private Instant end;
+  private Duration duration;
+
+  @Setup
+  public void setup() {
+    converter = new WorkingDaysToDaysConverter(true, false);
+    start = Instant.parse("2021-03-31T10:00:00.000Z");
+    duration = Duration.ofDays(workingDays);
+    end = start.plus(duration);
+  }
+
+  @Benchmark
+  public Instant addWorkingDaysToInstant() {
+    return converter.addWorkingDaysToInstant(start, duration);
+  }
+
+  @Benchmark
+  public Instant subtractWorkingDaysFromInstant() {
+    return converter.subtractWorkingDaysFromInstant(start, duration);
+  }
+
+  @Benchmark
+  public boolean hasWorkingDaysInBetween() {
+    return converter.hasWorkingDaysInBetween(start, end);
+  }
+}
@@ -54,6 +54,13 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_PROPERTY_SEPARATOR = "|";
   private static final String TASKANA_JOB_BATCH_SIZE = "taskana.jobs.batchSize";
   private static final String TASKANA_JOB_RETRIES = "taskana.jobs.maxRetries";
+  private static final String TASKANA_JOB_LOCK_EXPIRATION_PERIOD =
+      "taskana.jobs.lockExpirationPeriod";
+  private static final String TASKANA_JOB_RETRY_BACKOFF = "taskana.jobs.retryBackoff";
+  private static final String TASKANA_JOB_RUNNER_MAX_JOBS_PER_POLL =
+      "taskana.jobs.runner.maxJobsPerPoll";
+  private static final String TASKANA_JOB_RUNNER_MAX_CONCURRENCY =
+      "taskana.jobs.runner.maxConcurrency";
   private static final String TASKANA_JOB_CLEANUP_RUN_EVERY = "taskana.jobs.cleanup.runEvery";
   private static final String TASKANA_JOB_CLEANUP_FIRST_RUN = "taskana.jobs.cleanup.firstRunAt";
   private static final String TASKANA_JOB_CLEANUP_MINIMUM_AGE = "taskana.jobs.cleanup.minimumAge";
@@ -63,6 +70,14 @@ public class TaskanaEngineConfiguration {
   private static final String TASKANA_JOB_PRIORITY_RUN_EVERY = "taskana.jobs.priority.runEvery";
   private static final String TASKANA_JOB_PRIORITY_FIRST_RUN = "taskana.jobs.priority.firstRunAt";
   private static final String TASKANA_JOB_PRIORITY_ACTIVE = "taskana.jobs.priority.active";
+  private static final String TASKANA_JOB_PRIORITY_INCREMENTAL =
+      "taskana.jobs.priority.incremental";
+  private static final String TASKANA_JOB_PRIORITY_PARALLELISM =
+      "taskana.jobs.priority.parallelism";
+  private static final String TASKANA_JOB_MONITOR_AGGREGATE_RUN_EVERY =
+      "taskana.jobs.monitorAggregate.runEvery";
+  private static final String TASKANA_JOB_MONITOR_AGGREGATE_FIRST_RUN =
+      "taskana.jobs.monitorAggregate.firstRunAt";
   private static final String TASKANA_DOMAINS_PROPERTY = "taskana.domains";
   private static final String TASKANA_CLASSIFICATION_TYPES_PROPERTY =
       "taskana.classification.types";
@@ -77,6 +92,24 @@ public class TaskanaEngineConfiguration {
       "taskana.history.deletion.on.task.deletion.enabled";
   private static final String TASKANA_VALIDATION_ALLOW_TIMESTAMP_SERVICE_LEVEL_MISMATCH =
       "taskana.validation.allowTimestampServiceLevelMismatch";
+  private static final String TASKANA_SELECT_AND_CLAIM_SKIP_LOCKED =
+      "taskana.selectAndClaim.skipLocked";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_TTL =
+      "taskana.workbasket.permissionCache.ttl";
+  private static final String TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE =
+      "taskana.workbasket.permissionCache.maxSize";
+  private static final String TASKANA_MASTER_DATA_CACHE_ENABLED =
+      "taskana.masterDataCache.enabled";
+  private static final String TASKANA_MASTER_DATA_CACHE_POLL_INTERVAL =
+      "taskana.masterDataCache.pollInterval";
+  private static final String TASKANA_MASTER_DATA_CACHE_MAX_SIZE =
+      "taskana.masterDataCache.maxSize";
+  private static final String TASKANA_MONITOR_AGGREGATES_ENABLED =
+      "taskana.monitor.aggregates.enabled";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_MAX_STALENESS =
+      "taskana.monitor.reportCache.maxStaleness";
+  private static final String TASKANA_MONITOR_REPORT_CACHE_MAX_SIZE =
+      "taskana.monitor.reportCache.maxSize";
   // TASKANA_SCHEMA_VERSION
   private static final String DEFAULT_SCHEMA_NAME = "TASKANA";
 
@@ -105,17 +138,41 @@ public class TaskanaEngineConfiguration {
   // Properties for general job execution
   private int jobBatchSize = 100;
   private int maxNumberOfJobRetries = 3;
+  private Duration jobLockExpirationPeriod = Duration.ofSeconds(60);
+  private Duration jobRetryBackoff = Duration.ofMinutes(1);
+  // Properties for the parallel job runner, job types without a limit are not restricted
+  private int jobRunnerMaxJobsPerPoll = 10;
+  private Map<String, Integer> jobRunnerMaxConcurrencyByType = new HashMap<>();
   // Properties for the cleanup job
   private Instant cleanupJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
   private Duration cleanupJobRunEvery = Duration.parse("P1D");
   private Duration cleanupJobMinimumAge = Duration.parse("P14D");
   private boolean taskCleanupJobAllCompletedSameParentBusiness = true;
   private boolean validationAllowTimestampServiceLevelMismatch = false;
+  // Property for the work queue semantics of selectAndClaim
+  private boolean selectAndClaimSkipLocked = false;
+  // Properties for the workbasket permission cache, a time to live of zero disables it
+  private Duration workbasketPermissionCacheTtl = Duration.ZERO;
+  private int workbasketPermissionCacheMaxSize = 1000;
+  // Properties for the caches of the classifications, workbaskets and distribution targets
+  private boolean masterDataCacheEnabled = false;
+  private Duration masterDataCachePollInterval = Duration.ofSeconds(10);
+  private int masterDataCacheMaxSize = 10000;
+  // Properties for the aggregate tables of the monitor and the job which rebuilds them
+  private boolean monitorAggregatesEnabled = false;
+  private Instant monitorAggregateJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
+  private Duration monitorAggregateJobRunEvery = Duration.parse("PT1H");
+  // Properties for the report cache of the monitor, a maximum staleness of zero disables it
+  private Duration monitorReportCacheMaxStaleness = Duration.ZERO;
+  private int monitorReportCacheMaxSize = 100;
 
   private int priorityJobBatchSize = 100;
   private Instant priorityJobFirstRun = Instant.parse("2018-01-01T00:00:00Z");
   private Duration priorityJobRunEvery = Duration.parse("P1D");
   private boolean priorityJobActive = false;
+  // only recalculate the priority of tasks which were modified since the last run
+  private boolean priorityJobIncremental = false;
+  private int priorityJobParallelism = Runtime.getRuntime().availableProcessors();
 
   public TaskanaEngineConfiguration(
       DataSource dataSource, boolean useManagedTransactions, String schemaName) {
@@ -182,6 +239,24 @@ public class TaskanaEngineConfiguration {
         props,
         TASKANA_VALIDATION_ALLOW_TIMESTAMP_SERVICE_LEVEL_MISMATCH,
         this::setValidationAllowTimestampServiceLevelMismatch);
+    initBooleanProperty(
+        props, TASKANA_SELECT_AND_CLAIM_SKIP_LOCKED, this::setSelectAndClaimSkipLocked);
+    parseProperty(props, TASKANA_WORKBASKET_PERMISSION_CACHE_TTL, Duration::parse)
+        .ifPresent(this::setWorkbasketPermissionCacheTtl);
+    parseProperty(props, TASKANA_WORKBASKET_PERMISSION_CACHE_MAX_SIZE, Integer::parseInt)
+        .ifPresent(this::setWorkbasketPermissionCacheMaxSize);
+    initBooleanProperty(
+        props, TASKANA_MASTER_DATA_CACHE_ENABLED, this::setMasterDataCacheEnabled);
+    parseProperty(props, TASKANA_MASTER_DATA_CACHE_POLL_INTERVAL, Duration::parse)
+        .ifPresent(this::setMasterDataCachePollInterval);
+    parseProperty(props, TASKANA_MASTER_DATA_CACHE_MAX_SIZE, Integer::parseInt)
+        .ifPresent(this::setMasterDataCacheMaxSize);
+    initBooleanProperty(
+        props, TASKANA_MONITOR_AGGREGATES_ENABLED, this::setMonitorAggregatesEnabled);
+    parseProperty(props, TASKANA_MONITOR_REPORT_CACHE_MAX_STALENESS, Duration::parse)
+        .ifPresent(this::setMonitorReportCacheMaxStaleness);
+    parseProperty(props, TASKANA_MONITOR_REPORT_CACHE_MAX_SIZE, Integer::parseInt)
+        .ifPresent(this::setMonitorReportCacheMaxSize);
     initCustomHolidays(props, separator);
   }
 
@@ -259,6 +334,38 @@ public class TaskanaEngineConfiguration {
     this.maxNumberOfJobRetries = maxNumberOfJobRetries;
   }
 
+  public Duration getJobLockExpirationPeriod() {
+    return jobLockExpirationPeriod;
+  }
+
+  public void setJobLockExpirationPeriod(Duration jobLockExpirationPeriod) {
+    this.jobLockExpirationPeriod = jobLockExpirationPeriod;
+  }
+
+  public Duration getJobRetryBackoff() {
+    return jobRetryBackoff;
+  }
+
+  public void setJobRetryBackoff(Duration jobRetryBackoff) {
+    this.jobRetryBackoff = jobRetryBackoff;
+  }
+
+  public int getJobRunnerMaxJobsPerPoll() {
+    return jobRunnerMaxJobsPerPoll;
+  }
+
+  public void setJobRunnerMaxJobsPerPoll(int jobRunnerMaxJobsPerPoll) {
+    this.jobRunnerMaxJobsPerPoll = jobRunnerMaxJobsPerPoll;
+  }
+
+  public Map<String, Integer> getJobRunnerMaxConcurrencyByType() {
+    return jobRunnerMaxConcurrencyByType;
+  }
+
+  public void setJobRunnerMaxConcurrencyByType(Map<String, Integer> maxConcurrencyByType) {
+    this.jobRunnerMaxConcurrencyByType = maxConcurrencyByType;
+  }
+
   public boolean isCorpusChristiEnabled() {
     return corpusChristiEnabled;
   }
@@ -285,6 +392,78 @@ public class TaskanaEngineConfiguration {
         validationAllowTimestampServiceLevelMismatch;
   }
 
+  public boolean isSelectAndClaimSkipLocked() {
+    return selectAndClaimSkipLocked;
+  }
+
+  public void setSelectAndClaimSkipLocked(boolean selectAndClaimSkipLocked) {
+    this.selectAndClaimSkipLocked = selectAndClaimSkipLocked;
+  }
+
+  public Duration getWorkbasketPermissionCacheTtl() {
+    return workbasketPermissionCacheTtl;
+  }
+
+  public void setWorkbasketPermissionCacheTtl(Duration workbasketPermissionCacheTtl) {
+    this.workbasketPermissionCacheTtl = workbasketPermissionCacheTtl;
+  }
+
+  public int getWorkbasketPermissionCacheMaxSize() {
+    return workbasketPermissionCacheMaxSize;
+  }
+
+  public void setWorkbasketPermissionCacheMaxSize(int workbasketPermissionCacheMaxSize) {
+    this.workbasketPermissionCacheMaxSize = workbasketPermissionCacheMaxSize;
+  }
+
+  public boolean isMasterDataCacheEnabled() {
+    return masterDataCacheEnabled;
+  }
+
+  public void setMasterDataCacheEnabled(boolean masterDataCacheEnabled) {
+    this.masterDataCacheEnabled = masterDataCacheEnabled;
+  }
+
+  public Duration getMasterDataCachePollInterval() {
+    return masterDataCachePollInterval;
+  }
+
+  public void setMasterDataCachePollInterval(Duration masterDataCachePollInterval) {
+    this.masterDataCachePollInterval = masterDataCachePollInterval;
+  }
+
+  public int getMasterDataCacheMaxSize() {
+    return masterDataCacheMaxSize;
+  }
+
+  public void setMasterDataCacheMaxSize(int masterDataCacheMaxSize) {
+    this.masterDataCacheMaxSize = masterDataCacheMaxSize;
+  }
+
+  public boolean isMonitorAggregatesEnabled() {
+    return monitorAggregatesEnabled;
+  }
+
+  public void setMonitorAggregatesEnabled(boolean monitorAggregatesEnabled) {
+    this.monitorAggregatesEnabled = monitorAggregatesEnabled;
+  }
+
+  public Duration getMonitorReportCacheMaxStaleness() {
+    return monitorReportCacheMaxStaleness;
+  }
+
+  public void setMonitorReportCacheMaxStaleness(Duration monitorReportCacheMaxStaleness) {
+    this.monitorReportCacheMaxStaleness = monitorReportCacheMaxStaleness;
+  }
+
+  public int getMonitorReportCacheMaxSize() {
+    return monitorReportCacheMaxSize;
+  }
+
+  public void setMonitorReportCacheMaxSize(int monitorReportCacheMaxSize) {
+    this.monitorReportCacheMaxSize = monitorReportCacheMaxSize;
+  }
+
   public boolean isDeleteHistoryOnTaskDeletionEnabled() {
     return deleteHistoryOnTaskDeletionEnabled;
   }
@@ -413,6 +592,38 @@ public class TaskanaEngineConfiguration {
     this.priorityJobActive = priorityJobActive;
   }
 
+  public boolean isPriorityJobIncremental() {
+    return priorityJobIncremental;
+  }
+
+  public void setPriorityJobIncremental(boolean priorityJobIncremental) {
+    this.priorityJobIncremental = priorityJobIncremental;
+  }
+
+  public int getPriorityJobParallelism() {
+    return priorityJobParallelism;
+  }
+
+  public void setPriorityJobParallelism(int priorityJobParallelism) {
+    this.priorityJobParallelism = priorityJobParallelism;
+  }
+
+  public Instant getMonitorAggregateJobFirstRun() {
+    return monitorAggregateJobFirstRun;
+  }
+
+  public void setMonitorAggregateJobFirstRun(Instant monitorAggregateJobFirstRun) {
+    this.monitorAggregateJobFirstRun = monitorAggregateJobFirstRun;
+  }
+
+  public Duration getMonitorAggregateJobRunEvery() {
+    return monitorAggregateJobRunEvery;
+  }
+
+  public void setMonitorAggregateJobRunEvery(Duration monitorAggregateJobRunEvery) {
+    this.monitorAggregateJobRunEvery = monitorAggregateJobRunEvery;
+  }
+
   public String getSchemaName() {
     return schemaName;
   }
@@ -460,6 +671,26 @@ public class TaskanaEngineConfiguration {
     parseProperty(props, TASKANA_JOB_RETRIES, Integer::parseInt)
         .ifPresent(this::setMaxNumberOfJobRetries);
 
+    parseProperty(props, TASKANA_JOB_LOCK_EXPIRATION_PERIOD, Duration::parse)
+        .ifPresent(this::setJobLockExpirationPeriod);
+
+    parseProperty(props, TASKANA_JOB_RETRY_BACKOFF, Duration::parse)
+        .ifPresent(this::setJobRetryBackoff);
+
+    parseProperty(props, TASKANA_JOB_RUNNER_MAX_JOBS_PER_POLL, Integer::parseInt)
+        .ifPresent(this::setJobRunnerMaxJobsPerPoll);
+
+    String maxConcurrencyPrefix = TASKANA_JOB_RUNNER_MAX_CONCURRENCY + ".";
+    props.stringPropertyNames().stream()
+        .filter(key -> key.startsWith(maxConcurrencyPrefix))
+        .forEach(
+            key ->
+                parseProperty(props, key, Integer::parseInt)
+                    .ifPresent(
+                        limit ->
+                            jobRunnerMaxConcurrencyByType.put(
+                                key.substring(maxConcurrencyPrefix.length()), limit)));
+
     parseProperty(props, TASKANA_JOB_CLEANUP_FIRST_RUN, Instant::parse)
         .ifPresent(this::setCleanupJobFirstRun);
 
@@ -481,6 +712,18 @@ public class TaskanaEngineConfiguration {
     parseProperty(props, TASKANA_JOB_PRIORITY_ACTIVE, Boolean::parseBoolean)
         .ifPresent(this::setPriorityJobActive);
 
+    parseProperty(props, TASKANA_JOB_PRIORITY_INCREMENTAL, Boolean::parseBoolean)
+        .ifPresent(this::setPriorityJobIncremental);
+
+    parseProperty(props, TASKANA_JOB_PRIORITY_PARALLELISM, Integer::parseInt)
+        .ifPresent(this::setPriorityJobParallelism);
+
+    parseProperty(props, TASKANA_JOB_MONITOR_AGGREGATE_FIRST_RUN, Instant::parse)
+        .ifPresent(this::setMonitorAggregateJobFirstRun);
+
+    parseProperty(props, TASKANA_JOB_MONITOR_AGGREGATE_RUN_EVERY, Duration::parse)
+        .ifPresent(this::setMonitorAggregateJobRunEvery);
+
     parseProperty(
             props,
             TASKANA_JOB_TASK_CLEANUP_ALL_COMPLETED_SAME_PARENT_BUSINESS,
@@ -491,6 +734,12 @@ public class TaskanaEngineConfiguration {
       LOGGER.debug(
           "Configured number of task and workbasket updates per transaction: {}", jobBatchSize);
       LOGGER.debug("Number of retries of failed task updates: {}", maxNumberOfJobRetries);
+      LOGGER.debug(
+          "Jobs are locked for {} and retried after {}", jobLockExpirationPeriod, jobRetryBackoff);
+      LOGGER.debug(
+          "JobRunner configuration: {} jobs per poll, concurrency limits {}",
+          jobRunnerMaxJobsPerPoll,
+          jobRunnerMaxConcurrencyByType);
       LOGGER.debug("CleanupJob configuration: first run at {}", cleanupJobFirstRun);
       LOGGER.debug("CleanupJob configuration: runs every {}", cleanupJobRunEvery);
       LOGGER.debug(
@@ -1,14 +1,19 @@
 package pro.taskana.classification.api;
 
+import java.util.List;
+
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
 import pro.taskana.classification.api.exceptions.ClassificationInUseException;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.exceptions.MalformedServiceLevelException;
 import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 
 /** This class manages the classifications. */
 public interface ClassificationService {
@@ -35,6 +40,16 @@ public interface ClassificationService {
    */
   Classification getClassification(String id) throws ClassificationNotFoundException;
 
+  /**
+   * Get the Classifications with the given ids. The Classifications are read in batches instead of
+   * one by one, e.g. for exporting all Classifications of a domain.
+   *
+   * @param ids the ids of the searched-for classifications
+   * @return the found classifications in the order of the given ids. Ids of not existing
+   *     classifications are ignored.
+   */
+  List<Classification> getClassifications(List<String> ids);
+
   /**
    * Delete a classification with all child classifications.
    *
@@ -113,6 +128,27 @@ public interface ClassificationService {
       throws ClassificationNotFoundException, NotAuthorizedException, ConcurrencyException,
           InvalidArgumentException, MalformedServiceLevelException;
 
+  /**
+   * Creates or updates the given Classifications, e.g. for an import. A Classification is updated
+   * if a Classification with the same key and domain already exists, otherwise it is created. <br>
+   * The Classifications are written in an order which guarantees that a parent is written before
+   * its children. A parent is referenced by its key in the same domain or by its id. An id only
+   * references a parent which is contained in the given list or which already exists. A
+   * Classification whose parent can be found neither in the given list nor in the database is
+   * written without parent. The Classifications of the master domain are written first. <br>
+   * All Classifications are validated before they are written in batches. A Classification whose
+   * parent could not be written is not written either.
+   *
+   * @param classifications the Classifications to create or update
+   * @return the result of the operations with the key and domain and the exception of each
+   *     Classification which could not be written, e.g. because the list contains it twice, its
+   *     type would change or its parents form a cycle.
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN
+   */
+  BulkOperationResults<KeyDomain, TaskanaException> createOrUpdateClassifications(
+      List<Classification> classifications) throws NotAuthorizedException;
+
   /**
    * This method provides a query builder for querying the database.
    *
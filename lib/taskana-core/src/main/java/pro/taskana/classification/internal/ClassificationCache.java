@@ -0,0 +1,58 @@
+package pro.taskana.classification.internal;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.internal.ChangeVersionMapper;
+import pro.taskana.common.internal.MasterDataCache;
+
+/**
+ * Caches the classifications by their id and by their key and domain. The batch loader reads the
+ * classifications with the given ids, it is used when several classifications are requested at
+ * once, e.g. for the summaries of a page of tasks.
+ */
+public class ClassificationCache extends MasterDataCache<ClassificationImpl> {
+
+  private final Function<List<String>, List<ClassificationImpl>> batchLoader;
+
+  public ClassificationCache(
+      boolean enabled,
+      Duration pollInterval,
+      int maxSize,
+      ChangeVersionMapper changeVersionMapper,
+      Function<List<String>, List<ClassificationImpl>> batchLoader) {
+    super("CLASSIFICATION", enabled, pollInterval, maxSize, changeVersionMapper);
+    this.batchLoader = batchLoader;
+  }
+
+  public ClassificationImpl getById(String id, Supplier<ClassificationImpl> loader) {
+    return get(id, loader);
+  }
+
+  public Map<String, ClassificationImpl> getByIds(Collection<String> ids) {
+    return getAll(ids, batchLoader);
+  }
+
+  public ClassificationImpl getByKeyAndDomain(
+      String key, String domain, Supplier<ClassificationImpl> loader) {
+    return get(Arrays.asList(key, domain), loader);
+  }
+
+  @Override
+  protected ClassificationImpl copy(ClassificationImpl classification) {
+    ClassificationImpl copy = classification.copy(classification.getKey());
+    copy.setId(classification.getId());
+    return copy;
+  }
+
+  @Override
+  protected String getId(ClassificationImpl classification) {
+    return classification.getId();
+  }
+}
@@ -4,15 +4,25 @@ import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.classification.api.ClassificationCustomField;
 import pro.taskana.classification.api.ClassificationQuery;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
@@ -23,13 +33,17 @@ import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
 import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -45,21 +59,26 @@ import pro.taskana.task.internal.TaskMapper;
 public class ClassificationServiceImpl implements ClassificationService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationServiceImpl.class);
+  private static final int MAX_IDS_PER_QUERY = 1000;
+  private static final int WRITE_BATCH_SIZE = 1000;
   private final HistoryEventManager historyEventManager;
   private final PriorityServiceManager priorityServiceManager;
   private final ClassificationMapper classificationMapper;
   private final TaskMapper taskMapper;
   private final InternalTaskanaEngine taskanaEngine;
+  private final ClassificationCache classificationCache;
 
   public ClassificationServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       PriorityServiceManager priorityServiceManager,
       ClassificationMapper classificationMapper,
-      TaskMapper taskMapper) {
+      TaskMapper taskMapper,
+      ClassificationCache classificationCache) {
     this.taskanaEngine = taskanaEngine;
     this.priorityServiceManager = priorityServiceManager;
     this.classificationMapper = classificationMapper;
     this.taskMapper = taskMapper;
+    this.classificationCache = classificationCache;
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
   }
 
@@ -73,9 +92,13 @@ public class ClassificationServiceImpl implements ClassificationService {
     Classification result;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findByKeyAndDomain(key, domain);
+      result =
+          classificationCache.getByKeyAndDomain(
+              key, domain, () -> classificationMapper.findByKeyAndDomain(key, domain));
       if (result == null) {
-        result = classificationMapper.findByKeyAndDomain(key, "");
+        result =
+            classificationCache.getByKeyAndDomain(
+                key, "", () -> classificationMapper.findByKeyAndDomain(key, ""));
         if (result == null) {
           throw new ClassificationNotFoundException(key, domain);
         }
@@ -94,7 +117,7 @@ public class ClassificationServiceImpl implements ClassificationService {
     Classification result;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findById(id);
+      result = classificationCache.getById(id, () -> classificationMapper.findById(id));
       if (result == null) {
         throw new ClassificationNotFoundException(id);
       }
@@ -104,6 +127,26 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  @Override
+  public List<Classification> getClassifications(List<String> ids) {
+    List<Classification> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(ids, MAX_IDS_PER_QUERY)) {
+        Map<String, ClassificationImpl> classificationsById =
+            classificationCache.getByIds(idsOfBatch);
+        idsOfBatch.stream()
+            .map(classificationsById::get)
+            .filter(Objects::nonNull)
+            .forEach(result::add);
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public void deleteClassification(String classificationId)
       throws ClassificationInUseException, ClassificationNotFoundException, NotAuthorizedException {
@@ -134,6 +177,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       try {
         this.classificationMapper.deleteClassification(classificationId);
+        classificationCache.invalidate();
 
         if (historyEventManager.isEnabled()) {
           String details =
@@ -203,6 +247,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       validateAndPopulateParentInformation(classificationImpl);
 
       classificationMapper.insert(classificationImpl);
+      classificationCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -246,6 +291,8 @@ public class ClassificationServiceImpl implements ClassificationService {
       }
 
       classificationImpl = (ClassificationImpl) classification;
+      // the update has to be based on the classification in the database
+      classificationCache.invalidate();
       Classification oldClassification =
           this.getExistingClassificationAndVerifyTimestampHasNotChanged(classificationImpl);
       classificationImpl.setModified(Instant.now());
@@ -257,6 +304,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       this.checkExistenceOfParentClassification(oldClassification, classificationImpl);
       classificationMapper.update(classificationImpl);
+      classificationCache.invalidate();
 
       if (!priorityServiceManager.isEnabled()) {
         this.createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classificationImpl);
@@ -284,6 +332,181 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  @Override
+  public BulkOperationResults<KeyDomain, TaskanaException> createOrUpdateClassifications(
+      List<Classification> classifications) throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    BulkOperationResults<KeyDomain, TaskanaException> bulkLog = new BulkOperationResults<>();
+    try {
+      taskanaEngine.openConnection();
+      Map<KeyDomain, Classification> classificationsByKeyDomain = new LinkedHashMap<>();
+      for (Classification classification : classifications) {
+        KeyDomain keyDomain = new KeyDomain(classification.getKey(), classification.getDomain());
+        if (classificationsByKeyDomain.putIfAbsent(keyDomain, classification) != null) {
+          bulkLog.addError(
+              keyDomain,
+              new ClassificationAlreadyExistException(
+                  classification.getKey(), classification.getDomain()));
+        }
+      }
+
+      // the master domain is always read, because new classifications are added to it, too
+      String[] domains =
+          Stream.concat(
+                  Stream.of(""),
+                  classificationsByKeyDomain.keySet().stream().map(KeyDomain::getDomain))
+              .filter(Objects::nonNull)
+              .distinct()
+              .toArray(String[]::new);
+      List<ClassificationSummary> existingSummaries =
+          createClassificationQuery().domainIn(domains).list();
+      Map<KeyDomain, String> existingIds = new HashMap<>();
+      Map<String, String> keysById = new HashMap<>();
+      existingSummaries.forEach(
+          summary -> {
+            existingIds.put(new KeyDomain(summary.getKey(), summary.getDomain()), summary.getId());
+            keysById.put(summary.getId(), summary.getKey());
+          });
+      // the ids of the given classifications take precedence over the ids of the database
+      classificationsByKeyDomain
+          .values()
+          .forEach(
+              classification -> {
+                if (classification.getId() != null && !classification.getId().isEmpty()) {
+                  keysById.put(classification.getId(), classification.getKey());
+                }
+              });
+
+      Map<KeyDomain, KeyDomain> parents = new HashMap<>();
+      classificationsByKeyDomain.forEach(
+          (keyDomain, classification) -> {
+            KeyDomain parent = determineParent(classification, keysById);
+            if (parent != null
+                && (classificationsByKeyDomain.containsKey(parent)
+                    || existingIds.containsKey(parent))) {
+              parents.put(keyDomain, parent);
+            }
+          });
+
+      Map<String, ClassificationImpl> existingClassifications = new HashMap<>();
+      List<String> idsToUpdate =
+          classificationsByKeyDomain.keySet().stream()
+              .map(existingIds::get)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toList());
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(idsToUpdate, MAX_IDS_PER_QUERY)) {
+        classificationMapper
+            .findByIds(idsOfBatch)
+            .forEach(existing -> existingClassifications.put(existing.getId(), existing));
+      }
+
+      // the classifications of the master domain are written first, because writing a
+      // classification of another domain creates its counterpart in the master domain.
+      Map<Boolean, List<KeyDomain>> keyDomainsByMasterDomain =
+          classificationsByKeyDomain.keySet().stream()
+              .collect(Collectors.partitioningBy(keyDomain -> "".equals(keyDomain.getDomain())));
+      List<KeyDomain> orderedKeyDomains =
+          orderParentsBeforeChildren(keyDomainsByMasterDomain.get(true), parents, bulkLog);
+      orderedKeyDomains.addAll(
+          orderParentsBeforeChildren(keyDomainsByMasterDomain.get(false), parents, bulkLog));
+
+      // the classifications are validated in memory, so that they can be written in batches
+      Instant now = Instant.now();
+      List<ClassificationWrite> writes = new ArrayList<>();
+      for (KeyDomain keyDomain : orderedKeyDomains) {
+        ClassificationImpl classification =
+            (ClassificationImpl) classificationsByKeyDomain.get(keyDomain);
+        try {
+          String parentId = "";
+          String parentKey = "";
+          KeyDomain parent = parents.get(keyDomain);
+          if (parent != null) {
+            parentId = existingIds.get(parent);
+            parentKey = parent.getKey();
+            if (parentId == null) {
+              throw new InvalidArgumentException("Parent classification could not be found.");
+            }
+          }
+          String existingId = existingIds.get(keyDomain);
+          if (existingId == null) {
+            writes.add(
+                prepareClassificationToCreate(
+                    classification, parent, parentId, parentKey, existingIds, now));
+          } else {
+            ClassificationImpl existingClassification = existingClassifications.get(existingId);
+            if (existingClassification == null) {
+              throw new ClassificationNotFoundException(existingId);
+            }
+            ClassificationImpl oldClassification =
+                existingClassification.copy(existingClassification.getKey());
+            oldClassification.setId(existingId);
+            copyAttributesForUpdate(classification, existingClassification);
+            existingClassification.setParentId(parentId);
+            existingClassification.setParentKey(parentKey);
+            existingClassification.setModified(now);
+            initDefaultClassificationValues(existingClassification);
+            writes.add(
+                new ClassificationWrite(
+                    keyDomain, parent, existingClassification, oldClassification, null));
+          }
+        } catch (TaskanaException e) {
+          bulkLog.addError(keyDomain, e);
+        }
+      }
+
+      List<ClassificationWrite> completedWrites = writeClassificationsInBatches(writes, bulkLog);
+      if (!completedWrites.isEmpty()) {
+        classificationCache.invalidate();
+      }
+
+      String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      for (ClassificationWrite write : completedWrites) {
+        ClassificationImpl classification = write.getClassification();
+        Classification oldClassification = write.getOldClassification();
+        if (oldClassification == null) {
+          if (historyEventManager.isEnabled()) {
+            historyEventManager.createEvent(
+                new ClassificationCreatedEvent(
+                    IdGenerator.generateWithPrefix(
+                        IdGenerator.ID_PREFIX_CLASSIFICATION_HISTORY_EVENT),
+                    classification,
+                    userId,
+                    ObjectAttributeChangeDetector.determineChangesInAttributes(
+                        newClassification("", "", ""), classification)));
+          }
+          continue;
+        }
+        if (!Objects.equals(oldClassification.getCategory(), classification.getCategory())) {
+          updateCategoryOnAssociatedTasks(classification, oldClassification);
+        }
+        if (!priorityServiceManager.isEnabled()) {
+          createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classification);
+        }
+        if (historyEventManager.isEnabled()) {
+          historyEventManager.createEvent(
+              new ClassificationUpdatedEvent(
+                  IdGenerator.generateWithPrefix(
+                      IdGenerator.ID_PREFIX_CLASSIFICATION_HISTORY_EVENT),
+                  classification,
+                  userId,
+                  ObjectAttributeChangeDetector.determineChangesInAttributes(
+                      oldClassification, classification)));
+        }
+      }
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Method createOrUpdateClassifications() wrote {} of {} Classifications.",
+            completedWrites.size(),
+            classifications.size());
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public ClassificationQuery createClassificationQuery() {
     return new ClassificationQueryImpl(taskanaEngine);
@@ -321,6 +544,219 @@ public class ClassificationServiceImpl implements ClassificationService {
     }
   }
 
+  private static KeyDomain determineParent(
+      Classification classification, Map<String, String> keysById) {
+    String parentKey = classification.getParentKey();
+    if ((parentKey == null || parentKey.isEmpty())
+        && classification.getParentId() != null
+        && !classification.getParentId().isEmpty()) {
+      parentKey = keysById.get(classification.getParentId());
+    }
+    if (parentKey == null || parentKey.isEmpty()) {
+      return null;
+    }
+    return new KeyDomain(parentKey, classification.getDomain());
+  }
+
+  /**
+   * Orders the given classifications topologically, i.e. a parent is always placed before its
+   * children. Classifications within or below a cycle of parents can not be ordered, an error is
+   * added to the bulk log for them.
+   *
+   * @param keyDomains the classifications to order
+   * @param parents the parent of each classification whose parent has to be written or exists
+   * @param bulkLog the log for the classifications which can not be ordered
+   * @return the ordered classifications
+   */
+  private static List<KeyDomain> orderParentsBeforeChildren(
+      Collection<KeyDomain> keyDomains,
+      Map<KeyDomain, KeyDomain> parents,
+      BulkOperationResults<KeyDomain, TaskanaException> bulkLog) {
+    Set<KeyDomain> keyDomainSet = new HashSet<>(keyDomains);
+    Map<KeyDomain, List<KeyDomain>> childrenByParent = new HashMap<>();
+    Deque<KeyDomain> writableKeyDomains = new ArrayDeque<>();
+    for (KeyDomain keyDomain : keyDomains) {
+      KeyDomain parent = parents.get(keyDomain);
+      if (parent == null || !keyDomainSet.contains(parent)) {
+        writableKeyDomains.add(keyDomain);
+      } else {
+        childrenByParent.computeIfAbsent(parent, key -> new ArrayList<>()).add(keyDomain);
+      }
+    }
+
+    List<KeyDomain> orderedKeyDomains = new ArrayList<>();
+    while (!writableKeyDomains.isEmpty()) {
+      KeyDomain keyDomain = writableKeyDomains.poll();
+      orderedKeyDomains.add(keyDomain);
+      writableKeyDomains.addAll(
+          childrenByParent.getOrDefault(keyDomain, Collections.emptyList()));
+    }
+
+    if (orderedKeyDomains.size() < keyDomains.size()) {
+      orderedKeyDomains.forEach(keyDomainSet::remove);
+      keyDomainSet.forEach(
+          keyDomain ->
+              bulkLog.addError(
+                  keyDomain,
+                  new InvalidArgumentException(
+                      String.format(
+                          "The classification with key '%s' and domain '%s' "
+                              + "has a cyclic parent relation.",
+                          keyDomain.getKey(), keyDomain.getDomain()))));
+    }
+    return orderedKeyDomains;
+  }
+
+  private static void copyAttributesForUpdate(Classification source, Classification target)
+      throws InvalidArgumentException {
+    if (source.getType() != null && !source.getType().equals(target.getType())) {
+      throw new InvalidArgumentException("Can not change the type of a classification.");
+    }
+    target.setCategory(source.getCategory());
+    target.setIsValidInDomain(source.getIsValidInDomain());
+    target.setName(source.getName());
+    target.setDescription(source.getDescription());
+    target.setPriority(source.getPriority());
+    target.setServiceLevel(source.getServiceLevel());
+    target.setApplicationEntryPoint(source.getApplicationEntryPoint());
+    for (ClassificationCustomField customField : ClassificationCustomField.values()) {
+      target.setCustomAttribute(customField, source.getCustomAttribute(customField));
+    }
+  }
+
+  /**
+   * Validates a classification of {@linkplain #createOrUpdateClassifications(List)} which does not
+   * exist yet, like {@linkplain #createClassification(Classification)} does, and prepares its
+   * counterpart in the master domain.
+   *
+   * @param classification the classification to create
+   * @param parent the parent of the classification or null
+   * @param parentId the id of the parent or an empty string
+   * @param parentKey the key of the parent or an empty string
+   * @param existingIds the ids of the existing and of the prepared classifications; the ids of
+   *     the prepared classification and its counterpart are added
+   * @param now the time of creation
+   * @return the prepared write of the classification
+   * @throws DomainNotFoundException if the domain of the classification does not exist
+   * @throws InvalidArgumentException if the classification is invalid
+   * @throws MalformedServiceLevelException if the service level of the classification is invalid
+   */
+  private ClassificationWrite prepareClassificationToCreate(
+      ClassificationImpl classification,
+      KeyDomain parent,
+      String parentId,
+      String parentKey,
+      Map<KeyDomain, String> existingIds,
+      Instant now)
+      throws DomainNotFoundException, InvalidArgumentException, MalformedServiceLevelException {
+    if (!taskanaEngine.domainExists(classification.getDomain())
+        && !"".equals(classification.getDomain())) {
+      throw new DomainNotFoundException(classification.getDomain());
+    }
+    classification.setId(null);
+    classification.setParentId(parentId);
+    classification.setParentKey(parentKey);
+    classification.setCreated(now);
+    classification.setModified(now);
+    initDefaultClassificationValues(classification);
+
+    ClassificationImpl masterClassification = null;
+    KeyDomain masterKeyDomain = new KeyDomain(classification.getKey(), "");
+    if (!classification.getDomain().isEmpty() && !existingIds.containsKey(masterKeyDomain)) {
+      masterClassification = classification.copy(classification.getKey());
+      masterClassification.setId(
+          IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_CLASSIFICATION));
+      masterClassification.setDomain("");
+      masterClassification.setIsValidInDomain(false);
+      String masterParentId = existingIds.get(new KeyDomain(parentKey, ""));
+      if (masterParentId != null) {
+        masterClassification.setParentId(masterParentId);
+      }
+      existingIds.put(masterKeyDomain, masterClassification.getId());
+    }
+    existingIds.put(
+        new KeyDomain(classification.getKey(), classification.getDomain()),
+        classification.getId());
+    return new ClassificationWrite(
+        new KeyDomain(classification.getKey(), classification.getDomain()),
+        parent,
+        classification,
+        null,
+        masterClassification);
+  }
+
+  private List<ClassificationWrite> writeClassificationsInBatches(
+      List<ClassificationWrite> writes,
+      BulkOperationResults<KeyDomain, TaskanaException> bulkLog) {
+    List<ClassificationWrite> completedWrites = new ArrayList<>(writes.size());
+    Set<KeyDomain> failedKeyDomains = new HashSet<>();
+    for (List<ClassificationWrite> chunk :
+        CollectionUtil.partitionBasedOnSize(writes, WRITE_BATCH_SIZE)) {
+      // a child is not written if its parent could not be written, the parents come first
+      List<ClassificationWrite> writableChunk = new ArrayList<>(chunk.size());
+      for (ClassificationWrite write : chunk) {
+        if (write.getParent() != null && failedKeyDomains.contains(write.getParent())) {
+          failedKeyDomains.add(write.getKeyDomain());
+          bulkLog.addError(
+              write.getKeyDomain(),
+              new InvalidArgumentException("Parent classification could not be written."));
+        } else {
+          writableChunk.add(write);
+        }
+      }
+      try {
+        writeClassificationsInBatchSession(writableChunk);
+        completedWrites.addAll(writableChunk);
+      } catch (PersistenceException e) {
+        // the failing statement is not known, so each classification is written on its own
+        for (ClassificationWrite write : writableChunk) {
+          if (write.getParent() != null && failedKeyDomains.contains(write.getParent())) {
+            failedKeyDomains.add(write.getKeyDomain());
+            bulkLog.addError(
+                write.getKeyDomain(),
+                new InvalidArgumentException("Parent classification could not be written."));
+            continue;
+          }
+          try {
+            writeClassificationsInBatchSession(Collections.singletonList(write));
+            completedWrites.add(write);
+          } catch (PersistenceException singleWriteException) {
+            failedKeyDomains.add(write.getKeyDomain());
+            bulkLog.addError(
+                write.getKeyDomain(),
+                new InvalidArgumentException(
+                    String.format(
+                        "Classification with key '%s' and domain '%s' could not be written.",
+                        write.getKeyDomain().getKey(), write.getKeyDomain().getDomain()),
+                    singleWriteException));
+          }
+        }
+      }
+    }
+    return completedWrites;
+  }
+
+  private void writeClassificationsInBatchSession(List<ClassificationWrite> writes) {
+    if (writes.isEmpty()) {
+      return;
+    }
+    taskanaEngine.executeInBatchSessionWithSavepoint(
+        batchSession -> {
+          ClassificationMapper batchClassificationMapper =
+              batchSession.getMapper(ClassificationMapper.class);
+          for (ClassificationWrite write : writes) {
+            if (write.getOldClassification() == null) {
+              batchClassificationMapper.insert(write.getClassification());
+            } else {
+              batchClassificationMapper.update(write.getClassification());
+            }
+            if (write.getMasterClassification() != null) {
+              batchClassificationMapper.insert(write.getMasterClassification());
+            }
+          }
+        });
+  }
+
   private void validateAndPopulateParentInformation(ClassificationImpl classificationImpl)
       throws InvalidArgumentException {
     try {
@@ -390,6 +826,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       } finally {
         if (!doesExist) {
           classificationMapper.insert(masterClassification);
+          classificationCache.invalidate();
           if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
                 "Method createClassification: Classification created in "
@@ -546,7 +983,9 @@ public class ClassificationServiceImpl implements ClassificationService {
     if (!taskSummaries.isEmpty()) {
       List<String> taskIds = new ArrayList<>();
       taskSummaries.forEach(ts -> taskIds.add(ts.getId()));
+      taskanaEngine.subtractFromMonitorAggregates(taskIds);
       taskMapper.updateClassificationCategoryOnChange(taskIds, classificationImpl.getCategory());
+      taskanaEngine.addToMonitorAggregates(taskIds);
     }
   }
 
@@ -596,4 +1035,49 @@ public class ClassificationServiceImpl implements ClassificationService {
       taskanaEngine.getEngine().getJobService().createJob(job);
     }
   }
+
+  /** A classification of {@linkplain #createOrUpdateClassifications(List)} to insert or update. */
+  private static class ClassificationWrite {
+
+    private final KeyDomain keyDomain;
+    private final KeyDomain parent;
+    private final ClassificationImpl classification;
+    // the classification before the update, null if the classification is new
+    private final ClassificationImpl oldClassification;
+    // the new counterpart of the classification in the master domain, null if there is none
+    private final ClassificationImpl masterClassification;
+
+    ClassificationWrite(
+        KeyDomain keyDomain,
+        KeyDomain parent,
+        ClassificationImpl classification,
+        ClassificationImpl oldClassification,
+        ClassificationImpl masterClassification) {
+      this.keyDomain = keyDomain;
+      this.parent = parent;
+      this.classification = classification;
+      this.oldClassification = oldClassification;
+      this.masterClassification = masterClassification;
+    }
+
+    KeyDomain getKeyDomain() {
+      return keyDomain;
+    }
+
+    KeyDomain getParent() {
+      return parent;
+    }
+
+    ClassificationImpl getClassification() {
+      return classification;
+    }
+
+    ClassificationImpl getOldClassification() {
+      return oldClassification;
+    }
+
+    ClassificationImpl getMasterClassification() {
+      return masterClassification;
+    }
+  }
 }
@@ -1,6 +1,5 @@
 package pro.taskana.classification.internal.jobs;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,7 +12,6 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 
@@ -27,7 +25,6 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationChangedJob.class);
-  private static final String TASK_IDS = "taskIds";
   private final String classificationId;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
@@ -45,12 +42,7 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
   public void execute() throws TaskanaException {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
-      TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
-      }
+      scheduleTaskRefreshJobs();
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
       throw new SystemException("Error while processing ClassificationChangedJob.", e);
@@ -62,31 +54,50 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     return ClassificationChangedJob.class.getName();
   }
 
-  private void scheduleTaskRefreshJobs(List<String> affectedTaskIds) {
+  // walks through the ordered ids of the affected tasks and schedules a TaskRefreshJob for each
+  // chunk, which only stores the boundaries of its range instead of the ids themselves
+  private void scheduleTaskRefreshJobs() {
+    TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
     int batchSize = taskanaEngineImpl.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
-    Collection<List<String>> affectedTaskBatches =
-        CollectionUtil.partitionBasedOnSize(affectedTaskIds, batchSize);
+    int numberOfJobs = 0;
+    int numberOfAffectedTasks = 0;
+    String fromTaskId = null;
+    List<String> taskIdBatch;
+    do {
+      taskIdBatch =
+          taskService.findIdsOfTasksAffectedByClassificationChange(
+              classificationId, fromTaskId, null, batchSize);
+      if (!taskIdBatch.isEmpty()) {
+        String toTaskId = taskIdBatch.get(taskIdBatch.size() - 1);
+        scheduleTaskRefreshJob(fromTaskId, toTaskId);
+        numberOfJobs++;
+        numberOfAffectedTasks += taskIdBatch.size();
+        fromTaskId = toTaskId;
+      }
+    } while (taskIdBatch.size() == batchSize);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "Creating {} TaskRefreshJobs out of {} affected tasks "
+          "Created {} TaskRefreshJobs out of {} affected tasks "
               + "with a maximum number of {} tasks each. ",
-          affectedTaskBatches.size(),
-          affectedTaskIds.size(),
+          numberOfJobs,
+          numberOfAffectedTasks,
           batchSize);
     }
-    for (List<String> taskIdBatch : affectedTaskBatches) {
-      Map<String, String> args = new HashMap<>();
-      if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
-        args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
-        ScheduledJob job = new ScheduledJob();
-        job.setType(TaskRefreshJob.class.getName());
-        job.setArguments(args);
-        taskanaEngineImpl.getJobService().createJob(job);
-      }
+  }
+
+  private void scheduleTaskRefreshJob(String fromTaskId, String toTaskId) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.CLASSIFICATION_ID, classificationId);
+    if (fromTaskId != null) {
+      args.put(TaskRefreshJob.FROM_TASK_ID, fromTaskId);
     }
+    args.put(TaskRefreshJob.TO_TASK_ID, toTaskId);
+    args.put(TaskRefreshJob.PRIORITY_CHANGED, Boolean.toString(priorityChanged));
+    args.put(TaskRefreshJob.SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TaskRefreshJob.class.getName());
+    job.setArguments(args);
+    taskanaEngineImpl.getJobService().createJob(job);
   }
 
   @Override
@@ -0,0 +1,20 @@
+package pro.taskana.common.internal;
+
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+
+/** This class is the mybatis mapping of the change versions of the cached master data. */
+public interface ChangeVersionMapper {
+
+  // without 'with UR', so that DB2 does not read versions of uncommitted changes of other engines
+  @Select("SELECT VERSION FROM CHANGE_VERSION WHERE NAME = #{name}")
+  Long findVersion(@Param("name") String name);
+
+  @Update("UPDATE CHANGE_VERSION SET VERSION = VERSION + 1 WHERE NAME = #{name}")
+  int incrementVersion(@Param("name") String name);
+
+  @Insert("INSERT INTO CHANGE_VERSION (NAME, VERSION) VALUES (#{name}, 1)")
+  void insertVersion(@Param("name") String name);
+}
@@ -1,13 +1,23 @@
 package pro.taskana.common.internal;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.SqlSession;
 
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.monitor.internal.MonitorAggregateMaintainer;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
+import pro.taskana.workbasket.internal.DistributionGraphCache;
+import pro.taskana.workbasket.internal.WorkbasketCache;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 
 /**
  * FOR INTERNAL USE ONLY.
@@ -53,6 +63,40 @@ public interface InternalTaskanaEngine {
         });
   }
 
+  /**
+   * Executes the given consumer with a {@linkplain SqlSession} which shares the connection (and
+   * therefore the transaction) of the current session, but collects all statements into JDBC
+   * batches. The batches are flushed once the consumer has finished.
+   *
+   * @param consumer a function which issues statements on the mappers of the batch session
+   * @return the results of the flushed batches
+   */
+  List<BatchResult> executeInBatchSession(Consumer<SqlSession> consumer);
+
+  /**
+   * Executes the given consumer like {@linkplain #executeInBatchSession(Consumer)}, but reverts all
+   * statements of the batch session if one of them fails. This lets the caller continue within the
+   * current transaction, e.g. by writing the affected objects one by one to find the failing ones.
+   * If the connection of the current session is in auto-commit mode, the statements of the batch
+   * session are committed together.
+   *
+   * @param consumer a function which issues statements on the mappers of the batch session
+   * @return the results of the flushed batches
+   * @throws PersistenceException if a statement of the batch session failed. All statements of the
+   *     batch session have been reverted.
+   */
+  List<BatchResult> executeInBatchSessionWithSavepoint(Consumer<SqlSession> consumer);
+
+  /**
+   * Runs the given action as soon as the transaction of the current session has been completed,
+   * i.e. committed or rolled back. The action gets whether the transaction has been committed. If
+   * the engine can not observe the end of the transaction, e.g. in mode EXPLICIT, the action runs
+   * immediately as if the transaction had been committed.
+   *
+   * @param action the action which gets whether the transaction has been committed
+   */
+  void runAfterCompletion(Consumer<Boolean> action);
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -105,4 +149,55 @@ public interface InternalTaskanaEngine {
    * @return the {@linkplain PriorityServiceManager} instance
    */
   PriorityServiceManager getPriorityServiceManager();
+
+  /**
+   * Retrieves the {@linkplain WorkbasketPermissionCache}.
+   *
+   * @return the {@linkplain WorkbasketPermissionCache} instance
+   */
+  WorkbasketPermissionCache getWorkbasketPermissionCache();
+
+  /**
+   * Retrieves the {@linkplain WorkbasketCache}.
+   *
+   * @return the {@linkplain WorkbasketCache} instance
+   */
+  WorkbasketCache getWorkbasketCache();
+
+  /**
+   * Retrieves the {@linkplain DistributionGraphCache}.
+   *
+   * @return the {@linkplain DistributionGraphCache} instance
+   */
+  DistributionGraphCache getDistributionGraphCache();
+
+  /**
+   * Retrieves the {@linkplain ClassificationCache}.
+   *
+   * @return the {@linkplain ClassificationCache} instance
+   */
+  ClassificationCache getClassificationCache();
+
+  /**
+   * Retrieves the {@linkplain MonitorAggregateMaintainer}.
+   *
+   * @return the {@linkplain MonitorAggregateMaintainer} instance
+   */
+  MonitorAggregateMaintainer getMonitorAggregateMaintainer();
+
+  /**
+   * Subtracts the given tasks from the aggregates of the monitor. Must be called before the tasks
+   * are changed or deleted.
+   *
+   * @param taskIds the ids of the tasks which are about to change
+   */
+  void subtractFromMonitorAggregates(Collection<String> taskIds);
+
+  /**
+   * Adds the given tasks to the aggregates of the monitor. Must be called after the tasks were
+   * created or changed.
+   *
+   * @param taskIds the ids of the created or changed tasks
+   */
+  void addToMonitorAggregates(Collection<String> taskIds);
 }
@@ -58,6 +58,11 @@ public interface JobMapper {
       typeHandler = MapTypeHandler.class)
   List<ScheduledJob> findJobsToRun(Instant now);
 
+  @Select(
+      "SELECT TYPE FROM SCHEDULED_JOB "
+          + "WHERE STATE IN ( 'READY') AND LOCKED_BY IS NOT NULL AND LOCK_EXPIRES >= #{now}")
+  List<String> findTypesOfLockedJobs(Instant now);
+
   @Update(
       value =
           "UPDATE SCHEDULED_JOB SET CREATED = #{created}, PRIORITY = #{priority}, DUE = #{due}, STATE = #{state}, "
@@ -66,6 +71,19 @@ public interface JobMapper {
               + "where JOB_ID = #{jobId}")
   void update(ScheduledJob job);
 
+  @Update(
+      "UPDATE SCHEDULED_JOB SET ARGUMENTS = #{arguments,jdbcType=CLOB ,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} "
+          + "WHERE JOB_ID = #{jobId}")
+  void updateArguments(ScheduledJob job);
+
+  @Update(
+      "UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = #{lockExpires} "
+          + "WHERE JOB_ID = #{jobId} AND LOCKED_BY = #{lockedBy}")
+  int renewLock(
+      @Param("jobId") Integer jobId,
+      @Param("lockedBy") String lockedBy,
+      @Param("lockExpires") Instant lockExpires);
+
   @Delete(value = "DELETE FROM SCHEDULED_JOB WHERE JOB_ID = #{jobId}")
   void delete(ScheduledJob job);
 
@@ -3,6 +3,7 @@ package pro.taskana.common.internal;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,7 +14,8 @@ import pro.taskana.common.api.ScheduledJob;
 public class JobServiceImpl implements JobService {
 
   public static final int JOB_DEFAULT_PRIORITY = 50;
-  private static final Duration JOB_DEFAULT_LOCK_EXPIRATION_PERIOD = Duration.ofSeconds(60);
+  // the retry backoff doubles with every failed attempt up to this factor
+  private static final int MAX_BACKOFF_EXPONENT = 10;
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobServiceImpl.class);
   private final JobMapper jobMapper;
@@ -44,7 +46,7 @@ public class JobServiceImpl implements JobService {
 
   public ScheduledJob lockJob(ScheduledJob job, String owner) {
     job.setLockedBy(owner);
-    job.setLockExpires(Instant.now().plus(JOB_DEFAULT_LOCK_EXPIRATION_PERIOD));
+    job.setLockExpires(Instant.now().plus(getLockExpirationPeriod()));
     job.setRetryCount(job.getRetryCount() - 1);
     taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.update(job));
     if (LOGGER.isDebugEnabled()) {
@@ -53,6 +55,84 @@ public class JobServiceImpl implements JobService {
     return job;
   }
 
+  /**
+   * Extends the lock of a running job by the configured lock expiration period. The lock is only
+   * extended as long as the job is still locked by the given owner.
+   *
+   * @param job the running job
+   * @param owner the owner of the lock
+   * @return true if the lock was extended
+   */
+  public boolean renewLock(ScheduledJob job, String owner) {
+    Instant lockExpires = Instant.now().plus(getLockExpirationPeriod());
+    boolean renewed =
+        taskanaEngineImpl.executeInDatabaseConnection(
+                () -> jobMapper.renewLock(job.getJobId(), owner, lockExpires))
+            > 0;
+    if (renewed) {
+      job.setLockExpires(lockExpires);
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Renewed lock of job {} until {}: {}", job.getJobId(), lockExpires, renewed);
+    }
+    return renewed;
+  }
+
+  /**
+   * Replaces the arguments of a running job, e.g. to checkpoint its progress. If the job fails, its
+   * retry is executed with these arguments.
+   *
+   * @param job the running job
+   * @param arguments the new arguments of the job
+   */
+  public void updateJobArguments(ScheduledJob job, Map<String, String> arguments) {
+    job.setArguments(arguments);
+    taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.updateArguments(job));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Updated arguments of job {}: {}", job.getJobId(), arguments);
+    }
+  }
+
+  /**
+   * Releases the lock of a failed job and postpones its next execution. The delay starts with the
+   * configured retry backoff and doubles with every failed attempt.
+   *
+   * @param job the failed job
+   */
+  public void rescheduleFailedJob(ScheduledJob job) {
+    int failedAttempts =
+        taskanaEngineImpl.getEngine().getConfiguration().getMaxNumberOfJobRetries()
+            - job.getRetryCount();
+    int exponent = Math.min(Math.max(failedAttempts - 1, 0), MAX_BACKOFF_EXPONENT);
+    Duration backoff =
+        taskanaEngineImpl
+            .getEngine()
+            .getConfiguration()
+            .getJobRetryBackoff()
+            .multipliedBy(1L << exponent);
+    job.setDue(Instant.now().plus(backoff));
+    job.setLockedBy(null);
+    job.setLockExpires(null);
+    taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.update(job));
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Job {} rescheduled to {}. Remaining retries: {}",
+          job.getJobId(),
+          job.getDue(),
+          job.getRetryCount());
+    }
+  }
+
+  /**
+   * Returns the type of every job whose lock has not expired yet, one entry per job.
+   *
+   * @return the types of all running jobs
+   */
+  public List<String> findTypesOfRunningJobs() {
+    return taskanaEngineImpl.executeInDatabaseConnection(
+        () -> jobMapper.findTypesOfLockedJobs(Instant.now()));
+  }
+
   public List<ScheduledJob> findJobsToRun() {
     List<ScheduledJob> availableJobs =
         taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.findJobsToRun(Instant.now()));
@@ -69,6 +149,10 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  private Duration getLockExpirationPeriod() {
+    return taskanaEngineImpl.getEngine().getConfiguration().getJobLockExpirationPeriod();
+  }
+
   private void initializeDefaultJobProperties(ScheduledJob job) {
     Instant now = Instant.now();
     job.setCreated(now);
@@ -0,0 +1,210 @@
+package pro.taskana.common.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches master data entities, e.g. classifications or workbaskets, which are read far more often
+ * than they are changed.
+ *
+ * <p>Every change of the entities has to {@linkplain #invalidate() invalidate} the cache. This
+ * clears the local entries and increments the change version of the entities in the
+ * CHANGE_VERSION table within the transaction of the change. Every engine polls that version in
+ * the configured interval and clears its entries as soon as it changed. Thus, changes of other
+ * engines become visible after at most one poll interval, and entries which were read during a
+ * change that was rolled back are cleared as well. The least recently used entry is evicted as soon
+ * as the maximum size is exceeded.
+ *
+ * <p>The cache keeps its own instances of the entities and returns a copy on every lookup.
+ * Therefore, callers may modify the returned entities. Lookups which did not find an entity are
+ * cached as well. The caller has to hold an open connection.
+ *
+ * @param <T> the type of the cached entities
+ */
+public abstract class MasterDataCache<T> {
+
+  private final String name;
+  private final boolean enabled;
+  private final long pollIntervalNanos;
+  private final ChangeVersionMapper changeVersionMapper;
+  private final Map<Object, Optional<T>> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private long generation;
+  private Long knownVersion;
+  private long nextPoll = System.nanoTime();
+
+  protected MasterDataCache(
+      String name,
+      boolean enabled,
+      Duration pollInterval,
+      int maxSize,
+      ChangeVersionMapper changeVersionMapper) {
+    this.name = name;
+    this.enabled = enabled;
+    this.pollIntervalNanos = pollInterval.toNanos();
+    this.changeVersionMapper = changeVersionMapper;
+    this.entries =
+        new LinkedHashMap<Object, Optional<T>>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Object, Optional<T>> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Clears the local entries and increments the change version, so that the other engines clear
+   * their entries as well. Has to be called within the transaction of the change.
+   */
+  public void invalidate() {
+    if (!enabled) {
+      return;
+    }
+    if (changeVersionMapper.incrementVersion(name) == 0) {
+      changeVersionMapper.insertVersion(name);
+    }
+    synchronized (this) {
+      clear();
+      // poll on the next lookup, the version changes again when the change is committed
+      knownVersion = null;
+      nextPoll = System.nanoTime();
+    }
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  /**
+   * Returns a copy of the cached entity or loads and caches it.
+   *
+   * @param key the key of the entity, e.g. its id
+   * @param loader loads the entity, returns null if it does not exist
+   * @return a copy of the entity or null if it does not exist
+   */
+  protected T get(Object key, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+    pollChangeVersion();
+    long loadedGeneration;
+    synchronized (this) {
+      Optional<T> entry = entries.get(key);
+      if (entry != null) {
+        hits.incrementAndGet();
+        return entry.map(this::copy).orElse(null);
+      }
+      loadedGeneration = generation;
+    }
+    misses.incrementAndGet();
+    T entity = loader.get();
+    put(key, entity, loadedGeneration);
+    return entity == null ? null : copy(entity);
+  }
+
+  /**
+   * Returns copies of the entities with the given ids. The entities which are not cached are
+   * loaded with a single call of the loader.
+   *
+   * @param ids the ids of the entities
+   * @param loader loads the entities with the given ids
+   * @return copies of the existing entities by their id
+   */
+  protected Map<String, T> getAll(
+      Collection<String> ids, Function<List<String>, List<T>> loader) {
+    if (!enabled) {
+      return toMap(loader.apply(new ArrayList<>(ids)));
+    }
+    pollChangeVersion();
+    Map<String, T> result = new HashMap<>();
+    List<String> missingIds = new ArrayList<>();
+    long loadedGeneration;
+    synchronized (this) {
+      for (String id : ids) {
+        Optional<T> entry = entries.get(id);
+        if (entry == null) {
+          missingIds.add(id);
+        } else {
+          entry.ifPresent(entity -> result.put(id, copy(entity)));
+        }
+      }
+      loadedGeneration = generation;
+    }
+    hits.addAndGet(ids.size() - missingIds.size());
+    if (!missingIds.isEmpty()) {
+      misses.addAndGet(missingIds.size());
+      Map<String, T> loaded = toMap(loader.apply(missingIds));
+      for (String id : missingIds) {
+        T entity = loaded.get(id);
+        put(id, entity, loadedGeneration);
+        if (entity != null) {
+          result.put(id, copy(entity));
+        }
+      }
+    }
+    return result;
+  }
+
+  protected abstract T copy(T entity);
+
+  protected abstract String getId(T entity);
+
+  private synchronized void put(Object key, T entity, long loadedGeneration) {
+    // do not cache entities which might have been read before the last invalidation
+    if (loadedGeneration == generation) {
+      entries.put(key, Optional.ofNullable(entity));
+    }
+  }
+
+  private synchronized void clear() {
+    generation++;
+    entries.clear();
+  }
+
+  private void pollChangeVersion() {
+    synchronized (this) {
+      if (System.nanoTime() - nextPoll < 0) {
+        return;
+      }
+      nextPoll = System.nanoTime() + pollIntervalNanos;
+    }
+    Long version = changeVersionMapper.findVersion(name);
+    synchronized (this) {
+      if (!Objects.equals(version, knownVersion)) {
+        knownVersion = version;
+        clear();
+      }
+    }
+  }
+
+  private Map<String, T> toMap(List<T> entities) {
+    Map<String, T> result = new HashMap<>();
+    for (T entity : entities) {
+      result.put(getId(entity), entity);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,55 @@
+package pro.taskana.common.internal;
+
+import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
+import javax.security.auth.Subject;
+
+import pro.taskana.common.internal.security.CurrentUserContextImpl;
+
+/**
+ * Resolves the access ids of the current user only once per session of the TaskanaEngine, i.e.
+ * once per API call, instead of on every authorization check.
+ *
+ * <p>The access ids are kept per thread from the start of the outermost session until its end.
+ * They are resolved again as soon as the subject of the caller changes within the session, e.g.
+ * within {@linkplain TaskanaEngineImpl#runAsAdmin(java.util.function.Supplier) runAsAdmin}.
+ * Outside of a session the access ids are resolved on every call.
+ */
+class SessionScopedCurrentUserContext extends CurrentUserContextImpl {
+
+  private final ThreadLocal<ResolvedAccessIds> resolvedAccessIds = new ThreadLocal<>();
+
+  SessionScopedCurrentUserContext(boolean shouldUseLowerCaseForAccessIds) {
+    super(shouldUseLowerCaseForAccessIds);
+  }
+
+  @Override
+  public List<String> getAccessIds() {
+    ResolvedAccessIds resolved = resolvedAccessIds.get();
+    if (resolved == null) {
+      return super.getAccessIds();
+    }
+    Subject subject = Subject.getSubject(AccessController.getContext());
+    if (resolved.accessIds == null || resolved.subject != subject) {
+      resolved.subject = subject;
+      resolved.accessIds = super.getAccessIds();
+    }
+    // callers may modify the returned list
+    return new ArrayList<>(resolved.accessIds);
+  }
+
+  void startSession() {
+    resolvedAccessIds.set(new ResolvedAccessIds());
+  }
+
+  void endSession() {
+    resolvedAccessIds.remove();
+  }
+
+  private static class ResolvedAccessIds {
+
+    private Subject subject;
+    private List<String> accessIds;
+  }
+}
@@ -3,23 +3,34 @@ package pro.taskana.common.internal;
 import java.security.PrivilegedAction;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.time.Instant;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
+import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
 import org.apache.ibatis.transaction.TransactionFactory;
+import org.apache.ibatis.transaction.jdbc.JdbcTransaction;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.apache.ibatis.type.JdbcType;
 import org.slf4j.Logger;
@@ -27,6 +38,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.classification.internal.ClassificationMapper;
 import pro.taskana.classification.internal.ClassificationQueryMapper;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
@@ -44,13 +56,18 @@ import pro.taskana.common.api.security.CurrentUserContext;
 import pro.taskana.common.api.security.UserPrincipal;
 import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.configuration.DbSchemaCreator;
+import pro.taskana.common.internal.persistence.FetchSizeInterceptor;
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
-import pro.taskana.common.internal.security.CurrentUserContextImpl;
 import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.internal.MonitorAggregateMaintainer;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.spi.history.internal.HistoryEventManager;
+import pro.taskana.spi.idgeneration.internal.IdGenerationManager;
+import pro.taskana.spi.metrics.internal.MetricsManager;
+import pro.taskana.spi.metrics.internal.StatementMetricsInterceptor;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
 import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
@@ -65,9 +82,12 @@ import pro.taskana.user.api.UserService;
 import pro.taskana.user.internal.UserMapper;
 import pro.taskana.user.internal.UserServiceImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.internal.DistributionGraphCache;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
+import pro.taskana.workbasket.internal.WorkbasketCache;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -79,13 +99,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskanaEngineImpl.class);
   private static final SessionStack SESSION_STACK = new SessionStack();
   private final TaskRoutingManager taskRoutingManager;
+  private final IdGenerationManager idGenerationManager;
   private final CreateTaskPreprocessorManager createTaskPreprocessorManager;
   private final PriorityServiceManager priorityServiceManager;
   private final InternalTaskanaEngineImpl internalTaskanaEngineImpl;
   private final WorkingDaysToDaysConverter workingDaysToDaysConverter;
   private final HistoryEventManager historyEventManager;
-  private final CurrentUserContext currentUserContext;
+  private final SessionScopedCurrentUserContext currentUserContext;
   private final ConfigurationServiceImpl configurationService;
+  private final WorkbasketPermissionCache workbasketPermissionCache;
+  private final WorkbasketCache workbasketCache;
+  private final DistributionGraphCache distributionGraphCache;
+  private final ClassificationCache classificationCache;
+  private final MonitorAggregateMaintainer monitorAggregateMaintainer;
+  private final ReportCache reportCache;
+  private final MetricsManager metricsManager;
+  private final ThreadLocal<List<Consumer<Boolean>>> completionActions = new ThreadLocal<>();
   protected TaskanaEngineConfiguration taskanaEngineConfiguration;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -105,20 +134,67 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             taskanaEngineConfiguration.isCorpusChristiEnabled(),
             taskanaEngineConfiguration.getCustomHolidays());
     currentUserContext =
-        new CurrentUserContextImpl(TaskanaEngineConfiguration.shouldUseLowerCaseForAccessIds());
-    createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
+        new SessionScopedCurrentUserContext(
+            TaskanaEngineConfiguration.shouldUseLowerCaseForAccessIds());
+    // the metrics providers are initialized together with the other SPIs below, but the
+    // session manager needs to know whether statements have to be measured
+    metricsManager = new MetricsManager();
+    transactionFactory =
+        createTransactionFactory(taskanaEngineConfiguration.getUseManagedTransactions());
     sessionManager = createSqlSessionManager();
     configurationService =
         new ConfigurationServiceImpl(
             internalTaskanaEngineImpl, sessionManager.getMapper(ConfigurationMapper.class));
     initializeDbSchema(taskanaEngineConfiguration);
+    WorkbasketAccessMapper workbasketAccessMapper =
+        sessionManager.getMapper(WorkbasketAccessMapper.class);
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheTtl(),
+            taskanaEngineConfiguration.getWorkbasketPermissionCacheMaxSize(),
+            workbasketAccessMapper::findPermissionsByAccessIds);
+    ChangeVersionMapper changeVersionMapper = sessionManager.getMapper(ChangeVersionMapper.class);
+    workbasketCache =
+        new WorkbasketCache(
+            taskanaEngineConfiguration.isMasterDataCacheEnabled(),
+            taskanaEngineConfiguration.getMasterDataCachePollInterval(),
+            taskanaEngineConfiguration.getMasterDataCacheMaxSize(),
+            changeVersionMapper,
+            sessionManager.getMapper(WorkbasketMapper.class)::findByIds);
+    distributionGraphCache =
+        new DistributionGraphCache(
+            taskanaEngineConfiguration.isMasterDataCacheEnabled(),
+            taskanaEngineConfiguration.getMasterDataCachePollInterval(),
+            changeVersionMapper,
+            sessionManager.getMapper(DistributionTargetMapper.class)::findAll);
+    classificationCache =
+        new ClassificationCache(
+            taskanaEngineConfiguration.isMasterDataCacheEnabled(),
+            taskanaEngineConfiguration.getMasterDataCachePollInterval(),
+            taskanaEngineConfiguration.getMasterDataCacheMaxSize(),
+            changeVersionMapper,
+            sessionManager.getMapper(ClassificationMapper.class)::findByIds);
+    monitorAggregateMaintainer =
+        new MonitorAggregateMaintainer(
+            taskanaEngineConfiguration.isMonitorAggregatesEnabled(),
+            sessionManager.getConfiguration().getDatabaseId(),
+            sessionManager.getMapper(MonitorMapper.class));
+    if (monitorAggregateMaintainer.isEnabled()) {
+      rebuildMonitorAggregates();
+    }
+    reportCache =
+        new ReportCache(
+            taskanaEngineConfiguration.getMonitorReportCacheMaxStaleness(),
+            taskanaEngineConfiguration.getMonitorReportCacheMaxSize());
 
     // IMPORTANT: SPI has to be initialized last (and in this order) in order
     // to provide a fully initialized TaskanaEngine instance during the SPI initialization!
+    idGenerationManager = new IdGenerationManager(this);
     priorityServiceManager = new PriorityServiceManager();
     createTaskPreprocessorManager = new CreateTaskPreprocessorManager();
-    historyEventManager = new HistoryEventManager(this);
+    historyEventManager = new HistoryEventManager(this, metricsManager);
     taskRoutingManager = new TaskRoutingManager(this);
+    metricsManager.initialize(this);
   }
 
   public static TaskanaEngine createTaskanaEngine(
@@ -145,7 +221,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   @Override
   public MonitorService getMonitorService() {
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class), reportCache);
   }
 
   @Override
@@ -155,7 +231,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         historyEventManager,
         sessionManager.getMapper(WorkbasketMapper.class),
         sessionManager.getMapper(DistributionTargetMapper.class),
-        sessionManager.getMapper(WorkbasketAccessMapper.class));
+        sessionManager.getMapper(WorkbasketAccessMapper.class),
+        workbasketPermissionCache,
+        workbasketCache,
+        distributionGraphCache);
   }
 
   @Override
@@ -164,7 +243,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         internalTaskanaEngineImpl,
         priorityServiceManager,
         sessionManager.getMapper(ClassificationMapper.class),
-        sessionManager.getMapper(TaskMapper.class));
+        sessionManager.getMapper(TaskMapper.class),
+        classificationCache);
   }
 
   // This should be part of the InternalTaskanaEngine. Unfortunately the jobs don't have access to
@@ -174,6 +254,12 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return priorityServiceManager;
   }
 
+  // Like the getter above, this getter exists because the jobs have no access to the
+  // InternalTaskanaEngine.
+  public MetricsManager getMetricsManager() {
+    return metricsManager;
+  }
+
   @Override
   public JobService getJobService() {
     return new JobServiceImpl(internalTaskanaEngineImpl, sessionManager.getMapper(JobMapper.class));
@@ -334,6 +420,10 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    configuration.addInterceptor(new FetchSizeInterceptor());
+    if (metricsManager.isEnabled()) {
+      configuration.addInterceptor(new StatementMetricsInterceptor(metricsManager));
+    }
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
@@ -350,6 +440,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.addMapper(JobMapper.class);
     configuration.addMapper(UserMapper.class);
     configuration.addMapper(ConfigurationMapper.class);
+    configuration.addMapper(ChangeVersionMapper.class);
     SqlSessionFactory localSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
     return SqlSessionManager.newInstance(localSessionFactory);
   }
@@ -371,15 +462,82 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   }
 
   /**
-   * creates the MyBatis transaction factory.
+   * Fills the aggregates of the monitor when the engine starts. No deltas are recorded while the
+   * aggregates are disabled, so the table can not be trusted before it has been rebuilt. The
+   * rebuild runs in a transaction of its own, because it locks the table until it is committed.
+   *
+   * @throws SystemException if the rebuild fails
+   */
+  private void rebuildMonitorAggregates() {
+    Configuration configuration = sessionManager.getConfiguration();
+    try (Connection con = taskanaEngineConfiguration.getDatasource().getConnection()) {
+      con.setSchema(taskanaEngineConfiguration.getSchemaName());
+      con.setAutoCommit(false);
+      Executor executor =
+          configuration.newExecutor(new JdbcTransaction(con), ExecutorType.SIMPLE);
+      try (SqlSession session = new DefaultSqlSession(configuration, executor, false)) {
+        monitorAggregateMaintainer.rebuild(session.getMapper(MonitorMapper.class));
+        session.commit(true);
+      }
+    } catch (SQLException e) {
+      throw new SystemException("Could not rebuild the aggregates of the monitor", e);
+    }
+  }
+
+  /**
+   * Runs the given action as soon as the transaction of the current session has been completed. In
+   * mode AUTOCOMMIT the action runs after the commit of the outermost session. Otherwise, the
+   * engine does not know when the transaction ends and the action runs immediately. Subclasses
+   * which can observe the transactions, e.g. spring managed transactions, override this method.
+   *
+   * <p>Like the getters of the managers, this method is public because the history provider has no
+   * access to the InternalTaskanaEngine.
+   *
+   * @param action the action which gets whether the transaction has been committed
+   */
+  public void runAfterCompletion(Consumer<Boolean> action) {
+    if (mode == ConnectionManagementMode.AUTOCOMMIT
+        && !SESSION_STACK.getSessionStack().isEmpty()) {
+      List<Consumer<Boolean>> actions = completionActions.get();
+      if (actions == null) {
+        actions = new ArrayList<>();
+        completionActions.set(actions);
+      }
+      actions.add(action);
+    } else {
+      action.accept(true);
+    }
+  }
+
+  private void runCompletionActions(boolean committed) {
+    List<Consumer<Boolean>> actions = completionActions.get();
+    if (actions == null) {
+      return;
+    }
+    completionActions.remove();
+    for (Consumer<Boolean> action : actions) {
+      try {
+        action.accept(committed);
+      } catch (RuntimeException e) {
+        LOGGER.warn("An action after the completion of a transaction failed.", e);
+      }
+    }
+  }
+
+  /**
+   * creates the MyBatis transaction factory. The session manager is created only once with this
+   * factory, so subclasses, e.g. for spring managed transactions, have to override this method
+   * instead of replacing the session manager. Otherwise the mappers of the caches which are created
+   * within the constructor would stay bound to the replaced session manager.
    *
    * @param useManagedTransactions true, if managed transations should be used. Otherwise false.
+   * @return the transaction factory of the session manager
    */
-  private void createTransactionFactory(boolean useManagedTransactions) {
+  protected TransactionFactory createTransactionFactory(boolean useManagedTransactions) {
     if (useManagedTransactions) {
-      this.transactionFactory = new ManagedTransactionFactory();
+      return new ManagedTransactionFactory();
     } else {
-      this.transactionFactory = new JdbcTransactionFactory();
+      return new JdbcTransactionFactory();
     }
   }
 
@@ -440,7 +598,13 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             e.getCause());
       }
       if (mode != ConnectionManagementMode.EXPLICIT) {
+        if (SESSION_STACK.getSessionStack().isEmpty()) {
+          currentUserContext.startSession();
+        }
         SESSION_STACK.pushSessionToStack(sessionManager);
+        if (metricsManager.isEnabled()) {
+          metricsManager.connectionOpened(SESSION_STACK.getSessionStack().size());
+        }
       }
     }
 
@@ -448,6 +612,12 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     public void returnConnection() {
       if (mode != ConnectionManagementMode.EXPLICIT) {
         SESSION_STACK.popSessionFromStack();
+        if (metricsManager.isEnabled()) {
+          metricsManager.connectionReturned(SESSION_STACK.getSessionStack().size());
+        }
+        if (SESSION_STACK.getSessionStack().isEmpty()) {
+          currentUserContext.endSession();
+        }
         if (SESSION_STACK.getSessionStack().isEmpty()
             && sessionManager != null
             && sessionManager.isManagedSessionStarted()) {
@@ -455,10 +625,12 @@ public class TaskanaEngineImpl implements TaskanaEngine {
             try {
               sessionManager.commit();
             } catch (Exception e) {
+              runCompletionActions(false);
               throw new AutocommitFailedException(e.getCause());
             }
           }
           sessionManager.close();
+          runCompletionActions(true);
         }
       }
     }
@@ -474,6 +646,68 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public List<BatchResult> executeInBatchSession(Consumer<SqlSession> consumer) {
+      try {
+        openConnection();
+        Configuration configuration = sessionManager.getConfiguration();
+        // the batch session must neither commit nor close the connection of the current session
+        Executor executor =
+            configuration.newExecutor(
+                new ManagedTransaction(sessionManager.getConnection(), false), ExecutorType.BATCH);
+        try (SqlSession batchSession = new DefaultSqlSession(configuration, executor, false)) {
+          consumer.accept(batchSession);
+          return batchSession.flushStatements();
+        }
+      } finally {
+        returnConnection();
+      }
+    }
+
+    @Override
+    public List<BatchResult> executeInBatchSessionWithSavepoint(Consumer<SqlSession> consumer) {
+      try {
+        openConnection();
+        Connection connection = sessionManager.getConnection();
+        boolean autoCommit = connection.getAutoCommit();
+        Savepoint savepoint = null;
+        if (autoCommit) {
+          connection.setAutoCommit(false);
+        } else {
+          savepoint = connection.setSavepoint();
+        }
+        try {
+          List<BatchResult> results = executeInBatchSession(consumer);
+          if (autoCommit) {
+            connection.commit();
+          } else {
+            connection.releaseSavepoint(savepoint);
+          }
+          return results;
+        } catch (PersistenceException e) {
+          if (autoCommit) {
+            connection.rollback();
+          } else {
+            connection.rollback(savepoint);
+          }
+          throw e;
+        } finally {
+          if (autoCommit) {
+            connection.setAutoCommit(true);
+          }
+        }
+      } catch (SQLException e) {
+        throw new SystemException("Could not revert the statements of a failed batch.", e);
+      } finally {
+        returnConnection();
+      }
+    }
+
+    @Override
+    public void runAfterCompletion(Consumer<Boolean> action) {
+      TaskanaEngineImpl.this.runAfterCompletion(action);
+    }
+
     @Override
     public void initSqlSession() {
       if (mode == ConnectionManagementMode.EXPLICIT && connection == null) {
@@ -518,5 +752,40 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     public PriorityServiceManager getPriorityServiceManager() {
       return priorityServiceManager;
     }
+
+    @Override
+    public WorkbasketPermissionCache getWorkbasketPermissionCache() {
+      return workbasketPermissionCache;
+    }
+
+    @Override
+    public WorkbasketCache getWorkbasketCache() {
+      return workbasketCache;
+    }
+
+    @Override
+    public DistributionGraphCache getDistributionGraphCache() {
+      return distributionGraphCache;
+    }
+
+    @Override
+    public ClassificationCache getClassificationCache() {
+      return classificationCache;
+    }
+
+    @Override
+    public MonitorAggregateMaintainer getMonitorAggregateMaintainer() {
+      return monitorAggregateMaintainer;
+    }
+
+    @Override
+    public void subtractFromMonitorAggregates(Collection<String> taskIds) {
+      monitorAggregateMaintainer.subtractTasks(taskIds);
+    }
+
+    @Override
+    public void addToMonitorAggregates(Collection<String> taskIds) {
+      monitorAggregateMaintainer.addTasks(taskIds);
+    }
   }
 }
@@ -3,12 +3,15 @@ package pro.taskana.common.internal.jobs;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.spi.metrics.internal.MetricsManager;
 
 /** Abstract base for all background jobs of TASKANA. */
 public abstract class AbstractTaskanaJob implements TaskanaJob {
@@ -48,9 +51,19 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
 
   @Override
   public final void run() throws TaskanaException {
-    execute();
-    if (async) {
-      scheduleNextJob();
+    MetricsManager metricsManager = taskanaEngineImpl.getMetricsManager();
+    long start = metricsManager.isEnabled() ? System.nanoTime() : 0;
+    boolean succeeded = false;
+    try {
+      execute();
+      if (async) {
+        scheduleNextJob();
+      }
+      succeeded = true;
+    } finally {
+      if (metricsManager.isEnabled()) {
+        metricsManager.jobExecuted(getType(), System.nanoTime() - start, succeeded, isRetry());
+      }
     }
   }
 
@@ -71,10 +84,28 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     return nextRun;
   }
 
+  private boolean isRetry() {
+    // the job runner has already decreased the retry count for the current attempt
+    return scheduledJob != null
+        && scheduledJob.getRetryCount()
+            < taskanaEngineImpl.getConfiguration().getMaxNumberOfJobRetries() - 1;
+  }
+
   protected void scheduleNextJob() {
     ScheduledJob job = new ScheduledJob();
     job.setType(getType());
     job.setDue(getNextDueForJob());
+    job.setArguments(getNextJobArguments());
     taskanaEngineImpl.getJobService().createJob(job);
   }
+
+  /**
+   * Returns the arguments which are passed to the next run of an async job, e.g. to continue where
+   * this run has stopped.
+   *
+   * @return the arguments of the next job
+   */
+  protected Map<String, String> getNextJobArguments() {
+    return Collections.emptyMap();
+  }
 }
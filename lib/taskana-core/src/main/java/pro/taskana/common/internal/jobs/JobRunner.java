@@ -2,27 +2,60 @@ package pro.taskana.common.internal.jobs;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 
-/** This is the runner for Tasks jobs. */
+/**
+ * This is the runner for Tasks jobs.
+ *
+ * <p>Without an executor all due jobs are locked and run one after another by the calling thread.
+ * With an executor every call of {@link #runJobs()} claims at most {@linkplain
+ * TaskanaEngineConfiguration#getJobRunnerMaxJobsPerPoll() the configured number of jobs}, runs
+ * them on the executor and waits until they are finished. The locks of the running jobs are
+ * renewed so that no other runner claims them, the {@linkplain
+ * TaskanaEngineConfiguration#getJobRunnerMaxConcurrencyByType() concurrency limit} of each job type
+ * is honored and failed jobs are retried after a backoff.
+ */
 public class JobRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
   private final TaskanaEngine taskanaEngine;
   private final JobServiceImpl jobService;
+  private final ExecutorService executor;
   private TaskanaTransactionProvider txProvider;
 
   public JobRunner(TaskanaEngine taskanaEngine) {
+    this(taskanaEngine, null);
+  }
+
+  /**
+   * Creates a runner which runs the claimed jobs in parallel. The executor is owned by the caller.
+   *
+   * @param taskanaEngine the engine of the jobs
+   * @param executor the executor which runs the jobs, e.g. a fixed thread pool
+   */
+  public JobRunner(TaskanaEngine taskanaEngine, ExecutorService executor) {
     this.taskanaEngine = taskanaEngine;
+    this.executor = executor;
     jobService = (JobServiceImpl) taskanaEngine.getJobService();
   }
 
@@ -31,7 +64,30 @@ public class JobRunner {
   }
 
   public void runJobs() {
-    findAndLockJobsToRun().forEach(this::runJobTransactionally);
+    if (executor == null) {
+      findAndLockJobsToRun().forEach(this::runJobTransactionally);
+    } else {
+      runJobsInParallel();
+    }
+  }
+
+  private void runJobsInParallel() {
+    List<ScheduledJob> jobs = claimJobsToRun();
+    if (jobs.isEmpty()) {
+      return;
+    }
+    ScheduledExecutorService lockRenewer = Executors.newSingleThreadScheduledExecutor();
+    try {
+      List<Future<?>> runningJobs =
+          jobs.stream()
+              .map(job -> executor.submit(() -> runJobWithLockRenewal(job, lockRenewer)))
+              .collect(Collectors.toList());
+      for (Future<?> runningJob : runningJobs) {
+        awaitJob(runningJob);
+      }
+    } finally {
+      lockRenewer.shutdownNow();
+    }
   }
 
   private List<ScheduledJob> findAndLockJobsToRun() {
@@ -40,6 +96,79 @@ public class JobRunner {
         () -> jobService.findJobsToRun().stream().map(this::lockJob).collect(Collectors.toList()));
   }
 
+  private List<ScheduledJob> claimJobsToRun() {
+    TaskanaEngineConfiguration configuration = taskanaEngine.getConfiguration();
+    int maxJobsPerPoll = configuration.getJobRunnerMaxJobsPerPoll();
+    Map<String, Integer> maxConcurrencyByType = configuration.getJobRunnerMaxConcurrencyByType();
+    return TaskanaTransactionProvider.executeInTransactionIfPossible(
+        txProvider,
+        () -> {
+          // the jobs to run are locked first so that concurrent runners see our claimed jobs
+          List<ScheduledJob> jobsToRun = jobService.findJobsToRun();
+          Map<String, Integer> runningJobsByType = new HashMap<>();
+          if (!maxConcurrencyByType.isEmpty()) {
+            jobService
+                .findTypesOfRunningJobs()
+                .forEach(type -> runningJobsByType.merge(type, 1, Integer::sum));
+          }
+          List<ScheduledJob> claimedJobs = new ArrayList<>();
+          for (ScheduledJob job : jobsToRun) {
+            if (claimedJobs.size() >= maxJobsPerPoll) {
+              break;
+            }
+            Integer maxConcurrency = maxConcurrencyByType.get(job.getType());
+            if (maxConcurrency == null
+                || runningJobsByType.getOrDefault(job.getType(), 0) < maxConcurrency) {
+              runningJobsByType.merge(job.getType(), 1, Integer::sum);
+              claimedJobs.add(lockJob(job));
+            }
+          }
+          return claimedJobs;
+        });
+  }
+
+  private void runJobWithLockRenewal(ScheduledJob job, ScheduledExecutorService lockRenewer) {
+    String owner = job.getLockedBy();
+    long renewalPeriod =
+        Math.max(taskanaEngine.getConfiguration().getJobLockExpirationPeriod().toMillis() / 2, 1);
+    ScheduledFuture<?> lockRenewal =
+        lockRenewer.scheduleAtFixedRate(
+            () -> renewLock(job, owner), renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+    boolean failed = false;
+    try {
+      runJobTransactionally(job);
+    } catch (Exception e) {
+      // the error has already been logged by runScheduledJob
+      failed = true;
+    } finally {
+      lockRenewal.cancel(false);
+    }
+    if (failed) {
+      jobService.rescheduleFailedJob(job);
+    }
+  }
+
+  private void renewLock(ScheduledJob job, String owner) {
+    try {
+      if (!jobService.renewLock(job, owner)) {
+        LOGGER.warn("Lost lock of job {} of type {}", job.getJobId(), job.getType());
+      }
+    } catch (Exception e) {
+      LOGGER.warn("Could not renew lock of job {}", job.getJobId(), e);
+    }
+  }
+
+  private void awaitJob(Future<?> runningJob) {
+    try {
+      runningJob.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SystemException("Interrupted while waiting for running jobs", e);
+    } catch (ExecutionException e) {
+      LOGGER.error("Unexpected error while running job", e.getCause());
+    }
+  }
+
   private void runJobTransactionally(ScheduledJob scheduledJob) {
     TaskanaTransactionProvider.executeInTransactionIfPossible(
         txProvider, () -> taskanaEngine.runAsAdmin(() -> runScheduledJob(scheduledJob)));
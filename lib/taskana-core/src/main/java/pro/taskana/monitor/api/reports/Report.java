@@ -1,5 +1,6 @@
 package pro.taskana.monitor.api.reports;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -31,6 +32,7 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private final Map<String, Row<I>> reportRows = new LinkedHashMap<>();
   private final Row<I> sumRow;
   private final String[] rowDesc;
+  private final Instant created = Instant.now();
   protected List<H> columnHeaders;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
@@ -55,6 +57,16 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
     return rowDesc;
   }
 
+  /**
+   * Returns the point in time when this report was built. If the report is taken from the report
+   * cache, this is the time of the snapshot and not of the current request.
+   *
+   * @return the creation time of this report
+   */
+  public final Instant getCreated() {
+    return created;
+  }
+
   public Row<I> getRow(String key) {
     return reportRows.get(key);
   }
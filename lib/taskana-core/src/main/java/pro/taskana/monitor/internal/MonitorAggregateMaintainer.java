@@ -0,0 +1,103 @@
+package pro.taskana.monitor.internal;
+
+import java.util.Collection;
+import java.util.List;
+
+import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.util.CollectionUtil;
+
+/**
+ * Maintains the MONITOR_TASK_AGGREGATE table, which counts the tasks per day of their due date,
+ * state, workbasket and classification.
+ *
+ * <p>Every change is recorded as delta in the transaction of the change: the groups of the affected
+ * tasks are subtracted before and added again after the change. A group is the sum of all of its
+ * rows. The {@linkplain pro.taskana.monitor.internal.jobs.MonitorAggregateJob} rebuilds the table
+ * periodically, which compacts the deltas and repairs deviations, e.g. of tasks which were changed
+ * directly in the database.
+ *
+ * <p>The rows of the affected tasks are locked before they are subtracted. Otherwise, two
+ * transactions which change the same task could both subtract its old group. The rebuild locks the
+ * whole table, so that no delta of a concurrent transaction is counted twice: once by the rebuild,
+ * which reads the committed tasks, and once by the delta itself. H2 can not lock a table, there a
+ * rebuild must not run concurrently to changes of tasks.
+ */
+public class MonitorAggregateMaintainer {
+
+  // DB2 has a maximum for parameters in a query
+  private static final int MAX_TASK_IDS_PER_STATEMENT = 1000;
+
+  private final boolean enabled;
+  private final String databaseId;
+  private final MonitorMapper monitorMapper;
+
+  public MonitorAggregateMaintainer(
+      boolean enabled, String databaseId, MonitorMapper monitorMapper) {
+    this.enabled = enabled;
+    this.databaseId = databaseId;
+    this.monitorMapper = monitorMapper;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Subtracts the given tasks from the aggregates. Must be called before the tasks are changed or
+   * deleted. Locks the tasks until the end of the transaction.
+   *
+   * @param taskIds the ids of the tasks which are about to change
+   */
+  public void subtractTasks(Collection<String> taskIds) {
+    if (enabled) {
+      for (List<String> chunk :
+          CollectionUtil.partitionBasedOnSize(taskIds, MAX_TASK_IDS_PER_STATEMENT)) {
+        monitorMapper.lockTasks(chunk);
+      }
+    }
+    insertDeltas(taskIds, true);
+  }
+
+  /**
+   * Adds the given tasks to the aggregates. Must be called after the tasks were created or changed.
+   *
+   * @param taskIds the ids of the created or changed tasks
+   */
+  public void addTasks(Collection<String> taskIds) {
+    insertDeltas(taskIds, false);
+  }
+
+  /**
+   * Replaces all aggregates by the current counts of the TASK table. The table stays locked until
+   * the end of the transaction, therefore the rebuild should run in a transaction of its own.
+   */
+  public void rebuild() {
+    rebuild(monitorMapper);
+  }
+
+  /**
+   * Replaces all aggregates by the current counts of the TASK table, using the given mapper.
+   *
+   * @param mapper the mapper of the session whose transaction runs the rebuild
+   * @see #rebuild()
+   */
+  public void rebuild(MonitorMapper mapper) {
+    if (enabled) {
+      if (!DB.isH2(databaseId)) {
+        mapper.lockTaskAggregates();
+      }
+      mapper.deleteTaskAggregates();
+      mapper.insertTaskAggregates(null, false);
+    }
+  }
+
+  private void insertDeltas(Collection<String> taskIds, boolean subtract) {
+    if (!enabled || taskIds.isEmpty()) {
+      return;
+    }
+    for (List<String> chunk :
+        CollectionUtil.partitionBasedOnSize(taskIds, MAX_TASK_IDS_PER_STATEMENT)) {
+      monitorMapper.insertTaskAggregates(chunk, subtract);
+    }
+  }
+}
@@ -1,10 +1,15 @@
 package pro.taskana.monitor.internal;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.Update;
 
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
@@ -124,4 +129,61 @@ public interface MonitorMapper {
   @Result(column = "PRIORITY", property = "priority")
   List<PriorityQueryItem> getTaskCountByPriority(
       @Param("report") WorkbasketPriorityReportBuilderImpl report);
+
+  @SelectProvider(
+      type = MonitorMapperSqlProvider.class,
+      method = "getTaskCountOfWorkbasketsFromAggregates")
+  @Result(column = "WORKBASKET_KEY", property = "key")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  List<MonitorQueryItem> getTaskCountOfWorkbasketsFromAggregates(
+      @Param("now") Instant now, @Param("report") TimeIntervalReportBuilder<?, ?, ?> report);
+
+  @SelectProvider(
+      type = MonitorMapperSqlProvider.class,
+      method = "getTaskCountOfCategoriesFromAggregates")
+  @Result(column = "CLASSIFICATION_CATEGORY", property = "key")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  List<MonitorQueryItem> getTaskCountOfCategoriesFromAggregates(
+      @Param("now") Instant now, @Param("report") TimeIntervalReportBuilder<?, ?, ?> report);
+
+  @SelectProvider(
+      type = MonitorMapperSqlProvider.class,
+      method = "getTaskCountOfClassificationsFromAggregates")
+  @Result(column = "CLASSIFICATION_KEY", property = "key")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  List<MonitorQueryItem> getTaskCountOfClassificationsFromAggregates(
+      @Param("now") Instant now, @Param("report") TimeIntervalReportBuilder<?, ?, ?> report);
+
+  @SelectProvider(
+      type = MonitorMapperSqlProvider.class,
+      method = "getTasksCountByStateFromAggregates")
+  @Result(column = "WORKBASKET_KEY", property = "workbasketKey")
+  @Result(column = "STATE", property = "state")
+  @Result(column = "COUNT", property = "count")
+  List<TaskQueryItem> getTasksCountByStateFromAggregates(
+      @Param("domains") List<String> domains,
+      @Param("states") List<TaskState> states,
+      @Param("workbasketIds") List<String> workbasketIds);
+
+  @InsertProvider(type = MonitorMapperSqlProvider.class, method = "insertTaskAggregates")
+  void insertTaskAggregates(
+      @Param("taskIds") Collection<String> taskIds, @Param("subtract") boolean subtract);
+
+  @Delete("DELETE FROM MONITOR_TASK_AGGREGATE")
+  void deleteTaskAggregates();
+
+  @Select(
+      "<script>SELECT ID FROM TASK "
+          + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
+          + "ORDER BY ID "
+          + "FOR UPDATE "
+          + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS </if> "
+          + "</script>")
+  List<String> lockTasks(@Param("taskIds") Collection<String> taskIds);
+
+  @Update("LOCK TABLE MONITOR_TASK_AGGREGATE IN EXCLUSIVE MODE")
+  void lockTaskAggregates();
 }
@@ -283,6 +283,65 @@ public class MonitorMapperSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  @SuppressWarnings("unused")
+  public static String getTaskCountOfWorkbasketsFromAggregates() {
+    return taskCountFromAggregates("WORKBASKET_KEY", "ATTACHMENT_JOIN_COUNT");
+  }
+
+  @SuppressWarnings("unused")
+  public static String getTaskCountOfCategoriesFromAggregates() {
+    return taskCountFromAggregates("CLASSIFICATION_CATEGORY", "TASK_COUNT");
+  }
+
+  @SuppressWarnings("unused")
+  public static String getTaskCountOfClassificationsFromAggregates() {
+    return taskCountFromAggregates("CLASSIFICATION_KEY", "TASK_COUNT");
+  }
+
+  @SuppressWarnings("unused")
+  public static String getTasksCountByStateFromAggregates() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT WORKBASKET_KEY, STATE, SUM(TASK_COUNT) as COUNT "
+        + "FROM MONITOR_TASK_AGGREGATE "
+        + OPENING_WHERE_TAG
+        + whereIn("domains", "DOMAIN")
+        + whereIn("states", "STATE")
+        + whereIn("workbasketIds", "WORKBASKET_ID")
+        + CLOSING_WHERE_TAG
+        + "GROUP BY WORKBASKET_KEY, STATE "
+        + "HAVING SUM(TASK_COUNT) &lt;&gt; 0"
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  @SuppressWarnings("unused")
+  public static String insertTaskAggregates() {
+    String taskIds =
+        "IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) ";
+    String groupBy =
+        "T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.CLASSIFICATION_CATEGORY, "
+            + "T.CLASSIFICATION_ID, T.CLASSIFICATION_KEY, T.STATE, CAST(T.DUE AS DATE)";
+    return OPENING_SCRIPT_TAG
+        + "INSERT INTO MONITOR_TASK_AGGREGATE (WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, "
+        + "CLASSIFICATION_CATEGORY, CLASSIFICATION_ID, CLASSIFICATION_KEY, STATE, DUE_DAY, "
+        + "TASK_COUNT, ATTACHMENT_JOIN_COUNT) "
+        + "SELECT "
+        + groupBy
+        + ", <if test='subtract'>-</if>COUNT(T.ID), "
+        + "<if test='subtract'>-</if>SUM(COALESCE(A.NUMBER_OF_ATTACHMENTS, 1)) "
+        + "FROM TASK T LEFT JOIN ("
+        + "SELECT TASK_ID, COUNT(ID) AS NUMBER_OF_ATTACHMENTS FROM ATTACHMENT "
+        + "<if test='taskIds != null'>WHERE TASK_ID "
+        + taskIds
+        + "</if>"
+        + "GROUP BY TASK_ID) A ON T.ID = A.TASK_ID "
+        + "<if test='taskIds != null'>WHERE T.ID "
+        + taskIds
+        + "</if>"
+        + "GROUP BY "
+        + groupBy
+        + CLOSING_SCRIPT_TAG;
+  }
+
   private static StringBuilder whereCustomStatements(
       String baseCollection, String baseColumn, int customBound, StringBuilder sb) {
     IntStream.rangeClosed(1, customBound)
@@ -301,6 +360,41 @@ public class MonitorMapperSqlProvider {
     return whereCustomStatements(baseCollection, baseColumn, customBound, new StringBuilder());
   }
 
+  private static String taskCountFromAggregates(String groupedBy, String countColumn) {
+    return OPENING_SCRIPT_TAG
+        + "SELECT B."
+        + groupedBy
+        + ", B.AGE_IN_DAYS, SUM(B.NUMBER_OF_TASKS) AS NUMBER_OF_TASKS FROM ("
+        + "SELECT AG."
+        + groupedBy
+        + ", "
+        + "<if test=\"_databaseId == 'db2'\">"
+        + "(DAYS(AG.DUE_DAY) - DAYS(CAST(#{now} as TIMESTAMP))) as AGE_IN_DAYS, "
+        + "</if> "
+        + "<if test=\"_databaseId == 'h2'\">"
+        + "DATEDIFF('DAY', #{now}, AG.DUE_DAY) as AGE_IN_DAYS, "
+        + "</if> "
+        + "AG."
+        + countColumn
+        + " AS NUMBER_OF_TASKS "
+        + "FROM MONITOR_TASK_AGGREGATE AG "
+        + OPENING_WHERE_TAG
+        + "AG.DUE_DAY IS NOT NULL "
+        + whereIn("report.workbasketIds", "AG.WORKBASKET_ID")
+        + whereIn("report.states", "AG.STATE")
+        + whereIn("report.classificationCategory", "AG.CLASSIFICATION_CATEGORY")
+        + whereIn("report.domains", "AG.DOMAIN")
+        + whereIn("report.classificationIds", "AG.CLASSIFICATION_ID")
+        + whereNotIn("report.excludedClassificationIds", "AG.CLASSIFICATION_ID")
+        + CLOSING_WHERE_TAG
+        + ") AS B "
+        + "GROUP BY B."
+        + groupedBy
+        + ", B.AGE_IN_DAYS "
+        + "HAVING SUM(B.NUMBER_OF_TASKS) &lt;&gt; 0"
+        + CLOSING_SCRIPT_TAG;
+  }
+
   private static StringBuilder timeIntervalWhereStatements() {
     StringBuilder sb = new StringBuilder();
     SqlProviderUtil.whereIn("report.workbasketIds", "T.WORKBASKET_ID", sb);
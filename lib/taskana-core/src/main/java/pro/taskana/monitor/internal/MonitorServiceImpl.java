@@ -1,5 +1,7 @@
 package pro.taskana.monitor.internal;
 
+import pro.taskana.common.api.TaskanaRole;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.api.reports.ClassificationCategoryReport;
@@ -23,16 +25,19 @@ public class MonitorServiceImpl implements MonitorService {
 
   private final InternalTaskanaEngine taskanaEngine;
   private final MonitorMapper monitorMapper;
+  private final ReportCache reportCache;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -42,27 +47,53 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public ClassificationCategoryReport.Builder createClassificationCategoryReportBuilder() {
-    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public ClassificationReport.Builder createClassificationReportBuilder() {
-    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public TaskCustomFieldValueReport.Builder createTaskCustomFieldValueReportBuilder(
       TaskCustomField taskCustomField) {
-    return new TaskCustomFieldValueReportBuilderImpl(taskanaEngine, monitorMapper, taskCustomField);
+    return new TaskCustomFieldValueReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportCache, taskCustomField);
   }
 
   @Override
   public TaskStatusReport.Builder createTaskStatusReportBuilder() {
-    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TaskStatusReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
   public TimestampReport.Builder createTimestampReportBuilder() {
-    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new TimestampReportBuilderImpl(taskanaEngine, monitorMapper, reportCache);
+  }
+
+  /**
+   * Returns the cache of the built reports, e.g. to expose its hit and miss counts.
+   *
+   * @return the report cache of this TaskanaEngine
+   */
+  public ReportCache getReportCache() {
+    return reportCache;
+  }
+
+  /**
+   * Rebuilds the aggregates of the monitor from the TASK table, if they are enabled. The table
+   * stays locked until the end of the current transaction.
+   *
+   * @throws NotAuthorizedException if the current user is no admin
+   */
+  public void rebuildTaskAggregates() throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
+    try {
+      taskanaEngine.openConnection();
+      taskanaEngine.getMonitorAggregateMaintainer().rebuild();
+    } finally {
+      taskanaEngine.returnConnection();
+    }
   }
 }
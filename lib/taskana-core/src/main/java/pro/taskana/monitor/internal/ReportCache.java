@@ -0,0 +1,151 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Caches built reports for a maximum staleness.
+ *
+ * <p>The key of a report is the complete filter state of its builder. Reports are not restricted
+ * by workbasket permissions, only by the roles of the user, which are checked before the cache is
+ * asked. Therefore, all users share the same reports. If a report is requested while it is already
+ * being built, the caller waits for that build instead of querying the database again. The least
+ * recently used report is evicted as soon as the maximum size is exceeded. A maximum staleness of
+ * zero disables the cache.
+ *
+ * <p>Cached reports are shared between the callers and must not be modified.
+ */
+public class ReportCache {
+
+  private final long maxStalenessNanos;
+  private final Map<List<Object>, CacheEntry> entries;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+
+  public ReportCache(Duration maxStaleness, int maxSize) {
+    this.maxStalenessNanos = maxStaleness.toNanos();
+    this.entries =
+        new LinkedHashMap<List<Object>, CacheEntry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<List<Object>, CacheEntry> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  public boolean isEnabled() {
+    return maxStalenessNanos > 0;
+  }
+
+  public Duration getMaxStaleness() {
+    return Duration.ofNanos(maxStalenessNanos);
+  }
+
+  /**
+   * Returns the cached report of the given key or builds it, if no report younger than the
+   * maximum staleness exists.
+   *
+   * @param key the filter state of the report builder
+   * @param builder builds the report if it is not cached
+   * @param <R> the type of the report
+   * @param <E> the type of the exception which the builder throws
+   * @return the cached or newly built report
+   * @throws E if the builder fails
+   * @throws SystemException if the thread is interrupted while waiting for the report
+   */
+  @SuppressWarnings("unchecked")
+  public <R, E extends Exception> R get(List<Object> key, ReportBuilder<R, E> builder) throws E {
+    if (!isEnabled()) {
+      return builder.build();
+    }
+    CacheEntry entry;
+    boolean buildsReport = false;
+    synchronized (this) {
+      entry = entries.get(key);
+      if (entry == null || entry.isStale(maxStalenessNanos)) {
+        entry = new CacheEntry(new FutureTask<>(builder::build));
+        entries.put(key, entry);
+        buildsReport = true;
+      }
+    }
+    if (buildsReport) {
+      misses.incrementAndGet();
+      entry.report.run();
+      entry.builtAt = System.nanoTime();
+      entry.built = true;
+    } else {
+      hits.incrementAndGet();
+    }
+    try {
+      return (R) entry.report.get();
+    } catch (ExecutionException e) {
+      synchronized (this) {
+        entries.remove(key, entry);
+      }
+      throw ReportCache.<E>unwrap(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SystemException("Interrupted while waiting for a report", e);
+    }
+  }
+
+  public synchronized void invalidate() {
+    entries.clear();
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Exception> E unwrap(Throwable cause) {
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    // the builder only throws the declared checked exceptions
+    return (E) cause;
+  }
+
+  /**
+   * Builds a report which is not cached.
+   *
+   * @param <R> the type of the report
+   * @param <E> the type of the exception which is thrown if the report can't be built
+   */
+  @FunctionalInterface
+  public interface ReportBuilder<R, E extends Exception> {
+
+    R build() throws E;
+  }
+
+  private static class CacheEntry {
+
+    private final FutureTask<Object> report;
+    private volatile long builtAt;
+    private volatile boolean built;
+
+    private CacheEntry(FutureTask<Object> report) {
+      this.report = report;
+    }
+
+    private boolean isStale(long maxStalenessNanos) {
+      // a report which is still being built is never stale
+      return built && System.nanoTime() - builtAt >= maxStalenessNanos;
+    }
+  }
+}
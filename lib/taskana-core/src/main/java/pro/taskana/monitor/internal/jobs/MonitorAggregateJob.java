@@ -0,0 +1,89 @@
+package pro.taskana.monitor.internal.jobs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.MonitorServiceImpl;
+
+/**
+ * Job to rebuild the aggregates of the monitor from the TASK table. This compacts the deltas which
+ * were recorded since the previous run.
+ */
+public class MonitorAggregateJob extends AbstractTaskanaJob {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MonitorAggregateJob.class);
+
+  private final boolean aggregatesEnabled;
+
+  public MonitorAggregateJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider txProvider,
+      ScheduledJob scheduledJob) {
+    super(taskanaEngine, txProvider, scheduledJob, true);
+    aggregatesEnabled = taskanaEngine.getConfiguration().isMonitorAggregatesEnabled();
+    runEvery = taskanaEngine.getConfiguration().getMonitorAggregateJobRunEvery();
+    firstRun = taskanaEngine.getConfiguration().getMonitorAggregateJobFirstRun();
+  }
+
+  @Override
+  public void execute() {
+    if (!aggregatesEnabled) {
+      LOGGER.debug("The aggregates of the monitor are not enabled.");
+      return;
+    }
+    LOGGER.info("Running job to rebuild the aggregates of the monitor");
+    MonitorServiceImpl monitorService = (MonitorServiceImpl) taskanaEngineImpl.getMonitorService();
+    TaskanaTransactionProvider.executeInTransactionIfPossible(
+        txProvider,
+        () -> {
+          try {
+            monitorService.rebuildTaskAggregates();
+          } catch (NotAuthorizedException e) {
+            throw new SystemException("Error while processing MonitorAggregateJob.", e);
+          }
+        });
+    LOGGER.info("Job to rebuild the aggregates of the monitor has finished.");
+  }
+
+  /**
+   * Initializes the MonitorAggregateJob schedule. <br>
+   * All scheduled jobs are cancelled/deleted and a new one is scheduled.
+   *
+   * @param taskanaEngine the TASKANA engine.
+   */
+  public static void initializeSchedule(TaskanaEngine taskanaEngine) {
+    JobServiceImpl jobService = (JobServiceImpl) taskanaEngine.getJobService();
+    MonitorAggregateJob job = new MonitorAggregateJob(taskanaEngine, null, null);
+    jobService.deleteJobs(job.getType());
+    job.scheduleNextJob();
+  }
+
+  @Override
+  protected String getType() {
+    return MonitorAggregateJob.class.getName();
+  }
+
+  @Override
+  public String toString() {
+    return "MonitorAggregateJob [firstRun="
+        + firstRun
+        + ", runEvery="
+        + runEvery
+        + ", taskanaEngineImpl="
+        + taskanaEngineImpl
+        + ", txProvider="
+        + txProvider
+        + ", scheduledJob="
+        + scheduledJob
+        + ", aggregatesEnabled="
+        + aggregatesEnabled
+        + "]";
+  }
+}
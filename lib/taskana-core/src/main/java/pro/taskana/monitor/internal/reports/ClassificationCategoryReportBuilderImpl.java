@@ -13,6 +13,7 @@ import pro.taskana.monitor.api.reports.ClassificationCategoryReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of CategoryReportBuilder. */
@@ -21,8 +22,8 @@ public class ClassificationCategoryReportBuilderImpl
     implements ClassificationCategoryReport.Builder {
 
   public ClassificationCategoryReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -35,11 +36,18 @@ public class ClassificationCategoryReportBuilderImpl
   public ClassificationCategoryReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(timestamp), () -> queryReport(timestamp));
+  }
+
+  private ClassificationCategoryReport queryReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       ClassificationCategoryReport report = new ClassificationCategoryReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
+          isAnsweredByAggregates(timestamp)
+              ? this.monitorMapper.getTaskCountOfCategoriesFromAggregates(Instant.now(), this)
+              : this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
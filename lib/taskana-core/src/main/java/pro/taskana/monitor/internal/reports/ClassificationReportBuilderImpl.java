@@ -21,6 +21,7 @@ import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.row.Row;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of ClassificationReportBuilder. */
@@ -31,8 +32,8 @@ public class ClassificationReportBuilderImpl
   private final ClassificationService classificationService;
 
   public ClassificationReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     classificationService = taskanaEngine.getEngine().getClassificationService();
   }
 
@@ -46,11 +47,18 @@ public class ClassificationReportBuilderImpl
   public ClassificationReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(timestamp), () -> queryReport(timestamp));
+  }
+
+  private ClassificationReport queryReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       ClassificationReport report = new ClassificationReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this);
+          isAnsweredByAggregates(timestamp)
+              ? this.monitorMapper.getTaskCountOfClassificationsFromAggregates(Instant.now(), this)
+              : this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
@@ -85,6 +93,12 @@ public class ClassificationReportBuilderImpl
   public DetailedClassificationReport buildDetailedReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(
+        getCacheKey(timestamp, "detailed"), () -> queryDetailedReport(timestamp));
+  }
+
+  private DetailedClassificationReport queryDetailedReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       DetailedClassificationReport report = new DetailedClassificationReport(this.columnHeaders);
@@ -13,6 +13,7 @@ import pro.taskana.monitor.api.reports.TaskCustomFieldValueReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.TaskCustomField;
 
@@ -26,8 +27,9 @@ public class TaskCustomFieldValueReportBuilderImpl
   public TaskCustomFieldValueReportBuilderImpl(
       InternalTaskanaEngine taskanaEngine,
       MonitorMapper monitorMapper,
+      ReportCache reportCache,
       TaskCustomField taskCustomField) {
-    super(taskanaEngine, monitorMapper);
+    super(taskanaEngine, monitorMapper, reportCache);
     this.taskCustomField = taskCustomField;
   }
 
@@ -41,6 +43,11 @@ public class TaskCustomFieldValueReportBuilderImpl
   public TaskCustomFieldValueReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(timestamp, taskCustomField), () -> queryReport(timestamp));
+  }
+
+  private TaskCustomFieldValueReport queryReport(TaskTimestamp timestamp)
+      throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       TaskCustomFieldValueReport report = new TaskCustomFieldValueReport(this.columnHeaders);
@@ -1,5 +1,7 @@
 package pro.taskana.monitor.internal.reports;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -11,6 +13,7 @@ import pro.taskana.monitor.api.reports.TaskStatusReport;
 import pro.taskana.monitor.api.reports.TaskStatusReport.Builder;
 import pro.taskana.monitor.api.reports.item.TaskQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
@@ -20,6 +23,7 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
 
   private final InternalTaskanaEngine taskanaEngine;
   private final MonitorMapper monitorMapper;
+  private final ReportCache reportCache;
   private final WorkbasketService workbasketService;
   private List<String> domains;
   private List<TaskState> states;
@@ -27,20 +31,29 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
   private Integer priorityMinimum;
 
   public TaskStatusReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
     this.workbasketService = taskanaEngine.getEngine().getWorkbasketService();
   }
 
   @Override
   public TaskStatusReport buildReport() throws NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(), () -> queryReport());
+  }
+
+  private TaskStatusReport queryReport() {
     try {
       this.taskanaEngine.openConnection();
+      // the aggregates of the monitor do not know the priority of the tasks
       List<TaskQueryItem> tasks =
-          this.monitorMapper.getTasksCountByState(
-              this.domains, this.states, this.workbasketIds, this.priorityMinimum);
+          taskanaEngine.getMonitorAggregateMaintainer().isEnabled() && priorityMinimum == null
+              ? this.monitorMapper.getTasksCountByStateFromAggregates(
+                  this.domains, this.states, this.workbasketIds)
+              : this.monitorMapper.getTasksCountByState(
+                  this.domains, this.states, this.workbasketIds, this.priorityMinimum);
       TaskStatusReport report = new TaskStatusReport(this.states);
       report.addItems(tasks);
       Map<String, String> displayMap =
@@ -89,4 +102,13 @@ public class TaskStatusReportBuilderImpl implements TaskStatusReport.Builder {
     this.workbasketIds = workbasketIds;
     return this;
   }
+
+  private List<Object> getCacheKey() {
+    return Arrays.asList(
+        getClass(), copyOf(domains), copyOf(states), copyOf(workbasketIds), priorityMinimum);
+  }
+
+  private static <T> List<T> copyOf(List<T> list) {
+    return list == null ? null : new ArrayList<>(list);
+  }
 }
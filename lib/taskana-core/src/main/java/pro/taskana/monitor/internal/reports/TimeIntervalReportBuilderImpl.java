@@ -2,9 +2,12 @@ package pro.taskana.monitor.internal.reports;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.WorkingDaysToDaysConverter;
@@ -12,6 +15,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.TaskTimestamp;
@@ -20,6 +24,7 @@ import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskState;
@@ -39,6 +44,7 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected InternalTaskanaEngine taskanaEngine;
   protected MonitorMapper monitorMapper;
+  protected ReportCache reportCache;
   protected List<H> columnHeaders;
   protected boolean inWorkingDays;
   protected List<String> workbasketIds;
@@ -97,9 +103,11 @@ abstract class TimeIntervalReportBuilderImpl<
   private String[] custom16NotIn;
   private String[] custom16Like;
 
-  TimeIntervalReportBuilderImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  TimeIntervalReportBuilderImpl(
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportCache = reportCache;
     this.columnHeaders = Collections.emptyList();
     converter = taskanaEngine.getEngine().getWorkingDaysToDaysConverter();
   }
@@ -404,6 +412,98 @@ abstract class TimeIntervalReportBuilderImpl<
     return null;
   }
 
+  /**
+   * Checks if the report can be read from the aggregates of the {@linkplain
+   * pro.taskana.monitor.internal.MonitorAggregateMaintainer}. They count the tasks per day of the
+   * due date, but know neither custom attributes nor attachments.
+   *
+   * <p>Postgres always reads the tasks. Its reports measure the age of a task in periods of 24
+   * hours between the due timestamp and now, e.g. a task which was due yesterday at 18:00 is 0 days
+   * old until 18:00 today. The aggregates only know the day of the due date, so they can not
+   * reproduce this age without changing the results of the reports on Postgres.
+   *
+   * @param timestamp the timestamp the report is based on
+   * @return true if the aggregates are enabled and sufficient for the filters of this report
+   */
+  protected boolean isAnsweredByAggregates(TaskTimestamp timestamp) {
+    return taskanaEngine.getMonitorAggregateMaintainer().isEnabled()
+        && timestamp == TaskTimestamp.DUE
+        && !DB.isPostgres(taskanaEngine.getSqlSession().getConfiguration().getDatabaseId())
+        && getCombinedClassificationFilter() == null
+        && getCustomAttributeFilters().allMatch(Objects::isNull);
+  }
+
+  /**
+   * Creates the key of the {@linkplain ReportCache} from the complete filter state of this
+   * builder.
+   *
+   * @param additionalKeys the parameters of the report which are not part of the filter state
+   * @return the cache key of the report
+   */
+  protected List<Object> getCacheKey(Object... additionalKeys) {
+    List<Object> key = new ArrayList<>();
+    key.add(getClass());
+    key.add(inWorkingDays);
+    key.add(
+        columnHeaders == null
+            ? null
+            : columnHeaders.stream()
+                .map(
+                    header ->
+                        Arrays.asList(
+                            header.getClass(),
+                            header.getLowerAgeLimit(),
+                            header.getUpperAgeLimit(),
+                            header.getDisplayName()))
+                .collect(Collectors.toList()));
+    Stream.of(
+            workbasketIds,
+            states,
+            classificationCategory,
+            domains,
+            classificationIds,
+            excludedClassificationIds)
+        .map(list -> list == null ? null : new ArrayList<>(list))
+        .forEach(key::add);
+    List<CombinedClassificationFilter> combinedClassificationFilter =
+        getCombinedClassificationFilter();
+    key.add(
+        combinedClassificationFilter == null
+            ? null
+            : combinedClassificationFilter.stream()
+                .map(
+                    filter ->
+                        Arrays.asList(
+                            filter.getTaskClassificationId(),
+                            filter.getAttachmentClassificationId()))
+                .collect(Collectors.toList()));
+    getCustomAttributeFilters()
+        .map(values -> values == null ? null : Arrays.asList(values))
+        .forEach(key::add);
+    key.addAll(Arrays.asList(additionalKeys));
+    return key;
+  }
+
+  private Stream<String[]> getCustomAttributeFilters() {
+    return Stream.of(
+        custom1In, custom1NotIn, custom1Like,
+        custom2In, custom2NotIn, custom2Like,
+        custom3In, custom3NotIn, custom3Like,
+        custom4In, custom4NotIn, custom4Like,
+        custom5In, custom5NotIn, custom5Like,
+        custom6In, custom6NotIn, custom6Like,
+        custom7In, custom7NotIn, custom7Like,
+        custom8In, custom8NotIn, custom8Like,
+        custom9In, custom9NotIn, custom9Like,
+        custom10In, custom10NotIn, custom10Like,
+        custom11In, custom11NotIn, custom11Like,
+        custom12In, custom12NotIn, custom12Like,
+        custom13In, custom13NotIn, custom13Like,
+        custom14In, custom14NotIn, custom14Like,
+        custom15In, custom15NotIn, custom15Like,
+        custom16In, custom16NotIn, custom16Like);
+  }
+
   private List<SelectedItem> convertWorkingDaysToDays(
       List<SelectedItem> selectedItems, List<H> columnHeaders) throws InvalidArgumentException {
     WorkingDaysToDaysReportConverter instance =
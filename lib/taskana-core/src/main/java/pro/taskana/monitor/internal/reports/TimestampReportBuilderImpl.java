@@ -19,6 +19,7 @@ import pro.taskana.monitor.api.reports.TimestampReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.TimestampQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.task.api.TaskState;
 
@@ -31,8 +32,8 @@ public class TimestampReportBuilderImpl
       Arrays.asList(TaskTimestamp.CREATED, TaskTimestamp.COMPLETED);
 
   public TimestampReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
   }
 
   @Override
@@ -62,6 +63,10 @@ public class TimestampReportBuilderImpl
   @Override
   public TimestampReport buildReport() throws NotAuthorizedException, InvalidArgumentException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(new ArrayList<>(status)), () -> queryReport());
+  }
+
+  private TimestampReport queryReport() throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       TimestampReport report = new TimestampReport(columnHeaders);
@@ -16,6 +16,7 @@ import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportCache;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
@@ -28,8 +29,8 @@ public class WorkbasketReportBuilderImpl
   private List<CombinedClassificationFilter> combinedClassificationFilter;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
-    super(taskanaEngine, monitorMapper);
+      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper, ReportCache reportCache) {
+    super(taskanaEngine, monitorMapper, reportCache);
     workbasketService = taskanaEngine.getEngine().getWorkbasketService();
   }
 
@@ -42,11 +43,17 @@ public class WorkbasketReportBuilderImpl
   public WorkbasketReport buildReport(TaskTimestamp timestamp)
       throws InvalidArgumentException, NotAuthorizedException {
     this.taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.MONITOR, TaskanaRole.ADMIN);
+    return reportCache.get(getCacheKey(timestamp), () -> queryReport(timestamp));
+  }
+
+  private WorkbasketReport queryReport(TaskTimestamp timestamp) throws InvalidArgumentException {
     try {
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this);
+          isAnsweredByAggregates(timestamp)
+              ? this.monitorMapper.getTaskCountOfWorkbasketsFromAggregates(Instant.now(), this)
+              : this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this);
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
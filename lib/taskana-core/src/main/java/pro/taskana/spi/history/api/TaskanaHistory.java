@@ -26,6 +26,16 @@ public interface TaskanaHistory {
    */
   void create(TaskHistoryEvent event);
 
+  /**
+   * Create multiple new task history events. Providers which are able to write events in bulk
+   * should override this method. By default, every event is created on its own.
+   *
+   * @param events the {@linkplain TaskHistoryEvent TaskHistoryEvents} to be created.
+   */
+  default void create(List<TaskHistoryEvent> events) {
+    events.forEach(this::create);
+  }
+
   /**
    * Create a new workbasket history event.
    *
@@ -1,6 +1,7 @@
 package pro.taskana.spi.history.api.events.task;
 
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 
 /** Event fired if a task is claimed. */
 public class TaskClaimedEvent extends TaskHistoryEvent {
@@ -10,4 +11,10 @@ public class TaskClaimedEvent extends TaskHistoryEvent {
     eventType = (TaskHistoryEventType.CLAIMED.getName());
     created = task.getClaimed();
   }
+
+  public TaskClaimedEvent(String id, TaskSummary task, String userId) {
+    super(id, task, userId, null);
+    eventType = (TaskHistoryEventType.CLAIMED.getName());
+    created = task.getClaimed();
+  }
 }
@@ -11,14 +11,17 @@ import pro.taskana.spi.history.api.TaskanaHistory;
 import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+import pro.taskana.spi.metrics.internal.MetricsManager;
 
 /** Creates and deletes events and emits them to the registered history service providers. */
 public final class HistoryEventManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventManager.class);
   private final List<TaskanaHistory> taskanaHistories;
+  private final MetricsManager metricsManager;
 
-  public HistoryEventManager(TaskanaEngine taskanaEngine) {
+  public HistoryEventManager(TaskanaEngine taskanaEngine, MetricsManager metricsManager) {
+    this.metricsManager = metricsManager;
     taskanaHistories = SpiLoader.load(TaskanaHistory.class);
     for (TaskanaHistory history : taskanaHistories) {
       history.initialize(taskanaEngine);
@@ -37,16 +40,20 @@ public final class HistoryEventManager {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Sending event to history service providers: {}", event);
     }
+    long start = metricsManager.isEnabled() ? System.nanoTime() : 0;
     taskanaHistories.forEach(
         CheckedConsumer.wrap(historyProvider -> historyProvider.create(event)));
+    publishMetrics(TaskHistoryEvent.class, 1, start);
   }
 
   public void createEvent(WorkbasketHistoryEvent event) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Sending event to history service providers: {}", event);
     }
+    long start = metricsManager.isEnabled() ? System.nanoTime() : 0;
     taskanaHistories.forEach(
         CheckedConsumer.wrap(historyProvider -> historyProvider.create(event)));
+    publishMetrics(WorkbasketHistoryEvent.class, 1, start);
   }
 
   public void createEvent(ClassificationHistoryEvent event) {
@@ -54,8 +61,20 @@ public final class HistoryEventManager {
       LOGGER.debug("Sending event to history service providers: {}", event);
     }
 
+    long start = metricsManager.isEnabled() ? System.nanoTime() : 0;
     taskanaHistories.forEach(
         CheckedConsumer.wrap(historyProvider -> historyProvider.create(event)));
+    publishMetrics(ClassificationHistoryEvent.class, 1, start);
+  }
+
+  public void createEvents(List<TaskHistoryEvent> events) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Sending {} events to history service providers", events.size());
+    }
+    long start = metricsManager.isEnabled() ? System.nanoTime() : 0;
+    taskanaHistories.forEach(
+        CheckedConsumer.wrap(historyProvider -> historyProvider.create(events)));
+    publishMetrics(TaskHistoryEvent.class, events.size(), start);
   }
 
   public void deleteEvents(List<String> taskIds) {
@@ -67,4 +86,11 @@ public final class HistoryEventManager {
         CheckedConsumer.wrap(
             historyProvider -> historyProvider.deleteHistoryEventsByTaskIds(taskIds)));
   }
+
+  private void publishMetrics(Class<?> eventType, int eventCount, long start) {
+    if (metricsManager.isEnabled()) {
+      metricsManager.historyEventsPublished(
+          eventType.getSimpleName(), eventCount, System.nanoTime() - start);
+    }
+  }
 }
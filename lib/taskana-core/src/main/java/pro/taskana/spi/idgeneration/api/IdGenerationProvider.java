@@ -0,0 +1,31 @@
+package pro.taskana.spi.idgeneration.api;
+
+import pro.taskana.common.api.TaskanaEngine;
+
+/**
+ * This SPI enables the generation of the ids of all entities created by TASKANA, e.g. of tasks,
+ * attachments, access items and history events.
+ *
+ * <p>By default, TASKANA generates time ordered ids, so that new entries are appended to the
+ * primary key indexes. The ids are generated very often and concurrently, so the generation must
+ * be fast and thread safe. At most one provider can be registered. It replaces the generation for
+ * the whole JVM.
+ */
+public interface IdGenerationProvider {
+
+  /**
+   * Initializes the provider after the {@linkplain TaskanaEngine} has been created.
+   *
+   * @param taskanaEngine the {@linkplain TaskanaEngine} whose ids are generated
+   */
+  void initialize(TaskanaEngine taskanaEngine);
+
+  /**
+   * Generates a new unique id.
+   *
+   * @param prefix the prefix of the id, which identifies the type of the entity, e.g. TKI for tasks
+   * @return the id, which must start with the prefix followed by a colon and must not be longer
+   *     than 40 characters
+   */
+  String generateId(String prefix);
+}
@@ -0,0 +1,62 @@
+package pro.taskana.spi.idgeneration.internal;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.SpiLoader;
+import pro.taskana.spi.idgeneration.api.IdGenerationProvider;
+
+/**
+ * Loads the {@linkplain IdGenerationProvider} and installs it in the {@linkplain IdGenerator}. If
+ * no provider is registered, the default generation of time ordered ids is used.
+ */
+public class IdGenerationManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(IdGenerationManager.class);
+  private static final int MAX_ID_LENGTH = 40;
+  private final IdGenerationProvider idGenerationProvider;
+
+  public IdGenerationManager(TaskanaEngine taskanaEngine) {
+    List<IdGenerationProvider> idGenerationProviders = SpiLoader.load(IdGenerationProvider.class);
+    if (idGenerationProviders.size() > 1) {
+      throw new SystemException(
+          String.format(
+              "Only one IdGenerationProvider can be registered, but found %d.",
+              idGenerationProviders.size()));
+    }
+    if (idGenerationProviders.isEmpty()) {
+      idGenerationProvider = null;
+      IdGenerator.setIdGeneration(null);
+      LOGGER.info("No IdGenerationProvider found. Running with time ordered ids.");
+    } else {
+      idGenerationProvider = idGenerationProviders.get(0);
+      idGenerationProvider.initialize(taskanaEngine);
+      IdGenerator.setIdGeneration(this::generateId);
+      LOGGER.info(
+          "Registered IdGenerationProvider: {}", idGenerationProvider.getClass().getName());
+    }
+  }
+
+  public boolean isEnabled() {
+    return idGenerationProvider != null;
+  }
+
+  private String generateId(String prefix) {
+    String id = idGenerationProvider.generateId(prefix);
+    if (id == null
+        || id.length() > MAX_ID_LENGTH
+        || id.length() <= prefix.length()
+        || !id.startsWith(prefix)
+        || id.charAt(prefix.length()) != ':') {
+      throw new SystemException(
+          String.format(
+              "The IdGenerationProvider %s generated the invalid id '%s' for the prefix '%s'.",
+              idGenerationProvider.getClass().getName(), id, prefix));
+    }
+    return id;
+  }
+}
@@ -0,0 +1,68 @@
+package pro.taskana.spi.metrics.api;
+
+import pro.taskana.common.api.TaskanaEngine;
+
+/**
+ * This SPI enables the collection of metrics about the work done by TASKANA, e.g. with a metrics
+ * library like Micrometer.
+ *
+ * <p>All methods are called synchronously by the thread which did the measured work. They are
+ * called very often and must therefore return quickly. If no provider is registered, TASKANA does
+ * not take any measurements at all.
+ */
+public interface MetricsProvider {
+
+  /**
+   * Initializes the provider after the {@linkplain TaskanaEngine} has been created.
+   *
+   * @param taskanaEngine the {@linkplain TaskanaEngine} whose work is measured
+   */
+  void initialize(TaskanaEngine taskanaEngine);
+
+  /**
+   * Called after a database connection has been opened for an API call or a nested call has
+   * joined the connection of the current thread.
+   *
+   * @param sessionStackDepth the number of nested calls which currently use the connection
+   */
+  default void connectionOpened(int sessionStackDepth) {}
+
+  /**
+   * Called after an API call has returned its database connection.
+   *
+   * @param sessionStackDepth the number of nested calls which still use the connection. The
+   *     connection is closed if it is 0.
+   */
+  default void connectionReturned(int sessionStackDepth) {}
+
+  /**
+   * Called after a mapped statement has been executed.
+   *
+   * @param statementId the id of the mapped statement, e.g.
+   *     'pro.taskana.task.internal.TaskMapper.findById'
+   * @param durationInNanos the execution time of the statement
+   * @param rowCount the number of selected or modified rows or -1 if it is unknown, e.g. for
+   *     batched statements
+   */
+  default void statementExecuted(String statementId, long durationInNanos, int rowCount) {}
+
+  /**
+   * Called after a scheduled job has been executed.
+   *
+   * @param jobType the type of the job
+   * @param durationInNanos the execution time of the job
+   * @param succeeded true if the job finished without an error
+   * @param retried true if the job has already failed before
+   */
+  default void jobExecuted(
+      String jobType, long durationInNanos, boolean succeeded, boolean retried) {}
+
+  /**
+   * Called after history events have been handed over to the registered history providers.
+   *
+   * @param eventType the type of the events, e.g. 'TaskHistoryEvent'
+   * @param eventCount the number of published events
+   * @param durationInNanos the time the history providers needed to process the events
+   */
+  default void historyEventsPublished(String eventType, int eventCount, long durationInNanos) {}
+}
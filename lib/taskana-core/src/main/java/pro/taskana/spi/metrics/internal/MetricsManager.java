@@ -0,0 +1,71 @@
+package pro.taskana.spi.metrics.internal;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.util.SpiLoader;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+
+/**
+ * Forwards the measurements of the engine to the registered {@linkplain MetricsProvider
+ * MetricsProviders}. Callers should check {@linkplain #isEnabled()} before they take any
+ * measurement, so that the engine has no overhead without a provider.
+ */
+public class MetricsManager {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MetricsManager.class);
+  private final List<MetricsProvider> metricsProviders;
+  private final boolean enabled;
+
+  public MetricsManager() {
+    metricsProviders = SpiLoader.load(MetricsProvider.class);
+    for (MetricsProvider metricsProvider : metricsProviders) {
+      LOGGER.info("Registered MetricsProvider: {}", metricsProvider.getClass().getName());
+    }
+    if (metricsProviders.isEmpty()) {
+      LOGGER.info("No MetricsProvider found. Running without metrics.");
+    }
+    enabled = !metricsProviders.isEmpty();
+  }
+
+  public void initialize(TaskanaEngine taskanaEngine) {
+    metricsProviders.forEach(provider -> provider.initialize(taskanaEngine));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void connectionOpened(int sessionStackDepth) {
+    for (MetricsProvider provider : metricsProviders) {
+      provider.connectionOpened(sessionStackDepth);
+    }
+  }
+
+  public void connectionReturned(int sessionStackDepth) {
+    for (MetricsProvider provider : metricsProviders) {
+      provider.connectionReturned(sessionStackDepth);
+    }
+  }
+
+  public void statementExecuted(String statementId, long durationInNanos, int rowCount) {
+    for (MetricsProvider provider : metricsProviders) {
+      provider.statementExecuted(statementId, durationInNanos, rowCount);
+    }
+  }
+
+  public void jobExecuted(
+      String jobType, long durationInNanos, boolean succeeded, boolean retried) {
+    for (MetricsProvider provider : metricsProviders) {
+      provider.jobExecuted(jobType, durationInNanos, succeeded, retried);
+    }
+  }
+
+  public void historyEventsPublished(String eventType, int eventCount, long durationInNanos) {
+    for (MetricsProvider provider : metricsProviders) {
+      provider.historyEventsPublished(eventType, eventCount, durationInNanos);
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package pro.taskana.spi.metrics.internal;
+
+import java.util.List;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+/**
+ * Reports the execution time and the row count of every mapped statement to the {@linkplain
+ * MetricsManager}. It is only registered if the metrics are enabled.
+ */
+@Intercepts({
+  @Signature(
+      type = Executor.class,
+      method = "update",
+      args = {MappedStatement.class, Object.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+  @Signature(
+      type = Executor.class,
+      method = "query",
+      args = {
+        MappedStatement.class,
+        Object.class,
+        RowBounds.class,
+        ResultHandler.class,
+        CacheKey.class,
+        BoundSql.class
+      })
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+  private final MetricsManager metricsManager;
+
+  public StatementMetricsInterceptor(MetricsManager metricsManager) {
+    this.metricsManager = metricsManager;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    long start = System.nanoTime();
+    Object result = invocation.proceed();
+    long duration = System.nanoTime() - start;
+    MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+    metricsManager.statementExecuted(mappedStatement.getId(), duration, getRowCount(result));
+    return result;
+  }
+
+  private static int getRowCount(Object result) {
+    if (result instanceof List) {
+      return ((List<?>) result).size();
+    } else if (result instanceof Integer && (Integer) result >= 0) {
+      // the batch executor returns a negative constant instead of the number of updated rows
+      return (Integer) result;
+    }
+    return -1;
+  }
+}
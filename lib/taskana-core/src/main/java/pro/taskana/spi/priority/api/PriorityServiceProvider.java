@@ -1,7 +1,10 @@
 package pro.taskana.spi.priority.api;
 
+import java.util.Collections;
 import java.util.OptionalInt;
+import java.util.Set;
 
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskSummary;
 
@@ -22,4 +25,21 @@ public interface PriorityServiceProvider {
    * @return the computed {@linkplain Task#getPriority() priority}
    */
   OptionalInt calculatePriority(TaskSummary taskSummary);
+
+  /**
+   * Declares that {@linkplain #calculatePriority(TaskSummary)} is a pure function of the returned
+   * columns of the task table.
+   *
+   * <p>If a non empty set is returned, the calculation must only read these attributes of the
+   * {@linkplain TaskSummary}, must not have any side effects and must be thread safe. The job which
+   * updates the priorities of all {@linkplain Task Tasks} then only reads the id, the priority and
+   * these columns and calculates several batches in parallel. Columns of attachments or
+   * classifications are not supported.
+   *
+   * @return the columns the calculation depends on or an empty set if the calculation requires the
+   *     complete {@linkplain TaskSummary}
+   */
+  default Set<TaskQueryColumnName> getRequiredColumns() {
+    return Collections.emptySet();
+  }
 }
@@ -2,7 +2,9 @@ package pro.taskana.spi.priority.internal;
 
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -12,6 +14,7 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.SpiLoader;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.models.TaskSummary;
 
 public class PriorityServiceManager {
@@ -33,6 +36,28 @@ public class PriorityServiceManager {
     return !priorityServiceProviders.isEmpty();
   }
 
+  /**
+   * Returns the columns all registered providers depend on, if every provider declares a projection
+   * based calculation on the task table.
+   *
+   * @return the union of the required columns or an empty Optional if at least one provider
+   *     requires the complete TaskSummary
+   */
+  public Optional<Set<TaskQueryColumnName>> getRequiredColumns() {
+    if (!isEnabled()) {
+      return Optional.empty();
+    }
+    Set<TaskQueryColumnName> requiredColumns = EnumSet.noneOf(TaskQueryColumnName.class);
+    for (PriorityServiceProvider provider : priorityServiceProviders) {
+      Set<TaskQueryColumnName> columns = provider.getRequiredColumns();
+      if (columns.isEmpty() || !columns.stream().allMatch(PriorityServiceManager::isTaskColumn)) {
+        return Optional.empty();
+      }
+      requiredColumns.addAll(columns);
+    }
+    return Optional.of(requiredColumns);
+  }
+
   public OptionalInt calculatePriorityOfTask(TaskSummary task) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Sending task to PriorityServiceProviders: {}", task);
@@ -54,4 +79,8 @@ public class PriorityServiceManager {
 
     return OptionalInt.empty();
   }
+
+  private static boolean isTaskColumn(TaskQueryColumnName column) {
+    return column.toString().startsWith("t.");
+  }
 }
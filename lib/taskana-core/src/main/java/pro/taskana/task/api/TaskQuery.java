@@ -1,5 +1,7 @@
 package pro.taskana.task.api;
 
+import java.util.List;
+
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TimeInterval;
@@ -1512,6 +1514,58 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
 
   // endregion
 
+  /**
+   * Restricts the columns which are selected by this query to the given columns of the TASK table.
+   * Only the corresponding attributes of the returned tasks are set. The ID and the columns by
+   * which the query is sorted are always selected.
+   *
+   * <p>The summaries of the attachments, the classification and the workbasket of the tasks are
+   * not loaded, unless they are requested with {@linkplain #withContainedSummaries()}. Thus, the
+   * tasks are read with a single SELECT.
+   *
+   * @param columnNames the columns which should be selected
+   * @return the query
+   * @throws IllegalArgumentException if a column does not belong to the TASK table
+   */
+  TaskQuery select(TaskQueryColumnName... columnNames);
+
+  /**
+   * Loads the summaries of the attachments, the classification and the workbasket of the tasks,
+   * although the columns of this query are restricted with {@linkplain
+   * #select(TaskQueryColumnName...)}. Without restricted columns they are always loaded.
+   *
+   * @return the query
+   */
+  TaskQuery withContainedSummaries();
+
+  /**
+   * Returns the tasks which follow the given cursor in the order of the query. In contrast to
+   * {@linkplain #list(int, int)} the database does not have to read and discard the tasks of the
+   * previous pages (keyset pagination).
+   *
+   * <p>The tasks are additionally sorted by their ID, unless the query is already sorted by it.
+   * Only sort criteria on columns of the task itself are supported. This method can throw a
+   * NotAuthorizedToQueryWorkbasketException.
+   *
+   * @param cursor the cursor of the last task of the previous page, created by {@linkplain
+   *     #createCursor(TaskSummary)}. If it is null, the first page is returned.
+   * @param limit the maximum number of tasks which should be returned
+   * @return the tasks following the cursor
+   * @throws IllegalArgumentException if the cursor is invalid or was created for another order or
+   *     if the query is sorted by an unsupported column
+   */
+  List<TaskSummary> listAfter(String cursor, int limit);
+
+  /**
+   * This method creates the opaque cursor of the given task for {@linkplain #listAfter(String,
+   * int)}. It encodes the values of all sort criteria of the query and the ID of the task.
+   *
+   * @param taskSummary the last task of a page
+   * @return the cursor pointing behind the given task
+   * @throws IllegalArgumentException if the query is sorted by an unsupported column
+   */
+  String createCursor(TaskSummary taskSummary);
+
   /**
    * This method provides a query builder for quering the database.
    *
@@ -68,6 +68,10 @@ public enum TaskQueryColumnName implements QueryColumnName {
     return this.name().startsWith("A_");
   }
 
+  public boolean isTaskColumn() {
+    return name.startsWith("t.");
+  }
+
   @Override
   public String toString() {
     return name;
@@ -20,6 +20,7 @@ import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskComment;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
 /** The Task Service manages all operations on tasks. */
@@ -150,6 +151,26 @@ public interface TaskService {
       throws NotAuthorizedException, WorkbasketNotFoundException, ClassificationNotFoundException,
           TaskAlreadyExistException, InvalidArgumentException, AttachmentPersistenceException;
 
+  /**
+   * Inserts multiple not existing Tasks. <br>
+   * Each Task is initialized with the same default values as described in {@linkplain
+   * #createTask(Task)}. Workbaskets, Classifications and the APPEND permission are resolved only
+   * once per distinct Workbasket and Classification and the Tasks, their Attachments and the
+   * corresponding history events are written in JDBC batches.
+   *
+   * <p>Every Task is identified by its {@linkplain Task#getExternalId() external id}. Tasks without
+   * an external id get a generated one. If the external id of a Task does already exist or occurs
+   * multiple times within the given list, none of these Tasks is created. The successfully created
+   * Tasks are updated in place, i.e. their id and all default values are set on the passed objects.
+   *
+   * @param tasksToCreate the transient task objects to be inserted
+   * @return the result of the operations with the external id and Exception for each failed task
+   *     creation.
+   * @throws InvalidArgumentException if the tasksToCreate parameter is NULL
+   */
+  BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException;
+
   /**
    * Gets the details of a task by Id without checking permissions.
    *
@@ -442,6 +463,20 @@ public interface TaskService {
    */
   Task selectAndClaim(TaskQuery taskQuery) throws NotAuthorizedException, InvalidOwnerException;
 
+  /**
+   * Selects and claims up to maxNumberOfTasks READY tasks which are returned by the task query. The
+   * tasks are selected and claimed with one query and one update each. If
+   * taskana.selectAndClaim.skipLocked is enabled, tasks which are locked by concurrent calls are
+   * skipped instead of waited for, so that concurrent callers claim different tasks.
+   *
+   * @param taskQuery the task query.
+   * @param maxNumberOfTasks the maximal number of tasks to claim.
+   * @return the tasks that got selected and claimed. The list is empty if no task was claimed.
+   * @throws InvalidArgumentException if maxNumberOfTasks is less than 1
+   */
+  List<TaskSummary> selectAndClaim(TaskQuery taskQuery, int maxNumberOfTasks)
+      throws InvalidArgumentException;
+
   /**
    * Deletes a list of tasks.
    *
@@ -14,7 +14,9 @@ import org.slf4j.LoggerFactory;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.util.CheckedFunction;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
 import pro.taskana.task.api.models.Attachment;
@@ -43,7 +45,8 @@ public class AttachmentHandler {
     newTaskImpl.setAttachments(newAttachments);
 
     for (Attachment attachment : newAttachments) {
-      verifyAttachment((AttachmentImpl) attachment, newTaskImpl.getDomain());
+      verifyAttachment(
+          (AttachmentImpl) attachment, newTaskImpl.getDomain(), this::findClassificationSummary);
       initAttachment((AttachmentImpl) attachment, newTaskImpl);
     }
 
@@ -55,25 +58,45 @@ public class AttachmentHandler {
   void insertNewAttachmentsOnTaskCreation(TaskImpl task)
       throws InvalidArgumentException, AttachmentPersistenceException,
           ClassificationNotFoundException {
+    initNewAttachmentsOnTaskCreation(task, this::findClassificationSummary);
+
+    for (Attachment attachment : task.getAttachments()) {
+      AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
+      try {
+        attachmentMapper.insert(attachmentImpl);
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug(
+              "TaskService.createTask() for TaskId={} INSERTED an Attachment={}.",
+              task.getId(),
+              attachmentImpl);
+        }
+      } catch (PersistenceException e) {
+        throw new AttachmentPersistenceException(attachmentImpl.getId(), task.getId(), e);
+      }
+    }
+  }
+
+  /**
+   * Verifies and initializes the Attachments of a new Task without inserting them.
+   *
+   * @param task the new Task
+   * @param classificationResolver resolves the Classification of an Attachment by its key and the
+   *     domain of the Task
+   * @throws InvalidArgumentException if an Attachment is invalid
+   * @throws ClassificationNotFoundException if the Classification of an Attachment does not exist
+   */
+  void initNewAttachmentsOnTaskCreation(
+      TaskImpl task,
+      CheckedFunction<KeyDomain, ClassificationSummary, ClassificationNotFoundException>
+          classificationResolver)
+      throws InvalidArgumentException, ClassificationNotFoundException {
     List<Attachment> attachments = task.getAttachments();
 
     if (attachments != null) {
       for (Attachment attachment : attachments) {
         AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
-        verifyAttachment(attachmentImpl, task.getDomain());
+        verifyAttachment(attachmentImpl, task.getDomain(), classificationResolver);
         initAttachment(attachmentImpl, task);
-
-        try {
-          attachmentMapper.insert(attachmentImpl);
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(
-                "TaskService.createTask() for TaskId={} INSERTED an Attachment={}.",
-                task.getId(),
-                attachmentImpl);
-          }
-        } catch (PersistenceException e) {
-          throw new AttachmentPersistenceException(attachmentImpl.getId(), task.getId(), e);
-        }
       }
     }
   }
@@ -173,7 +196,11 @@ public class AttachmentHandler {
     }
   }
 
-  private void verifyAttachment(AttachmentImpl attachment, String domain)
+  private void verifyAttachment(
+      AttachmentImpl attachment,
+      String domain,
+      CheckedFunction<KeyDomain, ClassificationSummary, ClassificationNotFoundException>
+          classificationResolver)
       throws InvalidArgumentException, ClassificationNotFoundException {
     ClassificationSummary classification = attachment.getClassificationSummary();
     if (classification == null) {
@@ -186,9 +213,15 @@ public class AttachmentHandler {
     ObjectReference.validate(attachment.getObjectReference(), "ObjectReference", "Attachment");
 
     classification =
-        classificationService
-            .getClassification(attachment.getClassificationSummary().getKey(), domain)
-            .asSummary();
+        classificationResolver.apply(
+            new KeyDomain(attachment.getClassificationSummary().getKey(), domain));
     attachment.setClassificationSummary(classification);
   }
+
+  private ClassificationSummary findClassificationSummary(KeyDomain keyDomain)
+      throws ClassificationNotFoundException {
+    return classificationService
+        .getClassification(keyDomain.getKey(), keyDomain.getDomain())
+        .asSummary();
+  }
 }
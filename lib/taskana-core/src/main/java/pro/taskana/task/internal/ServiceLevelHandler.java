@@ -230,14 +230,39 @@ class ServiceLevelHandler {
     return actualPriority;
   }
 
-  private BulkLog updateTaskDueDatesOnClassificationUpdate(
+  private void updateTaskDueDatesOnClassificationUpdate(
       List<MinimalTaskSummary> existingTasks,
       List<AttachmentSummaryImpl> attachments,
       List<ClassificationWithServiceLevelResolved> allInvolvedClassificationsWithDuration) {
+    if (existingTasks.isEmpty()) {
+      return;
+    }
     Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration =
         getTasksPerPlannedAndDuration(
             existingTasks, attachments, allInvolvedClassificationsWithDuration);
-    return updateDuePropertyOfAffectedTasks(tasksPerPlannedAndDuration);
+    // the tasks have already been read, so they are updated without reading them again. All
+    // updates share the same statement and are sent to the database as one JDBC batch
+    List<String> taskIds =
+        existingTasks.stream().map(MinimalTaskSummary::getTaskId).collect(Collectors.toList());
+    Instant modified = Instant.now();
+    taskanaEngine.subtractFromMonitorAggregates(taskIds);
+    taskanaEngine.executeInBatchSession(
+        batchSession -> {
+          TaskMapper batchTaskMapper = batchSession.getMapper(TaskMapper.class);
+          tasksPerPlannedAndDuration.forEach(
+              (plannedAndDuration, taskDurations) -> {
+                TaskImpl referenceTask = new TaskImpl();
+                referenceTask.setPlanned(plannedAndDuration.getPlanned());
+                referenceTask.setModified(modified);
+                referenceTask.setDue(
+                    getFollowingWorkingDays(
+                        plannedAndDuration.getPlanned(), plannedAndDuration.getDuration()));
+                taskDurations.forEach(
+                    taskDuration ->
+                        batchTaskMapper.updateTaskDueDate(taskDuration.getTaskId(), referenceTask));
+              });
+        });
+    taskanaEngine.addToMonitorAggregates(taskIds);
   }
 
   private TaskImpl updatePlannedDueOnTaskUpdate(
@@ -358,35 +383,6 @@ class ServiceLevelHandler {
     return newTask;
   }
 
-  private BulkLog updateDuePropertyOfAffectedTasks(
-      Map<InstantDurationHolder, List<TaskDuration>> tasksPerPlannedAndDuration) {
-    BulkLog bulkLog = new BulkLog();
-    tasksPerPlannedAndDuration.forEach(
-        (instDurHld, taskDurationList) ->
-            bulkLog.addAllErrors(
-                updateDuePropertyOfTasksWithIdenticalDueDate(instDurHld, taskDurationList)));
-    return bulkLog;
-  }
-
-  private BulkOperationResults<String, TaskanaException>
-      updateDuePropertyOfTasksWithIdenticalDueDate(
-          InstantDurationHolder durationHolder, List<TaskDuration> taskDurationList) {
-    final BulkLog bulkLog = new BulkLog();
-    TaskImpl referenceTask = new TaskImpl();
-    referenceTask.setPlanned(durationHolder.getPlanned());
-    referenceTask.setModified(Instant.now());
-    referenceTask.setDue(
-        getFollowingWorkingDays(referenceTask.getPlanned(), durationHolder.getDuration()));
-    List<String> taskIdsToUpdate =
-        taskDurationList.stream().map(TaskDuration::getTaskId).collect(Collectors.toList());
-    Pair<List<MinimalTaskSummary>, BulkLog> existingAndAuthorizedTasks =
-        taskServiceImpl.getMinimalTaskSummaries(taskIdsToUpdate);
-    bulkLog.addAllErrors(existingAndAuthorizedTasks.getRight());
-
-    taskMapper.updateTaskDueDates(existingAndAuthorizedTasks.getLeft(), referenceTask);
-    return bulkLog;
-  }
-
   private BulkLog updatePlannedPropertyOfAffectedTasks(
       Instant planned, Map<Duration, List<String>> taskIdsByDueDuration) {
     final BulkLog bulkLog = new BulkLog();
@@ -400,12 +396,22 @@ class ServiceLevelHandler {
           Pair<List<MinimalTaskSummary>, BulkLog> existingAndAuthorizedTasks =
               taskServiceImpl.getMinimalTaskSummaries(taskIds);
           bulkLog.addAllErrors(existingAndAuthorizedTasks.getRight());
-          taskMapper.updateTaskDueDates(existingAndAuthorizedTasks.getLeft(), referenceTask);
+          updateTaskDueDates(existingAndAuthorizedTasks.getLeft(), referenceTask);
         });
 
     return bulkLog;
   }
 
+  private void updateTaskDueDates(List<MinimalTaskSummary> tasks, TaskImpl referenceTask) {
+    List<String> taskIds =
+        tasks == null
+            ? new ArrayList<>()
+            : tasks.stream().map(MinimalTaskSummary::getTaskId).collect(Collectors.toList());
+    taskanaEngine.subtractFromMonitorAggregates(taskIds);
+    taskMapper.updateTaskDueDates(tasks, referenceTask);
+    taskanaEngine.addToMonitorAggregates(taskIds);
+  }
+
   private Map<Duration, List<String>> getDurationToTaskIdsMap(
       List<MinimalTaskSummary> minimalTaskSummariesAuthorizedFor,
       List<AttachmentSummaryImpl> attachments,
@@ -490,15 +496,17 @@ class ServiceLevelHandler {
       List<MinimalTaskSummary> minimalTaskSummaries, List<AttachmentSummaryImpl> attachments) {
     Map<String, Set<String>> resultingTaskIdToClassificationIdsMap = new HashMap<>();
     for (MinimalTaskSummary task : minimalTaskSummaries) {
-      Set<String> classificationIds =
-          attachments.stream()
-              .filter(a -> task.getTaskId().equals(a.getTaskId()))
-              .map(AttachmentSummaryImpl::getClassificationSummary)
-              .map(ClassificationSummary::getId)
-              .collect(Collectors.toSet());
+      Set<String> classificationIds = new HashSet<>();
       classificationIds.add(task.getClassificationId());
       resultingTaskIdToClassificationIdsMap.put(task.getTaskId(), classificationIds);
     }
+    for (AttachmentSummaryImpl attachment : attachments) {
+      Set<String> classificationIds =
+          resultingTaskIdToClassificationIdsMap.get(attachment.getTaskId());
+      if (classificationIds != null) {
+        classificationIds.add(attachment.getClassificationSummary().getId());
+      }
+    }
     return resultingTaskIdToClassificationIdsMap;
   }
 
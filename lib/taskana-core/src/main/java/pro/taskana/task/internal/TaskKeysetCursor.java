@@ -0,0 +1,216 @@
+package pro.taskana.task.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * The TaskKeysetCursor encodes the sort key values of the last task of a page into an opaque
+ * cursor and creates the condition which selects the tasks following that cursor.
+ *
+ * <p>Only the columns of the TASK table are supported as sort keys. The task ID is always the last
+ * sort key, so that the order is total.
+ */
+final class TaskKeysetCursor {
+
+  private static final byte VERSION = 1;
+  private static final byte NULL_VALUE = 0;
+  private static final byte STRING_VALUE = 1;
+  private static final byte INSTANT_VALUE = 2;
+  private static final byte INTEGER_VALUE = 3;
+  private static final Map<String, KeysetColumn> KEYSET_COLUMNS = new HashMap<>();
+
+  static {
+    addKeysetColumn("ID", TaskSummary::getId);
+    addKeysetColumn("CREATED", TaskSummary::getCreated);
+    addKeysetColumn("CLAIMED", TaskSummary::getClaimed);
+    addKeysetColumn("COMPLETED", TaskSummary::getCompleted);
+    addKeysetColumn("MODIFIED", TaskSummary::getModified);
+    addKeysetColumn("PLANNED", TaskSummary::getPlanned);
+    addKeysetColumn("RECEIVED", TaskSummary::getReceived);
+    addKeysetColumn("DUE", TaskSummary::getDue);
+    addKeysetColumn("NAME", TaskSummary::getName);
+    addKeysetColumn("CREATOR", TaskSummary::getCreator);
+    addKeysetColumn("NOTE", TaskSummary::getNote);
+    addKeysetColumn("PRIORITY", TaskSummary::getPriority);
+    addKeysetColumn("STATE", task -> task.getState() == null ? null : task.getState().name());
+    addKeysetColumn("DOMAIN", TaskSummary::getDomain);
+    addKeysetColumn("BUSINESS_PROCESS_ID", TaskSummary::getBusinessProcessId);
+    addKeysetColumn("PARENT_BUSINESS_PROCESS_ID", TaskSummary::getParentBusinessProcessId);
+    addKeysetColumn("OWNER", TaskSummary::getOwner);
+    addKeysetColumn("WORKBASKET_ID", task -> task.getWorkbasketSummary().getId());
+    addKeysetColumn("WORKBASKET_KEY", task -> task.getWorkbasketSummary().getKey());
+    addKeysetColumn("POR_COMPANY", task -> task.getPrimaryObjRef().getCompany());
+    addKeysetColumn("POR_SYSTEM", task -> task.getPrimaryObjRef().getSystem());
+    addKeysetColumn("POR_INSTANCE", task -> task.getPrimaryObjRef().getSystemInstance());
+    addKeysetColumn("POR_TYPE", task -> task.getPrimaryObjRef().getType());
+    addKeysetColumn("POR_VALUE", task -> task.getPrimaryObjRef().getValue());
+    KeysetColumn classificationKey =
+        new KeysetColumn("t.CLASSIFICATION_KEY", task -> task.getClassificationSummary().getKey());
+    KEYSET_COLUMNS.put("t.CLASSIFICATION_KEY", classificationKey);
+    KEYSET_COLUMNS.put("TCLASSIFICATION_KEY", classificationKey);
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      addKeysetColumn(customField.name(), task -> task.getCustomAttribute(customField));
+    }
+  }
+
+  private TaskKeysetCursor() {}
+
+  static boolean isOrderedById(List<String> orderBy) {
+    return orderBy.stream().anyMatch(item -> getColumn(item).equals("ID"));
+  }
+
+  static String encode(List<String> orderBy, TaskSummary taskSummary) {
+    try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(VERSION);
+      out.writeInt(orderBy.hashCode());
+      for (String item : orderBy) {
+        writeValue(out, getKeysetColumn(item).value.apply(taskSummary));
+      }
+      out.flush();
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    } catch (IOException e) {
+      throw new SystemException("Could not create the cursor of the task query.", e);
+    }
+  }
+
+  static List<Object> decode(List<String> orderBy, String cursor) {
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(cursor);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(String.format("The cursor '%s' is invalid.", cursor), e);
+    }
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      if (in.readByte() != VERSION || in.readInt() != orderBy.hashCode()) {
+        throw new IllegalArgumentException(
+            String.format("The cursor '%s' does not match the order of the query.", cursor));
+      }
+      List<Object> values = new ArrayList<>(orderBy.size());
+      for (int i = 0; i < orderBy.size(); i++) {
+        values.add(readValue(in));
+      }
+      if (in.available() > 0) {
+        throw new IOException("Unexpected trailing bytes");
+      }
+      return values;
+    } catch (IOException e) {
+      throw new IllegalArgumentException(String.format("The cursor '%s' is invalid.", cursor), e);
+    }
+  }
+
+  /**
+   * Creates the condition which selects all rows following the given values in the given order. A
+   * value is referenced as <code>#{parameterName[index]}</code>.
+   *
+   * @param orderBy the ORDER BY items of the query
+   * @param values the sort key values of the cursor
+   * @param parameterName the name of the parameter which contains the values
+   * @param nullsSortedHigh whether the database sorts NULL values after all other values
+   * @return the SQL condition
+   */
+  static String createCondition(
+      List<String> orderBy, List<Object> values, String parameterName, boolean nullsSortedHigh) {
+    List<String> disjuncts = new ArrayList<>();
+    StringBuilder equalPrefix = new StringBuilder();
+    for (int i = 0; i < orderBy.size(); i++) {
+      String item = orderBy.get(i);
+      String column = getKeysetColumn(item).column;
+      boolean ascending = item.endsWith(" " + SortDirection.ASCENDING);
+      boolean nullsFirst = ascending != nullsSortedHigh;
+      String value = "#{" + parameterName + "[" + i + "]}";
+      String following;
+      String equal;
+      if (values.get(i) == null) {
+        following = nullsFirst ? column + " IS NOT NULL" : null;
+        equal = column + " IS NULL";
+      } else {
+        String comparison = column + (ascending ? " > " : " < ") + value;
+        following = nullsFirst ? comparison : "(" + comparison + " OR " + column + " IS NULL)";
+        equal = column + " = " + value;
+      }
+      if (following != null) {
+        disjuncts.add("(" + equalPrefix + following + ")");
+      }
+      equalPrefix.append(equal).append(" AND ");
+    }
+    return "(" + String.join(" OR ", disjuncts) + ")";
+  }
+
+  private static void addKeysetColumn(String column, Function<TaskSummary, Object> value) {
+    KEYSET_COLUMNS.put(column, new KeysetColumn("t." + column, value));
+  }
+
+  private static String getColumn(String orderByItem) {
+    return orderByItem.substring(0, orderByItem.lastIndexOf(' '));
+  }
+
+  private static KeysetColumn getKeysetColumn(String orderByItem) {
+    KeysetColumn keysetColumn = KEYSET_COLUMNS.get(getColumn(orderByItem));
+    if (keysetColumn == null) {
+      throw new IllegalArgumentException(
+          String.format(
+              "The order by '%s' is not supported by the keyset pagination.", orderByItem));
+    }
+    return keysetColumn;
+  }
+
+  private static void writeValue(DataOutputStream out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(NULL_VALUE);
+    } else if (value instanceof String) {
+      out.writeByte(STRING_VALUE);
+      out.writeUTF((String) value);
+    } else if (value instanceof Instant) {
+      out.writeByte(INSTANT_VALUE);
+      out.writeLong(((Instant) value).getEpochSecond());
+      out.writeInt(((Instant) value).getNano());
+    } else if (value instanceof Integer) {
+      out.writeByte(INTEGER_VALUE);
+      out.writeInt((Integer) value);
+    } else {
+      throw new SystemException("Unsupported type of a sort key value: " + value.getClass());
+    }
+  }
+
+  private static Object readValue(DataInputStream in) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case NULL_VALUE:
+        return null;
+      case STRING_VALUE:
+        return in.readUTF();
+      case INSTANT_VALUE:
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+      case INTEGER_VALUE:
+        return in.readInt();
+      default:
+        throw new IOException("Unknown type of a sort key value: " + type);
+    }
+  }
+
+  private static class KeysetColumn {
+    private final String column;
+    private final Function<TaskSummary, Object> value;
+
+    KeysetColumn(String column, Function<TaskSummary, Object> value) {
+      this.column = column;
+      this.value = value;
+    }
+  }
+}
@@ -13,13 +13,13 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 
-import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.MinimalTaskSummary;
 import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.task.internal.models.TaskSummaryImpl;
 
 /** This class is the mybatis mapping of task. */
 @SuppressWarnings("checkstyle:LineLength")
@@ -165,6 +165,12 @@ public interface TaskMapper {
   void updateClaimed(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskSummary referenceTask);
 
+  @Update(
+      "UPDATE TASK SET CLAIMED = #{referenceTask.claimed}, MODIFIED = #{referenceTask.modified}, STATE = #{referenceTask.state}, OWNER = #{referenceTask.owner}, IS_READ = #{referenceTask.isRead}"
+          + " WHERE ID = #{taskId} AND STATE = 'READY'")
+  int claimReadyTask(
+      @Param("taskId") String taskId, @Param("referenceTask") TaskSummary referenceTask);
+
   @Select(
       "<script>SELECT ID, EXTERNAL_ID, STATE, WORKBASKET_ID, OWNER, MODIFIED, CLASSIFICATION_ID, "
           + "PLANNED, DUE, CALLBACK_STATE FROM TASK "
@@ -233,6 +239,13 @@ public interface TaskMapper {
       @Param("taskSummaries") List<MinimalTaskSummary> taskSummaries,
       @Param("referenceTask") TaskImpl referenceTask);
 
+  @Update(
+      "UPDATE TASK SET MODIFIED = #{referenceTask.modified}, "
+          + "PLANNED = #{referenceTask.planned}, DUE = #{referenceTask.due} "
+          + "WHERE ID = #{taskId}")
+  void updateTaskDueDate(
+      @Param("taskId") String taskId, @Param("referenceTask") TaskImpl referenceTask);
+
   @Update(
       "<script>"
           + "<if test='taskIds != null'> "
@@ -245,19 +258,106 @@ public interface TaskMapper {
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
   @Select(
-      "<script>SELECT ID, PLANNED, STATE FROM TASK "
-          + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
-          + "AND STATE IN ( 'READY','CLAIMED') "
+      "<script>SELECT t.ID, t.PRIORITY<foreach item='column' collection='columns'>, ${column}</foreach> "
+          + "FROM TASK t "
+          + "WHERE t.STATE NOT IN ('COMPLETED', 'CANCELLED', 'TERMINATED') "
+          + "<if test='modifiedSince != null'>AND t.MODIFIED &gt;= #{modifiedSince} </if>"
+          + "<if test='fromTaskId != null'>AND t.ID &gt; #{fromTaskId} </if>"
+          + "ORDER BY t.ID "
+          + "FETCH FIRST ${limit} ROWS ONLY "
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(
-      property = "right",
-      column = "PLANNED",
-      javaType = Instant.class,
-      typeHandler = InstantTypeHandler.class)
-  List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
-      @Param("taskIds") List<String> taskIds);
+  @Result(property = "id", column = "ID")
+  @Result(property = "externalId", column = "EXTERNAL_ID")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "claimed", column = "CLAIMED")
+  @Result(property = "completed", column = "COMPLETED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "planned", column = "PLANNED")
+  @Result(property = "received", column = "RECEIVED")
+  @Result(property = "due", column = "DUE")
+  @Result(property = "name", column = "NAME")
+  @Result(property = "creator", column = "CREATOR")
+  @Result(property = "note", column = "NOTE")
+  @Result(property = "description", column = "DESCRIPTION")
+  @Result(property = "priority", column = "PRIORITY")
+  @Result(property = "state", column = "STATE")
+  @Result(property = "workbasketSummaryImpl.domain", column = "DOMAIN")
+  @Result(property = "workbasketSummaryImpl.key", column = "WORKBASKET_KEY")
+  @Result(property = "workbasketSummaryImpl.id", column = "WORKBASKET_ID")
+  @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID")
+  @Result(property = "classificationSummaryImpl.domain", column = "DOMAIN")
+  @Result(property = "classificationSummaryImpl.category", column = "CLASSIFICATION_CATEGORY")
+  @Result(property = "businessProcessId", column = "BUSINESS_PROCESS_ID")
+  @Result(property = "parentBusinessProcessId", column = "PARENT_BUSINESS_PROCESS_ID")
+  @Result(property = "owner", column = "OWNER")
+  @Result(property = "primaryObjRef.company", column = "POR_COMPANY")
+  @Result(property = "primaryObjRef.system", column = "POR_SYSTEM")
+  @Result(property = "primaryObjRef.systemInstance", column = "POR_INSTANCE")
+  @Result(property = "primaryObjRef.type", column = "POR_TYPE")
+  @Result(property = "primaryObjRef.value", column = "POR_VALUE")
+  @Result(property = "isRead", column = "IS_READ")
+  @Result(property = "isTransferred", column = "IS_TRANSFERRED")
+  @Result(property = "custom1", column = "CUSTOM_1")
+  @Result(property = "custom2", column = "CUSTOM_2")
+  @Result(property = "custom3", column = "CUSTOM_3")
+  @Result(property = "custom4", column = "CUSTOM_4")
+  @Result(property = "custom5", column = "CUSTOM_5")
+  @Result(property = "custom6", column = "CUSTOM_6")
+  @Result(property = "custom7", column = "CUSTOM_7")
+  @Result(property = "custom8", column = "CUSTOM_8")
+  @Result(property = "custom9", column = "CUSTOM_9")
+  @Result(property = "custom10", column = "CUSTOM_10")
+  @Result(property = "custom11", column = "CUSTOM_11")
+  @Result(property = "custom12", column = "CUSTOM_12")
+  @Result(property = "custom13", column = "CUSTOM_13")
+  @Result(property = "custom14", column = "CUSTOM_14")
+  @Result(property = "custom15", column = "CUSTOM_15")
+  @Result(property = "custom16", column = "CUSTOM_16")
+  List<TaskSummaryImpl> findNonFinalTaskSummaries(
+      @Param("columns") List<String> columns,
+      @Param("modifiedSince") Instant modifiedSince,
+      @Param("fromTaskId") String fromTaskId,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT t.ID FROM TASK t "
+          + "WHERE t.COMPLETED &lt;= #{completedBefore} "
+          + "<if test='allCompletedSameParentBusiness'>"
+          + "AND (t.PARENT_BUSINESS_PROCESS_ID IS NULL OR t.PARENT_BUSINESS_PROCESS_ID = '' "
+          + "OR NOT EXISTS ("
+          + "SELECT 1 FROM TASK p "
+          + "WHERE p.PARENT_BUSINESS_PROCESS_ID = t.PARENT_BUSINESS_PROCESS_ID "
+          + "AND (p.COMPLETED IS NULL OR p.COMPLETED &gt; #{completedBefore}))) "
+          + "</if>"
+          + "<if test='fromTaskId != null'>AND t.ID &gt; #{fromTaskId} </if>"
+          + "ORDER BY t.ID "
+          + "FETCH FIRST ${limit} ROWS ONLY "
+          + "</script>")
+  List<String> findIdsOfTasksCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("allCompletedSameParentBusiness") boolean allCompletedSameParentBusiness,
+      @Param("fromTaskId") String fromTaskId,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT t.ID FROM TASK t "
+          + "WHERE t.STATE IN ('READY', 'CLAIMED') "
+          + "AND (t.CLASSIFICATION_ID = #{classificationId} OR EXISTS ("
+          + "SELECT 1 FROM ATTACHMENT a "
+          + "WHERE a.TASK_ID = t.ID AND a.CLASSIFICATION_ID = #{classificationId})) "
+          + "<if test='fromTaskId != null'>AND t.ID &gt; #{fromTaskId} </if>"
+          + "<if test='toTaskId != null'>AND t.ID &lt;= #{toTaskId} </if>"
+          + "ORDER BY t.ID "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY </if>"
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findIdsOfTasksAffectedByClassificationChange(
+      @Param("classificationId") String classificationId,
+      @Param("fromTaskId") String fromTaskId,
+      @Param("toTaskId") String toTaskId,
+      @Param("limit") Integer limit);
 
   @Select(
       "<script> "
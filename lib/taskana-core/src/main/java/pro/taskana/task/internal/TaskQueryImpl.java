@@ -1,8 +1,20 @@
 package pro.taskana.task.internal;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -17,6 +29,7 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaRuntimeException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.persistence.FetchSizeInterceptor.FetchSizeAware;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.ObjectReferenceQuery;
 import pro.taskana.task.api.TaskCustomField;
@@ -30,10 +43,11 @@ import pro.taskana.task.internal.models.TaskSummaryImpl;
 import pro.taskana.workbasket.api.WorkbasketPermission;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
 
 /** TaskQuery for generating dynamic sql. */
-public class TaskQueryImpl implements TaskQuery {
+public class TaskQueryImpl implements TaskQuery, FetchSizeAware {
 
   private static final String LINK_TO_MAPPER =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskSummaries";
@@ -45,6 +59,9 @@ public class TaskQueryImpl implements TaskQuery {
       "pro.taskana.task.internal.TaskQueryMapper.countQueryTasksDb2";
   private static final String LINK_TO_VALUE_MAPPER =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskColumnValues";
+  private static final int DEFAULT_FETCH_SIZE = 1000;
+  // larger lists of readable workbaskets are resolved by the database
+  private static final int MAX_NUMBER_OF_READABLE_WORKBASKET_IDS = 1000;
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskServiceImpl taskService;
@@ -52,8 +69,14 @@ public class TaskQueryImpl implements TaskQuery {
 
   private TaskQueryColumnName columnName;
   private String[] accessIdIn;
+  private String[] readableWorkbasketIdIn;
   private boolean filterByAccessIdIn;
   private boolean selectAndClaim;
+  private int selectAndClaimLimit = 1;
+  private boolean skipLocked;
+  private Integer fetchSize;
+  private String keysetCondition;
+  private List<Object> keysetValues;
   private boolean useDistinctKeyword = false;
   private boolean joinWithAttachments = false;
   private boolean joinWithClassifications = false;
@@ -63,6 +86,10 @@ public class TaskQueryImpl implements TaskQuery {
   private boolean addClassificationNameToSelectClauseForOrdering = false;
   private boolean addAttachmentClassificationNameToSelectClauseForOrdering = false;
   private boolean addWorkbasketNameToSelectClauseForOrdering = false;
+  private Set<TaskQueryColumnName> selectedColumnNames;
+  private boolean withContainedSummaries;
+  private List<String> selectedColumns;
+  private List<String> selectedDb2Columns;
 
   // region id
   private String[] taskId;
@@ -1620,6 +1647,24 @@ public class TaskQueryImpl implements TaskQuery {
         : addOrderCriteria("w.NAME", sortDirection);
   }
 
+  @Override
+  public TaskQuery select(TaskQueryColumnName... columnNames) {
+    for (TaskQueryColumnName columnName : columnNames) {
+      if (!columnName.isTaskColumn()) {
+        throw new IllegalArgumentException(
+            String.format("The column '%s' does not belong to the TASK table.", columnName));
+      }
+    }
+    selectedColumnNames = EnumSet.of(TaskQueryColumnName.ID, columnNames);
+    return this;
+  }
+
+  @Override
+  public TaskQuery withContainedSummaries() {
+    withContainedSummaries = true;
+    return this;
+  }
+
   @Override
   public List<TaskSummary> list() {
     return taskanaEngine.executeInDatabaseConnection(
@@ -1628,10 +1673,11 @@ public class TaskQueryImpl implements TaskQuery {
           checkOpenAndReadPermissionForSpecifiedWorkbaskets();
           setupJoinAndOrderParameters();
           setupAccessIds();
+          setupSelectedColumns();
           List<TaskSummaryImpl> tasks =
               taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this);
 
-          return taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+          return augmentTaskSummaries(tasks);
         });
   }
 
@@ -1644,10 +1690,11 @@ public class TaskQueryImpl implements TaskQuery {
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
       setupJoinAndOrderParameters();
+      setupSelectedColumns();
       RowBounds rowBounds = new RowBounds(offset, limit);
       List<TaskSummaryImpl> tasks =
           taskanaEngine.getSqlSession().selectList(getLinkToMapperScript(), this, rowBounds);
-      result = taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      result = augmentTaskSummaries(tasks);
       return result;
     } catch (PersistenceException e) {
       if (e.getMessage().contains("ERRORCODE=-4470")) {
@@ -1703,6 +1750,7 @@ public class TaskQueryImpl implements TaskQuery {
       checkOpenAndReadPermissionForSpecifiedWorkbaskets();
       setupAccessIds();
       setupJoinAndOrderParameters();
+      setupSelectedColumns();
       TaskSummaryImpl taskSummaryImpl =
           taskanaEngine.getSqlSession().selectOne(getLinkToMapperScript(), this);
       if (taskSummaryImpl == null) {
@@ -1710,8 +1758,7 @@ public class TaskQueryImpl implements TaskQuery {
       }
       List<TaskSummaryImpl> tasks = new ArrayList<>();
       tasks.add(taskSummaryImpl);
-      List<TaskSummary> augmentedList =
-          taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+      List<TaskSummary> augmentedList = augmentTaskSummaries(tasks);
       result = augmentedList.get(0);
 
       return result;
@@ -1720,6 +1767,52 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public List<TaskSummary> listAfter(String cursor, int limit) {
+    addIdToOrderCriteria();
+    if (cursor == null) {
+      return list(0, limit);
+    }
+    keysetValues = TaskKeysetCursor.decode(orderBy, cursor);
+    // H2 sorts NULL values before all other values, DB2 and PostgreSQL after them
+    keysetCondition =
+        TaskKeysetCursor.createCondition(
+            orderBy, keysetValues, "keysetValues", !DB.isH2(getDatabaseId()));
+    try {
+      return list(0, limit);
+    } finally {
+      keysetCondition = null;
+      keysetValues = null;
+    }
+  }
+
+  @Override
+  public String createCursor(TaskSummary taskSummary) {
+    addIdToOrderCriteria();
+    return TaskKeysetCursor.encode(orderBy, taskSummary);
+  }
+
+  @Override
+  public Stream<TaskSummary> stream() {
+    return openCursorStream(DEFAULT_FETCH_SIZE);
+  }
+
+  @Override
+  public void forEach(Consumer<TaskSummary> consumer, int fetchSize)
+      throws InvalidArgumentException {
+    if (fetchSize < 1) {
+      throw new InvalidArgumentException("The fetch size must be greater than 0.");
+    }
+    try (Stream<TaskSummary> tasks = openCursorStream(fetchSize)) {
+      tasks.forEach(consumer);
+    }
+  }
+
+  @Override
+  public Integer getFetchSize() {
+    return fetchSize;
+  }
+
   @Override
   public long count() {
     Long rowCount;
@@ -1737,6 +1830,14 @@ public class TaskQueryImpl implements TaskQuery {
 
   public TaskQuery selectAndClaimEquals(boolean selectAndClaim) {
     this.selectAndClaim = selectAndClaim;
+    this.skipLocked =
+        selectAndClaim
+            && taskanaEngine.getEngine().getConfiguration().isSelectAndClaimSkipLocked();
+    return this;
+  }
+
+  public TaskQuery selectAndClaimLimit(int selectAndClaimLimit) {
+    this.selectAndClaimLimit = selectAndClaimLimit;
     return this;
   }
 
@@ -1774,6 +1875,43 @@ public class TaskQueryImpl implements TaskQuery {
     return this.taskanaEngine.getSqlSession().getConfiguration().getDatabaseId();
   }
 
+  private Stream<TaskSummary> openCursorStream(int fetchSize) {
+    taskanaEngine.openConnection();
+    try {
+      checkForIllegalParamCombinations();
+      checkOpenAndReadPermissionForSpecifiedWorkbaskets();
+      setupJoinAndOrderParameters();
+      setupAccessIds();
+      setupSelectedColumns();
+      Cursor<TaskSummaryImpl> cursor;
+      try {
+        this.fetchSize = fetchSize;
+        cursor = taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this);
+      } finally {
+        this.fetchSize = null;
+      }
+      // the contained summaries are added window by window to keep the memory usage bounded
+      Iterator<List<TaskSummaryImpl>> windows = new CursorWindowIterator(cursor, fetchSize);
+      return StreamSupport.stream(
+              Spliterators.spliteratorUnknownSize(windows, Spliterator.ORDERED), false)
+          .flatMap(window -> augmentTaskSummaries(window).stream())
+          .onClose(() -> closeCursor(cursor));
+    } catch (RuntimeException e) {
+      taskanaEngine.returnConnection();
+      throw e;
+    }
+  }
+
+  private void closeCursor(Cursor<TaskSummaryImpl> cursor) {
+    try {
+      cursor.close();
+    } catch (IOException e) {
+      throw new SystemException("Could not close the cursor of the task query.", e);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   private void setupJoinAndOrderParameters() {
     // if classificationName or attachmentClassificationName are added to the result set, and
     // multiple
@@ -1800,10 +1938,62 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  private void setupSelectedColumns() {
+    if (selectedColumnNames == null) {
+      selectedColumns = null;
+      selectedDb2Columns = null;
+      return;
+    }
+    Set<TaskQueryColumnName> columnNames = EnumSet.copyOf(selectedColumnNames);
+    // the columns of the order have to be selected because of the DISTINCT keyword
+    for (String item : orderBy) {
+      String column = item.substring(0, item.lastIndexOf(' '));
+      Arrays.stream(TaskQueryColumnName.values())
+          .filter(TaskQueryColumnName::isTaskColumn)
+          .filter(columnName -> isSameColumn(columnName, column))
+          .forEach(columnNames::add);
+    }
+    if (withContainedSummaries) {
+      columnNames.add(TaskQueryColumnName.CLASSIFICATION_ID);
+      columnNames.add(TaskQueryColumnName.WORKBASKET_ID);
+    }
+    if (DB.isDb2(getDatabaseId())) {
+      // the DB2 query checks the read permission by the workbasket of the selected rows
+      columnNames.add(TaskQueryColumnName.WORKBASKET_ID);
+    }
+    selectedColumns =
+        columnNames.stream().map(TaskQueryColumnName::toString).collect(Collectors.toList());
+    selectedDb2Columns =
+        columnNames.stream().map(TaskQueryImpl::getDb2ColumnName).collect(Collectors.toList());
+  }
+
+  private static boolean isSameColumn(TaskQueryColumnName columnName, String column) {
+    String unqualifiedName = columnName.toString().substring(2);
+    return column.equalsIgnoreCase(columnName.toString())
+        || column.equalsIgnoreCase(unqualifiedName)
+        || column.equalsIgnoreCase(getDb2ColumnName(columnName));
+  }
+
+  // the DB2 query renames the classification key of the task to distinguish it from the one of
+  // the attachments
+  private static String getDb2ColumnName(TaskQueryColumnName columnName) {
+    return columnName == TaskQueryColumnName.CLASSIFICATION_KEY
+        ? "TCLASSIFICATION_KEY"
+        : columnName.toString().substring(2).toUpperCase();
+  }
+
+  private List<TaskSummary> augmentTaskSummaries(List<TaskSummaryImpl> tasks) {
+    if (selectedColumnNames != null && !withContainedSummaries) {
+      return new ArrayList<>(tasks);
+    }
+    return taskService.augmentTaskSummariesByContainedSummariesWithPartitioning(tasks);
+  }
+
   private void setupAccessIds() {
     if (taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.TASK_ADMIN)
         || !filterByAccessIdIn) {
       this.accessIdIn = null;
+      this.readableWorkbasketIdIn = null;
     } else if (this.accessIdIn == null) {
       String[] accessIds = new String[0];
       List<String> ucAccessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
@@ -1813,6 +2003,20 @@ public class TaskQueryImpl implements TaskQuery {
       }
       this.accessIdIn = accessIds;
       WorkbasketQueryImpl.lowercaseAccessIds(this.accessIdIn);
+      setupReadableWorkbasketIds();
+    }
+  }
+
+  private void setupReadableWorkbasketIds() {
+    WorkbasketPermissionCache permissionCache = taskanaEngine.getWorkbasketPermissionCache();
+    if (!permissionCache.isEnabled() || accessIdIn.length == 0) {
+      return;
+    }
+    List<String> workbasketIds =
+        permissionCache.getWorkbasketIdsWithPermission(
+            Arrays.asList(accessIdIn), WorkbasketPermission.READ);
+    if (!workbasketIds.isEmpty() && workbasketIds.size() <= MAX_NUMBER_OF_READABLE_WORKBASKET_IDS) {
+      this.readableWorkbasketIdIn = workbasketIds.toArray(new String[0]);
     }
   }
 
@@ -1873,6 +2077,13 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  // the task ID makes the order total, which is required by the keyset pagination
+  private void addIdToOrderCriteria() {
+    if (!TaskKeysetCursor.isOrderedById(orderBy)) {
+      orderByTaskId(SortDirection.ASCENDING);
+    }
+  }
+
   private TaskQuery addOrderCriteria(String columnName, SortDirection sortDirection) {
     if (sortDirection == null) {
       sortDirection = SortDirection.ASCENDING;
@@ -1893,10 +2104,16 @@ public class TaskQueryImpl implements TaskQuery {
         + columnName
         + ", accessIdIn="
         + Arrays.toString(accessIdIn)
+        + ", readableWorkbasketIdIn="
+        + Arrays.toString(readableWorkbasketIdIn)
         + ", filterByAccessIdIn="
         + filterByAccessIdIn
         + ", selectAndClaim="
         + selectAndClaim
+        + ", selectAndClaimLimit="
+        + selectAndClaimLimit
+        + ", skipLocked="
+        + skipLocked
         + ", useDistinctKeyword="
         + useDistinctKeyword
         + ", joinWithAttachments="
@@ -2267,4 +2484,33 @@ public class TaskQueryImpl implements TaskQuery {
         + wildcardSearchValueLike
         + "]";
   }
+
+  /** Splits the rows of a cursor into windows of a fixed size. */
+  private static class CursorWindowIterator implements Iterator<List<TaskSummaryImpl>> {
+
+    private final Iterator<TaskSummaryImpl> rows;
+    private final int windowSize;
+
+    private CursorWindowIterator(Cursor<TaskSummaryImpl> cursor, int windowSize) {
+      this.rows = cursor.iterator();
+      this.windowSize = windowSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return rows.hasNext();
+    }
+
+    @Override
+    public List<TaskSummaryImpl> next() {
+      if (!rows.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<TaskSummaryImpl> window = new ArrayList<>(windowSize);
+      while (rows.hasNext() && window.size() < windowSize) {
+        window.add(rows.next());
+      }
+      return window;
+    }
+  }
 }
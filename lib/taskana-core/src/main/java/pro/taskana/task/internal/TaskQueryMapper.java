@@ -79,7 +79,7 @@ public interface TaskQueryMapper {
   @Result(property = "workbasketSummaryImpl.domain", column = "DOMAIN")
   @Result(property = "workbasketSummaryImpl.key", column = "WORKBASKET_KEY")
   @Result(property = "workbasketSummaryImpl.id", column = "WORKBASKET_ID")
-  @Result(property = "classificationSummaryImpl.key", column = "CLASSIFICATION_KEY")
+  @Result(property = "classificationSummaryImpl.key", column = "TCLASSIFICATION_KEY")
   @Result(property = "classificationSummaryImpl.id", column = "CLASSIFICATION_ID")
   @Result(property = "classificationSummaryImpl.domain", column = "DOMAIN")
   @Result(property = "classificationSummaryImpl.category", column = "CLASSIFICATION_CATEGORY")
@@ -19,6 +19,10 @@ import java.util.stream.Collectors;
 import pro.taskana.task.api.TaskQueryColumnName;
 
 public class TaskQuerySqlProvider {
+  // the condition of the keyset pagination references its values as parameters
+  private static final String KEYSET_CONDITION =
+      "<if test='keysetCondition != null'>AND ${keysetCondition} </if>";
+
   private TaskQuerySqlProvider() {}
 
   @SuppressWarnings("unused")
@@ -49,14 +53,17 @@ public class TaskQuerySqlProvider {
         + checkForAuthorization()
         + commonTaskWhereStatement()
         + "<if test='selectAndClaim == true'> AND t.STATE = 'READY' </if>"
+        + KEYSET_CONDITION
         + CLOSING_WHERE_TAG
         + "<if test='!orderBy.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderBy' separator=',' >${item}</foreach>"
         + "</if> "
         + "<if test='selectAndClaim == true'> "
-        + "FETCH FIRST ROW ONLY FOR UPDATE "
+        + "FETCH FIRST ${selectAndClaimLimit} ROWS ONLY FOR UPDATE "
+        + "<if test=\"skipLocked and _databaseId == 'postgres'\">SKIP LOCKED </if>"
         + "</if>"
         + "<if test=\"_databaseId == 'db2'\">WITH RS USE AND KEEP UPDATE LOCKS </if>"
+        + "<if test=\"skipLocked and _databaseId == 'db2'\">SKIP LOCKED DATA </if>"
         + CLOSING_SCRIPT_TAG;
   }
 
@@ -89,6 +96,7 @@ public class TaskQuerySqlProvider {
         + "</if>"
         + OPENING_WHERE_TAG
         + commonTaskWhereStatement()
+        + KEYSET_CONDITION
         + CLOSING_WHERE_TAG
         + "), Y ("
         + db2selectFields()
@@ -231,15 +239,27 @@ public class TaskQuerySqlProvider {
 
   private static String commonSelectFields() {
     // includes only the names that start with a t, because other columns are conditional
-    return Arrays.stream(TaskQueryColumnName.values())
-        .map(TaskQueryColumnName::toString)
-        .filter(column -> column.startsWith("t"))
-        .collect(Collectors.joining(", "));
+    return "<choose>"
+        + "<when test='selectedColumns != null'>"
+        + "<foreach item='item' collection='selectedColumns' separator=', ' >${item}</foreach> "
+        + "</when>"
+        + "<otherwise>"
+        + Arrays.stream(TaskQueryColumnName.values())
+            .filter(TaskQueryColumnName::isTaskColumn)
+            .map(TaskQueryColumnName::toString)
+            .collect(Collectors.joining(", "))
+        + " </otherwise>"
+        + "</choose>";
   }
 
   private static String db2selectFields() {
     // needs to be the same order as the commonSelectFields (TaskQueryColumnValue)
-    return "ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, RECEIVED, DUE, NAME, "
+    return "<choose>"
+        + "<when test='selectedDb2Columns != null'>"
+        + "<foreach item='item' collection='selectedDb2Columns' separator=', ' >${item}</foreach> "
+        + "</when>"
+        + "<otherwise>"
+        + "ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED, PLANNED, RECEIVED, DUE, NAME, "
         + "CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE, CLASSIFICATION_CATEGORY, "
         + "TCLASSIFICATION_KEY, CLASSIFICATION_ID, "
         + "WORKBASKET_ID, WORKBASKET_KEY, DOMAIN, "
@@ -247,6 +267,8 @@ public class TaskQuerySqlProvider {
         + "POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED, CUSTOM_1, CUSTOM_2, "
         + "CUSTOM_3, CUSTOM_4, CUSTOM_5, CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, "
         + "CUSTOM_11, CUSTOM_12, CUSTOM_13, CUSTOM_14, CUSTOM_15, CUSTOM_16"
+        + "</otherwise>"
+        + "</choose>"
         + "<if test=\"addClassificationNameToSelectClauseForOrdering\">, CNAME</if>"
         + "<if test=\"addAttachmentClassificationNameToSelectClauseForOrdering\">, ACNAME</if>"
         + "<if test=\"addAttachmentColumnsToSelectClauseForOrdering\">"
@@ -257,13 +279,22 @@ public class TaskQuerySqlProvider {
 
   private static String checkForAuthorization() {
     return "<if test='accessIdIn != null'> AND t.WORKBASKET_ID IN ("
+        + "<choose>"
+        + "<when test='readableWorkbasketIdIn != null'>"
+        + "<foreach item='item' collection='readableWorkbasketIdIn' separator=',' >"
+        + "#{item}</foreach>"
+        + "</when>"
+        + "<otherwise>"
         + "SELECT WID "
         + "FROM ("
         + "SELECT WORKBASKET_ID as WID, MAX(PERM_READ::int) as MAX_READ "
         + "FROM WORKBASKET_ACCESS_LIST AS s where ACCESS_ID IN "
         + "(<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
         + "GROUP by WORKBASKET_ID) as f "
-        + "WHERE MAX_READ = 1) "
+        + "WHERE MAX_READ = 1"
+        + "</otherwise>"
+        + "</choose>"
+        + ") "
         + "</if>";
   }
 
@@ -6,7 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -14,11 +14,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,7 +28,10 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.classification.internal.ClassificationCache;
+import pro.taskana.classification.internal.models.ClassificationImpl;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -35,6 +40,7 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.util.CheckedConsumer;
+import pro.taskana.common.internal.util.CheckedFunction;
 import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.EnumUtil;
 import pro.taskana.common.internal.util.IdGenerator;
@@ -45,6 +51,7 @@ import pro.taskana.spi.history.api.events.task.TaskClaimCancelledEvent;
 import pro.taskana.spi.history.api.events.task.TaskClaimedEvent;
 import pro.taskana.spi.history.api.events.task.TaskCompletedEvent;
 import pro.taskana.spi.history.api.events.task.TaskCreatedEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
 import pro.taskana.spi.history.api.events.task.TaskTerminatedEvent;
 import pro.taskana.spi.history.api.events.task.TaskUpdatedEvent;
 import pro.taskana.spi.history.internal.HistoryEventManager;
@@ -53,6 +60,7 @@ import pro.taskana.spi.task.internal.CreateTaskPreprocessorManager;
 import pro.taskana.task.api.CallbackState;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.AttachmentPersistenceException;
@@ -81,7 +89,9 @@ import pro.taskana.workbasket.api.exceptions.MismatchedWorkbasketPermissionExcep
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.WorkbasketCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 
 /** This is the implementation of TaskService. */
@@ -89,6 +99,7 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class TaskServiceImpl implements TaskService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  private static final int TASK_INSERT_BATCH_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketService workbasketService;
@@ -186,42 +197,19 @@ public class TaskServiceImpl implements TaskService {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Task {} cannot be found, so it can be created.", task.getId());
       }
-      Workbasket workbasket;
-
-      if (task.getWorkbasketSummary() != null && task.getWorkbasketSummary().getId() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketSummary().getId());
-      } else if (task.getWorkbasketKey() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
-      } else {
-        String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
-        if (workbasketId != null) {
-          workbasket = workbasketService.getWorkbasket(workbasketId);
-          task.setWorkbasketSummary(workbasket.asSummary());
-        } else {
-          throw new InvalidArgumentException("Cannot create a Task outside a Workbasket");
-        }
-      }
-
-      if (workbasket.isMarkedForDeletion()) {
-        throw new WorkbasketNotFoundException(workbasket.getId());
-      }
-
-      task.setWorkbasketSummary(workbasket.asSummary());
-      task.setDomain(workbasket.getDomain());
+      Workbasket workbasket =
+          resolveWorkbasketOfNewTask(
+              task,
+              workbasketService::getWorkbasket,
+              keyDomain ->
+                  workbasketService.getWorkbasket(keyDomain.getKey(), keyDomain.getDomain()));
 
       workbasketService.checkAuthorization(
           task.getWorkbasketSummary().getId(), WorkbasketPermission.APPEND);
 
-      // we do use the key and not the ID to make sure that we use the classification from the right
-      // domain.
-      // otherwise we would have to check the classification and its domain for validity.
-      String classificationKey = task.getClassificationKey();
-      if (classificationKey == null || classificationKey.length() == 0) {
-        throw new InvalidArgumentException("classificationKey of task must not be empty");
-      }
-
       Classification classification =
-          this.classificationService.getClassification(classificationKey, workbasket.getDomain());
+          this.classificationService.getClassification(
+              getClassificationKeyOfNewTask(task), workbasket.getDomain());
       task.setClassificationSummary(classification.asSummary());
       ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
       standardSettingsOnTaskCreation(task, classification);
@@ -230,6 +218,7 @@ public class TaskServiceImpl implements TaskService {
 
       try {
         this.taskMapper.insert(task);
+        taskanaEngine.addToMonitorAggregates(Collections.singletonList(task.getId()));
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
         }
@@ -281,6 +270,95 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    if (tasksToCreate == null) {
+      throw new InvalidArgumentException("List of Tasks must not be null.");
+    }
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    if (tasksToCreate.isEmpty()) {
+      return bulkLog;
+    }
+
+    try {
+      taskanaEngine.openConnection();
+
+      List<TaskImpl> tasks = new ArrayList<>(tasksToCreate.size());
+      for (Task taskToCreate : tasksToCreate) {
+        if (createTaskPreprocessorManager.isEnabled()) {
+          taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
+        }
+        TaskImpl task = (TaskImpl) taskToCreate;
+        // the external id identifies the task within the bulk log
+        if (task.getExternalId() == null) {
+          task.setExternalId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_EXT_TASK));
+        }
+        tasks.add(task);
+      }
+      tasks = filterOutTasksWithExistingExternalIds(tasks, bulkLog);
+
+      LookupCache<String, Workbasket, TaskanaException> workbasketsById =
+          new LookupCache<>(workbasketService::getWorkbasket);
+      LookupCache<KeyDomain, Workbasket, TaskanaException> workbasketsByKeyDomain =
+          new LookupCache<>(
+              keyDomain ->
+                  workbasketService.getWorkbasket(keyDomain.getKey(), keyDomain.getDomain()));
+      LookupCache<String, Boolean, TaskanaException> appendPermissions =
+          new LookupCache<>(
+              workbasketId -> {
+                workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.APPEND);
+                return Boolean.TRUE;
+              });
+      LookupCache<KeyDomain, Classification, ClassificationNotFoundException> classifications =
+          new LookupCache<>(
+              keyDomain ->
+                  classificationService.getClassification(
+                      keyDomain.getKey(), keyDomain.getDomain()));
+
+      List<TaskImpl> tasksToInsert = new ArrayList<>(tasks.size());
+      for (TaskImpl task : tasks) {
+        try {
+          if (task.getId() != null && !task.getId().isEmpty()) {
+            throw new InvalidArgumentException("taskId must be empty when creating a task");
+          }
+          Workbasket workbasket =
+              resolveWorkbasketOfNewTask(task, workbasketsById::get, workbasketsByKeyDomain::get);
+          appendPermissions.get(workbasket.getId());
+
+          Classification classification =
+              classifications.get(
+                  new KeyDomain(getClassificationKeyOfNewTask(task), workbasket.getDomain()));
+          task.setClassificationSummary(classification.asSummary());
+          ObjectReference.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
+          setDefaultsOnTaskCreation(task, classification);
+          attachmentHandler.initNewAttachmentsOnTaskCreation(
+              task, keyDomain -> classifications.get(keyDomain).asSummary());
+          serviceLevelHandler.updatePrioPlannedDueOfTask(task, null, false);
+          setCallbackStateOnTaskCreation(task);
+          priorityServiceManager.calculatePriorityOfTask(task).ifPresent(task::setPriority);
+          tasksToInsert.add(task);
+        } catch (TaskanaException e) {
+          bulkLog.addError(task.getExternalId(), e);
+        }
+      }
+
+      insertTasksInBatches(tasksToInsert, bulkLog);
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Received the Request to create {} tasks, actually created tasks = {}"
+                + ", could not create {} tasks.",
+            tasksToCreate.size(),
+            tasksToCreate.size() - bulkLog.getFailedIds().size(),
+            bulkLog.getFailedIds().size());
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedException, TaskNotFoundException {
     try {
@@ -415,6 +493,7 @@ public class TaskServiceImpl implements TaskService {
 
       checkConcurrencyAndSetModified(newTaskImpl, oldTaskImpl);
 
+      taskanaEngine.subtractFromMonitorAggregates(Collections.singletonList(newTaskImpl.getId()));
       attachmentHandler.insertAndDeleteAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
       ObjectReference.validate(newTaskImpl.getPrimaryObjRef(), "primary ObjectReference", "Task");
 
@@ -425,6 +504,7 @@ public class TaskServiceImpl implements TaskService {
           .ifPresent(newTaskImpl::setPriority);
 
       taskMapper.update(newTaskImpl);
+      taskanaEngine.addToMonitorAggregates(Collections.singletonList(newTaskImpl.getId()));
 
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Method updateTask() updated task '{}' for user '{}'.", task.getId(), userId);
@@ -506,6 +586,79 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public List<TaskSummary> selectAndClaim(TaskQuery taskQuery, int maxNumberOfTasks)
+      throws InvalidArgumentException {
+    if (maxNumberOfTasks < 1) {
+      throw new InvalidArgumentException("The number of tasks to claim must be greater than 0.");
+    }
+
+    try {
+      taskanaEngine.openConnection();
+
+      TaskQueryImpl taskQueryImpl = (TaskQueryImpl) taskQuery;
+      taskQueryImpl.selectAndClaimEquals(true);
+      taskQueryImpl.selectAndClaimLimit(maxNumberOfTasks);
+      List<TaskSummary> taskSummaries = taskQuery.list();
+      if (taskSummaries.isEmpty()) {
+        return taskSummaries;
+      }
+
+      String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+      Instant now = Instant.now();
+      taskSummaries.forEach(summary -> claimActionsOnTask((TaskSummaryImpl) summary, userId, now));
+      List<String> taskIds =
+          taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toList());
+
+      // every task is claimed by its own conditional update, so that tasks which were claimed
+      // concurrently in between selecting and claiming them can be identified by the update count
+      TaskSummary referenceTask = taskSummaries.get(0);
+      taskanaEngine.subtractFromMonitorAggregates(taskIds);
+      int[] updateCounts =
+          taskanaEngine
+              .executeInBatchSession(
+                  batchSession -> {
+                    TaskMapper batchTaskMapper = batchSession.getMapper(TaskMapper.class);
+                    taskIds.forEach(id -> batchTaskMapper.claimReadyTask(id, referenceTask));
+                  })
+              .stream()
+              .map(BatchResult::getUpdateCounts)
+              .flatMapToInt(Arrays::stream)
+              .toArray();
+      taskanaEngine.addToMonitorAggregates(taskIds);
+      List<TaskSummary> claimedTaskSummaries = new ArrayList<>();
+      for (int i = 0; i < taskSummaries.size(); i++) {
+        if (updateCounts[i] != 0) {
+          claimedTaskSummaries.add(taskSummaries.get(i));
+        }
+      }
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Selected {} tasks and claimed {} of them for user '{}'.",
+            taskIds.size(),
+            claimedTaskSummaries.size(),
+            userId);
+      }
+
+      if (historyEventManager.isEnabled()) {
+        historyEventManager.createEvents(
+            claimedTaskSummaries.stream()
+                .map(
+                    summary ->
+                        new TaskClaimedEvent(
+                            IdGenerator.generateWithPrefix(
+                                IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                            summary,
+                            userId))
+                .collect(Collectors.toList()));
+      }
+      return claimedTaskSummaries;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> deleteTasks(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
@@ -533,6 +686,7 @@ public class TaskServiceImpl implements TaskService {
       }
 
       if (!taskIds.isEmpty()) {
+        taskanaEngine.subtractFromMonitorAggregates(taskIds);
         attachmentMapper.deleteMultipleByTaskIds(taskIds);
         taskMapper.deleteMultiple(taskIds);
 
@@ -802,45 +956,35 @@ public class TaskServiceImpl implements TaskService {
     return terminatedTask;
   }
 
-  public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
-    // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
-
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> Pair.of(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
-        attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
-
-    List<String> taskIdsFromAttachments =
-        taskIdsAndPlannedFromAttachments.stream().map(Pair::getLeft).collect(Collectors.toList());
-    List<Pair<String, Instant>> filteredTaskIdsAndPlannedFromAttachments =
-        taskIdsFromAttachments.isEmpty()
-            ? new ArrayList<>()
-            : taskMapper.filterTaskIdsForReadyAndClaimed(taskIdsFromAttachments);
-    affectedPairs.addAll(filteredTaskIdsAndPlannedFromAttachments);
-    //  sort all affected tasks according to the planned instant
-    List<String> affectedTaskIds =
-        affectedPairs.stream()
-            .sorted(Comparator.comparing(Pair::getRight))
-            .distinct()
-            .map(Pair::getLeft)
-            .collect(Collectors.toList());
-
-    if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug(
-          "the following tasks are affected by the update of classification {} : {}",
-          classificationId,
-          affectedTaskIds);
+  /**
+   * Selects the ids of the tasks in state READY or CLAIMED which reference the given
+   * classification directly or via one of their attachments. The ids are ordered ascending, so
+   * that the affected tasks can be processed in chunks by passing the last id of a chunk as
+   * fromTaskId of the next one.
+   *
+   * @param classificationId the id of the changed classification
+   * @param fromTaskId if not null, only ids greater than this id are selected
+   * @param toTaskId if not null, only ids less than or equal to this id are selected
+   * @param limit if not null, the maximum number of selected ids
+   * @return the ordered ids of the affected tasks
+   */
+  public List<String> findIdsOfTasksAffectedByClassificationChange(
+      String classificationId, String fromTaskId, String toTaskId, Integer limit) {
+    try {
+      taskanaEngine.openConnection();
+      List<String> affectedTaskIds =
+          taskMapper.findIdsOfTasksAffectedByClassificationChange(
+              classificationId, fromTaskId, toTaskId, limit);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "the following tasks are affected by the update of classification {} : {}",
+            classificationId,
+            affectedTaskIds);
+      }
+      return affectedTaskIds;
+    } finally {
+      taskanaEngine.returnConnection();
     }
-    return affectedTaskIds;
   }
 
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
@@ -869,6 +1013,77 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  /**
+   * Reads all tasks which are not in an end state in pages ordered by their id and passes each page
+   * as a batch to the given consumer. Every page is read by its own query, so the consumer may
+   * update the passed tasks. Only the id, the priority and the given columns of the task table are
+   * read, all other attributes of the passed {@linkplain TaskSummary TaskSummaries} are not set.
+   *
+   * @param columns the columns of the task table which are read in addition
+   * @param modifiedSince if not null, only the tasks modified at or after this instant are read
+   * @param batchSize the maximum number of tasks in each batch
+   * @param batchConsumer consumes every batch of tasks
+   */
+  public void forEachNonFinalTaskBatch(
+      Collection<TaskQueryColumnName> columns,
+      Instant modifiedSince,
+      int batchSize,
+      Consumer<List<TaskSummary>> batchConsumer) {
+    List<String> columnNames =
+        columns.stream()
+            .filter(column -> column != TaskQueryColumnName.ID)
+            .filter(column -> column != TaskQueryColumnName.PRIORITY)
+            .map(TaskQueryColumnName::toString)
+            .distinct()
+            .collect(Collectors.toList());
+    String lastTaskId = null;
+    List<TaskSummaryImpl> batch;
+    do {
+      final String fromTaskId = lastTaskId;
+      batch =
+          taskanaEngine.executeInDatabaseConnection(
+              () ->
+                  taskMapper.findNonFinalTaskSummaries(
+                      columnNames, modifiedSince, fromTaskId, batchSize));
+      if (!batch.isEmpty()) {
+        lastTaskId = batch.get(batch.size() - 1).getId();
+        batchConsumer.accept(new ArrayList<>(batch));
+      }
+    } while (batch.size() == batchSize);
+  }
+
+  /**
+   * Reads the ids of all tasks which were completed before the given instant in pages ordered by
+   * their id and passes each page as a batch to the given consumer. Every page is read by its own
+   * query, so the consumer may delete the passed tasks in a transaction of its own.
+   *
+   * @param completedBefore only the tasks completed at or before this instant are read
+   * @param allCompletedSameParentBusiness if true, a task with a parent business process is only
+   *     read if all tasks of this parent business process were completed before the given instant
+   * @param batchSize the maximum number of task ids in each batch
+   * @param batchConsumer consumes every batch of task ids
+   */
+  public void forEachBatchOfTaskIdsCompletedBefore(
+      Instant completedBefore,
+      boolean allCompletedSameParentBusiness,
+      int batchSize,
+      Consumer<List<String>> batchConsumer) {
+    String lastTaskId = null;
+    List<String> batch;
+    do {
+      final String fromTaskId = lastTaskId;
+      batch =
+          taskanaEngine.executeInDatabaseConnection(
+              () ->
+                  taskMapper.findIdsOfTasksCompletedBefore(
+                      completedBefore, allCompletedSameParentBusiness, fromTaskId, batchSize));
+      if (!batch.isEmpty()) {
+        lastTaskId = batch.get(batch.size() - 1);
+        batchConsumer.accept(batch);
+      }
+    } while (batch.size() == batchSize);
+  }
+
   Pair<List<MinimalTaskSummary>, BulkLog> getMinimalTaskSummaries(Collection<String> argTaskIds) {
     BulkLog bulkLog = new BulkLog();
     // remove duplicates
@@ -1074,6 +1289,13 @@ public class TaskServiceImpl implements TaskService {
     newTaskImpl.setModified(Instant.now());
   }
 
+  private void updateTaskAndMonitorAggregates(TaskImpl task) {
+    List<String> taskIds = Collections.singletonList(task.getId());
+    taskanaEngine.subtractFromMonitorAggregates(taskIds);
+    taskMapper.update(task);
+    taskanaEngine.addToMonitorAggregates(taskIds);
+  }
+
   private TaskImpl terminateCancelCommonActions(String taskId, TaskState targetState)
       throws NotAuthorizedException, TaskNotFoundException, InvalidStateException {
     if (taskId == null || taskId.isEmpty()) {
@@ -1089,7 +1311,7 @@ public class TaskServiceImpl implements TaskService {
     task.setModified(now);
     task.setCompleted(now);
     task.setState(targetState);
-    taskMapper.update(task);
+    updateTaskAndMonitorAggregates(task);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "Task '{}' cancelled by user '{}'.",
@@ -1111,7 +1333,7 @@ public class TaskServiceImpl implements TaskService {
 
       checkPreconditionsForClaimTask(task, forceClaim);
       claimActionsOnTask(task, userId, now);
-      taskMapper.update(task);
+      updateTaskAndMonitorAggregates(task);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Task '{}' claimed by user '{}'.", taskId, userId);
       }
@@ -1208,7 +1430,7 @@ public class TaskServiceImpl implements TaskService {
       task.setClaimed(null);
       task.setRead(true);
       task.setState(TaskState.READY);
-      taskMapper.update(task);
+      updateTaskAndMonitorAggregates(task);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Task '{}' unclaimed by user '{}'.", taskId, userId);
       }
@@ -1248,7 +1470,7 @@ public class TaskServiceImpl implements TaskService {
 
       Instant now = Instant.now();
       completeActionsOnTask(task, userId, now);
-      taskMapper.update(task);
+      updateTaskAndMonitorAggregates(task);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Task '{}' completed by user '{}'.", taskId, userId);
       }
@@ -1284,6 +1506,7 @@ public class TaskServiceImpl implements TaskService {
             EnumUtil.allValuesExceptFor(CallbackState.CALLBACK_PROCESSING_REQUIRED));
       }
 
+      taskanaEngine.subtractFromMonitorAggregates(Collections.singletonList(taskId));
       attachmentMapper.deleteMultipleByTaskIds(Collections.singletonList(taskId));
       taskMapper.delete(taskId);
 
@@ -1423,6 +1646,16 @@ public class TaskServiceImpl implements TaskService {
   private void standardSettingsOnTaskCreation(TaskImpl task, Classification classification)
       throws InvalidArgumentException, ClassificationNotFoundException,
           AttachmentPersistenceException {
+    setDefaultsOnTaskCreation(task, classification);
+
+    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+    // This has to be called after the AttachmentHandler because the AttachmentHandler fetches
+    // the Classifications of the Attachments.
+    // This is necessary to guarantee that the following calculation is correct.
+    serviceLevelHandler.updatePrioPlannedDueOfTask(task, null, false);
+  }
+
+  private void setDefaultsOnTaskCreation(TaskImpl task, Classification classification) {
     final Instant now = Instant.now();
     task.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK));
     if (task.getExternalId() == null) {
@@ -1457,12 +1690,154 @@ public class TaskServiceImpl implements TaskService {
       task.setDescription(classification.getDescription());
     }
     setDefaultTaskReceivedDateFromAttachments(task);
+  }
 
-    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    // This has to be called after the AttachmentHandler because the AttachmentHandler fetches
-    // the Classifications of the Attachments.
-    // This is necessary to guarantee that the following calculation is correct.
-    serviceLevelHandler.updatePrioPlannedDueOfTask(task, null, false);
+  private Workbasket resolveWorkbasketOfNewTask(
+      TaskImpl task,
+      CheckedFunction<String, Workbasket, TaskanaException> workbasketById,
+      CheckedFunction<KeyDomain, Workbasket, TaskanaException> workbasketByKeyDomain)
+      throws InvalidArgumentException, WorkbasketNotFoundException, NotAuthorizedException {
+    Workbasket workbasket;
+    try {
+      if (task.getWorkbasketSummary() != null && task.getWorkbasketSummary().getId() != null) {
+        workbasket = workbasketById.apply(task.getWorkbasketSummary().getId());
+      } else if (task.getWorkbasketKey() != null) {
+        workbasket =
+            workbasketByKeyDomain.apply(new KeyDomain(task.getWorkbasketKey(), task.getDomain()));
+      } else {
+        String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+        if (workbasketId != null) {
+          workbasket = workbasketById.apply(workbasketId);
+          task.setWorkbasketSummary(workbasket.asSummary());
+        } else {
+          throw new InvalidArgumentException("Cannot create a Task outside a Workbasket");
+        }
+      }
+    } catch (InvalidArgumentException | WorkbasketNotFoundException | NotAuthorizedException e) {
+      throw e;
+    } catch (TaskanaException e) {
+      throw new SystemException("Caught exception while resolving workbasket of task", e);
+    }
+
+    if (workbasket.isMarkedForDeletion()) {
+      throw new WorkbasketNotFoundException(workbasket.getId());
+    }
+
+    task.setWorkbasketSummary(workbasket.asSummary());
+    task.setDomain(workbasket.getDomain());
+    return workbasket;
+  }
+
+  private static String getClassificationKeyOfNewTask(TaskImpl task)
+      throws InvalidArgumentException {
+    // we do use the key and not the ID to make sure that we use the classification from the right
+    // domain.
+    // otherwise we would have to check the classification and its domain for validity.
+    String classificationKey = task.getClassificationKey();
+    if (classificationKey == null || classificationKey.length() == 0) {
+      throw new InvalidArgumentException("classificationKey of task must not be empty");
+    }
+    return classificationKey;
+  }
+
+  private List<TaskImpl> filterOutTasksWithExistingExternalIds(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    Map<String, Long> occurrencesByExternalId =
+        tasks.stream()
+            .collect(Collectors.groupingBy(TaskImpl::getExternalId, Collectors.counting()));
+    Set<String> rejectedExternalIds =
+        occurrencesByExternalId.entrySet().stream()
+            .filter(entry -> entry.getValue() > 1)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+
+    // splitting the lookup into steps of maximal 32000 external ids
+    // reason: DB2 has a maximum for parameters in a query
+    CollectionUtil.partitionBasedOnSize(occurrencesByExternalId.keySet(), 32000).stream()
+        .map(externalIds -> taskMapper.findExistingTasks(null, externalIds))
+        .flatMap(Collection::stream)
+        .map(MinimalTaskSummary::getExternalId)
+        .forEach(rejectedExternalIds::add);
+
+    rejectedExternalIds.forEach(
+        externalId -> bulkLog.addError(externalId, new TaskAlreadyExistException(externalId)));
+    return tasks.stream()
+        .filter(task -> !rejectedExternalIds.contains(task.getExternalId()))
+        .collect(Collectors.toList());
+  }
+
+  private void insertTasksInBatches(
+      List<TaskImpl> tasks, BulkOperationResults<String, TaskanaException> bulkLog) {
+    Collection<List<TaskImpl>> chunks =
+        CollectionUtil.partitionBasedOnSize(tasks, TASK_INSERT_BATCH_SIZE);
+    for (List<TaskImpl> chunk : chunks) {
+      List<TaskImpl> insertedTasks;
+      try {
+        insertTasksInBatchSession(chunk);
+        insertedTasks = chunk;
+      } catch (PersistenceException e) {
+        // the failing statement is not known, so each task of the chunk is inserted on its own
+        insertedTasks = new ArrayList<>(chunk.size());
+        for (TaskImpl task : chunk) {
+          try {
+            insertTasksInBatchSession(Collections.singletonList(task));
+            insertedTasks.add(task);
+          } catch (PersistenceException singleInsertException) {
+            bulkLog.addError(
+                task.getExternalId(),
+                createExceptionForFailedInsert(task, singleInsertException));
+          }
+        }
+      }
+      if (insertedTasks.isEmpty()) {
+        continue;
+      }
+      taskanaEngine.addToMonitorAggregates(
+          insertedTasks.stream().map(TaskImpl::getId).collect(Collectors.toList()));
+
+      if (historyEventManager.isEnabled()) {
+        String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+        List<TaskHistoryEvent> events =
+            insertedTasks.stream()
+                .map(
+                    task ->
+                        new TaskCreatedEvent(
+                            IdGenerator.generateWithPrefix(
+                                IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+                            task,
+                            userId,
+                            ObjectAttributeChangeDetector.determineChangesInAttributes(
+                                newTask(), task)))
+                .collect(Collectors.toList());
+        historyEventManager.createEvents(events);
+      }
+    }
+  }
+
+  private void insertTasksInBatchSession(List<TaskImpl> tasks) {
+    taskanaEngine.executeInBatchSessionWithSavepoint(
+        batchSession -> {
+          TaskMapper batchTaskMapper = batchSession.getMapper(TaskMapper.class);
+          AttachmentMapper batchAttachmentMapper = batchSession.getMapper(AttachmentMapper.class);
+          for (TaskImpl task : tasks) {
+            batchTaskMapper.insert(task);
+            task.getAttachments()
+                .forEach(attachment -> batchAttachmentMapper.insert((AttachmentImpl) attachment));
+          }
+        });
+  }
+
+  private TaskanaException createExceptionForFailedInsert(TaskImpl task, PersistenceException e) {
+    // see createTask(Task) for the error messages of the supported databases
+    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
+    if (msg != null
+        && (msg.contains("violation") || msg.contains("violates") || msg.contains("verletzt"))
+        && msg.contains("external_id")) {
+      return new TaskAlreadyExistException(task.getExternalId());
+    }
+    return new InvalidArgumentException(
+        String.format("Task with external id '%s' could not be inserted.", task.getExternalId()),
+        e);
   }
 
   private void setDefaultTaskReceivedDateFromAttachments(TaskImpl task) {
@@ -1520,10 +1895,12 @@ public class TaskServiceImpl implements TaskService {
             .orElse(null);
 
     if (!taskSummaryList.isEmpty()) {
+      taskanaEngine.subtractFromMonitorAggregates(taskIds);
       taskMapper.updateCompleted(taskIds, taskSummaryList.get(0));
       if (!updateClaimedTaskIds.isEmpty()) {
         taskMapper.updateClaimed(updateClaimedTaskIds, claimedReference);
       }
+      taskanaEngine.addToMonitorAggregates(taskIds);
       if (historyEventManager.isEnabled()) {
         createTasksCompletedEvents(taskSummaryList);
       }
@@ -1573,6 +1950,12 @@ public class TaskServiceImpl implements TaskService {
   private List<ClassificationSummary> queryClassificationsForTasksAndAttachments(
       Set<String> classificationIds) {
 
+    ClassificationCache classificationCache = taskanaEngine.getClassificationCache();
+    if (classificationCache.isEnabled()) {
+      return classificationCache.getByIds(classificationIds).values().stream()
+          .map(ClassificationImpl::asSummary)
+          .collect(Collectors.toList());
+    }
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "queryClassificationsForTasksAndAttachments() about to query classifications and exit");
@@ -1585,6 +1968,13 @@ public class TaskServiceImpl implements TaskService {
 
   private List<WorkbasketSummary> queryWorkbasketsForTasks(Set<String> workbasketIds) {
 
+    WorkbasketCache workbasketCache = taskanaEngine.getWorkbasketCache();
+    if (workbasketCache.isEnabled()) {
+      // the tasks were already filtered by the permissions of the user
+      return workbasketCache.getByIds(workbasketIds).values().stream()
+          .map(WorkbasketImpl::asSummary)
+          .collect(Collectors.toList());
+    }
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("queryWorkbasketsForTasks() about to query workbaskets and exit");
     }
@@ -1786,4 +2176,40 @@ public class TaskServiceImpl implements TaskService {
                     task,
                     taskanaEngine.getEngine().getCurrentUserContext().getUserid())));
   }
+
+  /**
+   * Caches the result or the failure of a lookup, so that the lookup is executed only once per key
+   * within a bulk operation.
+   */
+  private static class LookupCache<K, V, E extends Exception> {
+
+    private final CheckedFunction<K, V, E> lookup;
+    private final Map<K, V> values = new HashMap<>();
+    private final Map<K, E> errors = new HashMap<>();
+
+    LookupCache(CheckedFunction<K, V, E> lookup) {
+      this.lookup = lookup;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(K key) throws E {
+      E error = errors.get(key);
+      if (error != null) {
+        throw error;
+      }
+      V value = values.get(key);
+      if (value == null) {
+        try {
+          value = lookup.apply(key);
+        } catch (RuntimeException e) {
+          throw e;
+        } catch (Exception e) {
+          errors.put(key, (E) e);
+          throw (E) e;
+        }
+        values.put(key, value);
+      }
+      return value;
+    }
+  }
 }
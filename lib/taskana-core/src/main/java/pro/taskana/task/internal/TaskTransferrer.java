@@ -112,7 +112,9 @@ final class TaskTransferrer {
       checkPreconditionsForTransferTask(task, destinationWorkbasket, originWorkbasket);
 
       applyTransferValuesForTask(task, destinationWorkbasket, setTransferFlag);
+      taskanaEngine.subtractFromMonitorAggregates(Collections.singletonList(taskId));
       taskMapper.update(task);
+      taskanaEngine.addToMonitorAggregates(Collections.singletonList(taskId));
       if (historyEventManager.isEnabled()) {
         createTransferredEvent(
             oldTask, task, originWorkbasket.getId(), destinationWorkbasket.getId());
@@ -247,8 +249,11 @@ final class TaskTransferrer {
     if (!taskSummaries.isEmpty()) {
       TaskImpl updateObject = new TaskImpl();
       applyTransferValuesForTask(updateObject, destinationWorkbasket, setTransferFlag);
-      taskMapper.updateTransfered(
-          taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toSet()), updateObject);
+      Set<String> taskIds =
+          taskSummaries.stream().map(TaskSummary::getId).collect(Collectors.toSet());
+      taskanaEngine.subtractFromMonitorAggregates(taskIds);
+      taskMapper.updateTransfered(taskIds, updateObject);
+      taskanaEngine.addToMonitorAggregates(taskIds);
 
       if (historyEventManager.isEnabled()) {
         taskSummaries.forEach(
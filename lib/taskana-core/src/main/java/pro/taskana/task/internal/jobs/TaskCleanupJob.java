@@ -2,18 +2,14 @@ package pro.taskana.task.internal.jobs;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
@@ -21,9 +17,8 @@ import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 /** Job to cleanup completed tasks after a period of time. */
 public class TaskCleanupJob extends AbstractTaskanaJob {
@@ -50,12 +45,7 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore);
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-
-      int totalNumberOfTasksDeleted =
-          CollectionUtil.partitionBasedOnSize(tasksCompletedBefore, batchSize).stream()
-              .mapToInt(this::deleteTasksTransactionally)
-              .sum();
+      int totalNumberOfTasksDeleted = deleteTasksCompletedBefore(completedBefore);
 
       LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
     } catch (Exception e) {
@@ -81,60 +71,24 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return TaskCleanupJob.class.getName();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-
-    List<TaskSummary> tasksToDelete =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(SortDirection.ASCENDING)
-            .list();
-
-    if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-
-      tasksToDelete.forEach(
-          task -> {
-            if (!numberParentTasksShouldHave.containsKey(task.getParentBusinessProcessId())) {
-              numberParentTasksShouldHave.put(
-                  task.getParentBusinessProcessId(),
-                  taskanaEngineImpl
-                      .getTaskService()
-                      .createTaskQuery()
-                      .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                      .count());
-            }
-            countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
-          });
-
-      List<String> taskIdsNotAllCompletedSameParentBusiness =
-          numberParentTasksShouldHave.entrySet().stream()
-              .filter(entry -> entry.getKey() != null)
-              .filter(entry -> !entry.getKey().isEmpty())
-              .filter(entry -> !entry.getValue().equals(countParentTask.get(entry.getKey())))
-              .map(Map.Entry::getKey)
-              .collect(Collectors.toList());
-
-      tasksToDelete =
-          tasksToDelete.stream()
-              .filter(
-                  taskSummary ->
-                      !taskIdsNotAllCompletedSameParentBusiness.contains(
-                          taskSummary.getParentBusinessProcessId()))
-              .collect(Collectors.toList());
-    }
-
-    return tasksToDelete;
+  private int deleteTasksCompletedBefore(Instant untilDate) {
+    // the deletable tasks are selected page by page and every page is deleted on its own
+    AtomicInteger numberOfDeletedTasks = new AtomicInteger();
+    ((TaskServiceImpl) taskanaEngineImpl.getTaskService())
+        .forEachBatchOfTaskIdsCompletedBefore(
+            untilDate,
+            allCompletedSameParentBusiness,
+            batchSize,
+            taskIds -> numberOfDeletedTasks.addAndGet(deleteTasksTransactionally(taskIds)));
+    return numberOfDeletedTasks.get();
   }
 
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> tasksIdsToBeDeleted) {
     return TaskanaTransactionProvider.executeInTransactionIfPossible(
         txProvider,
         () -> {
           try {
-            return deleteTasks(tasksToBeDeleted);
+            return deleteTasks(tasksIdsToBeDeleted);
           } catch (Exception ex) {
             LOGGER.warn("Could not delete tasks.", ex);
             return 0;
@@ -142,11 +96,8 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         });
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
+  private int deleteTasks(List<String> tasksIdsToBeDeleted)
       throws InvalidArgumentException, NotAuthorizedException {
-
-    List<String> tasksIdsToBeDeleted =
-        tasksToBeDeleted.stream().map(TaskSummary::getId).collect(Collectors.toList());
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
     if (LOGGER.isDebugEnabled()) {
@@ -14,14 +14,28 @@ import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.TaskServiceImpl;
 
-/** This class executes a job of type {@linkplain pro.taskana.task.internal.jobs.TaskRefreshJob}. */
+/**
+ * This class executes a job of type {@linkplain pro.taskana.task.internal.jobs.TaskRefreshJob}.
+ *
+ * <p>The refreshed tasks are the tasks affected by the change of the classification {@value
+ * #CLASSIFICATION_ID} whose ids are greater than {@value #FROM_TASK_ID} and less than or equal to
+ * {@value #TO_TASK_ID}. The ranges of different jobs do not overlap, so that they can be executed
+ * in parallel. Jobs which were scheduled with the explicit list of {@value #TASK_IDS} are still
+ * supported.
+ */
 public class TaskRefreshJob extends AbstractTaskanaJob {
 
   public static final String TASK_IDS = "taskIds";
+  public static final String CLASSIFICATION_ID = "classificationId";
+  public static final String FROM_TASK_ID = "fromTaskId";
+  public static final String TO_TASK_ID = "toTaskId";
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskRefreshJob.class);
-  private final List<String> affectedTaskIds;
+  private final List<String> taskIds;
+  private final String classificationId;
+  private final String fromTaskId;
+  private final String toTaskId;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
 
@@ -30,16 +44,24 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
     super(engine, txProvider, job, false);
     Map<String, String> args = job.getArguments();
     String taskIdsString = args.get(TASK_IDS);
-    affectedTaskIds = Arrays.asList(taskIdsString.split(","));
+    taskIds = taskIdsString == null ? null : Arrays.asList(taskIdsString.split(","));
+    classificationId = args.get(CLASSIFICATION_ID);
+    fromTaskId = args.get(FROM_TASK_ID);
+    toTaskId = args.get(TO_TASK_ID);
     priorityChanged = Boolean.parseBoolean(args.get(PRIORITY_CHANGED));
     serviceLevelChanged = Boolean.parseBoolean(args.get(SERVICE_LEVEL_CHANGED));
   }
 
   @Override
   public void execute() throws TaskanaException {
-    LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+      List<String> affectedTaskIds =
+          taskIds != null
+              ? taskIds
+              : taskService.findIdsOfTasksAffectedByClassificationChange(
+                  classificationId, fromTaskId, toTaskId, null);
+      LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
       taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
           affectedTaskIds, serviceLevelChanged, priorityChanged);
       LOGGER.info("TaskRefreshJob ended successfully.");
@@ -65,8 +87,14 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
         + txProvider
         + ", scheduledJob="
         + scheduledJob
-        + ", affectedTaskIds="
-        + affectedTaskIds
+        + ", taskIds="
+        + taskIds
+        + ", classificationId="
+        + classificationId
+        + ", fromTaskId="
+        + fromTaskId
+        + ", toTaskId="
+        + toTaskId
         + ", priorityChanged="
         + priorityChanged
         + ", serviceLevelChanged="
@@ -1,7 +1,8 @@
 package pro.taskana.task.internal.jobs;
 
-import static pro.taskana.common.internal.util.CollectionUtil.partitionBasedOnSize;
-
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,13 +14,22 @@ import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.jobs.helper.TaskUpdatePriorityWorker;
 
-/** Job to recalculate the priority of each task that is not in an endstate. */
+/**
+ * Job to recalculate the priority of each task that is not in an endstate.
+ *
+ * <p>In incremental mode only the tasks which were modified since the start of the previous run
+ * are recalculated. The start of each run is passed as watermark to the next scheduled job. The
+ * incremental mode must only be used if the priority solely depends on the attributes of a task.
+ */
 public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
 
+  public static final String MODIFIED_SINCE = "modifiedSince";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskUpdatePriorityJob.class);
 
   private final int batchSize;
   private final boolean isJobActive;
+  private final Instant modifiedSince;
+  private Instant nextModifiedSince;
 
   public TaskUpdatePriorityJob(TaskanaEngine taskanaEngine) {
     this(taskanaEngine, null, null);
@@ -34,6 +44,10 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
     isJobActive = taskanaEngine.getConfiguration().isPriorityJobActive();
     runEvery = taskanaEngine.getConfiguration().getPriorityJobRunEvery();
     firstRun = taskanaEngine.getConfiguration().getPriorityJobFirstRun();
+    modifiedSince =
+        taskanaEngine.getConfiguration().isPriorityJobIncremental()
+            ? getWatermark(scheduledJob)
+            : null;
   }
 
   @Override
@@ -43,11 +57,20 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
       return;
     }
     TaskUpdatePriorityWorker worker = new TaskUpdatePriorityWorker(taskanaEngineImpl);
-    LOGGER.info("Running job to calculate all non finished task priorities");
+    if (modifiedSince == null) {
+      LOGGER.info("Running job to calculate all non finished task priorities");
+    } else {
+      LOGGER.info(
+          "Running job to calculate the priorities of non finished tasks modified since {}",
+          modifiedSince);
+    }
+    // tasks which are modified while this job runs are recalculated by the next run
+    Instant started = Instant.now();
     try {
-      partitionBasedOnSize(worker.getAllRelevantTaskIds(), getBatchSize())
-          .forEach(worker::executeBatch);
-      LOGGER.info("Job to update priority of tasks has finished.");
+      int numberOfUpdatedTasks = worker.executeForRelevantTasks(getBatchSize(), modifiedSince);
+      nextModifiedSince = started;
+      LOGGER.info(
+          "Job to update priority of tasks has finished. {} tasks updated.", numberOfUpdatedTasks);
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskUpdatePriorityJob.", e);
     }
@@ -74,6 +97,18 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
     job.scheduleNextJob();
   }
 
+  public Instant getModifiedSince() {
+    return modifiedSince;
+  }
+
+  @Override
+  protected Map<String, String> getNextJobArguments() {
+    if (nextModifiedSince == null) {
+      return Collections.emptyMap();
+    }
+    return Collections.singletonMap(MODIFIED_SINCE, nextModifiedSince.toString());
+  }
+
   @Override
   protected String getType() {
     return TaskUpdatePriorityJob.class.getName();
@@ -93,6 +128,16 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
         + scheduledJob
         + ", batchSize="
         + batchSize
+        + ", modifiedSince="
+        + modifiedSince
         + "]";
   }
+
+  private static Instant getWatermark(ScheduledJob scheduledJob) {
+    if (scheduledJob == null || scheduledJob.getArguments() == null) {
+      return null;
+    }
+    String watermark = scheduledJob.getArguments().get(MODIFIED_SINCE);
+    return watermark == null ? null : Instant.parse(watermark);
+  }
 }
@@ -13,16 +13,23 @@ import pro.taskana.common.internal.util.CheckedConsumer;
 public class SqlConnectionRunner {
 
   private final DataSource dataSource;
+  private final String schemaName;
 
   public SqlConnectionRunner(TaskanaEngine taskanaEngine) {
     this(
         Objects.requireNonNull(taskanaEngine, "Taskana engine may not be null")
             .getConfiguration()
-            .getDatasource());
+            .getDatasource(),
+        taskanaEngine.getConfiguration().getSchemaName());
   }
 
   public SqlConnectionRunner(DataSource dataSource) {
+    this(dataSource, null);
+  }
+
+  public SqlConnectionRunner(DataSource dataSource, String schemaName) {
     this.dataSource = Objects.requireNonNull(dataSource, "Datasource may not be null.");
+    this.schemaName = schemaName;
   }
 
   /**
@@ -40,6 +47,11 @@ public class SqlConnectionRunner {
   }
 
   public Connection getConnection() throws SQLException {
-    return dataSource.getConnection();
+    Connection connection = dataSource.getConnection();
+    // a pooled connection does not necessarily use the schema of TASKANA
+    if (schemaName != null) {
+      connection.setSchema(schemaName);
+    }
+    return connection;
   }
 }
@@ -1,17 +1,29 @@
 package pro.taskana.task.internal.jobs.helper;
 
+import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntPredicate;
 
 import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
+import pro.taskana.task.api.TaskQuery;
 import pro.taskana.task.api.TaskQueryColumnName;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 public class TaskUpdatePriorityWorker {
 
@@ -26,14 +38,92 @@ public class TaskUpdatePriorityWorker {
   }
 
   public List<String> executeBatch(List<String> taskIds) {
+    return updatePriorities(getTaskSummariesByIds(taskIds));
+  }
+
+  public int executeForAllRelevantTasks(int batchSize) throws InvalidArgumentException {
+    return executeForRelevantTasks(batchSize, null);
+  }
+
+  /**
+   * Recalculates the priority of all relevant tasks. The tasks are read in pages ordered by their
+   * id and updated in batches, so that only a few batches of tasks are held in memory at any time.
+   *
+   * <p>If all {@linkplain pro.taskana.spi.priority.api.PriorityServiceProvider
+   * PriorityServiceProviders} declare the columns their calculation depends on, only these columns
+   * are read and the batches are calculated and updated in parallel.
+   *
+   * @param batchSize the number of tasks which are updated at once
+   * @param modifiedSince if not null, only the tasks modified at or after this instant are updated
+   * @return the number of updated tasks
+   * @throws InvalidArgumentException if the batchSize is less than 1
+   */
+  public int executeForRelevantTasks(int batchSize, Instant modifiedSince)
+      throws InvalidArgumentException {
+    if (batchSize < 1) {
+      throw new InvalidArgumentException("The batch size must be greater than 0.");
+    }
+    Optional<Set<TaskQueryColumnName>> requiredColumns =
+        priorityServiceManager.getRequiredColumns();
+    if (requiredColumns.isPresent()) {
+      return updatePrioritiesInParallel(requiredColumns.get(), modifiedSince, batchSize);
+    }
+
+    TaskQuery query =
+        taskanaEngine.getTaskService().createTaskQuery().stateNotIn(TaskState.END_STATES);
+    if (modifiedSince != null) {
+      query.modifiedWithin(new TimeInterval(modifiedSince, null));
+    }
+    // every page is read by its own query, so that no cursor is open while the tasks are updated
+    int numberOfUpdatedTasks = 0;
+    String cursor = null;
+    List<TaskSummary> batch;
+    do {
+      batch = query.listAfter(cursor, batchSize);
+      if (!batch.isEmpty()) {
+        numberOfUpdatedTasks += updatePriorities(batch).size();
+        cursor = query.createCursor(batch.get(batch.size() - 1));
+      }
+    } while (batch.size() == batchSize);
+    return numberOfUpdatedTasks;
+  }
+
+  private int updatePrioritiesInParallel(
+      Set<TaskQueryColumnName> columns, Instant modifiedSince, int batchSize) {
+    int parallelism = taskanaEngine.getConfiguration().getPriorityJobParallelism();
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    // limits the number of batches which are held in memory
+    Deque<ForkJoinTask<Integer>> runningBatches = new ArrayDeque<>();
+    AtomicInteger numberOfUpdatedTasks = new AtomicInteger();
+    try {
+      ((TaskServiceImpl) taskanaEngine.getTaskService())
+          .forEachNonFinalTaskBatch(
+              columns,
+              modifiedSince,
+              batchSize,
+              batch -> {
+                if (runningBatches.size() >= parallelism) {
+                  numberOfUpdatedTasks.addAndGet(runningBatches.poll().join());
+                }
+                runningBatches.add(pool.submit(() -> updatePriorities(batch).size()));
+              });
+      while (!runningBatches.isEmpty()) {
+        numberOfUpdatedTasks.addAndGet(runningBatches.poll().join());
+      }
+    } finally {
+      pool.shutdown();
+    }
+    return numberOfUpdatedTasks.get();
+  }
+
+  private List<String> updatePriorities(List<TaskSummary> taskSummaries) {
     List<String> updatedTaskIds = new ArrayList<>();
     sqlConnectionRunner.runWithConnection(
         connection -> {
           TaskUpdatePriorityBatchStatement taskUpdateBatch =
               new TaskUpdatePriorityBatchStatement(connection);
 
-          List<TaskSummary> list = getTaskSummariesByIds(taskIds);
-          for (TaskSummary taskSummary : list) {
+          for (TaskSummary taskSummary : taskSummaries) {
             OptionalInt calculatedPriority = getCalculatedPriority(taskSummary);
             if (calculatedPriority.isPresent()) {
               final String taskId = taskSummary.getId();
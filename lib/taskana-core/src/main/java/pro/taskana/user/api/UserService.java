@@ -1,7 +1,12 @@
 package pro.taskana.user.api;
 
+import java.util.List;
+import java.util.Set;
+
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.user.api.exceptions.UserAlreadyExistException;
 import pro.taskana.user.api.exceptions.UserNotFoundException;
 import pro.taskana.user.api.models.User;
@@ -32,6 +37,16 @@ public interface UserService {
    */
   User getUser(String id) throws UserNotFoundException;
 
+  /**
+   * Gets the {@linkplain User Users} with the given {@linkplain User#getId() ids}. The {@linkplain
+   * User Users} are read in chunks instead of one by one.
+   *
+   * @param ids the {@linkplain User#getId() ids} of the {@linkplain User Users} to be retrieved
+   * @return the existing {@linkplain User Users}. Ids of not existing {@linkplain User Users} are
+   *     ignored.
+   */
+  List<User> getUsers(Set<String> ids);
+
   /**
    * Creates a new {@linkplain User}.
    *
@@ -73,6 +88,26 @@ public interface UserService {
    */
   User updateUser(User userToUpdate) throws UserNotFoundException, NotAuthorizedException;
 
+  /**
+   * Creates or updates the given {@linkplain User Users}, e.g. for a synchronization with a
+   * directory service.
+   *
+   * <p>A {@linkplain User} is created if no {@linkplain User} with its {@linkplain User#getId()
+   * id} exists, otherwise it is updated. The existing {@linkplain User Users} are read with one
+   * query per chunk and only the {@linkplain User Users} whose fields or {@linkplain
+   * User#getGroups() groups} have changed are written. All writes of a chunk are sent to the
+   * database as one JDBC batch. The fields are validated and populated like in {@linkplain
+   * #createUser(User)}.
+   *
+   * @param users the {@linkplain User Users} to create or update
+   * @return the result of the operations with the {@linkplain User#getId() id} and the exception
+   *     of each {@linkplain User} which could not be written, e.g. because its names are not set
+   *     or the list contains it twice
+   * @throws NotAuthorizedException if the current user is not admin or business-admin
+   */
+  BulkOperationResults<String, TaskanaException> createOrUpdateUsers(List<User> users)
+      throws NotAuthorizedException;
+
   /**
    * Deletes a {@linkplain User}.
    *
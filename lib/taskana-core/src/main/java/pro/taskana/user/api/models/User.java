@@ -1,5 +1,7 @@
 package pro.taskana.user.api.models;
 
+import java.util.Set;
+
 /** The User holds some relevant information about the TASKANA users. */
 public interface User {
 
@@ -185,6 +187,20 @@ public interface User {
    */
   void setData(String data);
 
+  /**
+   * Gets the access ids of the groups which the User is member of.
+   *
+   * @return groups
+   */
+  Set<String> getGroups();
+
+  /**
+   * Sets the access ids of the groups which the User is member of.
+   *
+   * @param groups the groups of the User
+   */
+  void setGroups(Set<String> groups);
+
   User copy();
 
 }
@@ -1,5 +1,6 @@
 package pro.taskana.user.internal;
 
+import java.util.List;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
 import org.apache.ibatis.annotations.Param;
@@ -7,6 +8,7 @@ import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.SelectProvider;
 import org.apache.ibatis.annotations.UpdateProvider;
 
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.user.internal.models.UserImpl;
 
 public interface UserMapper {
@@ -26,12 +28,45 @@ public interface UserMapper {
   @Result(property = "data", column = "DATA")
   UserImpl findById(@Param("id") String id);
 
+  @SelectProvider(type = UserMapperSqlProvider.class, method = "findByIds")
+  @Result(property = "id", column = "USER_ID")
+  @Result(property = "firstName", column = "FIRST_NAME")
+  @Result(property = "lastName", column = "LASTNAME")
+  @Result(property = "fullName", column = "FULL_NAME")
+  @Result(property = "longName", column = "LONG_NAME")
+  @Result(property = "email", column = "E_MAIL")
+  @Result(property = "phone", column = "PHONE")
+  @Result(property = "mobilePhone", column = "MOBILE_PHONE")
+  @Result(property = "orgLevel4", column = "ORG_LEVEL_4")
+  @Result(property = "orgLevel3", column = "ORG_LEVEL_3")
+  @Result(property = "orgLevel2", column = "ORG_LEVEL_2")
+  @Result(property = "orgLevel1", column = "ORG_LEVEL_1")
+  @Result(property = "data", column = "DATA")
+  List<UserImpl> findByIds(@Param("ids") List<String> ids);
+
+  @SelectProvider(type = UserMapperSqlProvider.class, method = "findGroupsById")
+  List<String> findGroupsById(@Param("id") String id);
+
+  @SelectProvider(type = UserMapperSqlProvider.class, method = "findGroupsByIds")
+  @Result(property = "left", column = "USER_ID")
+  @Result(property = "right", column = "GROUP_ID")
+  List<Pair<String, String>> findGroupsByIds(@Param("ids") List<String> ids);
+
   @InsertProvider(type = UserMapperSqlProvider.class, method = "insert")
   void insert(UserImpl user);
 
+  @InsertProvider(type = UserMapperSqlProvider.class, method = "insertGroup")
+  void insertGroup(@Param("id") String id, @Param("groupId") String groupId);
+
   @UpdateProvider(type = UserMapperSqlProvider.class, method = "update")
   void update(UserImpl user);
 
   @DeleteProvider(type = UserMapperSqlProvider.class, method = "delete")
   void delete(String id);
+
+  @DeleteProvider(type = UserMapperSqlProvider.class, method = "deleteGroups")
+  void deleteGroups(@Param("id") String id);
+
+  @DeleteProvider(type = UserMapperSqlProvider.class, method = "deleteGroup")
+  void deleteGroup(@Param("id") String id, @Param("groupId") String groupId);
 }
@@ -6,6 +6,7 @@ import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TA
 
 public class UserMapperSqlProvider {
   private static final String USER_INFO = "USER_INFO ";
+  private static final String GROUP_INFO = "GROUP_INFO ";
   private static final String USER_INFO_COLUMNS =
       "USER_ID, FIRST_NAME, LASTNAME, FULL_NAME, LONG_NAME, E_MAIL, PHONE, MOBILE_PHONE, "
           + "ORG_LEVEL_4, ORG_LEVEL_3, ORG_LEVEL_2, ORG_LEVEL_1, DATA ";
@@ -13,6 +14,8 @@ public class UserMapperSqlProvider {
       "#{id}, #{firstName}, #{lastName}, #{fullName}, #{longName}, #{email}, #{phone}, "
           + "#{mobilePhone}, #{orgLevel4}, #{orgLevel3}, #{orgLevel2}, #{orgLevel1}, #{data} ";
   private static final String WHERE_USER_ID = "WHERE USER_ID = #{id} ";
+  private static final String WHERE_USER_ID_IN =
+      "WHERE USER_ID IN (<foreach collection='ids' item='id' separator=','>#{id}</foreach>) ";
 
   private UserMapperSqlProvider() {}
 
@@ -27,6 +30,35 @@ public class UserMapperSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  public static String findByIds() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT "
+        + USER_INFO_COLUMNS
+        + "FROM "
+        + USER_INFO
+        + WHERE_USER_ID_IN
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  public static String findGroupsById() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT GROUP_ID FROM "
+        + GROUP_INFO
+        + WHERE_USER_ID
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  public static String findGroupsByIds() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT USER_ID, GROUP_ID FROM "
+        + GROUP_INFO
+        + WHERE_USER_ID_IN
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
   public static String insert() {
     return "INSERT INTO "
         + USER_INFO
@@ -37,6 +69,10 @@ public class UserMapperSqlProvider {
         + ")";
   }
 
+  public static String insertGroup() {
+    return "INSERT INTO " + GROUP_INFO + "(USER_ID, GROUP_ID) VALUES(#{id}, #{groupId})";
+  }
+
   public static String update() {
     return "UPDATE "
         + USER_INFO
@@ -51,4 +87,12 @@ public class UserMapperSqlProvider {
   public static String delete() {
     return "DELETE FROM " + USER_INFO + WHERE_USER_ID;
   }
+
+  public static String deleteGroups() {
+    return "DELETE FROM " + GROUP_INFO + WHERE_USER_ID;
+  }
+
+  public static String deleteGroup() {
+    return "DELETE FROM " + GROUP_INFO + WHERE_USER_ID + "AND GROUP_ID = #{groupId}";
+  }
 }
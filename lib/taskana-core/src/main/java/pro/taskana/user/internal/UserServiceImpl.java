@@ -1,13 +1,23 @@
 package pro.taskana.user.internal;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.user.api.UserService;
 import pro.taskana.user.api.exceptions.UserAlreadyExistException;
 import pro.taskana.user.api.exceptions.UserNotFoundException;
@@ -16,6 +26,7 @@ import pro.taskana.user.internal.models.UserImpl;
 
 public class UserServiceImpl implements UserService {
   private static final Logger LOGGER = LoggerFactory.getLogger(UserServiceImpl.class);
+  private static final int MAX_IDS_PER_QUERY = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final UserMapper userMapper;
@@ -32,7 +43,15 @@ public class UserServiceImpl implements UserService {
 
   @Override
   public User getUser(String id) throws UserNotFoundException {
-    User user = taskanaEngine.executeInDatabaseConnection(() -> userMapper.findById(id));
+    User user =
+        taskanaEngine.executeInDatabaseConnection(
+            () -> {
+              UserImpl existingUser = userMapper.findById(id);
+              if (existingUser != null) {
+                existingUser.setGroups(new HashSet<>(userMapper.findGroupsById(id)));
+              }
+              return existingUser;
+            });
     if (user == null) {
       throw new UserNotFoundException(id);
     }
@@ -40,6 +59,20 @@ public class UserServiceImpl implements UserService {
     return user;
   }
 
+  @Override
+  public List<User> getUsers(Set<String> ids) {
+    List<User> users = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> idsOfChunk : CollectionUtil.partitionBasedOnSize(ids, MAX_IDS_PER_QUERY)) {
+        users.addAll(findUsersWithGroups(idsOfChunk).values());
+      }
+      return users;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public User createUser(User userToCreate)
       throws InvalidArgumentException, NotAuthorizedException, UserAlreadyExistException {
@@ -57,9 +90,13 @@ public class UserServiceImpl implements UserService {
   @Override
   public User updateUser(User userToUpdate) throws UserNotFoundException, NotAuthorizedException {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
-    getUser(userToUpdate.getId());
+    User existingUser = getUser(userToUpdate.getId());
 
-    taskanaEngine.executeInDatabaseConnection(() -> userMapper.update((UserImpl) userToUpdate));
+    taskanaEngine.executeInDatabaseConnection(
+        () -> {
+          userMapper.update((UserImpl) userToUpdate);
+          updateGroups(userMapper, existingUser, userToUpdate);
+        });
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Method updateUser() updated User '{}'.", userToUpdate);
     }
@@ -67,21 +104,130 @@ public class UserServiceImpl implements UserService {
     return userToUpdate;
   }
 
+  @Override
+  public BulkOperationResults<String, TaskanaException> createOrUpdateUsers(List<User> users)
+      throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    Map<String, UserImpl> usersById = new LinkedHashMap<>();
+    for (User user : users) {
+      try {
+        validateAndPopulateFields(user);
+        // a single value which is too long would fail the JDBC batch of all other users
+        validateFieldLengths(user);
+      } catch (InvalidArgumentException e) {
+        bulkLog.addError(user.getId(), e);
+        continue;
+      }
+      if (usersById.putIfAbsent(user.getId(), (UserImpl) user) != null) {
+        bulkLog.addError(user.getId(), new UserAlreadyExistException(user.getId()));
+      }
+    }
+
+    int numberOfWrittenUsers = 0;
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> idsOfChunk :
+          CollectionUtil.partitionBasedOnSize(usersById.keySet(), MAX_IDS_PER_QUERY)) {
+        Map<String, UserImpl> existingUsers = findUsersWithGroups(idsOfChunk);
+        List<UserImpl> usersToInsert = new ArrayList<>();
+        List<UserImpl> usersToUpdate = new ArrayList<>();
+        for (String id : idsOfChunk) {
+          UserImpl user = usersById.get(id);
+          UserImpl existingUser = existingUsers.get(id);
+          if (existingUser == null) {
+            usersToInsert.add(user);
+          } else if (!user.equals(existingUser)) {
+            usersToUpdate.add(user);
+          }
+        }
+        if (usersToInsert.isEmpty() && usersToUpdate.isEmpty()) {
+          continue;
+        }
+        taskanaEngine.executeInBatchSession(
+            batchSession -> {
+              UserMapper batchUserMapper = batchSession.getMapper(UserMapper.class);
+              usersToInsert.forEach(
+                  user -> {
+                    batchUserMapper.insert(user);
+                    user.getGroups()
+                        .forEach(group -> batchUserMapper.insertGroup(user.getId(), group));
+                  });
+              usersToUpdate.forEach(
+                  user -> {
+                    UserImpl existingUser = existingUsers.get(user.getId());
+                    UserImpl userWithExistingGroups = user.copy();
+                    userWithExistingGroups.setGroups(existingUser.getGroups());
+                    if (!userWithExistingGroups.equals(existingUser)) {
+                      batchUserMapper.update(user);
+                    }
+                    updateGroups(batchUserMapper, existingUser, user);
+                  });
+            });
+        numberOfWrittenUsers += usersToInsert.size() + usersToUpdate.size();
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Method createOrUpdateUsers() wrote {} of {} Users, {} Users were invalid.",
+          numberOfWrittenUsers,
+          users.size(),
+          bulkLog.getFailedIds().size());
+    }
+    return bulkLog;
+  }
+
   @Override
   public void deleteUser(String id) throws UserNotFoundException, NotAuthorizedException {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
     getUser(id);
 
-    taskanaEngine.executeInDatabaseConnection(() -> userMapper.delete(id));
+    taskanaEngine.executeInDatabaseConnection(
+        () -> {
+          userMapper.deleteGroups(id);
+          userMapper.delete(id);
+        });
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Method deleteUser() deleted User with id '{}'.", id);
     }
   }
 
+  private Map<String, UserImpl> findUsersWithGroups(List<String> ids) {
+    Map<String, UserImpl> users = new HashMap<>();
+    userMapper.findByIds(ids).forEach(user -> users.put(user.getId(), user));
+    userMapper
+        .findGroupsByIds(ids)
+        .forEach(
+            userAndGroup -> {
+              UserImpl user = users.get(userAndGroup.getLeft());
+              if (user != null) {
+                user.getGroups().add(userAndGroup.getRight());
+              }
+            });
+    return users;
+  }
+
+  private static void updateGroups(UserMapper mapper, User existingUser, User user) {
+    Set<String> groups = user.getGroups();
+    Set<String> existingGroups = existingUser.getGroups();
+    existingGroups.stream()
+        .filter(group -> !groups.contains(group))
+        .forEach(group -> mapper.deleteGroup(user.getId(), group));
+    groups.stream()
+        .filter(group -> !existingGroups.contains(group))
+        .forEach(group -> mapper.insertGroup(user.getId(), group));
+  }
+
   private void insertIntoDatabase(User userToCreate) throws UserAlreadyExistException {
     try {
       taskanaEngine.openConnection();
       userMapper.insert((UserImpl) userToCreate);
+      userToCreate
+          .getGroups()
+          .forEach(group -> userMapper.insertGroup(userToCreate.getId(), group));
     } catch (PersistenceException e) {
       throw new UserAlreadyExistException(userToCreate.getId());
     } finally {
@@ -89,6 +235,34 @@ public class UserServiceImpl implements UserService {
     }
   }
 
+  private static void validateFieldLengths(User user) throws InvalidArgumentException {
+    validateFieldLength(user, "id", user.getId(), 32);
+    validateFieldLength(user, "firstName", user.getFirstName(), 32);
+    validateFieldLength(user, "lastName", user.getLastName(), 32);
+    validateFieldLength(user, "fullName", user.getFullName(), 64);
+    validateFieldLength(user, "longName", user.getLongName(), 64);
+    validateFieldLength(user, "email", user.getEmail(), 64);
+    validateFieldLength(user, "phone", user.getPhone(), 32);
+    validateFieldLength(user, "mobilePhone", user.getMobilePhone(), 32);
+    validateFieldLength(user, "orgLevel4", user.getOrgLevel4(), 32);
+    validateFieldLength(user, "orgLevel3", user.getOrgLevel3(), 32);
+    validateFieldLength(user, "orgLevel2", user.getOrgLevel2(), 32);
+    validateFieldLength(user, "orgLevel1", user.getOrgLevel1(), 32);
+    for (String group : user.getGroups()) {
+      validateFieldLength(user, "group", group, 256);
+    }
+  }
+
+  private static void validateFieldLength(User user, String field, String value, int maxLength)
+      throws InvalidArgumentException {
+    if (value != null && value.length() > maxLength) {
+      throw new InvalidArgumentException(
+          String.format(
+              "The %s of User '%s' must not be longer than %d characters.",
+              field, user.getId(), maxLength));
+    }
+  }
+
   private void validateAndPopulateFields(User userToCreate) throws InvalidArgumentException {
     if (userToCreate.getId() == null || userToCreate.getId().isEmpty()) {
       throw new InvalidArgumentException("UserId must not be empty when creating User.");
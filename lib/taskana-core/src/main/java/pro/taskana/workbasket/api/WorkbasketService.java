@@ -1,8 +1,10 @@
 package pro.taskana.workbasket.api;
 
 import java.util.List;
+import java.util.Map;
 
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
@@ -44,6 +46,19 @@ public interface WorkbasketService {
   Workbasket getWorkbasket(String workbasketKey, String domain)
       throws WorkbasketNotFoundException, NotAuthorizedException;
 
+  /**
+   * Get the Workbaskets with the given ids. The Workbaskets are read in batches instead of one by
+   * one, e.g. for exporting all Workbaskets of a domain.
+   *
+   * @param workbasketIds the ids of the requested Workbaskets
+   * @return the found Workbaskets in the order of the given ids. Ids of not existing Workbaskets
+   *     are ignored.
+   * @throws NotAuthorizedException if the current user is not member of role {@linkplain
+   *     pro.taskana.common.api.TaskanaRole#BUSINESS_ADMIN} or {@linkplain
+   *     pro.taskana.common.api.TaskanaRole#ADMIN}
+   */
+  List<Workbasket> getWorkbaskets(List<String> workbasketIds) throws NotAuthorizedException;
+
   /**
    * Creates a new Workbasket. <br>
    * The default values are:
@@ -260,6 +275,19 @@ public interface WorkbasketService {
   List<WorkbasketSummary> getDistributionTargets(String workbasketKey, String domain)
       throws NotAuthorizedException, WorkbasketNotFoundException;
 
+  /**
+   * Returns the ids of the distribution targets for the given workbaskets. The distribution
+   * targets of all workbaskets are read in batches instead of one by one.
+   *
+   * @param workbasketIds the ids of the source workbaskets
+   * @return the ids of the distribution targets by the id of each given source workbasket
+   * @throws NotAuthorizedException if the current user is not member of role {@linkplain
+   *     pro.taskana.common.api.TaskanaRole#BUSINESS_ADMIN} or {@linkplain
+   *     pro.taskana.common.api.TaskanaRole#ADMIN}
+   */
+  Map<String, List<String>> getDistributionTargetIds(List<String> workbasketIds)
+      throws NotAuthorizedException;
+
   /**
    * Set the distribution targets for a workbasket.
    *
@@ -326,6 +354,21 @@ public interface WorkbasketService {
   BulkOperationResults<String, TaskanaException> deleteWorkbaskets(List<String> workbasketsIds)
       throws NotAuthorizedException, InvalidArgumentException;
 
+  /**
+   * Creates or updates the given Workbaskets, e.g. for an import. A Workbasket is updated if a
+   * Workbasket with the same key and domain already exists, otherwise it is created. The ids of
+   * the given Workbaskets are replaced by the ids of the created or updated Workbaskets. All
+   * Workbaskets are validated before they are written in batches.
+   *
+   * @param workbaskets the Workbaskets to create or update
+   * @return the result of the operations with the key and domain and the exception of each
+   *     Workbasket which could not be written, e.g. because the list contains it twice.
+   * @throws NotAuthorizedException if the current user is not member of role BUSINESS_ADMIN or
+   *     ADMIN
+   */
+  BulkOperationResults<KeyDomain, TaskanaException> createOrUpdateWorkbaskets(
+      List<Workbasket> workbaskets) throws NotAuthorizedException;
+
   /**
    * Returns the distribution sources for a given workbasket.
    *
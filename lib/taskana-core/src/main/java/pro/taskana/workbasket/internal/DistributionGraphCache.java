@@ -0,0 +1,94 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import pro.taskana.common.internal.ChangeVersionMapper;
+import pro.taskana.common.internal.MasterDataCache;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.internal.DistributionGraphCache.DistributionGraph;
+
+/**
+ * Caches the distribution targets of all workbaskets as an adjacency index in both directions.
+ *
+ * <p>The whole graph is loaded with a single query and replaced as a whole, as soon as the change
+ * version of the distribution targets changes. Therefore, every change of the distribution
+ * targets has to {@linkplain #invalidate() invalidate} the cache. The graph is immutable, so it is
+ * not copied on lookups.
+ */
+public class DistributionGraphCache extends MasterDataCache<DistributionGraph> {
+
+  private static final String GRAPH_KEY = "GRAPH";
+
+  private final Supplier<List<Pair<String, String>>> loader;
+
+  public DistributionGraphCache(
+      boolean enabled,
+      Duration pollInterval,
+      ChangeVersionMapper changeVersionMapper,
+      Supplier<List<Pair<String, String>>> loader) {
+    super("DISTRIBUTION_TARGETS", enabled, pollInterval, 1, changeVersionMapper);
+    this.loader = loader;
+  }
+
+  /**
+   * Returns the ids of the distribution targets of a workbasket. The caller has to hold an open
+   * connection.
+   *
+   * @param sourceId the id of the source workbasket
+   * @return the ids of its distribution targets
+   */
+  public List<String> getTargetIds(String sourceId) {
+    return getGraph().targetIdsBySourceId.getOrDefault(sourceId, Collections.emptyList());
+  }
+
+  /**
+   * Returns the ids of the workbaskets which have a workbasket as distribution target. The caller
+   * has to hold an open connection.
+   *
+   * @param targetId the id of the target workbasket
+   * @return the ids of its distribution sources
+   */
+  public List<String> getSourceIds(String targetId) {
+    return getGraph().sourceIdsByTargetId.getOrDefault(targetId, Collections.emptyList());
+  }
+
+  @Override
+  protected DistributionGraph copy(DistributionGraph graph) {
+    return graph;
+  }
+
+  @Override
+  protected String getId(DistributionGraph graph) {
+    return GRAPH_KEY;
+  }
+
+  private DistributionGraph getGraph() {
+    return get(GRAPH_KEY, () -> new DistributionGraph(loader.get()));
+  }
+
+  /** The distribution targets of all workbaskets by their source and by their target. */
+  static final class DistributionGraph {
+
+    private final Map<String, List<String>> targetIdsBySourceId = new HashMap<>();
+    private final Map<String, List<String>> sourceIdsByTargetId = new HashMap<>();
+
+    private DistributionGraph(List<Pair<String, String>> distributionTargets) {
+      for (Pair<String, String> distributionTarget : distributionTargets) {
+        targetIdsBySourceId
+            .computeIfAbsent(distributionTarget.getLeft(), id -> new ArrayList<>())
+            .add(distributionTarget.getRight());
+        sourceIdsByTargetId
+            .computeIfAbsent(distributionTarget.getRight(), id -> new ArrayList<>())
+            .add(distributionTarget.getLeft());
+      }
+      targetIdsBySourceId.replaceAll((id, ids) -> Collections.unmodifiableList(ids));
+      sourceIdsByTargetId.replaceAll((id, ids) -> Collections.unmodifiableList(ids));
+    }
+  }
+}
@@ -159,4 +159,26 @@ public interface WorkbasketAccessMapper {
       @Param("workbasketKey") String workbasketKey,
       @Param("domain") String domain,
       @Param("accessIds") List<String> accessIds);
+
+  @SelectProvider(type = WorkbasketAccessSqlProvider.class, method = "findPermissionsByAccessIds")
+  @Result(property = "workbasketId", column = "WORKBASKET_ID")
+  @Result(property = "permRead", column = "PERM_READ")
+  @Result(property = "permOpen", column = "PERM_OPEN")
+  @Result(property = "permAppend", column = "PERM_APPEND")
+  @Result(property = "permTransfer", column = "PERM_TRANSFER")
+  @Result(property = "permDistribute", column = "PERM_DISTRIBUTE")
+  @Result(property = "permCustom1", column = "PERM_CUSTOM_1")
+  @Result(property = "permCustom2", column = "PERM_CUSTOM_2")
+  @Result(property = "permCustom3", column = "PERM_CUSTOM_3")
+  @Result(property = "permCustom4", column = "PERM_CUSTOM_4")
+  @Result(property = "permCustom5", column = "PERM_CUSTOM_5")
+  @Result(property = "permCustom6", column = "PERM_CUSTOM_6")
+  @Result(property = "permCustom7", column = "PERM_CUSTOM_7")
+  @Result(property = "permCustom8", column = "PERM_CUSTOM_8")
+  @Result(property = "permCustom9", column = "PERM_CUSTOM_9")
+  @Result(property = "permCustom10", column = "PERM_CUSTOM_10")
+  @Result(property = "permCustom11", column = "PERM_CUSTOM_11")
+  @Result(property = "permCustom12", column = "PERM_CUSTOM_12")
+  List<WorkbasketAccessItemImpl> findPermissionsByAccessIds(
+      @Param("accessIds") List<String> accessIds);
 }
@@ -144,6 +144,26 @@ public class WorkbasketAccessSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  public static String findPermissionsByAccessIds() {
+    return OPENING_SCRIPT_TAG
+        + "<choose>"
+        + "<when test=\"_databaseId == 'db2'\">"
+        + "SELECT WORKBASKET_ID, "
+        + getMaximumPermissionStatement(false)
+        + "</when>"
+        + "<otherwise>"
+        + "SELECT WORKBASKET_ID, "
+        + getMaximumPermissionStatement(true)
+        + "</otherwise>"
+        + "</choose>"
+        + "FROM WORKBASKET_ACCESS_LIST "
+        + "WHERE ACCESS_ID IN "
+        + "(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+        + "GROUP BY WORKBASKET_ID "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
   private static String commonUpdateStatement() {
     return Stream.concat(COLUMNS.stream(), PERMISSIONS.stream())
         .map(col -> col.getLeft() + " = " + col.getRight())
@@ -0,0 +1,64 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import pro.taskana.common.internal.ChangeVersionMapper;
+import pro.taskana.common.internal.MasterDataCache;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+/**
+ * Caches the workbaskets by their id and by their key and domain. The batch loader reads the
+ * workbaskets with the given ids, it is used when several workbaskets are requested at once, e.g.
+ * for the summaries of a page of tasks.
+ */
+public class WorkbasketCache extends MasterDataCache<WorkbasketImpl> {
+
+  private final Function<List<String>, List<WorkbasketImpl>> batchLoader;
+
+  public WorkbasketCache(
+      boolean enabled,
+      Duration pollInterval,
+      int maxSize,
+      ChangeVersionMapper changeVersionMapper,
+      Function<List<String>, List<WorkbasketImpl>> batchLoader) {
+    super("WORKBASKET", enabled, pollInterval, maxSize, changeVersionMapper);
+    this.batchLoader = batchLoader;
+  }
+
+  public WorkbasketImpl getById(String id, Supplier<WorkbasketImpl> loader) {
+    return get(id, loader);
+  }
+
+  public Map<String, WorkbasketImpl> getByIds(Collection<String> ids) {
+    return getAll(ids, batchLoader);
+  }
+
+  public WorkbasketImpl getByKeyAndDomain(
+      String key, String domain, Supplier<WorkbasketImpl> loader) {
+    if (key == null || domain == null) {
+      return loader.get();
+    }
+    // the key and domain of workbaskets are compared case insensitively
+    return get(
+        Arrays.asList(key.toUpperCase(Locale.ROOT), domain.toUpperCase(Locale.ROOT)), loader);
+  }
+
+  @Override
+  protected WorkbasketImpl copy(WorkbasketImpl workbasket) {
+    WorkbasketImpl copy = workbasket.copy(workbasket.getKey());
+    copy.setId(workbasket.getId());
+    return copy;
+  }
+
+  @Override
+  protected String getId(WorkbasketImpl workbasket) {
+    return workbasket.getId();
+  }
+}
@@ -37,6 +37,27 @@ public interface WorkbasketMapper {
   @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")
   WorkbasketImpl findById(@Param("id") String id);
 
+  @SelectProvider(type = WorkbasketSqlProvider.class, method = "findByIds")
+  @Result(property = "id", column = "ID")
+  @Result(property = "key", column = "KEY")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "modified", column = "MODIFIED")
+  @Result(property = "name", column = "NAME")
+  @Result(property = "domain", column = "DOMAIN")
+  @Result(property = "type", column = "TYPE")
+  @Result(property = "description", column = "DESCRIPTION")
+  @Result(property = "owner", column = "OWNER")
+  @Result(property = "custom1", column = "CUSTOM_1")
+  @Result(property = "custom2", column = "CUSTOM_2")
+  @Result(property = "custom3", column = "CUSTOM_3")
+  @Result(property = "custom4", column = "CUSTOM_4")
+  @Result(property = "orgLevel1", column = "ORG_LEVEL_1")
+  @Result(property = "orgLevel2", column = "ORG_LEVEL_2")
+  @Result(property = "orgLevel3", column = "ORG_LEVEL_3")
+  @Result(property = "orgLevel4", column = "ORG_LEVEL_4")
+  @Result(property = "markedForDeletion", column = "MARKED_FOR_DELETION")
+  List<WorkbasketImpl> findByIds(@Param("ids") List<String> ids);
+
   @SelectProvider(type = WorkbasketSqlProvider.class, method = "findByKeyAndDomain")
   @Result(property = "id", column = "ID")
   @Result(property = "key", column = "KEY")
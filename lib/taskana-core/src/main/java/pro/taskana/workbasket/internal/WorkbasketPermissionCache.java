@@ -0,0 +1,153 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
+
+/**
+ * Caches the workbasket permissions which are granted to a set of access ids.
+ *
+ * <p>For every set of access ids the cache holds a map from workbasket id to a bitmask of the
+ * granted {@linkplain WorkbasketPermission permissions}. An entry expires after the configured
+ * time to live and the least recently used entry is evicted as soon as the maximum size is
+ * exceeded. Every change of the workbasket access items has to {@linkplain #invalidate()
+ * invalidate} the cache. A time to live of zero disables the cache.
+ */
+public class WorkbasketPermissionCache {
+
+  private final long timeToLiveNanos;
+  private final Function<List<String>, List<WorkbasketAccessItemImpl>> loader;
+  private final Map<Set<String>, CacheEntry> entries;
+  private long generation;
+
+  public WorkbasketPermissionCache(
+      Duration timeToLive,
+      int maxSize,
+      Function<List<String>, List<WorkbasketAccessItemImpl>> loader) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.loader = loader;
+    this.entries =
+        new LinkedHashMap<Set<String>, CacheEntry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Set<String>, CacheEntry> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  public boolean isEnabled() {
+    return timeToLiveNanos > 0;
+  }
+
+  /**
+   * Returns the granted permissions of all workbaskets which the given access ids have access
+   * to. The permissions are loaded from the database if no valid cache entry exists. The caller
+   * has to hold an open connection.
+   *
+   * @param accessIds the access ids of the current user
+   * @return a map from workbasket id to the bitmask of the granted permissions
+   */
+  public Map<String, Integer> getPermissions(Collection<String> accessIds) {
+    Set<String> key = Collections.unmodifiableSet(new HashSet<>(accessIds));
+    long loadedGeneration;
+    synchronized (this) {
+      CacheEntry entry = entries.get(key);
+      if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+        return entry.permissions;
+      }
+      loadedGeneration = generation;
+    }
+
+    Map<String, Integer> permissions = load(key);
+
+    synchronized (this) {
+      // do not cache permissions which might have been read before the last invalidation
+      if (isEnabled() && loadedGeneration == generation) {
+        entries.put(key, new CacheEntry(permissions, System.nanoTime() + timeToLiveNanos));
+      }
+    }
+    return permissions;
+  }
+
+  public List<WorkbasketPermission> getPermissions(
+      Collection<String> accessIds, String workbasketId) {
+    return toPermissions(getPermissions(accessIds).getOrDefault(workbasketId, 0));
+  }
+
+  public List<String> getWorkbasketIdsWithPermission(
+      Collection<String> accessIds, WorkbasketPermission permission) {
+    int mask = toMask(permission);
+    return getPermissions(accessIds).entrySet().stream()
+        .filter(entry -> (entry.getValue() & mask) != 0)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toList());
+  }
+
+  public synchronized void invalidate() {
+    generation++;
+    entries.clear();
+  }
+
+  static int toMask(WorkbasketPermission... permissions) {
+    int mask = 0;
+    for (WorkbasketPermission permission : permissions) {
+      mask |= 1 << permission.ordinal();
+    }
+    return mask;
+  }
+
+  static int toMask(WorkbasketAccessItem accessItem) {
+    int mask = 0;
+    for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+      if (accessItem.getPermission(permission)) {
+        mask |= toMask(permission);
+      }
+    }
+    return mask;
+  }
+
+  static List<WorkbasketPermission> toPermissions(int mask) {
+    List<WorkbasketPermission> permissions = new ArrayList<>();
+    for (WorkbasketPermission permission : WorkbasketPermission.values()) {
+      if ((mask & toMask(permission)) != 0) {
+        permissions.add(permission);
+      }
+    }
+    return permissions;
+  }
+
+  private Map<String, Integer> load(Set<String> accessIds) {
+    if (accessIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<String, Integer> permissions = new HashMap<>();
+    for (WorkbasketAccessItemImpl accessItem : loader.apply(new ArrayList<>(accessIds))) {
+      permissions.put(accessItem.getWorkbasketId(), toMask(accessItem));
+    }
+    return Collections.unmodifiableMap(permissions);
+  }
+
+  private static class CacheEntry {
+
+    private final Map<String, Integer> permissions;
+    private final long expiresAt;
+
+    private CacheEntry(Map<String, Integer> permissions, long expiresAt) {
+      this.permissions = permissions;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
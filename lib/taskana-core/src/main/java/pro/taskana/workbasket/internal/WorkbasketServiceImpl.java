@@ -3,11 +3,19 @@ package pro.taskana.workbasket.internal;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
@@ -15,6 +23,7 @@ import org.slf4j.LoggerFactory;
 
 import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.ConcurrencyException;
 import pro.taskana.common.api.exceptions.DomainNotFoundException;
@@ -22,8 +31,10 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketAccessItemCreatedEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketAccessItemDeletedEvent;
 import pro.taskana.spi.history.api.events.workbasket.WorkbasketAccessItemUpdatedEvent;
@@ -58,24 +69,35 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class WorkbasketServiceImpl implements WorkbasketService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketServiceImpl.class);
+  private static final int MAX_IDS_PER_QUERY = 1000;
+  private static final int WRITE_BATCH_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketMapper workbasketMapper;
   private final DistributionTargetMapper distributionTargetMapper;
   private final WorkbasketAccessMapper workbasketAccessMapper;
   private final HistoryEventManager historyEventManager;
+  private final WorkbasketPermissionCache workbasketPermissionCache;
+  private final WorkbasketCache workbasketCache;
+  private final DistributionGraphCache distributionGraphCache;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       HistoryEventManager historyEventManager,
       WorkbasketMapper workbasketMapper,
       DistributionTargetMapper distributionTargetMapper,
-      WorkbasketAccessMapper workbasketAccessMapper) {
+      WorkbasketAccessMapper workbasketAccessMapper,
+      WorkbasketPermissionCache workbasketPermissionCache,
+      WorkbasketCache workbasketCache,
+      DistributionGraphCache distributionGraphCache) {
     this.taskanaEngine = taskanaEngine;
     this.workbasketMapper = workbasketMapper;
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
     this.historyEventManager = historyEventManager;
+    this.workbasketPermissionCache = workbasketPermissionCache;
+    this.workbasketCache = workbasketCache;
+    this.distributionGraphCache = distributionGraphCache;
   }
 
   @Override
@@ -84,7 +106,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     Workbasket result;
     try {
       taskanaEngine.openConnection();
-      result = workbasketMapper.findById(workbasketId);
+      result = workbasketCache.getById(workbasketId, () -> workbasketMapper.findById(workbasketId));
 
       if (result == null) {
         throw new WorkbasketNotFoundException(workbasketId);
@@ -112,7 +134,11 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     Workbasket workbasket =
         taskanaEngine.executeInDatabaseConnection(
-            () -> workbasketMapper.findByKeyAndDomain(workbasketKey, domain));
+            () ->
+                workbasketCache.getByKeyAndDomain(
+                    workbasketKey,
+                    domain,
+                    () -> workbasketMapper.findByKeyAndDomain(workbasketKey, domain)));
     if (workbasket == null) {
       throw new WorkbasketNotFoundException(workbasketKey, domain);
     }
@@ -120,6 +146,27 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return workbasket;
   }
 
+  @Override
+  public List<Workbasket> getWorkbaskets(List<String> workbasketIds)
+      throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    List<Workbasket> result = new ArrayList<>();
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(workbasketIds, MAX_IDS_PER_QUERY)) {
+        Map<String, WorkbasketImpl> workbasketsById = workbasketCache.getByIds(idsOfBatch);
+        idsOfBatch.stream()
+            .map(workbasketsById::get)
+            .filter(Objects::nonNull)
+            .forEach(result::add);
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public Workbasket createWorkbasket(Workbasket newWorkbasket)
       throws InvalidArgumentException, NotAuthorizedException, WorkbasketAlreadyExistException,
@@ -145,6 +192,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       validateWorkbasket(workbasket);
 
       workbasketMapper.insert(workbasket);
+      workbasketCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -178,6 +226,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     try {
       taskanaEngine.openConnection();
+      // the update has to be based on the workbasket in the database
+      workbasketCache.invalidate();
 
       Workbasket oldWorkbasket;
 
@@ -202,6 +252,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       } else {
         workbasketMapper.update(workbasketImplToUpdate);
       }
+      workbasketCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -266,6 +317,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       accessItem.setWorkbasketKey(wb.getKey());
       try {
         workbasketAccessMapper.insert(accessItem);
+        invalidatePermissionCache();
 
         if (historyEventManager.isEnabled()) {
 
@@ -326,6 +378,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -365,6 +418,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.delete(accessItemId);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled() && accessItem != null) {
 
@@ -396,7 +450,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
+      if (workbasketCache.getById(workbasketId, () -> workbasketMapper.findById(workbasketId))
+          == null) {
         throw new WorkbasketNotFoundException(workbasketId);
       }
 
@@ -404,15 +459,10 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketAndAccessId(
-                      workbasketId,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
+      List<WorkbasketPermission> grantedPermissions = getPermissionsForWorkbasket(workbasketId);
 
-      if (!grantedPermissions.isPresent()
-          || !grantedPermissions.get().containsAll(Arrays.asList(requestedPermissions))) {
+      if (grantedPermissions.isEmpty()
+          || !grantedPermissions.containsAll(Arrays.asList(requestedPermissions))) {
         throw new MismatchedWorkbasketPermissionException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketId,
@@ -430,23 +480,32 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
+      WorkbasketImpl workbasket =
+          workbasketCache.getByKeyAndDomain(
+              workbasketKey,
+              domain,
+              () -> workbasketMapper.findByKeyAndDomain(workbasketKey, domain));
+      if (workbasket == null) {
         throw new WorkbasketNotFoundException(workbasketKey, domain);
       }
       if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-                      workbasketKey,
-                      domain,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
+      List<WorkbasketPermission> grantedPermissions;
+      if (workbasketPermissionCache.isEnabled()) {
+        grantedPermissions = getPermissionsForWorkbasket(workbasket.getId());
+      } else {
+        grantedPermissions =
+            getPermissionsFromWorkbasketAccessItem(
+                workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
+                    workbasketKey,
+                    domain,
+                    taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()));
+      }
 
-      if (!grantedPermissions.isPresent()
-          || !grantedPermissions.get().containsAll(Arrays.asList(requestedPermissions))) {
+      if (grantedPermissions.isEmpty()
+          || !grantedPermissions.containsAll(Arrays.asList(requestedPermissions))) {
         throw new MismatchedWorkbasketPermissionException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketKey,
@@ -497,6 +556,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -539,9 +599,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
   @Override
   public List<WorkbasketPermission> getPermissionsForWorkbasket(String workbasketId) {
+    List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+    if (workbasketPermissionCache.isEnabled()) {
+      return workbasketPermissionCache.getPermissions(accessIds, workbasketId);
+    }
     WorkbasketAccessItem wbAcc =
-        workbasketAccessMapper.findByWorkbasketAndAccessId(
-            workbasketId, taskanaEngine.getEngine().getCurrentUserContext().getAccessIds());
+        workbasketAccessMapper.findByWorkbasketAndAccessId(workbasketId, accessIds);
     return this.getPermissionsFromWorkbasketAccessItem(wbAcc);
   }
 
@@ -558,9 +621,13 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasketId, WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasketId);
-      result.addAll(distributionTargets);
+      if (distributionGraphCache.isEnabled()) {
+        result.addAll(getSummaries(distributionGraphCache.getTargetIds(workbasketId)));
+      } else {
+        List<WorkbasketSummaryImpl> distributionTargets =
+            workbasketMapper.findDistributionTargets(workbasketId);
+        result.addAll(distributionTargets);
+      }
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -581,9 +648,34 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasket.getId());
-      result.addAll(distributionTargets);
+      if (distributionGraphCache.isEnabled()) {
+        result.addAll(getSummaries(distributionGraphCache.getTargetIds(workbasket.getId())));
+      } else {
+        List<WorkbasketSummaryImpl> distributionTargets =
+            workbasketMapper.findDistributionTargets(workbasket.getId());
+        result.addAll(distributionTargets);
+      }
+      return result;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  @Override
+  public Map<String, List<String>> getDistributionTargetIds(List<String> workbasketIds)
+      throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    Map<String, List<String>> result = new HashMap<>();
+    workbasketIds.forEach(workbasketId -> result.put(workbasketId, new ArrayList<>()));
+    try {
+      taskanaEngine.openConnection();
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(result.keySet(), MAX_IDS_PER_QUERY)) {
+        for (Pair<String, String> distributionTarget :
+            distributionTargetMapper.findBySourceIds(idsOfBatch)) {
+          result.get(distributionTarget.getLeft()).add(distributionTarget.getRight());
+        }
+      }
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -595,49 +687,67 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       throws WorkbasketNotFoundException, NotAuthorizedException {
 
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    Set<String> newTargetWorkbasketIds =
+        targetWorkbasketIds == null
+            ? Collections.emptySet()
+            : new LinkedHashSet<>(targetWorkbasketIds);
     try {
       taskanaEngine.openConnection();
+      // the source workbasket is updated, so it has to be read from the database
+      workbasketCache.invalidate();
       // check existence of source workbasket
-      WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
-
-      List<String> originalTargetWorkbasketIds = new ArrayList<>();
-
-      if (historyEventManager.isEnabled()) {
-        originalTargetWorkbasketIds = distributionTargetMapper.findBySourceId(sourceWorkbasketId);
+      final WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+      // check existence of all target workbaskets before anything is changed
+      checkWorkbasketsExist(newTargetWorkbasketIds);
+
+      // only the difference to the current distribution targets is written
+      List<String> originalTargetWorkbasketIds =
+          distributionTargetMapper.findBySourceId(sourceWorkbasketId);
+      Set<String> originalTargetWorkbasketIdSet = new HashSet<>(originalTargetWorkbasketIds);
+      List<String> removedTargetWorkbasketIds =
+          originalTargetWorkbasketIds.stream()
+              .filter(targetId -> !newTargetWorkbasketIds.contains(targetId))
+              .collect(Collectors.toList());
+      List<String> addedTargetWorkbasketIds =
+          newTargetWorkbasketIds.stream()
+              .filter(targetId -> !originalTargetWorkbasketIdSet.contains(targetId))
+              .collect(Collectors.toList());
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(removedTargetWorkbasketIds, MAX_IDS_PER_QUERY)) {
+        distributionTargetMapper.deleteMultipleBySourceId(sourceWorkbasketId, idsOfBatch);
+      }
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(addedTargetWorkbasketIds, MAX_IDS_PER_QUERY)) {
+        distributionTargetMapper.insertMultiple(sourceWorkbasketId, idsOfBatch);
+      }
+      distributionGraphCache.invalidate();
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Method setDistributionTargets() removed {} and added {} distribution targets "
+                + "of source '{}'",
+            removedTargetWorkbasketIds.size(),
+            addedTargetWorkbasketIds.size(),
+            sourceWorkbasketId);
       }
-
-      distributionTargetMapper.deleteAllDistributionTargetsBySourceId(sourceWorkbasketId);
 
       sourceWorkbasket.setModified(Instant.now());
       workbasketMapper.update(sourceWorkbasket);
+      workbasketCache.invalidate();
 
-      if (targetWorkbasketIds != null) {
-        for (String targetId : targetWorkbasketIds) {
-          // check for existence of target workbasket
-          getWorkbasket(targetId);
-          distributionTargetMapper.insert(sourceWorkbasketId, targetId);
-          if (LOGGER.isDebugEnabled()) {
-            LOGGER.debug(
-                "Method setDistributionTargets() created distribution target "
-                    + "for source '{}' and target {}",
-                sourceWorkbasketId,
-                targetId);
-          }
-        }
-
-        if (historyEventManager.isEnabled() && !targetWorkbasketIds.isEmpty()) {
+      if (historyEventManager.isEnabled()
+          && targetWorkbasketIds != null
+          && !targetWorkbasketIds.isEmpty()) {
 
-          String details =
-              ObjectAttributeChangeDetector.determineChangesInAttributes(
-                  originalTargetWorkbasketIds, targetWorkbasketIds);
+        String details =
+            ObjectAttributeChangeDetector.determineChangesInAttributes(
+                originalTargetWorkbasketIds, targetWorkbasketIds);
 
-          historyEventManager.createEvent(
-              new WorkbasketDistributionTargetsUpdatedEvent(
-                  IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT),
-                  sourceWorkbasket,
-                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
-                  details));
-        }
+        historyEventManager.createEvent(
+            new WorkbasketDistributionTargetsUpdatedEvent(
+                IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT),
+                sourceWorkbasket,
+                taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+                details));
       }
 
     } finally {
@@ -645,7 +755,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug(
             "setDistributionTargets set {} distribution targets to source workbasket {} ",
-            targetWorkbasketIds == null ? 0 : targetWorkbasketIds.size(),
+            newTargetWorkbasketIds.size(),
             sourceWorkbasketId);
       }
     }
@@ -658,6 +768,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
     try {
       taskanaEngine.openConnection();
+      // the source workbasket is updated, so it has to be read from the database
+      workbasketCache.invalidate();
       // check existence of source workbasket
       WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
       // check existence of target workbasket
@@ -674,6 +786,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
       } else {
         distributionTargetMapper.insert(sourceWorkbasketId, targetWorkbasketId);
+        distributionGraphCache.invalidate();
 
         if (historyEventManager.isEnabled()) {
 
@@ -695,6 +808,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
         sourceWorkbasket.setModified(Instant.now());
         workbasketMapper.update(sourceWorkbasket);
+        workbasketCache.invalidate();
       }
 
     } finally {
@@ -717,6 +831,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
               sourceWorkbasketId, targetWorkbasketId);
       if (numberOfDistTargets > 0) {
         distributionTargetMapper.delete(sourceWorkbasketId, targetWorkbasketId);
+        distributionGraphCache.invalidate();
 
         if (historyEventManager.isEnabled()) {
 
@@ -743,9 +858,12 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
 
         try {
+          // the source workbasket is updated, so it has to be read from the database
+          workbasketCache.invalidate();
           WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
           sourceWorkbasket.setModified(Instant.now());
           workbasketMapper.update(sourceWorkbasket);
+          workbasketCache.invalidate();
         } catch (WorkbasketNotFoundException e) {
           if (LOGGER.isDebugEnabled()) {
             LOGGER.debug(
@@ -804,6 +922,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
       if (canBeDeletedNow) {
         workbasketMapper.delete(workbasketId);
+        workbasketCache.invalidate();
         deleteReferencesToWorkbasket(workbasketId);
 
         if (historyEventManager.isEnabled()) {
@@ -861,6 +980,115 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  @Override
+  public BulkOperationResults<KeyDomain, TaskanaException> createOrUpdateWorkbaskets(
+      List<Workbasket> workbaskets) throws NotAuthorizedException {
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
+    BulkOperationResults<KeyDomain, TaskanaException> bulkLog = new BulkOperationResults<>();
+    try {
+      taskanaEngine.openConnection();
+      Map<KeyDomain, Workbasket> workbasketsByKeyDomain = new LinkedHashMap<>();
+      for (Workbasket workbasket : workbaskets) {
+        KeyDomain keyDomain = new KeyDomain(workbasket.getKey(), workbasket.getDomain());
+        if (workbasketsByKeyDomain.putIfAbsent(keyDomain, workbasket) != null) {
+          bulkLog.addError(
+              keyDomain,
+              new WorkbasketAlreadyExistException(workbasket.getKey(), workbasket.getDomain()));
+        }
+      }
+
+      String[] domains =
+          workbasketsByKeyDomain.keySet().stream()
+              .map(KeyDomain::getDomain)
+              .filter(Objects::nonNull)
+              .distinct()
+              .toArray(String[]::new);
+      List<String> existingIds = new ArrayList<>();
+      if (domains.length > 0) {
+        createWorkbasketQuery().domainIn(domains).list().stream()
+            .filter(
+                summary ->
+                    workbasketsByKeyDomain.containsKey(
+                        new KeyDomain(summary.getKey(), summary.getDomain())))
+            .map(WorkbasketSummary::getId)
+            .forEach(existingIds::add);
+      }
+      Map<KeyDomain, WorkbasketImpl> existingWorkbaskets = new HashMap<>();
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(existingIds, MAX_IDS_PER_QUERY)) {
+        workbasketMapper
+            .findByIds(idsOfBatch)
+            .forEach(
+                existing ->
+                    existingWorkbaskets.put(
+                        new KeyDomain(existing.getKey(), existing.getDomain()), existing));
+      }
+
+      // the workbaskets are validated in memory, so that they can be written in batches
+      Instant now = Instant.now();
+      Map<String, WorkbasketImpl> oldWorkbasketsById = new HashMap<>();
+      List<WorkbasketImpl> workbasketsToWrite = new ArrayList<>();
+      for (Map.Entry<KeyDomain, Workbasket> entry : workbasketsByKeyDomain.entrySet()) {
+        WorkbasketImpl workbasket = (WorkbasketImpl) entry.getValue();
+        WorkbasketImpl existingWorkbasket = existingWorkbaskets.get(entry.getKey());
+        try {
+          if (existingWorkbasket == null) {
+            workbasket.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET));
+            workbasket.setCreated(now);
+            validateWorkbasket(workbasket);
+          } else {
+            validateNameAndType(workbasket);
+            workbasket.setId(existingWorkbasket.getId());
+            workbasket.setCreated(existingWorkbasket.getCreated());
+            oldWorkbasketsById.put(existingWorkbasket.getId(), existingWorkbasket);
+          }
+          workbasket.setModified(now);
+          workbasketsToWrite.add(workbasket);
+        } catch (TaskanaException e) {
+          bulkLog.addError(entry.getKey(), e);
+        }
+      }
+
+      List<WorkbasketImpl> writtenWorkbaskets =
+          writeWorkbasketsInBatches(workbasketsToWrite, oldWorkbasketsById.keySet(), bulkLog);
+      if (!writtenWorkbaskets.isEmpty()) {
+        workbasketCache.invalidate();
+      }
+
+      if (historyEventManager.isEnabled()) {
+        String userId = taskanaEngine.getEngine().getCurrentUserContext().getUserid();
+        for (WorkbasketImpl workbasket : writtenWorkbaskets) {
+          WorkbasketImpl oldWorkbasket = oldWorkbasketsById.get(workbasket.getId());
+          String eventId =
+              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT);
+          if (oldWorkbasket == null) {
+            String details =
+                ObjectAttributeChangeDetector.determineChangesInAttributes(
+                    newWorkbasket("", ""), workbasket);
+            historyEventManager.createEvent(
+                new WorkbasketCreatedEvent(eventId, workbasket, userId, details));
+          } else {
+            String details =
+                ObjectAttributeChangeDetector.determineChangesInAttributes(
+                    oldWorkbasket, workbasket);
+            historyEventManager.createEvent(
+                new WorkbasketUpdatedEvent(eventId, workbasket, userId, details));
+          }
+        }
+      }
+
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(
+            "Method createOrUpdateWorkbaskets() wrote {} of {} Workbaskets.",
+            writtenWorkbaskets.size(),
+            workbaskets.size());
+      }
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public List<WorkbasketSummary> getDistributionSources(String workbasketId)
       throws NotAuthorizedException, WorkbasketNotFoundException {
@@ -872,9 +1100,13 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN)) {
         checkAuthorization(workbasketId, WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionSources =
-          workbasketMapper.findDistributionSources(workbasketId);
-      result.addAll(distributionSources);
+      if (distributionGraphCache.isEnabled()) {
+        result.addAll(getSummaries(distributionGraphCache.getSourceIds(workbasketId)));
+      } else {
+        List<WorkbasketSummaryImpl> distributionSources =
+            workbasketMapper.findDistributionSources(workbasketId);
+        result.addAll(distributionSources);
+      }
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -893,9 +1125,13 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN)) {
         checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionSources =
-          workbasketMapper.findDistributionSources(workbasket.getId());
-      result.addAll(distributionSources);
+      if (distributionGraphCache.isEnabled()) {
+        result.addAll(getSummaries(distributionGraphCache.getSourceIds(workbasket.getId())));
+      } else {
+        List<WorkbasketSummaryImpl> distributionSources =
+            workbasketMapper.findDistributionSources(workbasket.getId());
+        result.addAll(distributionSources);
+      }
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -917,6 +1153,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         workbasketAccessItems = workbasketAccessMapper.findByAccessId(accessId);
       }
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      invalidatePermissionCache();
 
       if (historyEventManager.isEnabled()) {
 
@@ -1042,6 +1279,53 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return false;
   }
 
+  private List<WorkbasketImpl> writeWorkbasketsInBatches(
+      List<WorkbasketImpl> workbaskets,
+      Set<String> idsOfExistingWorkbaskets,
+      BulkOperationResults<KeyDomain, TaskanaException> bulkLog) {
+    List<WorkbasketImpl> writtenWorkbaskets = new ArrayList<>(workbaskets.size());
+    for (List<WorkbasketImpl> chunk :
+        CollectionUtil.partitionBasedOnSize(workbaskets, WRITE_BATCH_SIZE)) {
+      try {
+        writeWorkbasketsInBatchSession(chunk, idsOfExistingWorkbaskets);
+        writtenWorkbaskets.addAll(chunk);
+      } catch (PersistenceException e) {
+        // the failing statement is not known, so each workbasket of the chunk is written on its own
+        for (WorkbasketImpl workbasket : chunk) {
+          try {
+            writeWorkbasketsInBatchSession(
+                Collections.singletonList(workbasket), idsOfExistingWorkbaskets);
+            writtenWorkbaskets.add(workbasket);
+          } catch (PersistenceException singleWriteException) {
+            bulkLog.addError(
+                new KeyDomain(workbasket.getKey(), workbasket.getDomain()),
+                new InvalidArgumentException(
+                    String.format(
+                        "Workbasket with key '%s' and domain '%s' could not be written.",
+                        workbasket.getKey(), workbasket.getDomain()),
+                    singleWriteException));
+          }
+        }
+      }
+    }
+    return writtenWorkbaskets;
+  }
+
+  private void writeWorkbasketsInBatchSession(
+      List<WorkbasketImpl> workbaskets, Set<String> idsOfExistingWorkbaskets) {
+    taskanaEngine.executeInBatchSessionWithSavepoint(
+        batchSession -> {
+          WorkbasketMapper batchWorkbasketMapper = batchSession.getMapper(WorkbasketMapper.class);
+          for (WorkbasketImpl workbasket : workbaskets) {
+            if (idsOfExistingWorkbaskets.contains(workbasket.getId())) {
+              batchWorkbasketMapper.update(workbasket);
+            } else {
+              batchWorkbasketMapper.insert(workbasket);
+            }
+          }
+        });
+  }
+
   private void validateWorkbasket(Workbasket workbasket)
       throws DomainNotFoundException, InvalidArgumentException {
     // check that required properties (database not null) are set
@@ -1105,6 +1389,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       WorkbasketImpl workbasket = workbasketMapper.findById(workbasketId);
       workbasket.setMarkedForDeletion(true);
       workbasketMapper.update(workbasket);
+      workbasketCache.invalidate();
       if (historyEventManager.isEnabled()) {
 
         historyEventManager.createEvent(
@@ -1119,10 +1404,46 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  private void checkWorkbasketsExist(Collection<String> workbasketIds)
+      throws WorkbasketNotFoundException {
+    for (List<String> idsOfBatch :
+        CollectionUtil.partitionBasedOnSize(workbasketIds, MAX_IDS_PER_QUERY)) {
+      Map<String, WorkbasketImpl> workbasketsById = workbasketCache.getByIds(idsOfBatch);
+      Optional<String> missingId =
+          idsOfBatch.stream().filter(id -> !workbasketsById.containsKey(id)).findFirst();
+      if (missingId.isPresent()) {
+        throw new WorkbasketNotFoundException(missingId.get());
+      }
+    }
+  }
+
+  private List<WorkbasketSummary> getSummaries(List<String> workbasketIds) {
+    List<WorkbasketSummary> summaries = new ArrayList<>();
+    for (List<String> idsOfBatch :
+        CollectionUtil.partitionBasedOnSize(workbasketIds, MAX_IDS_PER_QUERY)) {
+      Map<String, WorkbasketImpl> workbasketsById = workbasketCache.getByIds(idsOfBatch);
+      idsOfBatch.stream()
+          .map(workbasketsById::get)
+          .filter(Objects::nonNull)
+          .map(WorkbasketImpl::asSummary)
+          .forEach(summaries::add);
+    }
+    return summaries;
+  }
+
+  private void invalidatePermissionCache() {
+    // the cache is cleared at once, so that the change is visible within its transaction, and
+    // again after the transaction, because other threads might have cached the old permissions
+    workbasketPermissionCache.invalidate();
+    taskanaEngine.runAfterCompletion(committed -> workbasketPermissionCache.invalidate());
+  }
+
   private void deleteReferencesToWorkbasket(String workbasketId) {
     // deletes sub-tables workbasket references
     distributionTargetMapper.deleteAllDistributionTargetsBySourceId(workbasketId);
     distributionTargetMapper.deleteAllDistributionTargetsByTargetId(workbasketId);
+    distributionGraphCache.invalidate();
     workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
+    invalidatePermissionCache();
   }
 }
@@ -44,6 +44,16 @@ public class WorkbasketSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  public static String findByIds() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT "
+        + commonSelectFields(false)
+        + " FROM WORKBASKET WHERE ID IN "
+        + "(<foreach collection='ids' item='id' separator=','>#{id}</foreach>) "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
   public static String findSummaryById() {
     return OPENING_SCRIPT_TAG
         + "SELECT "
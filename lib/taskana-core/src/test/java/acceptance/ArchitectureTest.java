@@ -84,7 +84,11 @@ class ArchitectureTest {
           "pro.taskana.spi.task.api",
           "pro.taskana.spi.task.internal",
           "pro.taskana.spi.priority.api",
-          "pro.taskana.spi.priority.internal");
+          "pro.taskana.spi.priority.internal",
+          "pro.taskana.spi.metrics.api",
+          "pro.taskana.spi.metrics.internal",
+          "pro.taskana.spi.idgeneration.api",
+          "pro.taskana.spi.idgeneration.internal");
   private static JavaClasses importedClasses;
 
   @BeforeAll
@@ -124,7 +124,8 @@ class PojoTest {
                         && !javaClass.getSimpleName().equals("StringItem")
                         && !javaClass.getSimpleName().equals("BigIntegerItem")
                         && !javaClass.getSimpleName().equals("IntItem")
-                        && !javaClass.getSimpleName().equals("LongItem"))
+                        && !javaClass.getSimpleName().equals("LongItem")
+                        && !javaClass.getSimpleName().equals("LazyJsonMap"))
             .map(JavaClass::reflect)
             .collect(Collectors.toList());
   }
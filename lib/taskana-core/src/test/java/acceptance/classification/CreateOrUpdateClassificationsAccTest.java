@@ -0,0 +1,164 @@
+package acceptance.classification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.exceptions.ClassificationAlreadyExistException;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+
+/** Acceptance test for creating or updating several classifications at once. */
+@ExtendWith(JaasExtension.class)
+class CreateOrUpdateClassificationsAccTest extends AbstractAccTest {
+
+  private final ClassificationService classificationService =
+      taskanaEngine.getClassificationService();
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_LinkChildToParent_When_ParentIsListedAfterChild() throws Exception {
+    Classification child =
+        classificationService.newClassification("BULK_CHILD", "DOMAIN_A", "TASK");
+    child.setParentKey("BULK_PARENT");
+    Classification parent =
+        classificationService.newClassification("BULK_PARENT", "DOMAIN_A", "TASK");
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        classificationService.createOrUpdateClassifications(List.of(child, parent));
+
+    assertThat(results.containsErrors()).isFalse();
+    Classification createdParent =
+        classificationService.getClassification("BULK_PARENT", "DOMAIN_A");
+    Classification createdChild = classificationService.getClassification("BULK_CHILD", "DOMAIN_A");
+    assertThat(createdChild.getParentId()).isEqualTo(createdParent.getId());
+    assertThat(createdChild.getParentKey()).isEqualTo("BULK_PARENT");
+    assertThat(classificationService.getClassification("BULK_CHILD", "").getParentKey())
+        .isEqualTo("BULK_PARENT");
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_UpdateExistingClassification_When_KeyAndDomainExist() throws Exception {
+    Classification existing = classificationService.getClassification("L1050", "DOMAIN_A");
+    Classification classification =
+        classificationService.newClassification("L1050", "DOMAIN_A", existing.getType());
+    classification.setName("bulk updated name");
+    classification.setParentKey("L11010");
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        classificationService.createOrUpdateClassifications(List.of(classification));
+
+    assertThat(results.containsErrors()).isFalse();
+    Classification updated = classificationService.getClassification("L1050", "DOMAIN_A");
+    assertThat(updated.getId()).isEqualTo(existing.getId());
+    assertThat(updated.getName()).isEqualTo("bulk updated name");
+    assertThat(updated.getParentId())
+        .isEqualTo(classificationService.getClassification("L11010", "DOMAIN_A").getId());
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReportErrors_When_ClassificationsAreInvalid() throws Exception {
+    Classification first = classificationService.newClassification("BULK_DUP", "DOMAIN_A", "TASK");
+    Classification duplicate =
+        classificationService.newClassification("BULK_DUP", "DOMAIN_A", "TASK");
+    Classification cycleA = classificationService.newClassification("BULK_A", "DOMAIN_B", "TASK");
+    cycleA.setParentKey("BULK_B");
+    Classification cycleB = classificationService.newClassification("BULK_B", "DOMAIN_B", "TASK");
+    cycleB.setParentKey("BULK_A");
+    Classification typeChange =
+        classificationService.newClassification("L1050", "DOMAIN_A", "DOCUMENT");
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        classificationService.createOrUpdateClassifications(
+            List.of(first, duplicate, cycleA, cycleB, typeChange));
+
+    assertThat(results.getErrorMap())
+        .containsOnlyKeys(
+            new KeyDomain("BULK_DUP", "DOMAIN_A"),
+            new KeyDomain("BULK_A", "DOMAIN_B"),
+            new KeyDomain("BULK_B", "DOMAIN_B"),
+            new KeyDomain("L1050", "DOMAIN_A"));
+    assertThat(results.getErrorForId(new KeyDomain("BULK_DUP", "DOMAIN_A")))
+        .isInstanceOf(ClassificationAlreadyExistException.class);
+    assertThat(results.getErrorForId(new KeyDomain("BULK_A", "DOMAIN_B")))
+        .isInstanceOf(InvalidArgumentException.class)
+        .hasMessageContaining("cyclic parent relation");
+    assertThat(results.getErrorForId(new KeyDomain("L1050", "DOMAIN_A")))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(classificationService.getClassification("BULK_DUP", "DOMAIN_A")).isNotNull();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReportErrorsAndWriteOthers_When_DatabaseRejectsClassification() throws Exception {
+    Classification rejected =
+        classificationService.newClassification("BULK_REJECTED", "DOMAIN_A", "TASK");
+    rejected.setDescription("x".repeat(256));
+    Classification childOfRejected =
+        classificationService.newClassification("BULK_REJECTED_CHILD", "DOMAIN_A", "TASK");
+    childOfRejected.setParentKey("BULK_REJECTED");
+    Classification valid =
+        classificationService.newClassification("BULK_NOT_REJECTED", "DOMAIN_A", "TASK");
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        classificationService.createOrUpdateClassifications(
+            List.of(rejected, childOfRejected, valid));
+
+    assertThat(results.getErrorMap())
+        .containsOnlyKeys(
+            new KeyDomain("BULK_REJECTED", "DOMAIN_A"),
+            new KeyDomain("BULK_REJECTED_CHILD", "DOMAIN_A"));
+    assertThat(results.getErrorMap().values())
+        .hasOnlyElementsOfType(InvalidArgumentException.class);
+    assertThat(
+            classificationService
+                .createClassificationQuery()
+                .keyIn("BULK_REJECTED", "BULK_REJECTED_CHILD")
+                .list())
+        .isEmpty();
+    assertThat(classificationService.getClassification("BULK_NOT_REJECTED", "DOMAIN_A"))
+        .isNotNull();
+    assertThat(classificationService.getClassification("BULK_NOT_REJECTED", "")).isNotNull();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_UserIsNotAdmin() {
+    Classification classification =
+        classificationService.newClassification("BULK_USER", "DOMAIN_A", "TASK");
+
+    ThrowingCallable call =
+        () -> classificationService.createOrUpdateClassifications(List.of(classification));
+
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @Test
+  void should_ReturnClassificationsInOrderOfIds_When_GettingClassifications() {
+    List<Classification> classifications =
+        classificationService.getClassifications(
+            List.of(
+                "CLI:100000000000000000000000000000000004",
+                "CLI:999999999999999999999999999999999999",
+                "CLI:000000000000000000000000000000000003"));
+
+    assertThat(classifications)
+        .extracting(Classification::getId)
+        .containsExactly(
+            "CLI:100000000000000000000000000000000004", "CLI:000000000000000000000000000000000003");
+  }
+}
@@ -106,6 +106,30 @@ class ObjectAttributeChangeDetectorTest {
     assertThat(changedAttributes).hasSize(2);
   }
 
+  @Test
+  void should_WriteOldAndNewValues_When_PrimitiveAndObjectFieldsHaveChanged() {
+
+    TaskImpl oldTask = new TaskImpl();
+    oldTask.setPriority(1);
+    oldTask.setOwner("old \"Owner\"");
+
+    TaskImpl newTask = new TaskImpl();
+    newTask.setPriority(5);
+    newTask.setRead(true);
+    newTask.setCallbackState(CallbackState.CLAIMED);
+
+    String changes = ObjectAttributeChangeDetector.determineChangesInAttributes(oldTask, newTask);
+
+    assertThat(changes)
+        .contains("{\"newValue\":5,\"fieldName\":\"priority\",\"oldValue\":1}")
+        .contains("{\"newValue\":true,\"fieldName\":\"isRead\",\"oldValue\":false}")
+        .contains(
+            "{\"newValue\":\"CLAIMED\",\"fieldName\":\"callbackState\",\"oldValue\":\"\"}")
+        .contains(
+            "{\"newValue\":\"\",\"fieldName\":\"owner\",\"oldValue\":\"old \\\"Owner\\\"\"}");
+    assertThat(new JSONObject(changes).getJSONArray("changes")).hasSize(4);
+  }
+
   @Test
   void should_DetermineDifferences_When_ComparingWorkbaskets() {
 
@@ -0,0 +1,63 @@
+package acceptance.idgeneration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.DefaultTestEntities;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import testapi.TaskanaInject;
+import testapi.TaskanaIntegrationTest;
+import testapi.WithServiceProvider;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.spi.idgeneration.api.IdGenerationProvider;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.Workbasket;
+
+/** Acceptance test for the ids generated by a registered {@linkplain IdGenerationProvider}. */
+@TaskanaIntegrationTest
+@WithServiceProvider(
+    serviceProviderInterface = IdGenerationProvider.class,
+    serviceProviders = IdGenerationProviderAccTest.SequentialIdGenerationProvider.class)
+class IdGenerationProviderAccTest {
+
+  @TaskanaInject WorkbasketService workbasketService;
+  @TaskanaInject ClassificationService classificationService;
+
+  @AfterAll
+  static void restoreDefaultIdGeneration() {
+    IdGenerator.setIdGeneration(null);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_UseIdOfProvider_When_EntitiesAreCreated() throws Exception {
+    Workbasket workbasket =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStore(workbasketService);
+    Classification classification =
+        DefaultTestEntities.defaultTestClassification().buildAndStore(classificationService);
+
+    assertThat(workbasket.getId()).matches("WBI:SEQUENCE-\\d+");
+    assertThat(classification.getId()).matches("CLI:SEQUENCE-\\d+");
+  }
+
+  public static class SequentialIdGenerationProvider implements IdGenerationProvider {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {
+      // nothing to initialize
+    }
+
+    @Override
+    public String generateId(String prefix) {
+      return prefix + ":SEQUENCE-" + sequence.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+
+/** Acceptance test for the JobRunner which runs jobs in parallel. */
+class ParallelJobRunnerAccTest extends AbstractAccTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    executor = Executors.newFixedThreadPool(4);
+    TestJob.EXECUTIONS.set(0);
+    TestJob.started = new CountDownLatch(0);
+    TestJob.release = new CountDownLatch(0);
+    TestJob.fail = false;
+  }
+
+  @AfterEach
+  void after() {
+    TestJob.release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void should_RunClaimedJobsInParallel() throws Exception {
+    TestJob.started = new CountDownLatch(3);
+    createJobs(3);
+
+    new JobRunner(taskanaEngine, executor).runJobs();
+
+    assertThat(TestJob.EXECUTIONS).hasValue(3);
+    // every job waited until all jobs had been started
+    assertThat(TestJob.started.getCount()).isZero();
+    assertThat(findJobs()).isEmpty();
+  }
+
+  @Test
+  void should_ClaimAtMostMaxJobsPerPoll() throws Exception {
+    taskanaEngineConfiguration.setJobRunnerMaxJobsPerPoll(2);
+    createJobs(5);
+
+    new JobRunner(taskanaEngine, executor).runJobs();
+
+    assertThat(TestJob.EXECUTIONS).hasValue(2);
+    assertThat(findJobs()).hasSize(3);
+  }
+
+  @Test
+  void should_HonorConcurrencyLimitOfJobType() throws Exception {
+    taskanaEngineConfiguration.setJobRunnerMaxConcurrencyByType(
+        Map.of(TestJob.class.getName(), 1));
+    createJobs(3);
+
+    new JobRunner(taskanaEngine, executor).runJobs();
+
+    assertThat(TestJob.EXECUTIONS).hasValue(1);
+    assertThat(findJobs()).hasSize(2);
+  }
+
+  @Test
+  void should_RescheduleFailedJobWithBackoff() throws Exception {
+    taskanaEngineConfiguration.setJobRetryBackoff(Duration.ofHours(1));
+    TestJob.fail = true;
+    createJobs(1);
+    final Instant before = Instant.now();
+
+    JobRunner runner = new JobRunner(taskanaEngine, executor);
+    runner.runJobs();
+    runner.runJobs();
+
+    assertThat(TestJob.EXECUTIONS).hasValue(1);
+    List<ScheduledJob> jobs = findJobs();
+    assertThat(jobs).hasSize(1);
+    ScheduledJob job = jobs.get(0);
+    assertThat(job.getRetryCount()).isEqualTo(2);
+    assertThat(job.getLockedBy()).isNull();
+    assertThat(job.getLockExpires()).isNull();
+    assertThat(job.getDue()).isAfterOrEqualTo(before.plus(Duration.ofHours(1)));
+  }
+
+  @Test
+  void should_NotClaimRunningJob_When_LockIsRenewed() throws Exception {
+    taskanaEngineConfiguration.setJobLockExpirationPeriod(Duration.ofMillis(500));
+    TestJob.started = new CountDownLatch(1);
+    TestJob.release = new CountDownLatch(1);
+    createJobs(1);
+    Thread firstRunner = new Thread(() -> new JobRunner(taskanaEngine, executor).runJobs());
+    firstRunner.start();
+    assertThat(TestJob.started.await(10, TimeUnit.SECONDS)).isTrue();
+
+    // the lock would have expired twice without renewal
+    Thread.sleep(1000);
+    new JobRunner(taskanaEngine, executor).runJobs();
+    TestJob.release.countDown();
+    firstRunner.join();
+
+    assertThat(TestJob.EXECUTIONS).hasValue(1);
+    assertThat(findJobs()).isEmpty();
+  }
+
+  private void createJobs(int count) {
+    for (int i = 0; i < count; i++) {
+      ScheduledJob job = new ScheduledJob();
+      job.setType(TestJob.class.getName());
+      taskanaEngine.getJobService().createJob(job);
+    }
+  }
+
+  private List<ScheduledJob> findJobs() throws Exception {
+    return getJobMapper().findJobsToRun(Instant.now().plus(Duration.ofDays(1)));
+  }
+
+  /** Job which counts its executions and can be blocked or failed by the tests. */
+  public static class TestJob extends AbstractTaskanaJob {
+
+    static final AtomicInteger EXECUTIONS = new AtomicInteger();
+    static volatile CountDownLatch started = new CountDownLatch(0);
+    static volatile CountDownLatch release = new CountDownLatch(0);
+    static volatile boolean fail;
+
+    public TestJob(
+        TaskanaEngine taskanaEngine, TaskanaTransactionProvider txProvider, ScheduledJob job) {
+      super(taskanaEngine, txProvider, job, false);
+    }
+
+    @Override
+    protected String getType() {
+      return TestJob.class.getName();
+    }
+
+    @Override
+    protected void execute() {
+      EXECUTIONS.incrementAndGet();
+      started.countDown();
+      try {
+        if (!started.await(10, TimeUnit.SECONDS) || !release.await(10, TimeUnit.SECONDS)) {
+          throw new SystemException("test job timed out");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SystemException("test job interrupted", e);
+      }
+      if (fail) {
+        throw new SystemException("test job failed");
+      }
+    }
+  }
+}
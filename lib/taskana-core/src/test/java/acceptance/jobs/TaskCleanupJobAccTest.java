@@ -91,6 +91,30 @@ class TaskCleanupJobAccTest extends AbstractAccTest {
     assertThat(totalTasksCount).isEqualTo(68);
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CleanCompletedTasksOfSameParentBusiness_When_TasksAreDeletedInSeveralBatches()
+      throws Exception {
+    taskanaEngine.getConfiguration().setTaskCleanupJobAllCompletedSameParentBusiness(true);
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(2);
+    List<String> ids =
+        taskService
+            .createTaskQuery()
+            .parentBusinessProcessIdIn("DOC_0000000000000000006")
+            .list()
+            .stream()
+            .filter(task -> task.getCompleted() == null)
+            .map(TaskSummary::getId)
+            .collect(Collectors.toList());
+    taskService.deleteTasks(ids);
+
+    TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+    job.run();
+
+    long totalTasksCount = taskService.createTaskQuery().count();
+    assertThat(totalTasksCount).isEqualTo(68);
+  }
+
   @WithAccessId(user = "admin")
   @Test
   void shouldNotCleanCompleteTasksAfterDefinedDay() throws Exception {
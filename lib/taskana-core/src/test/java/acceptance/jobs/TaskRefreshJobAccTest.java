@@ -0,0 +1,151 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.jobs.ClassificationChangedJob;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.internal.jobs.TaskRefreshJob;
+
+/** Acceptance test for the refresh of the tasks affected by a classification change. */
+@ExtendWith(JaasExtension.class)
+class TaskRefreshJobAccTest extends AbstractAccTest {
+
+  private static final String CLASSIFICATION_ID = "CLI:200000000000000000000000000000000017";
+  // the tasks of the classification which do not have any attachments
+  private static final List<String> TASKS_WITHOUT_ATTACHMENTS =
+      List.of(
+          "TKI:000000000000000000000000000000000044",
+          "TKI:000000000000000000000000000000000045",
+          "TKI:000000000000000000000000000000000046",
+          "TKI:000000000000000000000000000000000047",
+          "TKI:000000000000000000000000000000000048",
+          "TKI:000000000000000000000000000000000049",
+          "TKI:000000000000000000000000000000000050",
+          "TKI:000000000000000000000000000000000051",
+          "TKI:000000000000000000000000000000000056",
+          "TKI:000000000000000000000000000000000057",
+          "TKI:000000000000000000000000000000000058",
+          "TKI:000000000000000000000000000000000059",
+          "TKI:000000000000000000000000000000000060",
+          "TKI:000000000000000000000000000000000061",
+          "TKI:000000000000000000000000000000000062",
+          "TKI:000000000000000000000000000000000063",
+          "TKI:000000000000000000000000000000000064",
+          "TKI:000000000000000000000000000000000065");
+
+  private final ClassificationService classificationService =
+      taskanaEngine.getClassificationService();
+  private final TaskService taskService = taskanaEngine.getTaskService();
+  private int maxNumberOfUpdatesPerTransaction;
+
+  @BeforeEach
+  void before() throws Exception {
+    resetDb(false);
+    maxNumberOfUpdatesPerTransaction =
+        taskanaEngine.getConfiguration().getMaxNumberOfUpdatesPerTransaction();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ScheduleTaskRefreshJobsWithRanges_When_ClassificationIsChanged() throws Exception {
+    taskanaEngine.getConfiguration().setMaxNumberOfUpdatesPerTransaction(10);
+    try {
+      final Instant before = Instant.now();
+      updateClassification(777, "P5D");
+      JobRunner runner = new JobRunner(taskanaEngine);
+      runner.runJobs();
+
+      List<Map<String, String>> refreshJobArguments =
+          getJobMapper().findJobsToRun(Instant.now().plus(Duration.ofDays(1))).stream()
+              .filter(job -> TaskRefreshJob.class.getName().equals(job.getType()))
+              .map(ScheduledJob::getArguments)
+              .collect(Collectors.toList());
+      assertThat(refreshJobArguments)
+          .extracting(args -> args.get(TaskRefreshJob.FROM_TASK_ID))
+          .containsExactlyInAnyOrder(
+              null,
+              "TKI:000000000000000000000000000000000053",
+              "TKI:000000000000000000000000000000000063");
+      assertThat(refreshJobArguments)
+          .extracting(args -> args.get(TaskRefreshJob.TO_TASK_ID))
+          .containsExactlyInAnyOrder(
+              "TKI:000000000000000000000000000000000053",
+              "TKI:000000000000000000000000000000000063",
+              "TKI:000000000000000000000000000000000065");
+      assertThat(refreshJobArguments).noneMatch(args -> args.containsKey(TaskRefreshJob.TASK_IDS));
+
+      Thread.sleep(10);
+      runner.runJobs();
+
+      validateRefreshedTasks(before, TASKS_WITHOUT_ATTACHMENTS, 5, 777);
+    } finally {
+      taskanaEngine
+          .getConfiguration()
+          .setMaxNumberOfUpdatesPerTransaction(maxNumberOfUpdatesPerTransaction);
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_RefreshGivenTasks_When_TaskRefreshJobContainsTaskIds() throws Exception {
+    final Instant before = Instant.now();
+    updateClassification(888, "P3D");
+    getJobMapper().deleteMultiple(ClassificationChangedJob.class.getName());
+    List<String> taskIds = TASKS_WITHOUT_ATTACHMENTS.subList(0, 3);
+
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TaskRefreshJob.class.getName());
+    job.setArguments(
+        Map.of(
+            TaskRefreshJob.TASK_IDS,
+            String.join(",", taskIds),
+            TaskRefreshJob.PRIORITY_CHANGED,
+            "true",
+            TaskRefreshJob.SERVICE_LEVEL_CHANGED,
+            "true"));
+    taskanaEngine.getJobService().createJob(job);
+    new JobRunner(taskanaEngine).runJobs();
+
+    validateRefreshedTasks(before, taskIds, 3, 888);
+  }
+
+  private void updateClassification(int priority, String serviceLevel) throws Exception {
+    Classification classification = classificationService.getClassification(CLASSIFICATION_ID);
+    classification.setPriority(priority);
+    classification.setServiceLevel(serviceLevel);
+    classificationService.updateClassification(classification);
+    // the jobs are only found if they are due before the current time
+    Thread.sleep(10);
+  }
+
+  private void validateRefreshedTasks(
+      Instant before, List<String> taskIds, int serviceLevel, int priority) throws Exception {
+    for (String taskId : taskIds) {
+      Task task = taskService.getTask(taskId);
+      assertThat(task.getModified())
+          .describedAs("Task " + task.getId() + " has not been refreshed.")
+          .isAfter(before);
+      assertThat(task.getDue())
+          .isEqualTo(
+              converter.addWorkingDaysToInstant(task.getPlanned(), Duration.ofDays(serviceLevel)));
+      assertThat(task.getPriority()).isEqualTo(priority);
+    }
+  }
+}
@@ -9,6 +9,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -99,6 +100,45 @@ class TaskUpdatePriorityJobAccTest extends AbstractAccTest {
         .contains(TaskUpdatePriorityJob.class.getName());
   }
 
+  @Test
+  @WithAccessId(user = "admin")
+  void should_PassWatermarkToNextJob_When_JobIsIncremental() throws Exception {
+    // given
+    taskanaEngineConfiguration.setPriorityJobIncremental(true);
+    Instant watermark = Instant.parse("2021-01-01T00:00:00Z");
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setArguments(Map.of(TaskUpdatePriorityJob.MODIFIED_SINCE, watermark.toString()));
+    TaskUpdatePriorityJob job = new TaskUpdatePriorityJob(taskanaEngine, null, scheduledJob);
+    final Instant started = Instant.now();
+
+    // when
+    job.run();
+
+    // then
+    assertThat(job.getModifiedSince()).isEqualTo(watermark);
+    List<ScheduledJob> nextJobs =
+        getJobMapper().findJobsToRun(Instant.now().plus(Duration.ofDays(1)));
+    assertThat(nextJobs).hasSize(1);
+    Instant nextWatermark =
+        Instant.parse(nextJobs.get(0).getArguments().get(TaskUpdatePriorityJob.MODIFIED_SINCE));
+    assertThat(nextWatermark).isAfterOrEqualTo(started);
+  }
+
+  @Test
+  @WithAccessId(user = "admin")
+  void should_IgnoreWatermark_When_JobIsNotIncremental() {
+    // given
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setArguments(
+        Map.of(TaskUpdatePriorityJob.MODIFIED_SINCE, "2021-01-01T00:00:00Z"));
+
+    // when
+    TaskUpdatePriorityJob job = new TaskUpdatePriorityJob(taskanaEngine, null, scheduledJob);
+
+    // then
+    assertThat(job.getModifiedSince()).isNull();
+  }
+
   @Test
   @WithAccessId(user = "admin")
   void should_readConfigurationForBatchSize() {
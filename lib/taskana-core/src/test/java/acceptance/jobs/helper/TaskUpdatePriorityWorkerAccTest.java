@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import acceptance.DefaultTestEntities;
 import acceptance.priorityservice.TestPriorityServiceProvider;
+import acceptance.priorityservice.TestProjectionPriorityServiceProvider;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.function.IntPredicate;
@@ -21,6 +23,7 @@ import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.Task;
@@ -159,5 +162,98 @@ class TaskUpdatePriorityWorkerAccTest {
       assertThat(updatedTaskIds).containsExactly(oldTask.getId());
       assertThat(updatedTask.getPriority()).isNotEqualTo(oldTask.getPriority());
     }
+
+    @Test
+    @WithAccessId(user = "admin")
+    void should_OnlyUpdateModifiedTasks_When_ModifiedSinceIsGiven() throws Exception {
+      // given
+      Instant modifiedSince = Instant.now().minusSeconds(60);
+      Task unmodifiedTask = createTask(modifiedSince.minusSeconds(60));
+      Task modifiedTask = createTask(modifiedSince.plusSeconds(1));
+
+      // when
+      worker.executeForRelevantTasks(10, modifiedSince);
+
+      // then
+      assertThat(taskService.getTask(unmodifiedTask.getId()).getPriority()).isEqualTo(1337);
+      assertThat(taskService.getTask(modifiedTask.getId()).getPriority()).isNotEqualTo(1337);
+    }
+
+    private Task createTask(Instant modified) throws Exception {
+      return TaskBuilder.newTask()
+          .classificationSummary(classificationSummary)
+          .workbasketSummary(workbasketSummary)
+          .created(Instant.parse("2020-04-30T07:12:00.000Z"))
+          .modified(modified)
+          .priority(1337)
+          .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+          .buildAndStore(taskService);
+    }
+  }
+
+  @Nested
+  @WithServiceProvider(
+      serviceProviderInterface = PriorityServiceProvider.class,
+      serviceProviders = TestProjectionPriorityServiceProvider.class)
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithProjectionSpi {
+
+    @TaskanaInject TaskService taskService;
+    TaskUpdatePriorityWorker worker;
+
+    @BeforeAll
+    void setup(TaskanaEngine taskanaEngine) {
+      worker = new TaskUpdatePriorityWorker(taskanaEngine);
+    }
+
+    @Test
+    @WithAccessId(user = "admin")
+    void should_CalculatePriorityFromRequiredColumns_When_ProviderDeclaresColumns()
+        throws Exception {
+      // given
+      Instant created = Instant.parse("2020-04-30T07:12:00.000Z");
+      Task task = createTask(created, Instant.now(), TaskState.READY);
+      Task completedTask = createTask(created, Instant.now(), TaskState.COMPLETED);
+
+      // when
+      int numberOfUpdatedTasks = worker.executeForAllRelevantTasks(1);
+
+      // then
+      int expectedPriority =
+          Math.toIntExact(Duration.between(created, Instant.now()).toDays()) * 10;
+      assertThat(numberOfUpdatedTasks).isPositive();
+      assertThat(taskService.getTask(task.getId()).getPriority()).isEqualTo(expectedPriority);
+      assertThat(taskService.getTask(completedTask.getId()).getPriority()).isEqualTo(1337);
+    }
+
+    @Test
+    @WithAccessId(user = "admin")
+    void should_OnlyUpdateModifiedTasks_When_ModifiedSinceIsGivenForProjection() throws Exception {
+      // given
+      Instant created = Instant.parse("2020-04-30T07:12:00.000Z");
+      Instant modifiedSince = Instant.now().minusSeconds(60);
+      Task unmodifiedTask = createTask(created, modifiedSince.minusSeconds(60), TaskState.READY);
+      Task modifiedTask = createTask(created, modifiedSince.plusSeconds(1), TaskState.READY);
+
+      // when
+      worker.executeForRelevantTasks(10, modifiedSince);
+
+      // then
+      assertThat(taskService.getTask(unmodifiedTask.getId()).getPriority()).isEqualTo(1337);
+      assertThat(taskService.getTask(modifiedTask.getId()).getPriority()).isNotEqualTo(1337);
+    }
+
+    private Task createTask(Instant created, Instant modified, TaskState state) throws Exception {
+      return TaskBuilder.newTask()
+          .classificationSummary(classificationSummary)
+          .workbasketSummary(workbasketSummary)
+          .created(created)
+          .modified(modified)
+          .state(state)
+          .priority(1337)
+          .customAttribute(TaskCustomField.CUSTOM_6, "true")
+          .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+          .buildAndStore(taskService);
+    }
   }
 }
@@ -0,0 +1,110 @@
+package acceptance.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.DefaultTestEntities;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import testapi.TaskanaInject;
+import testapi.TaskanaIntegrationTest;
+import testapi.WithServiceProvider;
+
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.common.internal.jobs.JobRunner;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+import pro.taskana.workbasket.api.WorkbasketService;
+
+/** Acceptance test for the measurements which are reported to a {@linkplain MetricsProvider}. */
+@TaskanaIntegrationTest
+@WithServiceProvider(
+    serviceProviderInterface = MetricsProvider.class,
+    serviceProviders = MetricsProviderAccTest.RecordingMetricsProvider.class)
+class MetricsProviderAccTest {
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject WorkbasketService workbasketService;
+
+  @BeforeEach
+  void clearMeasurements() {
+    RecordingMetricsProvider.MEASUREMENTS.clear();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReportConnectionsAndStatements_When_ServiceIsCalled() throws Exception {
+    DefaultTestEntities.defaultTestWorkbasket().buildAndStore(workbasketService);
+
+    assertThat(RecordingMetricsProvider.MEASUREMENTS)
+        .contains(
+            "connectionOpened:1",
+            "statementExecuted:pro.taskana.workbasket.internal.WorkbasketMapper.insert:1",
+            "connectionReturned:0");
+  }
+
+  @Test
+  void should_ReportJobExecution_When_JobIsRun() {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TestJob.class.getName());
+    taskanaEngine.getJobService().createJob(job);
+
+    new JobRunner(taskanaEngine).runJobs();
+
+    assertThat(RecordingMetricsProvider.MEASUREMENTS)
+        .contains("jobExecuted:" + TestJob.class.getName() + ":true:false");
+  }
+
+  public static class RecordingMetricsProvider implements MetricsProvider {
+
+    static final List<String> MEASUREMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {
+      // nothing to initialize
+    }
+
+    @Override
+    public void connectionOpened(int sessionStackDepth) {
+      MEASUREMENTS.add("connectionOpened:" + sessionStackDepth);
+    }
+
+    @Override
+    public void connectionReturned(int sessionStackDepth) {
+      MEASUREMENTS.add("connectionReturned:" + sessionStackDepth);
+    }
+
+    @Override
+    public void statementExecuted(String statementId, long durationInNanos, int rowCount) {
+      MEASUREMENTS.add("statementExecuted:" + statementId + ":" + rowCount);
+    }
+
+    @Override
+    public void jobExecuted(
+        String jobType, long durationInNanos, boolean succeeded, boolean retried) {
+      MEASUREMENTS.add("jobExecuted:" + jobType + ":" + succeeded + ":" + retried);
+    }
+  }
+
+  public static class TestJob extends AbstractTaskanaJob {
+
+    public TestJob(
+        TaskanaEngine taskanaEngine, TaskanaTransactionProvider txProvider, ScheduledJob job) {
+      super(taskanaEngine, txProvider, job, false);
+    }
+
+    @Override
+    protected String getType() {
+      return TestJob.class.getName();
+    }
+
+    @Override
+    protected void execute() {
+      // the execution itself is not of interest
+    }
+  }
+}
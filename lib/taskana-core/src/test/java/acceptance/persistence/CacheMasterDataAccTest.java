@@ -0,0 +1,175 @@
+package acceptance.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineProxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.ClassificationCache;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.test.config.DataSourceGenerator;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.DistributionGraphCache;
+
+/** Acceptance test for the caches of classifications, workbaskets and distribution targets. */
+@ExtendWith(JaasExtension.class)
+class CacheMasterDataAccTest extends AbstractAccTest {
+
+  private final ClassificationService classificationService =
+      taskanaEngine.getClassificationService();
+  private final WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+  @Test
+  void should_ReturnCachedClassification_When_ClassificationIsReadAgain() throws Exception {
+    ClassificationCache cache =
+        new TaskanaEngineProxy(taskanaEngine).getEngine().getClassificationCache();
+    assertThat(cache.isEnabled()).isTrue();
+    classificationService.getClassification("T6310", "DOMAIN_A");
+    long hits = cache.getHitCount();
+    long misses = cache.getMissCount();
+
+    Classification first = classificationService.getClassification("T6310", "DOMAIN_A");
+    Classification second = classificationService.getClassification("T6310", "DOMAIN_A");
+
+    assertThat(second).isNotSameAs(first).isEqualTo(first);
+    assertThat(cache.getHitCount()).isEqualTo(hits + 2);
+    assertThat(cache.getMissCount()).isEqualTo(misses);
+  }
+
+  @Test
+  void should_NotChangeCachedClassification_When_ReturnedClassificationIsModified()
+      throws Exception {
+    Classification classification =
+        classificationService.getClassification("CLI:100000000000000000000000000000000011");
+
+    classification.setName("modified by caller");
+
+    assertThat(
+            classificationService
+                .getClassification("CLI:100000000000000000000000000000000011")
+                .getName())
+        .isEqualTo("T-GUK Honorarrechnung erstellen");
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnUpdatedWorkbasket_When_WorkbasketWasUpdated() throws Exception {
+    Workbasket workbasket = workbasketService.getWorkbasket("GPK_KSC", "DOMAIN_A");
+    workbasket.setName("updated name");
+
+    workbasketService.updateWorkbasket(workbasket);
+
+    assertThat(workbasketService.getWorkbasket("GPK_KSC", "DOMAIN_A").getName())
+        .isEqualTo("updated name");
+    assertThat(workbasketService.getWorkbasket(workbasket.getId()).getName())
+        .isEqualTo("updated name");
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ServeDistributionTargetsAndSourcesFromCachedGraph_When_GraphWasLoaded()
+      throws Exception {
+    DistributionGraphCache cache =
+        new TaskanaEngineProxy(taskanaEngine).getEngine().getDistributionGraphCache();
+    assertThat(cache.isEnabled()).isTrue();
+    workbasketService.getDistributionTargets("WBI:100000000000000000000000000000000001");
+    long misses = cache.getMissCount();
+
+    List<WorkbasketSummary> targets =
+        workbasketService.getDistributionTargets("WBI:100000000000000000000000000000000001");
+    List<WorkbasketSummary> sources =
+        workbasketService.getDistributionSources("WBI:100000000000000000000000000000000004");
+
+    assertThat(targets).extracting(WorkbasketSummary::getId).hasSize(4);
+    assertThat(sources)
+        .extracting(WorkbasketSummary::getId)
+        .containsExactlyInAnyOrder(
+            "WBI:100000000000000000000000000000000001", "WBI:100000000000000000000000000000000002");
+    assertThat(cache.getMissCount()).isEqualTo(misses);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnChangeOfOtherEngine_When_ChangeVersionWasPolled() throws Exception {
+    ClassificationService otherClassificationService =
+        buildCachingEngine(Duration.ofHours(1)).getClassificationService();
+    classificationService.getClassification("L1050", "DOMAIN_A");
+
+    Classification classification =
+        otherClassificationService.getClassification("L1050", "DOMAIN_A");
+    classification.setName("changed by other engine");
+    otherClassificationService.updateClassification(classification);
+
+    assertThat(classificationService.getClassification("L1050", "DOMAIN_A").getName())
+        .isEqualTo("changed by other engine");
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnCachedClassification_When_PollIntervalHasNotElapsed() throws Exception {
+    ClassificationService otherClassificationService =
+        buildCachingEngine(Duration.ofHours(1)).getClassificationService();
+    otherClassificationService.getClassification("L11010", "DOMAIN_A");
+
+    Classification classification = classificationService.getClassification("L11010", "DOMAIN_A");
+    String oldName = classification.getName();
+    classification.setName("changed by this engine");
+    classificationService.updateClassification(classification);
+
+    assertThat(otherClassificationService.getClassification("L11010", "DOMAIN_A").getName())
+        .isEqualTo(oldName);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_IncrementChangeVersionOnce_When_ClassificationsAreCreatedInBulk() throws Exception {
+    long version = findChangeVersion("CLASSIFICATION");
+
+    classificationService.createOrUpdateClassifications(
+        List.of(
+            classificationService.newClassification("BULK_VERSION_1", "DOMAIN_A", "TASK"),
+            classificationService.newClassification("BULK_VERSION_2", "DOMAIN_A", "TASK")));
+
+    assertThat(findChangeVersion("CLASSIFICATION")).isEqualTo(version + 1);
+    assertThat(classificationService.getClassification("BULK_VERSION_2", "").getKey())
+        .isEqualTo("BULK_VERSION_2");
+  }
+
+  private long findChangeVersion(String name) throws Exception {
+    try (Connection connection = DataSourceGenerator.getDataSource().getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet =
+            statement.executeQuery(
+                "SELECT VERSION FROM "
+                    + DataSourceGenerator.getSchemaName()
+                    + ".CHANGE_VERSION WHERE NAME = '"
+                    + name
+                    + "'")) {
+      return resultSet.next() ? resultSet.getLong(1) : 0;
+    }
+  }
+
+  private TaskanaEngine buildCachingEngine(Duration pollInterval) throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            DataSourceGenerator.getDataSource(), false, DataSourceGenerator.getSchemaName());
+    configuration.setMasterDataCacheEnabled(true);
+    configuration.setMasterDataCachePollInterval(pollInterval);
+    return configuration.buildTaskanaEngine(ConnectionManagementMode.AUTOCOMMIT);
+  }
+}
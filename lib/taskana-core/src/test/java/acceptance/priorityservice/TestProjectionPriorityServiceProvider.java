@@ -0,0 +1,14 @@
+package acceptance.priorityservice;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import pro.taskana.task.api.TaskQueryColumnName;
+
+public class TestProjectionPriorityServiceProvider extends TestPriorityServiceProvider {
+
+  @Override
+  public Set<TaskQueryColumnName> getRequiredColumns() {
+    return EnumSet.of(TaskQueryColumnName.CREATED, TaskQueryColumnName.CUSTOM_6);
+  }
+}
@@ -0,0 +1,155 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.test.config.DataSourceGenerator;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.TaskTimestamp;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportCache;
+
+/** Acceptance test for the cache of the reports. */
+@ExtendWith(JaasExtension.class)
+class ProvideCachedReportsAccTest extends AbstractAccTest {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      Arrays.asList(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1, Integer.MAX_VALUE));
+
+  private MonitorService monitorService;
+  private ReportCache reportCache;
+
+  @BeforeEach
+  void setupCachingEngine() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            DataSourceGenerator.getDataSource(), false, DataSourceGenerator.getSchemaName());
+    configuration.setMonitorReportCacheMaxStaleness(Duration.ofMinutes(5));
+    TaskanaEngine cachingEngine =
+        configuration.buildTaskanaEngine(ConnectionManagementMode.AUTOCOMMIT);
+    monitorService = cachingEngine.getMonitorService();
+    reportCache = ((MonitorServiceImpl) monitorService).getReportCache();
+  }
+
+  @Test
+  void should_DisableCache_When_MaxStalenessIsNotConfigured() {
+    ReportCache defaultCache =
+        ((MonitorServiceImpl) taskanaEngine.getMonitorService()).getReportCache();
+
+    assertThat(defaultCache.isEnabled()).isFalse();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReturnCachedReport_When_SameReportIsRequestedAgain() throws Exception {
+    WorkbasketReport first =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport();
+    WorkbasketReport second =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport();
+
+    assertThat(second).isSameAs(first);
+    assertThat(reportCache.getMissCount()).isEqualTo(1);
+    assertThat(reportCache.getHitCount()).isEqualTo(1);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_BuildNewReport_When_FilterDiffers() throws Exception {
+    WorkbasketReport dueReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport(TaskTimestamp.DUE);
+    WorkbasketReport plannedReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport(TaskTimestamp.PLANNED);
+    WorkbasketReport filteredReport =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .domainIn(Arrays.asList("DOMAIN_A"))
+            .buildReport(TaskTimestamp.DUE);
+
+    assertThat(plannedReport).isNotSameAs(dueReport);
+    assertThat(filteredReport).isNotSameAs(dueReport);
+    assertThat(reportCache.getMissCount()).isEqualTo(3);
+    assertThat(reportCache.getHitCount()).isZero();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_BuildReportOnce_When_RequestedConcurrently() throws Exception {
+    Callable<WorkbasketReport> buildReport =
+        () ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .buildReport();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<WorkbasketReport>> futures =
+          executor.invokeAll(
+              IntStream.range(0, 8).mapToObj(i -> buildReport).collect(Collectors.toList()));
+
+      WorkbasketReport first = futures.get(0).get();
+      for (Future<WorkbasketReport> future : futures) {
+        assertThat(future.get()).isSameAs(first);
+      }
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(reportCache.getMissCount()).isEqualTo(1);
+    assertThat(reportCache.getHitCount()).isEqualTo(7);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_BuildNewReport_When_CacheWasInvalidated() throws Exception {
+    WorkbasketReport first =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport();
+
+    reportCache.invalidate();
+    WorkbasketReport second =
+        monitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .buildReport();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getSumRow().getTotalValue()).isEqualTo(first.getSumRow().getTotalValue());
+  }
+}
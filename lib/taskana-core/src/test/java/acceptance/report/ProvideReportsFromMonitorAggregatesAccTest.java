@@ -0,0 +1,167 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.test.config.DataSourceGenerator;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the reports which are read from the aggregates of the monitor. */
+@ExtendWith(JaasExtension.class)
+class ProvideReportsFromMonitorAggregatesAccTest extends AbstractAccTest {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      Arrays.asList(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+          new TimeIntervalColumnHeader(-10, -6),
+          new TimeIntervalColumnHeader(-5, -1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1, 5),
+          new TimeIntervalColumnHeader(6, 10),
+          new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+
+  private TaskanaEngine aggregateEngine;
+
+  @BeforeEach
+  void setupAggregateEngine() throws Exception {
+    resetDb(false);
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            DataSourceGenerator.getDataSource(), false, DataSourceGenerator.getSchemaName());
+    configuration.setGermanPublicHolidaysEnabled(true);
+    configuration.setMonitorAggregatesEnabled(true);
+    aggregateEngine = configuration.buildTaskanaEngine(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ThrowException_When_NonAdminRebuildsAggregates() {
+    MonitorServiceImpl monitorService = (MonitorServiceImpl) aggregateEngine.getMonitorService();
+
+    assertThatThrownBy(monitorService::rebuildTaskAggregates)
+        .isInstanceOf(NotAuthorizedException.class);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReturnSameReports_When_AggregatesWereFilledAtStartup() throws Exception {
+    assertSameReports();
+  }
+
+  @WithAccessId(user = "admin", groups = "monitor")
+  @Test
+  void should_ReturnSameReports_When_AggregatesWereRebuilt() throws Exception {
+    ((MonitorServiceImpl) aggregateEngine.getMonitorService()).rebuildTaskAggregates();
+
+    assertSameReports();
+  }
+
+  @WithAccessId(user = "admin", groups = "monitor")
+  @Test
+  void should_ReturnSameReports_When_TasksWereChangedAfterRebuild() throws Exception {
+    ((MonitorServiceImpl) aggregateEngine.getMonitorService()).rebuildTaskAggregates();
+    TaskService taskService = aggregateEngine.getTaskService();
+    List<TaskSummary> readyTasks =
+        taskService
+            .createTaskQuery()
+            .stateIn(TaskState.READY)
+            .workbasketIdIn("WBI:100000000000000000000000000000000001")
+            .orderByTaskId(null)
+            .list(0, 5);
+
+    taskService.forceClaim(readyTasks.get(0).getId());
+    taskService.forceCompleteTask(readyTasks.get(1).getId());
+    taskService.transfer(readyTasks.get(2).getId(), "WBI:100000000000000000000000000000000006");
+    taskService.cancelTask(readyTasks.get(3).getId());
+    Task task = taskService.getTask(readyTasks.get(4).getId());
+    task.setDue(Instant.now().plus(3, ChronoUnit.DAYS));
+    taskService.updateTask(task);
+    TaskSummary completedTask =
+        taskService.createTaskQuery().stateIn(TaskState.COMPLETED).list(0, 1).get(0);
+    taskService.deleteTask(completedTask.getId());
+    Task taskWithAttachments = taskService.getTask("TKI:000000000000000000000000000000000002");
+    taskService.createTask(taskWithAttachments.copy());
+
+    assertSameReports();
+  }
+
+  private void assertSameReports() throws Exception {
+    MonitorService expected = taskanaEngine.getMonitorService();
+    MonitorService actual = aggregateEngine.getMonitorService();
+
+    assertSameCells(
+        expected.createWorkbasketReportBuilder().withColumnHeaders(COLUMN_HEADERS).buildReport(),
+        actual.createWorkbasketReportBuilder().withColumnHeaders(COLUMN_HEADERS).buildReport());
+    assertSameCells(
+        expected
+            .createClassificationCategoryReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .inWorkingDays()
+            .buildReport(),
+        actual
+            .createClassificationCategoryReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .inWorkingDays()
+            .buildReport());
+    assertSameCells(
+        expected
+            .createClassificationReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .stateIn(Arrays.asList(TaskState.READY, TaskState.CLAIMED))
+            .buildReport(),
+        actual
+            .createClassificationReportBuilder()
+            .withColumnHeaders(COLUMN_HEADERS)
+            .stateIn(Arrays.asList(TaskState.READY, TaskState.CLAIMED))
+            .buildReport());
+    assertSameCells(
+        expected.createTaskStatusReportBuilder().buildReport(),
+        actual.createTaskStatusReportBuilder().buildReport());
+  }
+
+  private void assertSameCells(Report<?, ?> expected, Report<?, ?> actual) {
+    assertThat(toCells(actual)).isEqualTo(toCells(expected));
+    assertThat(toList(actual.getSumRow().getCells()))
+        .isEqualTo(toList(expected.getSumRow().getCells()));
+  }
+
+  private Map<String, List<Integer>> toCells(Report<?, ?> report) {
+    return report.getRows().entrySet().stream()
+        .collect(
+            Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> toList(entry.getValue().getCells()),
+                (first, second) -> first,
+                TreeMap::new));
+  }
+
+  private List<Integer> toList(int[] cells) {
+    return IntStream.of(cells).boxed().collect(Collectors.toList());
+  }
+}
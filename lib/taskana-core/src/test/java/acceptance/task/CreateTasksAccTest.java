@@ -0,0 +1,169 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.models.AttachmentSummary;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
+
+/** Acceptance test for all "create tasks" scenarios. */
+@ExtendWith(JaasExtension.class)
+class CreateTasksAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_CreateAllTasks_When_TasksAreValid() throws Exception {
+    Task taskWithAttachment = createNewTask("USER-1-1", "T2100", "BULK-EXT-1");
+    taskWithAttachment.addAttachment(
+        createExampleAttachment(
+            "DOCTYPE_DEFAULT",
+            createObjectReference("COMPANY_A", "SYSTEM_B", "INSTANCE_B", "ArchiveId", "12345678"),
+            "E-MAIL",
+            getInstant("2018-01-15T00:00:00"),
+            null));
+    Task taskWithoutExternalId = createNewTask("USER-1-1", "T2100", null);
+    List<Task> tasks = List.of(taskWithAttachment, taskWithoutExternalId);
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(tasks).extracting(Task::getId).doesNotContainNull();
+    assertThat(tasks).extracting(Task::getExternalId).doesNotContainNull();
+
+    Task createdTask = taskService.getTask(taskWithAttachment.getId());
+    assertThat(createdTask.getState()).isEqualTo(TaskState.READY);
+    assertThat(createdTask.getExternalId()).isEqualTo("BULK-EXT-1");
+    assertThat(createdTask.getName()).isEqualTo("T-Vertragstermin VERA");
+    assertThat(createdTask.getCreator())
+        .isEqualTo(taskanaEngine.getCurrentUserContext().getUserid());
+    assertThat(createdTask.getPlanned()).isNotNull();
+    assertThat(createdTask.getDue()).isNotNull();
+    assertThat(createdTask.getReceived()).isEqualTo(getInstant("2018-01-15T00:00:00"));
+    assertThat(createdTask.getAttachments())
+        .extracting(AttachmentSummary::getTaskId)
+        .containsExactly(createdTask.getId());
+    assertThat(taskService.getTask(taskWithoutExternalId.getId())).isNotNull();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReportError_When_ExternalIdAlreadyExists() throws Exception {
+    Task existingExternalId =
+        createNewTask("USER-1-1", "T2100", "ETI:000000000000000000000000000000000000");
+    Task duplicateExternalId1 = createNewTask("USER-1-1", "T2100", "BULK-EXT-DUPLICATE");
+    Task duplicateExternalId2 = createNewTask("USER-1-1", "T2100", "BULK-EXT-DUPLICATE");
+    Task validTask = createNewTask("USER-1-1", "T2100", "BULK-EXT-2");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(
+            List.of(existingExternalId, duplicateExternalId1, duplicateExternalId2, validTask));
+
+    assertThat(results.getErrorMap())
+        .containsOnlyKeys("ETI:000000000000000000000000000000000000", "BULK-EXT-DUPLICATE");
+    assertThat(results.getErrorMap().values())
+        .hasOnlyElementsOfType(TaskAlreadyExistException.class);
+    assertThat(duplicateExternalId1.getId()).isNull();
+    assertThat(duplicateExternalId2.getId()).isNull();
+    List<TaskSummary> createdTasks =
+        taskService.createTaskQuery().externalIdIn("BULK-EXT-2", "BULK-EXT-DUPLICATE").list();
+    assertThat(createdTasks).extracting(TaskSummary::getId).containsExactly(validTask.getId());
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReportErrorsPerTask_When_SomeTasksAreInvalid() throws Exception {
+    List<Task> tasks = new ArrayList<>();
+    tasks.add(createNewTask("UNKNOWN", "T2100", "BULK-EXT-WB-UNKNOWN"));
+    tasks.add(createNewTask("GPK_KSC", "T2100", "BULK-EXT-NO-APPEND-1"));
+    tasks.add(createNewTask("GPK_KSC", "T2100", "BULK-EXT-NO-APPEND-2"));
+    tasks.add(createNewTask("USER-1-1", "UNKNOWN", "BULK-EXT-CLASSIFICATION-UNKNOWN"));
+    tasks.add(createNewTask("USER-1-1", null, "BULK-EXT-NO-CLASSIFICATION"));
+    tasks.add(createNewTask("USER-1-1", "T2100", "BULK-EXT-VALID"));
+
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+
+    assertThat(results.getErrorMap()).hasSize(5);
+    assertThat(results.getErrorForId("BULK-EXT-WB-UNKNOWN"))
+        .isInstanceOf(WorkbasketNotFoundException.class);
+    assertThat(results.getErrorForId("BULK-EXT-NO-APPEND-1"))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThat(results.getErrorForId("BULK-EXT-NO-APPEND-2"))
+        .isInstanceOf(NotAuthorizedException.class);
+    assertThat(results.getErrorForId("BULK-EXT-CLASSIFICATION-UNKNOWN"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(results.getErrorForId("BULK-EXT-NO-CLASSIFICATION"))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(taskService.getTask(tasks.get(5).getId()).getExternalId())
+        .isEqualTo("BULK-EXT-VALID");
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReportErrorOfFailedInsertAndCreateOtherTasks_When_DatabaseRejectsTask()
+      throws Exception {
+    Task validTask1 = createNewTask("USER-1-1", "T2100", "BULK-EXT-BEFORE-REJECTED");
+    Task rejectedTask = createNewTask("USER-1-1", "T2100", "BULK-EXT-REJECTED");
+    rejectedTask.setName("x".repeat(256));
+    Task validTask2 = createNewTask("USER-1-1", "T2100", "BULK-EXT-AFTER-REJECTED");
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.createTasks(List.of(validTask1, rejectedTask, validTask2));
+
+    assertThat(results.getErrorMap()).containsOnlyKeys("BULK-EXT-REJECTED");
+    assertThat(results.getErrorForId("BULK-EXT-REJECTED"))
+        .isInstanceOf(InvalidArgumentException.class);
+    List<TaskSummary> createdTasks =
+        taskService
+            .createTaskQuery()
+            .externalIdIn(
+                "BULK-EXT-BEFORE-REJECTED", "BULK-EXT-REJECTED", "BULK-EXT-AFTER-REJECTED")
+            .list();
+    assertThat(createdTasks)
+        .extracting(TaskSummary::getId)
+        .containsExactlyInAnyOrder(validTask1.getId(), validTask2.getId());
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_ListOfTasksIsNull() {
+    ThrowingCallable call = () -> taskService.createTasks(null);
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnEmptyResult_When_ListOfTasksIsEmpty() throws Exception {
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(List.of());
+    assertThat(results.containsErrors()).isFalse();
+  }
+
+  private Task createNewTask(String workbasketKey, String classificationKey, String externalId) {
+    Task newTask = taskService.newTask(workbasketKey, "DOMAIN_A");
+    newTask.setClassificationKey(classificationKey);
+    newTask.setExternalId(externalId);
+    newTask.setPrimaryObjRef(
+        createObjectReference("COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", "1234567"));
+    return newTask;
+  }
+}
@@ -0,0 +1,158 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for the keyset pagination of tasks. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithKeysetPaginationAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "admin")
+  @TestFactory
+  Stream<DynamicTest> should_ReturnSameTasksAsList_When_PagingWithCursor() {
+    Stream<Order> orders =
+        Stream.of(
+            new Order("no order", query -> query),
+            new Order("due", query -> query.orderByDue(SortDirection.ASCENDING)),
+            new Order("owner desc", query -> query.orderByOwner(SortDirection.DESCENDING)),
+            new Order(
+                "priority desc and custom 1",
+                query ->
+                    query
+                        .orderByPriority(SortDirection.DESCENDING)
+                        .orderByCustomAttribute(
+                            TaskCustomField.CUSTOM_1, SortDirection.ASCENDING)),
+            new Order(
+                "classification key and claimed desc",
+                query ->
+                    query
+                        .orderByClassificationKey(SortDirection.ASCENDING)
+                        .orderByClaimed(SortDirection.DESCENDING)),
+            new Order(
+                "id desc", query -> query.orderByTaskId(SortDirection.DESCENDING)));
+
+    ThrowingConsumer<Order> test =
+        order -> {
+          List<TaskSummary> expectedTasks =
+              order.apply(taskService.createTaskQuery()).orderByTaskId(null).list();
+
+          List<TaskSummary> tasks = new ArrayList<>();
+          String cursor = null;
+          List<TaskSummary> page;
+          do {
+            TaskQuery query = order.apply(taskService.createTaskQuery());
+            page = query.listAfter(cursor, 7);
+            tasks.addAll(page);
+            if (!page.isEmpty()) {
+              cursor = query.createCursor(page.get(page.size() - 1));
+            }
+          } while (page.size() == 7);
+
+          assertThat(tasks).hasSize(expectedTasks.size()).isEqualTo(expectedTasks);
+        };
+
+    return DynamicTest.stream(orders.iterator(), Order::toString, test);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_OnlyReturnReadableTasks_When_UserIsNoAdmin() {
+    List<TaskSummary> expectedTasks =
+        taskService
+            .createTaskQuery()
+            .orderByDue(SortDirection.ASCENDING)
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list(3, 4);
+    TaskQuery query = taskService.createTaskQuery().orderByDue(SortDirection.ASCENDING);
+    String cursor = query.createCursor(query.listAfter(null, 3).get(2));
+
+    List<TaskSummary> tasks =
+        taskService
+            .createTaskQuery()
+            .orderByDue(SortDirection.ASCENDING)
+            .listAfter(cursor, 4);
+
+    assertThat(tasks).isEqualTo(expectedTasks);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_CursorBelongsToOtherOrder() {
+    TaskQuery query = taskService.createTaskQuery().orderByDue(SortDirection.ASCENDING);
+    String cursor = query.createCursor(query.listAfter(null, 1).get(0));
+
+    ThrowingCallable call =
+        () ->
+            taskService
+                .createTaskQuery()
+                .orderByDue(SortDirection.DESCENDING)
+                .listAfter(cursor, 10);
+
+    assertThatThrownBy(call)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not match the order");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_CursorIsInvalid() {
+    ThrowingCallable call = () -> taskService.createTaskQuery().listAfter("not a cursor", 10);
+
+    assertThatThrownBy(call)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("is invalid");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_OrderingByColumnOfOtherTable() {
+    TaskQuery query = taskService.createTaskQuery().orderByClassificationName(null);
+
+    ThrowingCallable call = () -> query.createCursor(query.listAfter(null, 1).get(0));
+
+    assertThatThrownBy(call)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("not supported");
+  }
+
+  private static class Order {
+    private final String name;
+    private final UnaryOperator<TaskQuery> order;
+
+    Order(String name, UnaryOperator<TaskQuery> order) {
+      this.name = name;
+      this.order = order;
+    }
+
+    TaskQuery apply(TaskQuery query) {
+      return order.apply(query);
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for queries which only select some columns of the tasks. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithSelectedColumnsAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_OnlySetSelectedAttributes_When_ColumnsAreSelected() {
+    List<TaskSummary> expectedTasks =
+        taskService.createTaskQuery().orderByDue(SortDirection.ASCENDING).list();
+
+    List<TaskSummary> tasks =
+        taskService
+            .createTaskQuery()
+            .select(
+                TaskQueryColumnName.NAME,
+                TaskQueryColumnName.DUE,
+                TaskQueryColumnName.PRIORITY,
+                TaskQueryColumnName.OWNER)
+            .orderByDue(SortDirection.ASCENDING)
+            .list();
+
+    assertThat(tasks).hasSameSizeAs(expectedTasks);
+    for (int i = 0; i < tasks.size(); i++) {
+      TaskSummary task = tasks.get(i);
+      TaskSummary expectedTask = expectedTasks.get(i);
+      assertThat(task.getId()).isEqualTo(expectedTask.getId());
+      assertThat(task.getName()).isEqualTo(expectedTask.getName());
+      assertThat(task.getDue()).isEqualTo(expectedTask.getDue());
+      assertThat(task.getPriority()).isEqualTo(expectedTask.getPriority());
+      assertThat(task.getOwner()).isEqualTo(expectedTask.getOwner());
+      assertThat(task.getCreated()).isNull();
+      assertThat(task.getState()).isNull();
+      assertThat(task.getPrimaryObjRef()).isNull();
+      assertThat(task.getAttachmentSummaries()).isEmpty();
+    }
+    assertThat(expectedTasks)
+        .anySatisfy(task -> assertThat(task.getAttachmentSummaries()).isNotEmpty());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_LoadContainedSummaries_When_RequestedForSelectedColumns() {
+    List<TaskSummary> expectedTasks =
+        taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING).list();
+
+    List<TaskSummary> tasks =
+        taskService
+            .createTaskQuery()
+            .select(TaskQueryColumnName.NAME)
+            .withContainedSummaries()
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list();
+
+    assertThat(tasks).hasSameSizeAs(expectedTasks);
+    for (int i = 0; i < tasks.size(); i++) {
+      TaskSummary task = tasks.get(i);
+      TaskSummary expectedTask = expectedTasks.get(i);
+      assertThat(task.getClassificationSummary())
+          .isEqualTo(expectedTask.getClassificationSummary());
+      assertThat(task.getWorkbasketSummary()).isEqualTo(expectedTask.getWorkbasketSummary());
+      assertThat(task.getAttachmentSummaries())
+          .isEqualTo(expectedTask.getAttachmentSummaries());
+    }
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnSameTasksAsList_When_PagingSelectedColumnsWithCursor() {
+    List<String> expectedIds =
+        taskService
+            .createTaskQuery()
+            .orderByPriority(SortDirection.DESCENDING)
+            .orderByTaskId(SortDirection.ASCENDING)
+            .list()
+            .stream()
+            .map(TaskSummary::getId)
+            .collect(Collectors.toList());
+
+    List<TaskSummary> tasks = new ArrayList<>();
+    String cursor = null;
+    List<TaskSummary> page;
+    do {
+      TaskQuery query =
+          taskService
+              .createTaskQuery()
+              .select(TaskQueryColumnName.NAME)
+              .orderByPriority(SortDirection.DESCENDING);
+      page = query.listAfter(cursor, 5);
+      tasks.addAll(page);
+      if (!page.isEmpty()) {
+        cursor = query.createCursor(page.get(page.size() - 1));
+      }
+    } while (page.size() == 5);
+
+    assertThat(tasks).extracting(TaskSummary::getId).containsExactlyElementsOf(expectedIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_StreamSelectedColumns_When_ColumnsAreSelected() {
+    long count = taskService.createTaskQuery().count();
+
+    try (Stream<TaskSummary> tasks =
+        taskService.createTaskQuery().select(TaskQueryColumnName.OWNER).stream()) {
+      assertThat(tasks)
+          .hasSize((int) count)
+          .allSatisfy(task -> assertThat(task.getName()).isNull());
+    }
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_SelectingColumnOfOtherTable() {
+    ThrowingCallable call =
+        () -> taskService.createTaskQuery().select(TaskQueryColumnName.CLASSIFICATION_NAME);
+
+    assertThatThrownBy(call)
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("does not belong to the TASK table");
+  }
+}
@@ -0,0 +1,177 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import javax.security.auth.Subject;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.function.ThrowingConsumer;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.common.internal.util.CheckedConsumer;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+
+/** Acceptance test for claiming multiple tasks with one selectAndClaim call. */
+@ExtendWith(JaasExtension.class)
+class SelectAndClaimTasksAccTest extends AbstractAccTest {
+
+  private static final int TASKS_PER_RUN = 100;
+  private static final int TASKS_PER_CLAIM = 5;
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ClaimReadyTasks_When_SelectAndClaimWithNumberOfTasks() throws Exception {
+    TaskQuery query =
+        taskService
+            .createTaskQuery()
+            .workbasketKeyDomainIn(new KeyDomain("USER-1-2", "DOMAIN_A"))
+            .orderByTaskId(SortDirection.ASCENDING);
+
+    List<TaskSummary> claimedTasks = taskService.selectAndClaim(query, 3);
+
+    assertThat(claimedTasks)
+        .hasSize(2)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+              assertThat(task.getOwner()).isEqualTo("user-1-2");
+              assertThat(task.getClaimed()).isNotNull();
+              assertThat(task.isRead()).isTrue();
+            });
+    for (TaskSummary claimedTask : claimedTasks) {
+      Task task = taskService.getTask(claimedTask.getId());
+      assertThat(task.getState()).isEqualTo(TaskState.CLAIMED);
+      assertThat(task.getOwner()).isEqualTo("user-1-2");
+    }
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ReturnEmptyList_When_NoReadyTaskMatchesQuery() throws Exception {
+    TaskQuery query = taskService.createTaskQuery().idIn("notexisting");
+
+    List<TaskSummary> claimedTasks = taskService.selectAndClaim(query, 10);
+
+    assertThat(claimedTasks).isEmpty();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_NumberOfTasksIsLessThanOne() {
+    TaskQuery query = taskService.createTaskQuery();
+
+    ThrowingCallable call = () -> taskService.selectAndClaim(query, 0);
+
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  @WithAccessId(user = "admin")
+  @TestFactory
+  Stream<DynamicTest> should_ClaimEveryTaskOnce_For_ConcurrentClaimers() {
+    ThrowingConsumer<Integer> test =
+        claimerCount -> {
+          String objectReferenceValue = "CLAIMERS-" + claimerCount;
+          createTasks(objectReferenceValue);
+          List<TaskSummary> claimedTasks = Collections.synchronizedList(new ArrayList<>());
+          List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+
+          runInThreads(
+              CheckedConsumer.wrap(
+                  taskService -> {
+                    TaskQuery query =
+                        taskService
+                            .createTaskQuery()
+                            .primaryObjectReferenceValueIn(objectReferenceValue)
+                            .orderByTaskId(SortDirection.ASCENDING);
+                    List<TaskSummary> claimed = taskService.selectAndClaim(query, TASKS_PER_CLAIM);
+                    while (!claimed.isEmpty()) {
+                      claimedTasks.addAll(claimed);
+                      claimed = taskService.selectAndClaim(query, TASKS_PER_CLAIM);
+                    }
+                  }),
+              claimerCount,
+              errors);
+
+          assertThat(errors).isEmpty();
+          assertThat(claimedTasks).hasSize(TASKS_PER_RUN);
+          assertThat(claimedTasks).extracting(TaskSummary::getId).doesNotHaveDuplicates();
+          assertThat(
+                  taskService
+                      .createTaskQuery()
+                      .primaryObjectReferenceValueIn(objectReferenceValue)
+                      .stateIn(TaskState.READY)
+                      .count())
+              .isZero();
+        };
+
+    return DynamicTest.stream(
+        Stream.of(1, 2, 4, 8).iterator(), count -> "with " + count + " claimers", test);
+  }
+
+  private void createTasks(String objectReferenceValue) throws Exception {
+    List<Task> tasks =
+        IntStream.range(0, TASKS_PER_RUN)
+            .mapToObj(
+                i -> {
+                  Task task = taskService.newTask("USER-1-1", "DOMAIN_A");
+                  task.setClassificationKey("T2100");
+                  task.setPrimaryObjRef(
+                      createObjectReference(
+                          "COMPANY_A", "SYSTEM_A", "INSTANCE_A", "VNR", objectReferenceValue));
+                  return task;
+                })
+            .collect(Collectors.toList());
+    BulkOperationResults<String, TaskanaException> results = taskService.createTasks(tasks);
+    assertThat(results.containsErrors()).isFalse();
+  }
+
+  private void runInThreads(Consumer<TaskService> consumer, int threadCount, List<Throwable> errors)
+      throws InterruptedException {
+    Thread[] threads = new Thread[threadCount];
+    for (int i = 0; i < threads.length; i++) {
+      threads[i] =
+          new Thread(
+              () -> {
+                Subject subject = new Subject();
+                subject.getPrincipals().add(new UserPrincipal("admin"));
+                PrivilegedAction<Void> action =
+                    () -> {
+                      consumer.accept(taskanaEngine.getTaskService());
+                      return null;
+                    };
+                Subject.doAs(subject, action);
+              });
+      threads[i].setUncaughtExceptionHandler((thread, error) -> errors.add(error));
+      threads[i].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+  }
+}
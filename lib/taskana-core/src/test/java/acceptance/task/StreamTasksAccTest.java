@@ -0,0 +1,96 @@
+package acceptance.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
+
+/** Acceptance test for reading tasks with a cursor. */
+@ExtendWith(JaasExtension.class)
+class StreamTasksAccTest extends AbstractAccTest {
+
+  private final TaskService taskService = taskanaEngine.getTaskService();
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassAllTasksToConsumer_When_FetchSizeIsSmallerThanResult() throws Exception {
+    List<TaskSummary> expectedTasks = createOrderedQuery().list();
+    List<TaskSummary> tasks = new ArrayList<>();
+
+    createOrderedQuery().forEach(tasks::add, 7);
+
+    assertThat(tasks).hasSize(expectedTasks.size()).isEqualTo(expectedTasks);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_AugmentTasksWithAttachmentSummaries_When_ForEachIsUsed() throws Exception {
+    List<TaskSummary> tasks = new ArrayList<>();
+
+    taskService
+        .createTaskQuery()
+        .idIn("TKI:000000000000000000000000000000000000")
+        .forEach(tasks::add, 1);
+
+    assertThat(tasks).hasSize(1);
+    assertThat(tasks.get(0).getAttachmentSummaries()).isNotEmpty();
+    assertThat(tasks.get(0).getClassificationSummary().getKey()).isNotNull();
+    assertThat(tasks.get(0).getWorkbasketSummary().getKey()).isNotNull();
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_OnlyStreamReadableTasks_When_UserIsNoAdmin() {
+    List<String> expectedIds =
+        createOrderedQuery().list().stream().map(TaskSummary::getId).collect(Collectors.toList());
+
+    List<String> ids;
+    try (Stream<TaskSummary> tasks = createOrderedQuery().stream()) {
+      ids = tasks.map(TaskSummary::getId).collect(Collectors.toList());
+    }
+
+    assertThat(ids).isNotEmpty().isEqualTo(expectedIds);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_StreamingTasksOfNotAuthorizedWorkbasket() {
+    ThrowingCallable call =
+        () ->
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn("WBI:100000000000000000000000000000000005")
+                .forEach(task -> {}, 10);
+
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+    assertThat(taskService.createTaskQuery().count()).isPositive();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ThrowException_When_FetchSizeIsLessThanOne() {
+    ThrowingCallable call = () -> taskService.createTaskQuery().forEach(task -> {}, 0);
+
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
+  private TaskQuery createOrderedQuery() {
+    return taskService.createTaskQuery().orderByTaskId(SortDirection.ASCENDING);
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import acceptance.TaskanaEngineProxy;
+import java.util.List;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -44,6 +45,25 @@ class TaskEngineAccTest extends AbstractAccTest {
     assertThat(taskanaEngine.isUserInRole(TaskanaRole.ADMIN)).isFalse();
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ResolveAccessIdsOfAdmin_When_RunAsAdminIsCalledWithinSession() throws Exception {
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    engineProxy.openConnection();
+    try {
+      List<String> accessIds = taskanaEngine.getCurrentUserContext().getAccessIds();
+      accessIds.clear();
+      assertThat(taskanaEngine.getCurrentUserContext().getAccessIds()).contains("businessadmin");
+      List<String> accessIdsOfAdmin =
+          taskanaEngine.runAsAdmin(() -> taskanaEngine.getCurrentUserContext().getAccessIds());
+
+      assertThat(accessIdsOfAdmin).isNotEmpty().doesNotContain("businessadmin");
+      assertThat(taskanaEngine.getCurrentUserContext().getAccessIds()).contains("businessadmin");
+    } finally {
+      engineProxy.returnConnection();
+    }
+  }
+
   @WithAccessId(user = "user-1-1")
   @Test
   void should_ThrowException_When_CheckingNormalUserForAdminRoles() {
@@ -6,6 +6,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import acceptance.AbstractAccTest;
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.DynamicTest;
@@ -14,8 +16,10 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.ThrowingConsumer;
 
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.MismatchedRoleException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.user.api.UserService;
@@ -221,4 +225,73 @@ class UserServiceAccTest extends AbstractAccTest {
             "Not authorized. The current user 'user-1-2' is not member of role(s) "
                 + "'[BUSINESS_ADMIN, ADMIN]'.");
   }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ReturnExistingUsers_When_GettingUsersByIds() {
+    List<User> users = USER_SERVICE.getUsers(Set.of("user-1-1", "user-1-3", "NOT_EXISTING"));
+
+    assertThat(users).extracting(User::getId).containsExactlyInAnyOrder("user-1-1", "user-1-3");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CreateAndUpdateUsersWithGroups_When_CreatingOrUpdatingUsers() throws Exception {
+    User newUser = createExampleUser("user-10-30");
+    newUser.setGroups(Set.of("cn=group1,ou=groups", "cn=group2,ou=groups"));
+    User existingUser = createExampleUser("user-2-1");
+
+    BulkOperationResults<String, TaskanaException> results =
+        USER_SERVICE.createOrUpdateUsers(List.of(newUser, existingUser));
+
+    assertThat(results.containsErrors()).isFalse();
+    assertThat(USER_SERVICE.getUser("user-10-30")).isEqualTo(newUser);
+    assertThat(USER_SERVICE.getUser("user-2-1")).isEqualTo(existingUser);
+
+    User changedUser = createExampleUser("user-10-30");
+    changedUser.setEmail("hans.georg@taskana.pro");
+    changedUser.setGroups(Set.of("cn=group2,ou=groups", "cn=group3,ou=groups"));
+
+    results = USER_SERVICE.createOrUpdateUsers(List.of(changedUser));
+
+    assertThat(results.containsErrors()).isFalse();
+    User userInDatabase = USER_SERVICE.getUser("user-10-30");
+    assertThat(userInDatabase).isEqualTo(changedUser);
+    assertThat(userInDatabase.getGroups())
+        .containsExactlyInAnyOrder("cn=group2,ou=groups", "cn=group3,ou=groups");
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ReportInvalidAndDuplicateUsers_When_CreatingOrUpdatingUsers() throws Exception {
+    User userWithoutName = createExampleUser("user-10-31");
+    userWithoutName.setFirstName(null);
+    User user = createExampleUser("user-10-32");
+    User duplicateUser = createExampleUser("user-10-32");
+    duplicateUser.setEmail("other@web.com");
+    User userWithTooLongName = createExampleUser("user-10-34");
+    userWithTooLongName.setFirstName("a first name which is longer than the column");
+
+    BulkOperationResults<String, TaskanaException> results =
+        USER_SERVICE.createOrUpdateUsers(
+            List.of(userWithoutName, user, duplicateUser, userWithTooLongName));
+
+    assertThat(results.getFailedIds())
+        .containsExactlyInAnyOrder("user-10-31", "user-10-32", "user-10-34");
+    assertThat(results.getErrorForId("user-10-31")).isInstanceOf(InvalidArgumentException.class);
+    assertThat(results.getErrorForId("user-10-34")).isInstanceOf(InvalidArgumentException.class);
+    assertThat(results.getErrorForId("user-10-32")).isInstanceOf(UserAlreadyExistException.class);
+    assertThat(USER_SERVICE.getUser("user-10-32")).isEqualTo(user);
+    assertThatThrownBy(() -> USER_SERVICE.getUser("user-10-31"))
+        .isInstanceOf(UserNotFoundException.class);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowNotAuthorizedException_When_TryingToCreateOrUpdateUsersWithNoAdminRole() {
+    List<User> users = List.of(createExampleUser("user-10-33"));
+
+    ThrowingCallable callable = () -> USER_SERVICE.createOrUpdateUsers(users);
+    assertThatThrownBy(callable).isInstanceOf(MismatchedRoleException.class);
+  }
 }
@@ -0,0 +1,110 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.api.exceptions.WorkbasketAlreadyExistException;
+import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+/** Acceptance test for reading and writing several workbaskets at once. */
+@ExtendWith(JaasExtension.class)
+class CreateOrUpdateWorkbasketsAccTest extends AbstractAccTest {
+
+  private final WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_CreateAndUpdateWorkbaskets_When_KeyAndDomainAreUnique() throws Exception {
+    final Workbasket existing = workbasketService.getWorkbasket("GPK_KSC_2", "DOMAIN_A");
+    Workbasket update = workbasketService.newWorkbasket("GPK_KSC_2", "DOMAIN_A");
+    update.setName("bulk updated name");
+    update.setType(WorkbasketType.GROUP);
+    Workbasket creation = workbasketService.newWorkbasket("BULK_WB", "DOMAIN_A");
+    creation.setName("bulk created");
+    creation.setType(WorkbasketType.PERSONAL);
+    Workbasket duplicate = workbasketService.newWorkbasket("BULK_WB", "DOMAIN_A");
+    duplicate.setName("duplicate");
+    duplicate.setType(WorkbasketType.PERSONAL);
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        workbasketService.createOrUpdateWorkbaskets(List.of(update, creation, duplicate));
+
+    assertThat(results.getErrorMap()).containsOnlyKeys(new KeyDomain("BULK_WB", "DOMAIN_A"));
+    assertThat(results.getErrorForId(new KeyDomain("BULK_WB", "DOMAIN_A")))
+        .isInstanceOf(WorkbasketAlreadyExistException.class);
+    assertThat(update.getId()).isEqualTo(existing.getId());
+    Workbasket updated = workbasketService.getWorkbasket(existing.getId());
+    assertThat(updated.getName()).isEqualTo("bulk updated name");
+    assertThat(updated.getCreated()).isEqualTo(existing.getCreated());
+    assertThat(workbasketService.getWorkbasket("BULK_WB", "DOMAIN_A"))
+        .extracting(Workbasket::getId, Workbasket::getName)
+        .containsExactly(creation.getId(), "bulk created");
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReportErrorAndWriteOthers_When_DatabaseRejectsWorkbasket() throws Exception {
+    Workbasket rejected = workbasketService.newWorkbasket("BULK_WB_REJECTED", "DOMAIN_A");
+    rejected.setName("rejected");
+    rejected.setType(WorkbasketType.PERSONAL);
+    rejected.setDescription("x".repeat(256));
+    Workbasket valid = workbasketService.newWorkbasket("BULK_WB_NOT_REJECTED", "DOMAIN_A");
+    valid.setName("not rejected");
+    valid.setType(WorkbasketType.PERSONAL);
+
+    BulkOperationResults<KeyDomain, TaskanaException> results =
+        workbasketService.createOrUpdateWorkbaskets(List.of(rejected, valid));
+
+    assertThat(results.getErrorMap())
+        .containsOnlyKeys(new KeyDomain("BULK_WB_REJECTED", "DOMAIN_A"));
+    assertThat(results.getErrorForId(new KeyDomain("BULK_WB_REJECTED", "DOMAIN_A")))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(workbasketService.createWorkbasketQuery().keyIn("BULK_WB_REJECTED").list())
+        .isEmpty();
+    assertThat(workbasketService.getWorkbasket("BULK_WB_NOT_REJECTED", "DOMAIN_A").getId())
+        .isEqualTo(valid.getId());
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_ReturnWorkbasketsAndDistributionTargets_When_ReadInBatches() throws Exception {
+    List<String> ids =
+        List.of(
+            "WBI:100000000000000000000000000000000002",
+            "WBI:999999999999999999999999999999999999",
+            "WBI:100000000000000000000000000000000001");
+
+    List<Workbasket> workbaskets = workbasketService.getWorkbaskets(ids);
+    Map<String, List<String>> distributionTargetIds =
+        workbasketService.getDistributionTargetIds(ids);
+
+    assertThat(workbaskets)
+        .extracting(Workbasket::getId)
+        .containsExactly(
+            "WBI:100000000000000000000000000000000002", "WBI:100000000000000000000000000000000001");
+    assertThat(distributionTargetIds).containsOnlyKeys(ids);
+    assertThat(distributionTargetIds.get("WBI:999999999999999999999999999999999999")).isEmpty();
+    for (String id : List.of(ids.get(0), ids.get(2))) {
+      assertThat(distributionTargetIds.get(id))
+          .containsExactlyInAnyOrderElementsOf(
+              workbasketService.getDistributionTargets(id).stream()
+                  .map(WorkbasketSummary::getId)
+                  .collect(Collectors.toList()));
+    }
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -255,6 +256,56 @@ class DistributionTargetsAccTest extends AbstractAccTest {
     resetDb(false);
   }
 
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_KeepRetainedTargetsAndAddNewTargets_When_SettingDistributionTargets()
+      throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    Workbasket sourceWorkbasket = workbasketService.getWorkbasket("GPK_KSC_1", "DOMAIN_A");
+    List<String> retainedTargetIds =
+        workbasketService.getDistributionTargets(sourceWorkbasket.getId()).stream()
+            .map(WorkbasketSummary::getId)
+            .limit(2)
+            .collect(Collectors.toList());
+    String newTargetId = "WBI:100000000000000000000000000000000005";
+    List<String> newTargetIds = new ArrayList<>(retainedTargetIds);
+    newTargetIds.add(newTargetId);
+    newTargetIds.add(newTargetId);
+
+    workbasketService.setDistributionTargets(sourceWorkbasket.getId(), newTargetIds);
+
+    assertThat(workbasketService.getDistributionTargets(sourceWorkbasket.getId()))
+        .extracting(WorkbasketSummary::getId)
+        .containsExactlyInAnyOrder(retainedTargetIds.get(0), retainedTargetIds.get(1), newTargetId);
+    assertThat(workbasketService.getDistributionSources(newTargetId))
+        .extracting(WorkbasketSummary::getId)
+        .contains(sourceWorkbasket.getId());
+
+    // reset DB to original state
+    resetDb(false);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_NotChangeDistributionTargets_When_OneOfTheTargetsDoesNotExist() throws Exception {
+    WorkbasketService workbasketService = taskanaEngine.getWorkbasketService();
+    Workbasket sourceWorkbasket = workbasketService.getWorkbasket("GPK_KSC_1", "DOMAIN_A");
+    String newTargetId = "WBI:100000000000000000000000000000000005";
+
+    ThrowingCallable call =
+        () ->
+            workbasketService.setDistributionTargets(
+                sourceWorkbasket.getId(), List.of(newTargetId, "WBI:DOES_NOT_EXIST"));
+
+    assertThatThrownBy(call)
+        .isInstanceOf(WorkbasketNotFoundException.class)
+        .hasFieldOrPropertyWithValue("id", "WBI:DOES_NOT_EXIST");
+    assertThat(workbasketService.getDistributionTargets(sourceWorkbasket.getId()))
+        .hasSize(4)
+        .extracting(WorkbasketSummary::getId)
+        .doesNotContain(newTargetId);
+  }
+
   @WithAccessId(user = "businessadmin")
   @Test
   void testGetDistributionSourcesById() throws Exception {
@@ -0,0 +1,136 @@
+package acceptance.workbasket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import acceptance.AbstractAccTest;
+import acceptance.TaskanaEngineProxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import pro.taskana.TaskanaEngineConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.test.config.DataSourceGenerator;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+
+/** Acceptance test for the invalidation of the cached workbasket permissions. */
+@ExtendWith(JaasExtension.class)
+class WorkbasketPermissionCacheAccTest extends AbstractAccTest {
+
+  private static TaskanaEngine cachingEngine;
+  private final WorkbasketService workbasketService = cachingEngine.getWorkbasketService();
+  private final TaskService taskService = cachingEngine.getTaskService();
+
+  @BeforeAll
+  static void buildCachingEngine() throws Exception {
+    TaskanaEngineConfiguration configuration =
+        new TaskanaEngineConfiguration(
+            DataSourceGenerator.getDataSource(), false, DataSourceGenerator.getSchemaName());
+    configuration.setWorkbasketPermissionCacheTtl(Duration.ofMinutes(1));
+    configuration.setWorkbasketPermissionCacheMaxSize(100);
+    cachingEngine = configuration.buildTaskanaEngine(ConnectionManagementMode.AUTOCOMMIT);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_GrantPermissions_When_AccessItemIsCreated() throws Exception {
+    final String wbId = "WBI:100000000000000000000000000000000004";
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId)).isEmpty();
+    assertThat(taskService.createTaskQuery().count()).isZero();
+    ThrowingCallable call = () -> taskService.createTaskQuery().workbasketIdIn(wbId).count();
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(wbId, "businessadmin");
+    accessItem.setPermission(WorkbasketPermission.READ, true);
+    accessItem.setPermission(WorkbasketPermission.OPEN, true);
+    workbasketService.createWorkbasketAccessItem(accessItem);
+
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId))
+        .containsExactlyInAnyOrder(WorkbasketPermission.READ, WorkbasketPermission.OPEN);
+    assertThat(taskService.createTaskQuery().count()).isOne();
+    assertThat(taskService.createTaskQuery().workbasketIdIn(wbId).count()).isOne();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_RevokePermissions_When_AccessItemIsUpdatedAndDeleted() throws Exception {
+    final String wbId = "WBI:100000000000000000000000000000000005";
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(wbId, "businessadmin");
+    accessItem.setPermission(WorkbasketPermission.READ, true);
+    accessItem.setPermission(WorkbasketPermission.OPEN, true);
+    accessItem = workbasketService.createWorkbasketAccessItem(accessItem);
+    assertThat(taskService.createTaskQuery().workbasketIdIn(wbId).count()).isEqualTo(2);
+
+    accessItem.setPermission(WorkbasketPermission.READ, false);
+    workbasketService.updateWorkbasketAccessItem(accessItem);
+
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId))
+        .containsExactly(WorkbasketPermission.OPEN);
+    ThrowingCallable call = () -> taskService.createTaskQuery().workbasketIdIn(wbId).count();
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+
+    workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
+
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId)).isEmpty();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_RevokePermissions_When_AccessItemsAreReplaced() throws Exception {
+    final String wbId = "WBI:100000000000000000000000000000000006";
+    WorkbasketAccessItem accessItem =
+        workbasketService.newWorkbasketAccessItem(wbId, "businessadmin");
+    accessItem.setPermission(WorkbasketPermission.READ, true);
+    workbasketService.createWorkbasketAccessItem(accessItem);
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId))
+        .containsExactly(WorkbasketPermission.READ);
+
+    workbasketService.setWorkbasketAccessItems(wbId, List.of());
+
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId)).isEmpty();
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @Test
+  void should_DropPermissionsCachedByOtherThread_When_ChangeIsCommitted() throws Exception {
+    final String wbId = "WBI:100000000000000000000000000000000012";
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(cachingEngine);
+    AtomicReference<List<WorkbasketPermission>> permissionsOfOtherThread = new AtomicReference<>();
+    engineProxy.openConnection();
+    try {
+      WorkbasketAccessItem accessItem =
+          workbasketService.newWorkbasketAccessItem(wbId, "businessadmin");
+      accessItem.setPermission(WorkbasketPermission.READ, true);
+      workbasketService.createWorkbasketAccessItem(accessItem);
+
+      // the other thread reads and caches the permissions before the change is committed
+      Thread otherThread =
+          new Thread(
+              () ->
+                  permissionsOfOtherThread.set(
+                      workbasketService.getPermissionsForWorkbasket(wbId)));
+      otherThread.start();
+      otherThread.join();
+    } finally {
+      engineProxy.returnConnection();
+    }
+
+    assertThat(permissionsOfOtherThread.get()).isEmpty();
+    assertThat(workbasketService.getPermissionsForWorkbasket(wbId))
+        .containsExactly(WorkbasketPermission.READ);
+  }
+}
@@ -11,10 +11,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -38,8 +41,10 @@ import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistExc
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
+import pro.taskana.workbasket.internal.DistributionGraphCache;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
+import pro.taskana.workbasket.internal.WorkbasketCache;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 import pro.taskana.workbasket.internal.models.WorkbasketAccessItemImpl;
@@ -69,6 +74,14 @@ class WorkbasketServiceImplTest {
 
   @Mock private HistoryEventManager historyEventManager;
 
+  @Spy
+  private WorkbasketCache workbasketCache =
+      new WorkbasketCache(false, Duration.ZERO, 0, null, null);
+
+  @Spy
+  private DistributionGraphCache distributionGraphCache =
+      new DistributionGraphCache(false, Duration.ZERO, null, null);
+
   @BeforeEach
   void setup() {
     lenient().when(internalTaskanaEngineMock.getEngine()).thenReturn(taskanaEngine);
@@ -83,21 +96,27 @@ class WorkbasketServiceImplTest {
     when(internalTaskanaEngineMock.domainExists(any())).thenReturn(true);
 
     final Workbasket actualWb = workbasketServiceSpy.createWorkbasket(expectedWb);
-    workbasketServiceSpy.setDistributionTargets(
-        expectedWb.getId(), createTestDistributionTargets(distTargetAmount));
+    List<String> distributionTargets = createTestDistributionTargets(distTargetAmount);
+    doReturn(
+            distributionTargets.stream()
+                .collect(Collectors.toMap(Function.identity(), id -> createTestWorkbasket(id, id))))
+        .when(workbasketCache)
+        .getByIds(distributionTargets);
+    workbasketServiceSpy.setDistributionTargets(expectedWb.getId(), distributionTargets);
 
     verify(internalTaskanaEngineMock, times(4)).openConnection();
     verify(workbasketMapperMock, times(3)).insert(any());
-    verify(workbasketServiceSpy, times(distTargetAmount + 1)).getWorkbasket(any());
-    verify(distributionTargetMapperMock, times(1)).deleteAllDistributionTargetsBySourceId(any());
-    verify(distributionTargetMapperMock, times(distTargetAmount)).insert(any(), any());
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(distributionTargetMapperMock, times(1)).findBySourceId(expectedWb.getId());
+    verify(distributionTargetMapperMock, times(1))
+        .insertMultiple(expectedWb.getId(), distributionTargets);
     verify(workbasketMapperMock, times(3)).findByKeyAndDomain(any(), any());
     verify(workbasketMapperMock, times(1)).update(any());
     verify(internalTaskanaEngineMock, times(4)).returnConnection();
     verify(taskanaEngine, times(4)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(4)).getEngine();
     verify(internalTaskanaEngineMock, times(3)).domainExists(any());
-    verify(historyEventManager, times(5)).isEnabled();
+    verify(historyEventManager, times(4)).isEnabled();
     verifyNoMoreInteractions(
         taskQueryMock,
         taskServiceMock,
@@ -121,6 +140,7 @@ class WorkbasketServiceImplTest {
     List<String> destinations = List.of(otherWorkbasketId);
     workbasketServiceSpy.createWorkbasket(expectedWb);
     doReturn(expectedWb).when(workbasketServiceSpy).getWorkbasket(expectedWb.getId());
+    doReturn(Collections.emptyMap()).when(workbasketCache).getByIds(destinations);
 
     ThrowingCallable call =
         () -> {
@@ -132,18 +152,15 @@ class WorkbasketServiceImplTest {
         .hasFieldOrPropertyWithValue("key", null)
         .hasFieldOrPropertyWithValue("domain", null);
 
-    verify(internalTaskanaEngineMock, times(3)).openConnection();
+    verify(internalTaskanaEngineMock, times(2)).openConnection();
     verify(workbasketMapperMock, times(1)).insert(expectedWb);
-    verify(workbasketMapperMock, times(1)).findById(any());
     verify(workbasketMapperMock, times(1)).findByKeyAndDomain(any(), any());
-    verify(workbasketServiceSpy, times(2)).getWorkbasket(any());
-    verify(internalTaskanaEngineMock, times(3)).returnConnection();
+    verify(workbasketServiceSpy, times(1)).getWorkbasket(any());
+    verify(internalTaskanaEngineMock, times(2)).returnConnection();
     verify(taskanaEngine, times(2)).checkRoleMembership(any());
     verify(internalTaskanaEngineMock, times(2)).getEngine();
     verify(internalTaskanaEngineMock, times(1)).domainExists(any());
-    verify(distributionTargetMapperMock).deleteAllDistributionTargetsBySourceId(expectedWb.getId());
-    verify(workbasketMapperMock).update(expectedWb);
-    verify(historyEventManager, times(2)).isEnabled();
+    verify(historyEventManager, times(1)).isEnabled();
 
     verifyNoMoreInteractions(
         taskQueryMock,
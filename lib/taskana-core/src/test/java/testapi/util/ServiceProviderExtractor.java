@@ -14,6 +14,8 @@ import org.junit.platform.commons.JUnitException;
 import testapi.WithServiceProvider;
 
 import pro.taskana.spi.history.api.TaskanaHistory;
+import pro.taskana.spi.idgeneration.api.IdGenerationProvider;
+import pro.taskana.spi.metrics.api.MetricsProvider;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
 import pro.taskana.spi.routing.api.TaskRoutingProvider;
 import pro.taskana.spi.task.api.CreateTaskPreprocessor;
@@ -25,7 +27,9 @@ public class ServiceProviderExtractor {
           TaskanaHistory.class,
           PriorityServiceProvider.class,
           TaskRoutingProvider.class,
-          CreateTaskPreprocessor.class);
+          CreateTaskPreprocessor.class,
+          MetricsProvider.class,
+          IdGenerationProvider.class);
 
   private ServiceProviderExtractor() {
     throw new IllegalStateException("utility class");
@@ -0,0 +1,134 @@
+package pro.taskana.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.spi.metrics.api.MetricsProvider;
+
+/**
+ * Records the measurements of TASKANA as Micrometer meters. By default, the meters are registered
+ * in the {@linkplain Metrics#globalRegistry global registry}, to which e.g. Spring Boot adds its
+ * registries.
+ *
+ * <p>The following meters are recorded:
+ *
+ * <ul>
+ *   <li>taskana.connections.opened, taskana.connections.returned: counters of the opened and
+ *       returned database connections
+ *   <li>taskana.connections.depth: the number of nested calls which use a connection when it is
+ *       opened
+ *   <li>taskana.statements, taskana.statements.rows: the latency and the row count of every
+ *       mapped statement
+ *   <li>taskana.jobs, taskana.jobs.retries: the duration and outcome of the executed jobs and the
+ *       number of retried jobs per job type
+ *   <li>taskana.history.publications, taskana.history.events: the duration of the event
+ *       publication and the number of published events per event type
+ * </ul>
+ */
+public class MicrometerMetricsProvider implements MetricsProvider {
+
+  private final MeterRegistry registry;
+  private final Map<String, Timer> statementTimers = new ConcurrentHashMap<>();
+  private final Map<String, DistributionSummary> statementRows = new ConcurrentHashMap<>();
+  private Counter openedConnections;
+  private Counter returnedConnections;
+  private DistributionSummary sessionStackDepth;
+
+  public MicrometerMetricsProvider() {
+    this(Metrics.globalRegistry);
+  }
+
+  public MicrometerMetricsProvider(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  @Override
+  public void initialize(TaskanaEngine taskanaEngine) {
+    openedConnections =
+        Counter.builder("taskana.connections.opened")
+            .description("Number of database connections opened or joined by API calls")
+            .register(registry);
+    returnedConnections =
+        Counter.builder("taskana.connections.returned")
+            .description("Number of database connections returned by API calls")
+            .register(registry);
+    sessionStackDepth =
+        DistributionSummary.builder("taskana.connections.depth")
+            .description("Number of nested API calls which use a connection when it is opened")
+            .register(registry);
+  }
+
+  @Override
+  public void connectionOpened(int sessionStackDepth) {
+    openedConnections.increment();
+    this.sessionStackDepth.record(sessionStackDepth);
+  }
+
+  @Override
+  public void connectionReturned(int sessionStackDepth) {
+    returnedConnections.increment();
+  }
+
+  @Override
+  public void statementExecuted(String statementId, long durationInNanos, int rowCount) {
+    statementTimers
+        .computeIfAbsent(
+            statementId,
+            id ->
+                Timer.builder("taskana.statements")
+                    .description("Execution time of the mapped statements")
+                    .tag("statement", id)
+                    .register(registry))
+        .record(durationInNanos, TimeUnit.NANOSECONDS);
+    if (rowCount >= 0) {
+      statementRows
+          .computeIfAbsent(
+              statementId,
+              id ->
+                  DistributionSummary.builder("taskana.statements.rows")
+                      .description("Number of rows selected or modified by the mapped statements")
+                      .tag("statement", id)
+                      .register(registry))
+          .record(rowCount);
+    }
+  }
+
+  @Override
+  public void jobExecuted(
+      String jobType, long durationInNanos, boolean succeeded, boolean retried) {
+    Timer.builder("taskana.jobs")
+        .description("Execution time of the scheduled jobs")
+        .tag("type", jobType)
+        .tag("outcome", succeeded ? "success" : "failure")
+        .register(registry)
+        .record(durationInNanos, TimeUnit.NANOSECONDS);
+    if (retried) {
+      Counter.builder("taskana.jobs.retries")
+          .description("Number of job executions which retried a failed job")
+          .tag("type", jobType)
+          .register(registry)
+          .increment();
+    }
+  }
+
+  @Override
+  public void historyEventsPublished(String eventType, int eventCount, long durationInNanos) {
+    Timer.builder("taskana.history.publications")
+        .description("Time the history providers needed to process the published events")
+        .tag("type", eventType)
+        .register(registry)
+        .record(durationInNanos, TimeUnit.NANOSECONDS);
+    Counter.builder("taskana.history.events")
+        .description("Number of history events published to the history providers")
+        .tag("type", eventType)
+        .register(registry)
+        .increment(eventCount);
+  }
+}
@@ -0,0 +1,90 @@
+package pro.taskana.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.user.api.UserService;
+import pro.taskana.workbasket.api.WorkbasketService;
+
+/**
+ * Measures the calls of the public methods of the TASKANA services. Every call is recorded by the
+ * timer 'taskana.service.calls' with the tags 'service', 'method' and 'exception'.
+ *
+ * <p>The services of the engine are created for every call of e.g. {@linkplain
+ * pro.taskana.common.api.TaskanaEngine#getTaskService()}. Therefore, only services which are
+ * instrumented explicitly, e.g. the service beans of a Spring application, are measured.
+ */
+public class ServiceMetrics {
+
+  /** The services whose calls can be measured. */
+  public static final List<Class<?>> SERVICE_TYPES =
+      Collections.unmodifiableList(
+          Arrays.asList(
+              TaskService.class,
+              WorkbasketService.class,
+              ClassificationService.class,
+              MonitorService.class,
+              UserService.class));
+
+  private static final String NO_EXCEPTION = "none";
+
+  private ServiceMetrics() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Returns a proxy of the given service which records the duration of every call.
+   *
+   * @param <S> the type of the service
+   * @param serviceType the interface of the service, e.g. {@linkplain TaskService}
+   * @param service the service whose calls are measured
+   * @param registry the registry of the timers
+   * @return the measured service
+   */
+  public static <S> S instrument(Class<S> serviceType, S service, MeterRegistry registry) {
+    Map<Method, Timer> timersOfSuccessfulCalls = new ConcurrentHashMap<>();
+    return serviceType.cast(
+        Proxy.newProxyInstance(
+            serviceType.getClassLoader(),
+            new Class<?>[] {serviceType},
+            (proxy, method, args) -> {
+              if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(service, args);
+              }
+              long start = System.nanoTime();
+              try {
+                Object result = method.invoke(service, args);
+                timersOfSuccessfulCalls
+                    .computeIfAbsent(
+                        method, m -> timer(serviceType, m, NO_EXCEPTION).register(registry))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+              } catch (InvocationTargetException e) {
+                timer(serviceType, method, e.getCause().getClass().getSimpleName())
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e.getCause();
+              }
+            }));
+  }
+
+  private static Timer.Builder timer(Class<?> serviceType, Method method, String exception) {
+    return Timer.builder("taskana.service.calls")
+        .description("Duration of the calls of the TASKANA services")
+        .tag("service", serviceType.getSimpleName())
+        .tag("method", method.getName())
+        .tag("exception", exception);
+  }
+}
@@ -0,0 +1,37 @@
+package pro.taskana.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Measures the calls of the TASKANA service beans of a Spring application. The meters are
+ * registered in the {@linkplain Metrics#globalRegistry global registry} like the meters of the
+ * {@linkplain MicrometerMetricsProvider}, so that Spring Boot exposes all of them at its actuator
+ * endpoint.
+ */
+@Configuration
+public class TaskanaMetricsConfiguration {
+
+  @Bean
+  public static BeanPostProcessor taskanaServiceMetricsPostProcessor() {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return instrumentIfService(bean);
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <S> Object instrumentIfService(Object bean) {
+    for (Class<?> serviceType : ServiceMetrics.SERVICE_TYPES) {
+      if (serviceType.isInstance(bean)) {
+        return ServiceMetrics.instrument(
+            (Class<S>) serviceType, (S) bean, Metrics.globalRegistry);
+      }
+    }
+    return bean;
+  }
+}
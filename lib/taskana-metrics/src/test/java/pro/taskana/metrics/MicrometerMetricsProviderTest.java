@@ -0,0 +1,94 @@
+package pro.taskana.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import pro.taskana.common.api.TaskanaEngine;
+
+class MicrometerMetricsProviderTest {
+
+  private MeterRegistry registry;
+  private MicrometerMetricsProvider provider;
+
+  @BeforeEach
+  void setup() {
+    registry = new SimpleMeterRegistry();
+    provider = new MicrometerMetricsProvider(registry);
+    provider.initialize(Mockito.mock(TaskanaEngine.class));
+  }
+
+  @Test
+  void should_CountConnectionsAndRecordDepth() {
+    provider.connectionOpened(1);
+    provider.connectionOpened(2);
+    provider.connectionReturned(1);
+
+    assertThat(registry.get("taskana.connections.opened").counter().count()).isEqualTo(2);
+    assertThat(registry.get("taskana.connections.returned").counter().count()).isEqualTo(1);
+    assertThat(registry.get("taskana.connections.depth").summary().max()).isEqualTo(2);
+  }
+
+  @Test
+  void should_RecordLatencyAndRowsPerStatement() {
+    provider.statementExecuted("TaskMapper.findById", 2_000_000, 1);
+    provider.statementExecuted("TaskMapper.findById", 4_000_000, 1);
+    provider.statementExecuted("TaskMapper.update", 1_000_000, -1);
+
+    assertThat(
+            registry
+                .get("taskana.statements")
+                .tag("statement", "TaskMapper.findById")
+                .timer()
+                .totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(6);
+    assertThat(
+            registry
+                .get("taskana.statements.rows")
+                .tag("statement", "TaskMapper.findById")
+                .summary()
+                .totalAmount())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .find("taskana.statements.rows")
+                .tag("statement", "TaskMapper.update")
+                .summary())
+        .isNull();
+  }
+
+  @Test
+  void should_RecordJobOutcomeAndRetries() {
+    provider.jobExecuted("TaskCleanupJob", 1_000, true, false);
+    provider.jobExecuted("TaskCleanupJob", 1_000, false, true);
+
+    assertThat(
+            registry
+                .get("taskana.jobs")
+                .tags("type", "TaskCleanupJob", "outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            registry
+                .get("taskana.jobs")
+                .tags("type", "TaskCleanupJob", "outcome", "failure")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(registry.get("taskana.jobs.retries").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void should_CountPublishedHistoryEvents() {
+    provider.historyEventsPublished("TaskHistoryEvent", 3, 1_000);
+
+    assertThat(registry.get("taskana.history.events").counter().count()).isEqualTo(3);
+    assertThat(registry.get("taskana.history.publications").timer().count()).isEqualTo(1);
+  }
+}
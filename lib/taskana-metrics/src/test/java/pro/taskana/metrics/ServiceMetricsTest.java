@@ -0,0 +1,46 @@
+package pro.taskana.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
+
+class ServiceMetricsTest {
+
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void should_RecordCallsPerMethodAndException() throws Exception {
+    TaskService taskService = Mockito.mock(TaskService.class);
+    Mockito.when(taskService.getTask("unknown"))
+        .thenThrow(new TaskNotFoundException("unknown"));
+    TaskService instrumented = ServiceMetrics.instrument(TaskService.class, taskService, registry);
+
+    instrumented.newTask("WBI:1");
+    instrumented.newTask("WBI:2");
+    assertThatThrownBy(() -> instrumented.getTask("unknown"))
+        .isInstanceOf(TaskNotFoundException.class);
+
+    assertThat(
+            registry
+                .get("taskana.service.calls")
+                .tags("service", "TaskService", "method", "newTask", "exception", "none")
+                .timer()
+                .count())
+        .isEqualTo(2);
+    assertThat(
+            registry
+                .get("taskana.service.calls")
+                .tags("method", "getTask", "exception", "TaskNotFoundException")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    Mockito.verify(taskService).newTask("WBI:1");
+  }
+}
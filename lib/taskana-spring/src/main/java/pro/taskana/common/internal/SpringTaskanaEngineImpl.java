@@ -1,8 +1,11 @@
 package pro.taskana.common.internal;
 
 import java.sql.SQLException;
-import javax.annotation.PostConstruct;
+import java.util.function.Consumer;
+import org.apache.ibatis.transaction.TransactionFactory;
 import org.mybatis.spring.transaction.SpringManagedTransactionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import pro.taskana.SpringTaskanaEngineConfiguration;
 
@@ -15,9 +18,23 @@ public class SpringTaskanaEngineImpl extends TaskanaEngineImpl {
     super(taskanaEngineConfiguration, mode);
   }
 
-  @PostConstruct
-  public void init() {
-    this.transactionFactory = new SpringManagedTransactionFactory();
-    this.sessionManager = createSqlSessionManager();
+  @Override
+  protected TransactionFactory createTransactionFactory(boolean useManagedTransactions) {
+    return new SpringManagedTransactionFactory();
+  }
+
+  @Override
+  public void runAfterCompletion(Consumer<Boolean> action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      super.runAfterCompletion(action);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            action.accept(status == STATUS_COMMITTED);
+          }
+        });
   }
 }
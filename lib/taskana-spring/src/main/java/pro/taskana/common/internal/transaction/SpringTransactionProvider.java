@@ -2,6 +2,7 @@ package pro.taskana.common.internal.transaction;
 
 import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /** TODO. */
@@ -13,4 +14,10 @@ public class SpringTransactionProvider implements TaskanaTransactionProvider {
   public <T> T executeInTransaction(Supplier<T> supplier) {
     return supplier.get();
   }
+
+  @Override
+  @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
+  public <T> T executeInNewTransaction(Supplier<T> supplier) {
+    return supplier.get();
+  }
 }
@@ -1,16 +1,21 @@
 package pro.taskana.example.jobs;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.monitor.internal.jobs.MonitorAggregateJob;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
 
@@ -21,12 +26,17 @@ public class JobScheduler {
   private static final Logger LOGGER = LoggerFactory.getLogger(JobScheduler.class);
   private final TaskanaTransactionProvider springTransactionProvider;
   private final TaskanaEngine taskanaEngine;
+  // runs the jobs in parallel, null if the jobs are run one after another
+  private final ExecutorService jobExecutor;
 
   @Autowired
   public JobScheduler(
-      TaskanaTransactionProvider springTransactionProvider, TaskanaEngine taskanaEngine) {
+      TaskanaTransactionProvider springTransactionProvider,
+      TaskanaEngine taskanaEngine,
+      @Value("${taskana.jobscheduler.async.threads:0}") int jobThreads) {
     this.springTransactionProvider = springTransactionProvider;
     this.taskanaEngine = taskanaEngine;
+    this.jobExecutor = jobThreads > 0 ? Executors.newFixedThreadPool(jobThreads) : null;
   }
 
   @PostConstruct
@@ -35,6 +45,9 @@ public class JobScheduler {
           ClassNotFoundException {
     TaskCleanupJob.initializeSchedule(taskanaEngine);
     WorkbasketCleanupJob.initializeSchedule(taskanaEngine);
+    if (taskanaEngine.getConfiguration().isMonitorAggregatesEnabled()) {
+      MonitorAggregateJob.initializeSchedule(taskanaEngine);
+    }
 
     if (taskanaEngine.isHistoryEnabled()) {
       Thread.currentThread()
@@ -45,6 +58,13 @@ public class JobScheduler {
     }
   }
 
+  @PreDestroy
+  public void shutdownJobExecutor() {
+    if (jobExecutor != null) {
+      jobExecutor.shutdown();
+    }
+  }
+
   @Scheduled(cron = "${taskana.jobscheduler.async.cron}")
   public void triggerJobs() {
     LOGGER.info("AsyncJobs started.");
@@ -55,7 +75,7 @@ public class JobScheduler {
   private void runAsyncJobsAsAdmin() {
     taskanaEngine.runAsAdmin(
         () -> {
-          JobRunner runner = new JobRunner(taskanaEngine);
+          JobRunner runner = new JobRunner(taskanaEngine, jobExecutor);
           runner.registerTransactionProvider(springTransactionProvider);
           LOGGER.info("Running Jobs");
           runner.runJobs();
@@ -22,22 +22,34 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
   @Min(1)
   private final Integer pageSize;
 
+  /**
+   * Skips counting all elements for the requested page. The total amount of elements and pages is
+   * then reported as -1 and the 'next' link is provided as long as the page is full.
+   */
+  @JsonProperty("skip-count")
+  private final Boolean skipCount;
+
   @JsonIgnore private PageMetadata pageMetadata;
 
-  @ConstructorProperties({"page", "page-size"})
-  public QueryPagingParameter(Integer page, Integer pageSize) {
+  @ConstructorProperties({"page", "page-size", "skip-count"})
+  public QueryPagingParameter(Integer page, Integer pageSize, Boolean skipCount) {
     // TODO: do we really want this? Personally I would throw an InvalidArgumentException
     if (pageSize == null) {
       pageSize = Integer.MAX_VALUE;
     }
     this.page = page;
     this.pageSize = pageSize;
+    this.skipCount = skipCount;
   }
 
   public PageMetadata getPageMetadata() {
     return pageMetadata;
   }
 
+  public Integer getPageSize() {
+    return pageSize;
+  }
+
   @Override
   public List<T> apply(Q query) {
     initPageMetaData(query);
@@ -53,7 +65,9 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
   }
 
   private void initPageMetaData(Q query) {
-    if (page != null) {
+    if (page != null && Boolean.TRUE.equals(skipCount)) {
+      pageMetadata = new PageMetadata(pageSize, -1, -1, page);
+    } else if (page != null) {
       long totalElements = query.count();
       long maxPages = (long) Math.ceil(totalElements / pageSize.doubleValue());
       pageMetadata = new PageMetadata(pageSize, totalElements, maxPages, Math.min(page, maxPages));
@@ -42,6 +42,7 @@ public final class RestEndpoints {
 
   // task endpoints
   public static final String URL_TASKS = API_V1 + "tasks";
+  public static final String URL_TASKS_BULK = API_V1 + "tasks/bulk";
   public static final String URL_TASKS_ID = API_V1 + "tasks/{taskId}";
   public static final String URL_TASKS_ID_CLAIM = API_V1 + "tasks/{taskId}/claim";
   public static final String URL_TASKS_ID_CLAIM_FORCE = API_V1 + "tasks/{taskId}/claim/force";
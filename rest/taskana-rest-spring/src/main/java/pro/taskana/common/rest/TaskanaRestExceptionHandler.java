@@ -121,6 +121,17 @@ public class TaskanaRestExceptionHandler extends ResponseEntityExceptionHandler
               Pair.of(ERROR_KEY_UNKNOWN_ERROR, HttpStatus.INTERNAL_SERVER_ERROR))
           .collect(Collectors.toMap(Pair::getLeft, Pair::getRight));
 
+  /**
+   * Returns the HTTP status of a response which reports the given error.
+   *
+   * @param errorCode the error code of the error
+   * @return the HTTP status
+   */
+  public static HttpStatus getHttpStatus(ErrorCode errorCode) {
+    return HTTP_STATUS_BY_ERRORCODE_KEY.getOrDefault(
+        errorCode.getKey(), HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
   @ExceptionHandler(MaxUploadSizeExceededException.class)
   protected ResponseEntity<Object> handleMaxUploadSizeExceededException(
       MaxUploadSizeExceededException ex, WebRequest req) {
@@ -37,15 +37,21 @@ public interface PagedRepresentationModelAssembler<
       model.add(
           Link.of(original.replaceQueryParam("page", 1).toUriString())
               .withRel(IanaLinkRelations.FIRST));
-      model.add(
-          Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
-              .withRel(IanaLinkRelations.LAST));
+      // the last page is unknown if the elements were not counted
+      boolean counted = page.getTotalPages() >= 0;
+      if (counted) {
+        model.add(
+            Link.of(original.replaceQueryParam("page", page.getTotalPages()).toUriString())
+                .withRel(IanaLinkRelations.LAST));
+      }
       if (page.getNumber() > 1) {
         model.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() - 1).toUriString())
                 .withRel(IanaLinkRelations.PREV));
       }
-      if (page.getNumber() < page.getTotalPages()) {
+      if (counted
+          ? page.getNumber() < page.getTotalPages()
+          : model.getContent().size() >= page.getSize()) {
         model.add(
             Link.of(original.replaceQueryParam("page", page.getNumber() + 1).toUriString())
                 .withRel(IanaLinkRelations.NEXT));
@@ -0,0 +1,124 @@
+package pro.taskana.common.rest.ldap;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import pro.taskana.common.internal.util.CheckedSupplier;
+
+/**
+ * Caches the results of the lookups of the {@linkplain LdapClient}, e.g. the users found for a
+ * search string or the groups of an access id.
+ *
+ * <p>An entry expires after the configured time to live and the least recently used entry is
+ * evicted as soon as the maximum size is exceeded. Empty results are cached as well, failed
+ * lookups are not. A time to live of zero disables the cache.
+ */
+class LdapCache {
+
+  private final long timeToLiveNanos;
+  private final Map<CacheKey, CacheEntry> entries;
+  private long generation;
+
+  LdapCache(Duration timeToLive, int maxSize) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.entries =
+        new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  boolean isEnabled() {
+    return timeToLiveNanos > 0;
+  }
+
+  /**
+   * Returns the cached result of the lookup or performs the lookup and caches its result.
+   *
+   * @param <T> the type of the result
+   * @param <E> the type of the exception of a failed lookup
+   * @param lookup the name of the lookup, e.g. the name of the method
+   * @param argument the argument of the lookup
+   * @param loader performs the lookup
+   * @return the result of the lookup
+   * @throws E if the lookup fails
+   */
+  @SuppressWarnings("unchecked")
+  <T, E extends Exception> T get(String lookup, String argument, CheckedSupplier<T, E> loader)
+      throws E {
+    if (!isEnabled()) {
+      return loader.get();
+    }
+    CacheKey key = new CacheKey(lookup, argument);
+    long loadedGeneration;
+    synchronized (this) {
+      CacheEntry entry = entries.get(key);
+      if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+        return (T) entry.value;
+      }
+      loadedGeneration = generation;
+    }
+
+    T value = loader.get();
+
+    synchronized (this) {
+      // do not cache results which might have been read before the cache was cleared
+      if (loadedGeneration == generation) {
+        entries.put(key, new CacheEntry(value, System.nanoTime() + timeToLiveNanos));
+      }
+    }
+    return value;
+  }
+
+  synchronized void clear() {
+    generation++;
+    entries.clear();
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+
+  private static class CacheKey {
+
+    private final String lookup;
+    private final String argument;
+
+    private CacheKey(String lookup, String argument) {
+      this.lookup = lookup;
+      this.argument = argument;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(lookup, argument);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof CacheKey)) {
+        return false;
+      }
+      CacheKey other = (CacheKey) obj;
+      return Objects.equals(lookup, other.lookup) && Objects.equals(argument, other.argument);
+    }
+  }
+
+  private static class CacheEntry {
+
+    private final Object value;
+    private final long expiresAt;
+
+    private CacheEntry(Object value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -1,10 +1,19 @@
 package pro.taskana.common.rest.ldap;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -14,9 +23,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
+import org.springframework.ldap.control.PagedResultsDirContextProcessor;
+import org.springframework.ldap.core.ContextMapper;
 import org.springframework.ldap.core.DirContextOperations;
 import org.springframework.ldap.core.LdapTemplate;
 import org.springframework.ldap.core.support.AbstractContextMapper;
+import org.springframework.ldap.core.support.SingleContextSource;
 import org.springframework.ldap.filter.AndFilter;
 import org.springframework.ldap.filter.EqualsFilter;
 import org.springframework.ldap.filter.OrFilter;
@@ -28,14 +40,49 @@ import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.common.rest.models.AccessIdRepresentationModel;
-
-/** Class for Ldap access. */
+import pro.taskana.user.api.models.User;
+import pro.taskana.user.internal.models.UserImpl;
+
+/**
+ * Class for Ldap access.
+ *
+ * <p>The results of the lookups of users, groups and distinguished names are cached for the time
+ * to live configured with 'taskana.ldap.cache.ttl', e.g. 'PT5M'. At most
+ * 'taskana.ldap.cache.maxSize' results are cached. By default, the cache is disabled.
+ */
 @Component
 public class LdapClient {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LdapClient.class);
   private static final String CN = "cn";
+  private static final List<OptionalUserAttribute> OPTIONAL_USER_ATTRIBUTES =
+      Arrays.asList(
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_EMAIL_ATTRIBUTE, User::getEmail, User::setEmail),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_PHONE_ATTRIBUTE, User::getPhone, User::setPhone),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_MOBILE_PHONE_ATTRIBUTE,
+              User::getMobilePhone,
+              User::setMobilePhone),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_ORG_LEVEL_4_ATTRIBUTE,
+              User::getOrgLevel4,
+              User::setOrgLevel4),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_ORG_LEVEL_3_ATTRIBUTE,
+              User::getOrgLevel3,
+              User::setOrgLevel3),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_ORG_LEVEL_2_ATTRIBUTE,
+              User::getOrgLevel2,
+              User::setOrgLevel2),
+          new OptionalUserAttribute(
+              LdapSettings.TASKANA_LDAP_USER_ORG_LEVEL_1_ATTRIBUTE,
+              User::getOrgLevel1,
+              User::setOrgLevel1));
 
   private final TaskanaEngineConfiguration taskanaEngineConfiguration;
   private final Environment env;
@@ -45,6 +92,7 @@ public class LdapClient {
   private int minSearchForLength;
   private int maxNumberOfReturnedAccessIds;
   private String message;
+  private LdapCache cache = new LdapCache(Duration.ZERO, 0);
 
   @Autowired
   public LdapClient(
@@ -94,6 +142,181 @@ public class LdapClient {
     isInitOrFail();
     testMinSearchForLength(nameOrAccessId);
 
+    final List<AccessIdRepresentationModel> accessIds =
+        copyOf(
+            cache.get(
+                "searchUsersByNameOrAccessIdInUserRole",
+                nameOrAccessId,
+                () -> searchUsersByNameOrAccessIdInUserRoleInLdap(nameOrAccessId)));
+    LOGGER.debug(
+        "exit from searchUsersByNameOrAccessIdInUserRoleGroups. Retrieved the following users: {}.",
+        accessIds);
+    return accessIds;
+  }
+
+  public List<AccessIdRepresentationModel> searchUsersByNameOrAccessId(final String name)
+      throws InvalidArgumentException {
+    isInitOrFail();
+    testMinSearchForLength(name);
+
+    return copyOf(
+        cache.get(
+            "searchUsersByNameOrAccessId", name, () -> searchUsersByNameOrAccessIdInLdap(name)));
+  }
+
+  public List<AccessIdRepresentationModel> getUsersByAccessId(final String accessId) {
+    isInitOrFail();
+
+    return copyOf(
+        cache.get("getUsersByAccessId", accessId, () -> getUsersByAccessIdInLdap(accessId)));
+  }
+
+  public List<AccessIdRepresentationModel> searchGroupsByName(final String name)
+      throws InvalidArgumentException {
+    isInitOrFail();
+    testMinSearchForLength(name);
+
+    return copyOf(
+        cache.get("searchGroupsByName", name, () -> searchGroupsByNameInLdap(name)));
+  }
+
+  public AccessIdRepresentationModel searchAccessIdByDn(final String dn) {
+    isInitOrFail();
+
+    return copyOf(cache.get("searchAccessIdByDn", dn, () -> searchAccessIdByDnInLdap(dn)));
+  }
+
+  public List<AccessIdRepresentationModel> searchGroupsAccessIdIsMemberOf(final String accessId)
+      throws InvalidArgumentException {
+    isInitOrFail();
+    testMinSearchForLength(accessId);
+
+    return copyOf(
+        cache.get(
+            "searchGroupsAccessIdIsMemberOf",
+            accessId,
+            () -> searchGroupsAccessIdIsMemberOfInLdap(accessId)));
+  }
+
+  /**
+   * Performs a lookup to retrieve correct DN for the given access id.
+   *
+   * @param accessId The access id to lookup
+   * @return the LDAP Distinguished Name for the access id
+   * @throws InvalidArgumentException thrown if the given access id is ambiguous.
+   */
+  public String searchDnForAccessId(String accessId) throws InvalidArgumentException {
+    isInitOrFail();
+
+    return cache.get("searchDnForAccessId", accessId, () -> searchDnForAccessIdInLdap(accessId));
+  }
+
+  /**
+   * Reads all users with the groups which they are member of, e.g. to synchronize them into the
+   * database of TASKANA. The users and the groups are read with paged searches, so that the size
+   * limit of the directory is not exceeded. The groups of a user are the groups which contain its
+   * access id or its DN in the attribute configured with 'taskana.ldap.groupsOfUser'. The fields
+   * of the users whose attribute is not configured are null.
+   *
+   * @param pageSize the number of users and groups which are read with one request
+   * @param pageConsumer consumes the users page by page
+   */
+  public void searchUsersWithGroups(int pageSize, Consumer<List<User>> pageConsumer) {
+    isInitOrFail();
+
+    Map<String, Set<String>> groupsByMember = new HashMap<>();
+    final AndFilter groupFilter = new AndFilter();
+    groupFilter.and(new EqualsFilter(getGroupSearchFilterName(), getGroupSearchFilterValue()));
+    searchPaged(
+        getGroupSearchBase(),
+        groupFilter.encode(),
+        new String[] {getGroupsOfUser()},
+        pageSize,
+        new AbstractContextMapper<Pair<String, String[]>>() {
+          @Override
+          protected Pair<String, String[]> doMapFromContext(DirContextOperations ctx) {
+            return Pair.of(getDnFromContext(ctx), ctx.getStringAttributes(getGroupsOfUser()));
+          }
+        },
+        groups ->
+            groups.stream()
+                .filter(group -> group.getRight() != null)
+                .forEach(
+                    group -> {
+                      for (String member : group.getRight()) {
+                        groupsByMember
+                            .computeIfAbsent(normalizeMember(member), m -> new HashSet<>())
+                            .add(group.getLeft());
+                      }
+                    }));
+
+    final AndFilter userFilter = new AndFilter();
+    userFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
+    List<OptionalUserAttribute> optionalAttributes = getConfiguredOptionalUserAttributes();
+    String[] userAttributes =
+        Stream.concat(
+                Arrays.stream(getLookUpUserAttributesToReturn()),
+                Stream.concat(
+                    Stream.of(getUserFullnameAttribute()),
+                    optionalAttributes.stream().map(a -> a.setting.getValueFromEnv(env))))
+            .toArray(String[]::new);
+    searchPaged(
+        getUserSearchBase(),
+        userFilter.encode(),
+        userAttributes,
+        pageSize,
+        new AbstractContextMapper<User>() {
+          @Override
+          protected User doMapFromContext(DirContextOperations ctx) {
+            String accessId = ctx.getStringAttribute(getUserIdAttribute());
+            if (accessId == null) {
+              return null;
+            }
+            User user = new UserImpl();
+            user.setId(useLowerCaseForAccessIds ? accessId.toLowerCase() : accessId);
+            user.setFirstName(ctx.getStringAttribute(getUserFirstnameAttribute()));
+            user.setLastName(ctx.getStringAttribute(getUserLastnameAttribute()));
+            user.setFullName(ctx.getStringAttribute(getUserFullnameAttribute()));
+            optionalAttributes.forEach(
+                attribute ->
+                    attribute.setter.accept(
+                        user, ctx.getStringAttribute(attribute.setting.getValueFromEnv(env))));
+            Set<String> groups = new HashSet<>();
+            groups.addAll(
+                groupsByMember.getOrDefault(normalizeMember(accessId), Collections.emptySet()));
+            groups.addAll(
+                groupsByMember.getOrDefault(
+                    normalizeMember(getDnFromContext(ctx)), Collections.emptySet()));
+            user.setGroups(groups);
+            return user;
+          }
+        },
+        users ->
+            pageConsumer.accept(
+                users.stream().filter(Objects::nonNull).collect(Collectors.toList())));
+  }
+
+  /**
+   * Copies the fields of a user which are not read from LDAP, i.e. its data and the fields whose
+   * attribute is not configured.
+   *
+   * @param source the user whose fields are copied, e.g. the user stored in TASKANA
+   * @param target the user which was read from LDAP
+   */
+  public void copyFieldsNotReadFromLdap(User source, User target) {
+    target.setData(source.getData());
+    OPTIONAL_USER_ATTRIBUTES.stream()
+        .filter(attribute -> attribute.setting.getValueFromEnv(env) == null)
+        .forEach(attribute -> attribute.setter.accept(target, attribute.getter.apply(source)));
+  }
+
+  /** Clears the cached results of the lookups. */
+  public void clearCache() {
+    cache.clear();
+  }
+
+  private List<AccessIdRepresentationModel> searchUsersByNameOrAccessIdInUserRoleInLdap(
+      final String nameOrAccessId) {
     final OrFilter userDetailsOrFilter = new OrFilter();
     userDetailsOrFilter.or(
         new WhitespaceWildcardsFilter(getUserFirstnameAttribute(), nameOrAccessId));
@@ -115,24 +338,15 @@ public class LdapClient {
     andFilter.and(groupMembershipOrFilter);
     andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
 
-    final List<AccessIdRepresentationModel> accessIds =
-        ldapTemplate.search(
-            getUserSearchBase(),
-            andFilter.encode(),
-            SearchControls.SUBTREE_SCOPE,
-            getLookUpUserAttributesToReturn(),
-            new UserContextMapper());
-    LOGGER.debug(
-        "exit from searchUsersByNameOrAccessIdInUserRoleGroups. Retrieved the following users: {}.",
-        accessIds);
-    return accessIds;
+    return ldapTemplate.search(
+        getUserSearchBase(),
+        andFilter.encode(),
+        SearchControls.SUBTREE_SCOPE,
+        getLookUpUserAttributesToReturn(),
+        new UserContextMapper());
   }
 
-  public List<AccessIdRepresentationModel> searchUsersByNameOrAccessId(final String name)
-      throws InvalidArgumentException {
-    isInitOrFail();
-    testMinSearchForLength(name);
-
+  private List<AccessIdRepresentationModel> searchUsersByNameOrAccessIdInLdap(final String name) {
     final AndFilter andFilter = new AndFilter();
     andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
     final OrFilter orFilter = new OrFilter();
@@ -153,9 +367,7 @@ public class LdapClient {
         new UserContextMapper());
   }
 
-  public List<AccessIdRepresentationModel> getUsersByAccessId(final String accessId) {
-    isInitOrFail();
-
+  private List<AccessIdRepresentationModel> getUsersByAccessIdInLdap(final String accessId) {
     final AndFilter andFilter = new AndFilter();
     andFilter.and(new EqualsFilter(getUserSearchFilterName(), getUserSearchFilterValue()));
     andFilter.and(new EqualsFilter(getUserIdAttribute(), accessId));
@@ -174,11 +386,7 @@ public class LdapClient {
         new UserContextMapper());
   }
 
-  public List<AccessIdRepresentationModel> searchGroupsByName(final String name)
-      throws InvalidArgumentException {
-    isInitOrFail();
-    testMinSearchForLength(name);
-
+  private List<AccessIdRepresentationModel> searchGroupsByNameInLdap(final String name) {
     final AndFilter andFilter = new AndFilter();
     andFilter.and(new EqualsFilter(getGroupSearchFilterName(), getGroupSearchFilterValue()));
     final OrFilter orFilter = new OrFilter();
@@ -198,8 +406,7 @@ public class LdapClient {
         new GroupContextMapper());
   }
 
-  public AccessIdRepresentationModel searchAccessIdByDn(final String dn) {
-    isInitOrFail();
+  private AccessIdRepresentationModel searchAccessIdByDnInLdap(final String dn) {
     // Obviously Spring LdapTemplate does have a inconsistency and always adds the base name to the
     // given DN.
     // https://stackoverflow.com/questions/55285743/spring-ldaptemplate-how-to-lookup-fully-qualified-dn-with-configured-base-dn
@@ -213,11 +420,8 @@ public class LdapClient {
         nameWithoutBaseDn, getLookUpUserAndGroupAttributesToReturn(), new DnContextMapper());
   }
 
-  public List<AccessIdRepresentationModel> searchGroupsAccessIdIsMemberOf(final String accessId)
-      throws InvalidArgumentException {
-    isInitOrFail();
-    testMinSearchForLength(accessId);
-
+  private List<AccessIdRepresentationModel> searchGroupsAccessIdIsMemberOfInLdap(
+      final String accessId) throws InvalidArgumentException {
     String dn = searchDnForAccessId(accessId);
     if (dn == null || dn.isEmpty()) {
       throw new InvalidArgumentException("The AccessId is invalid");
@@ -245,16 +449,7 @@ public class LdapClient {
         new GroupContextMapper());
   }
 
-  /**
-   * Performs a lookup to retrieve correct DN for the given access id.
-   *
-   * @param accessId The access id to lookup
-   * @return the LDAP Distinguished Name for the access id
-   * @throws InvalidArgumentException thrown if the given access id is ambiguous.
-   */
-  public String searchDnForAccessId(String accessId) throws InvalidArgumentException {
-    isInitOrFail();
-
+  private String searchDnForAccessIdInLdap(String accessId) throws InvalidArgumentException {
     if (nameIsDn(accessId)) {
       AccessIdRepresentationModel groupByDn = searchAccessIdByDn(accessId);
       return groupByDn.getAccessId();
@@ -402,6 +597,30 @@ public class LdapClient {
     return maxNumberOfReturnedAccessIds;
   }
 
+  public Duration calcCacheTimeToLive() {
+    String envValue = LdapSettings.TASKANA_LDAP_CACHE_TTL.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return Duration.ZERO;
+    }
+    return Duration.parse(envValue);
+  }
+
+  public int calcCacheMaxSize(int defaultValue) {
+    String envValue = LdapSettings.TASKANA_LDAP_CACHE_MAX_SIZE.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(envValue);
+  }
+
+  public int calcUserSyncPageSize(int defaultValue) {
+    String envValue = LdapSettings.TASKANA_LDAP_USER_SYNC_PAGE_SIZE.getValueFromEnv(env);
+    if (envValue == null || envValue.isEmpty()) {
+      return defaultValue;
+    }
+    return Integer.parseInt(envValue);
+  }
+
   public String getGroupsOfUser() {
     return LdapSettings.TASKANA_LDAP_GROUPS_OF_USER.getValueFromEnv(env);
   }
@@ -473,6 +692,7 @@ public class LdapClient {
     maxNumberOfReturnedAccessIds = calcMaxNumberOfReturnedAccessIds(50);
 
     ldapTemplate.setDefaultCountLimit(maxNumberOfReturnedAccessIds);
+    cache = new LdapCache(calcCacheTimeToLive(), calcCacheMaxSize(1000));
 
     final List<LdapSettings> missingConfigurations = checkForMissingConfigurations();
 
@@ -485,9 +705,7 @@ public class LdapClient {
 
   List<LdapSettings> checkForMissingConfigurations() {
     return Arrays.stream(LdapSettings.values())
-        // optional settings
-        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS))
-        .filter(p -> !p.equals(LdapSettings.TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH))
+        .filter(p -> !p.isOptional())
         .filter(p -> p.getValueFromEnv(env) == null)
         .collect(Collectors.toList());
   }
@@ -505,6 +723,52 @@ public class LdapClient {
     return LdapSettings.TASKANA_LDAP_USER_FULLNAME_ATTRIBUTE.getValueFromEnv(env);
   }
 
+  private <T> void searchPaged(
+      String base,
+      String filter,
+      String[] attributes,
+      int pageSize,
+      ContextMapper<T> mapper,
+      Consumer<List<T>> pageConsumer) {
+    SearchControls searchControls = new SearchControls();
+    searchControls.setSearchScope(SearchControls.SUBTREE_SCOPE);
+    searchControls.setReturningAttributes(attributes);
+    // the paged results control requires that all pages are read with the same connection
+    SingleContextSource.doWithSingleContext(
+        ldapTemplate.getContextSource(),
+        operations -> {
+          PagedResultsDirContextProcessor processor = new PagedResultsDirContextProcessor(pageSize);
+          do {
+            pageConsumer.accept(
+                operations.search(base, filter, searchControls, mapper, processor));
+          } while (processor.hasMore());
+          return null;
+        });
+  }
+
+  private List<OptionalUserAttribute> getConfiguredOptionalUserAttributes() {
+    return OPTIONAL_USER_ATTRIBUTES.stream()
+        .filter(attribute -> attribute.setting.getValueFromEnv(env) != null)
+        .collect(Collectors.toList());
+  }
+
+  // the cache holds the results of all callers, which must not see the changes of each other
+  private static List<AccessIdRepresentationModel> copyOf(
+      List<AccessIdRepresentationModel> accessIds) {
+    return accessIds.stream().map(LdapClient::copyOf).collect(Collectors.toList());
+  }
+
+  private static AccessIdRepresentationModel copyOf(AccessIdRepresentationModel accessId) {
+    return accessId == null
+        ? null
+        : new AccessIdRepresentationModel(accessId.getName(), accessId.getAccessId());
+  }
+
+  private static String normalizeMember(String member) {
+    // the members of a group might be DNs with a different case or spaces between their RDNs
+    return member.replaceAll("\\s*([,=])\\s*", "$1").toLowerCase();
+  }
+
   private String getDnFromContext(final DirContextOperations context) {
     String dn = LdapNameBuilder.newInstance(getBaseDn()).add(context.getDn()).build().toString();
     if (useLowerCaseForAccessIds) {
@@ -559,4 +823,19 @@ public class LdapClient {
       return accessId;
     }
   }
+
+  /** An attribute of the users which is only read if it is configured. */
+  private static class OptionalUserAttribute {
+
+    private final LdapSettings setting;
+    private final Function<User, String> getter;
+    private final BiConsumer<User, String> setter;
+
+    private OptionalUserAttribute(
+        LdapSettings setting, Function<User, String> getter, BiConsumer<User, String> setter) {
+      this.setting = setting;
+      this.getter = getter;
+      this.setter = setter;
+    }
+  }
 }
@@ -17,20 +17,40 @@ enum LdapSettings {
   TASKANA_LDAP_GROUP_SEARCH_FILTER_NAME("taskana.ldap.groupSearchFilterName"),
   TASKANA_LDAP_GROUP_SEARCH_FILTER_VALUE("taskana.ldap.groupSearchFilterValue"),
   TASKANA_LDAP_GROUP_NAME_ATTRIBUTE("taskana.ldap.groupNameAttribute"),
-  TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH("taskana.ldap.minSearchForLength"),
-  TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS("taskana.ldap.maxNumberOfReturnedAccessIds"),
-  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser");
+  TASKANA_LDAP_MIN_SEARCH_FOR_LENGTH("taskana.ldap.minSearchForLength", true),
+  TASKANA_LDAP_MAX_NUMBER_OF_RETURNED_ACCESS_IDS("taskana.ldap.maxNumberOfReturnedAccessIds", true),
+  TASKANA_LDAP_GROUPS_OF_USER("taskana.ldap.groupsOfUser"),
+  TASKANA_LDAP_CACHE_TTL("taskana.ldap.cache.ttl", true),
+  TASKANA_LDAP_CACHE_MAX_SIZE("taskana.ldap.cache.maxSize", true),
+  TASKANA_LDAP_USER_SYNC_PAGE_SIZE("taskana.ldap.userSync.pageSize", true),
+  TASKANA_LDAP_USER_EMAIL_ATTRIBUTE("taskana.ldap.userEmailAttribute", true),
+  TASKANA_LDAP_USER_PHONE_ATTRIBUTE("taskana.ldap.userPhoneAttribute", true),
+  TASKANA_LDAP_USER_MOBILE_PHONE_ATTRIBUTE("taskana.ldap.userMobilePhoneAttribute", true),
+  TASKANA_LDAP_USER_ORG_LEVEL_4_ATTRIBUTE("taskana.ldap.userOrgLevel4Attribute", true),
+  TASKANA_LDAP_USER_ORG_LEVEL_3_ATTRIBUTE("taskana.ldap.userOrgLevel3Attribute", true),
+  TASKANA_LDAP_USER_ORG_LEVEL_2_ATTRIBUTE("taskana.ldap.userOrgLevel2Attribute", true),
+  TASKANA_LDAP_USER_ORG_LEVEL_1_ATTRIBUTE("taskana.ldap.userOrgLevel1Attribute", true);
 
   private final String key;
+  private final boolean optional;
 
   LdapSettings(String key) {
+    this(key, false);
+  }
+
+  LdapSettings(String key, boolean optional) {
     this.key = key;
+    this.optional = optional;
   }
 
   String getKey() {
     return key;
   }
 
+  boolean isOptional() {
+    return optional;
+  }
+
   String getValueFromEnv(Environment env) {
     if (env == null) {
       return null;
@@ -0,0 +1,104 @@
+package pro.taskana.common.rest.ldap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.user.api.UserService;
+import pro.taskana.user.api.models.User;
+
+/**
+ * Synchronizes the users and their group memberships from LDAP into the database of TASKANA, so
+ * that e.g. the names of the owners of tasks can be read without LDAP requests.
+ *
+ * <p>The users are read with paged searches of 'taskana.ldap.userSync.pageSize' users (default
+ * 1000) and every page is written with {@linkplain UserService#createOrUpdateUsers(List)} within
+ * its own transaction. Only new or changed users are written. The data and the fields whose
+ * attribute is not configured keep their value. Users which no longer exist in LDAP are not
+ * deleted. The synchronization runs with the cron expression 'taskana.ldap.userSync.cron' and is
+ * disabled by default.
+ */
+@Component
+public class LdapUserInfoSynchronizer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(LdapUserInfoSynchronizer.class);
+
+  private final LdapClient ldapClient;
+  private final TaskanaEngine taskanaEngine;
+  private final TransactionTemplate transactionTemplate;
+
+  @Autowired
+  public LdapUserInfoSynchronizer(
+      LdapClient ldapClient,
+      TaskanaEngine taskanaEngine,
+      PlatformTransactionManager transactionManager) {
+    this.ldapClient = ldapClient;
+    this.taskanaEngine = taskanaEngine;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  @Scheduled(cron = "${taskana.ldap.userSync.cron:-}")
+  public void triggerSynchronization() {
+    synchronizeUsers();
+  }
+
+  /**
+   * Reads all users with their groups from LDAP and creates or updates them in the database.
+   *
+   * @return the ids and the exceptions of the users which could not be written
+   */
+  public BulkOperationResults<String, TaskanaException> synchronizeUsers() {
+    LOGGER.info("Synchronization of the users from LDAP started.");
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
+    int[] numberOfUsers = new int[1];
+    taskanaEngine.runAsAdmin(
+        () ->
+            ldapClient.searchUsersWithGroups(
+                ldapClient.calcUserSyncPageSize(1000),
+                users -> {
+                  numberOfUsers[0] += users.size();
+                  bulkLog.addAllErrors(transactionTemplate.execute(status -> writeUsers(users)));
+                }));
+    LOGGER.info(
+        "Synchronization of the users from LDAP completed. Read {} users, {} could not be written.",
+        numberOfUsers[0],
+        bulkLog.getFailedIds().size());
+    if (bulkLog.containsErrors() && LOGGER.isWarnEnabled()) {
+      LOGGER.warn("The following users could not be synchronized: {}", bulkLog.getErrorMap());
+    }
+    return bulkLog;
+  }
+
+  private BulkOperationResults<String, TaskanaException> writeUsers(List<User> users) {
+    UserService userService = taskanaEngine.getUserService();
+    Set<String> ids = users.stream().map(User::getId).collect(Collectors.toSet());
+    Map<String, User> existingUsers =
+        userService.getUsers(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    for (User user : users) {
+      User existingUser = existingUsers.get(user.getId());
+      if (existingUser != null) {
+        ldapClient.copyFieldsNotReadFromLdap(existingUser, user);
+      }
+    }
+    try {
+      return userService.createOrUpdateUsers(users);
+    } catch (NotAuthorizedException e) {
+      throw new SystemException("The users from LDAP could not be synchronized", e);
+    }
+  }
+}
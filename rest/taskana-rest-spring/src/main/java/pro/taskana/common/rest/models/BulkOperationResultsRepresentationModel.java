@@ -0,0 +1,23 @@
+package pro.taskana.common.rest.models;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.hateoas.RepresentationModel;
+
+import pro.taskana.common.api.exceptions.ErrorCode;
+
+/** EntityModel class for the results of a bulk operation. */
+public class BulkOperationResultsRepresentationModel
+    extends RepresentationModel<BulkOperationResultsRepresentationModel> {
+
+  /** Map of the ids of the failed entities and the error codes of their failures. */
+  private Map<String, ErrorCode> errors = new HashMap<>();
+
+  public Map<String, ErrorCode> getErrors() {
+    return errors;
+  }
+
+  public void setErrors(Map<String, ErrorCode> errors) {
+    this.errors = errors;
+  }
+}
@@ -12,9 +12,9 @@ public class PageMetadata {
 
   /** The element size of the page. */
   private final long size;
-  /** The total number of elements available. */
+  /** The total number of elements available. It is -1 if the elements were not counted. */
   private final long totalElements;
-  /** Amount of pages that are available in total. */
+  /** Amount of pages that are available in total. It is -1 if the elements were not counted. */
   private final long totalPages;
   /** The current page number. */
   private final long number;
@@ -0,0 +1,74 @@
+package pro.taskana.common.rest.util;
+
+import java.util.AbstractCollection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import pro.taskana.common.internal.util.CollectionUtil;
+
+/**
+ * A collection whose elements are read chunk by chunk while it is iterated, e.g. by the message
+ * converter which writes an export. Only the ids of the elements and the elements of a single chunk
+ * are held in memory.
+ *
+ * @param <T> the type of the elements
+ */
+public class ChunkedCollection<T> extends AbstractCollection<T> {
+
+  private final List<String> ids;
+  private final int chunkSize;
+  private final Function<List<String>, List<T>> reader;
+
+  /**
+   * Creates a collection of the elements with the given ids.
+   *
+   * @param ids the ids of the elements
+   * @param chunkSize the maximum number of elements which are read at once
+   * @param reader reads the elements with the given ids. Elements which do not exist anymore are
+   *     skipped.
+   */
+  public ChunkedCollection(
+      List<String> ids, int chunkSize, Function<List<String>, List<T>> reader) {
+    this.ids = ids;
+    this.chunkSize = chunkSize;
+    this.reader = reader;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    Iterator<List<String>> chunks = CollectionUtil.partitionBasedOnSize(ids, chunkSize).iterator();
+    return new Iterator<T>() {
+      private Iterator<T> elementsOfChunk = Collections.emptyIterator();
+
+      @Override
+      public boolean hasNext() {
+        while (!elementsOfChunk.hasNext() && chunks.hasNext()) {
+          elementsOfChunk = reader.apply(chunks.next()).iterator();
+        }
+        return elementsOfChunk.hasNext();
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return elementsOfChunk.next();
+      }
+    };
+  }
+
+  /**
+   * Returns the number of ids. It exceeds the number of elements if elements have been deleted
+   * after the ids were read.
+   *
+   * @return the number of ids
+   */
+  @Override
+  public int size() {
+    return ids.size();
+  }
+}
@@ -0,0 +1,65 @@
+package pro.taskana.common.rest.util;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads the elements of an array within a JSON document one by one, e.g. of an import file. Every
+ * element is converted as soon as it is read, so that the whole document is never held in memory
+ * as JSON representation.
+ */
+public class JsonArrayReader {
+
+  private JsonArrayReader() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Reads the elements of the array with the given name within the top level object of a JSON
+   * document.
+   *
+   * @param <T> the type of the elements within the JSON document
+   * @param <R> the type of the converted elements
+   * @param mapper the mapper which reads the elements
+   * @param inputStream the JSON document
+   * @param arrayName the name of the array within the top level object
+   * @param elementType the type of the elements within the JSON document
+   * @param converter the conversion of each element
+   * @return the converted elements. The list is empty if the document contains no such array.
+   * @throws JsonParseException if the document is no JSON object
+   * @throws IOException if the document could not be read or parsed
+   */
+  public static <T, R> List<R> readArray(
+      ObjectMapper mapper,
+      InputStream inputStream,
+      String arrayName,
+      Class<T> elementType,
+      Function<T, R> converter)
+      throws IOException {
+    List<R> result = new ArrayList<>();
+    try (JsonParser parser = mapper.getFactory().createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "The document does not start with a JSON object.");
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken token = parser.nextToken();
+        if (arrayName.equals(fieldName) && token == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(converter.apply(mapper.readValue(parser, elementType)));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return result;
+  }
+}
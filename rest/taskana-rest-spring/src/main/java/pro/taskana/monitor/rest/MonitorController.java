@@ -1,11 +1,15 @@
 package pro.taskana.monitor.rest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import pro.taskana.TaskanaEngineConfiguration;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.rest.RestEndpoints;
@@ -39,6 +44,7 @@ import pro.taskana.workbasket.api.WorkbasketType;
 public class MonitorController {
 
   private final MonitorService monitorService;
+  private final TaskanaEngineConfiguration taskanaEngineConfiguration;
 
   private final ReportRepresentationModelAssembler reportRepresentationModelAssembler;
   private final PriorityColumnHeaderRepresentationModelAssembler
@@ -47,10 +53,12 @@ public class MonitorController {
   @Autowired
   MonitorController(
       MonitorService monitorService,
+      TaskanaEngineConfiguration taskanaEngineConfiguration,
       ReportRepresentationModelAssembler reportRepresentationModelAssembler,
       PriorityColumnHeaderRepresentationModelAssembler
           priorityColumnHeaderRepresentationModelAssembler) {
     this.monitorService = monitorService;
+    this.taskanaEngineConfiguration = taskanaEngineConfiguration;
     this.reportRepresentationModelAssembler = reportRepresentationModelAssembler;
     this.priorityColumnHeaderRepresentationModelAssembler =
         priorityColumnHeaderRepresentationModelAssembler;
@@ -87,7 +95,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(taskTimestamp), filterParameter, taskTimestamp);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -127,7 +135,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(), workbasketTypes, columnHeaders);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -162,7 +170,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(taskTimestamp), filterParameter, taskTimestamp);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -196,7 +204,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(taskTimestamp), filterParameter, taskTimestamp);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -231,7 +239,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildDetailedReport(taskTimestamp), filterParameter, taskTimestamp);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -268,7 +276,7 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(taskTimestamp), customField, filterParameter, taskTimestamp);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
   }
 
   /**
@@ -295,7 +303,7 @@ public class MonitorController {
       @RequestParam(name = "priority-minimum", required = false) Integer priorityMinimum)
       throws NotAuthorizedException {
 
-    return ResponseEntity.ok(
+    return toResponseEntity(
         reportRepresentationModelAssembler.toModel(
             monitorService
                 .createTaskStatusReportBuilder()
@@ -340,6 +348,32 @@ public class MonitorController {
         reportRepresentationModelAssembler.toModel(
             builder.buildReport(), filterParameter, timestamps);
 
-    return ResponseEntity.status(HttpStatus.OK).body(report);
+    return toResponseEntity(report);
+  }
+
+  /**
+   * Wraps the report into a response whose caching headers are derived from the creation time of
+   * the report. A report of the report cache may be reused until its maximum staleness is
+   * reached.
+   *
+   * @param report the computed report
+   * @return the response containing the report
+   */
+  private ResponseEntity<ReportRepresentationModel> toResponseEntity(
+      ReportRepresentationModel report) {
+    Instant created = report.getMeta().getDate();
+    Duration maxAge =
+        taskanaEngineConfiguration
+            .getMonitorReportCacheMaxStaleness()
+            .minus(Duration.between(created, Instant.now()));
+    CacheControl cacheControl =
+        maxAge.getSeconds() > 0
+            ? CacheControl.maxAge(maxAge.getSeconds(), TimeUnit.SECONDS).cachePrivate()
+            : CacheControl.noCache();
+    return ResponseEntity.status(HttpStatus.OK)
+        .cacheControl(cacheControl)
+        .eTag(Long.toString(created.toEpochMilli()))
+        .lastModified(created)
+        .body(report);
   }
 }
@@ -194,7 +194,7 @@ public class ReportRepresentationModelAssembler {
 
   <I extends QueryItem, H extends ColumnHeader<? super I>>
       ReportRepresentationModel toReportResource(Report<I, H> report) {
-    return toReportResource(report, Instant.now());
+    return toReportResource(report, report.getCreated());
   }
 
   private <I extends QueryItem> List<RowRepresentationModel> transformRow(
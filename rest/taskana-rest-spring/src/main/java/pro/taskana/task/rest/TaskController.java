@@ -1,11 +1,17 @@
 package pro.taskana.task.rest;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import java.beans.ConstructorProperties;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map.Entry;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.http.HttpStatus;
@@ -18,6 +24,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.common.api.BaseQuery.SortDirection;
@@ -30,6 +37,7 @@ import pro.taskana.common.rest.QueryPagingParameter;
 import pro.taskana.common.rest.QuerySortBy;
 import pro.taskana.common.rest.QuerySortParameter;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
 import pro.taskana.common.rest.util.QueryParamsValidator;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
@@ -43,6 +51,7 @@ import pro.taskana.task.api.models.Task;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.rest.assembler.TaskRepresentationModelAssembler;
 import pro.taskana.task.rest.assembler.TaskSummaryRepresentationModelAssembler;
+import pro.taskana.task.rest.models.TaskCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskSummaryPagedRepresentationModel;
@@ -75,6 +84,7 @@ public class TaskController {
    * @param filterParameter the filter parameters
    * @param sortParameter the sort parameters
    * @param pagingParameter the paging parameters
+   * @param fieldsParameter the fields which should be returned
    * @return the Tasks with the given filter, sort and paging options.
    */
   @GetMapping(path = RestEndpoints.URL_TASKS)
@@ -83,24 +93,36 @@ public class TaskController {
       HttpServletRequest request,
       TaskQueryFilterParameter filterParameter,
       TaskQuerySortParameter sortParameter,
-      QueryPagingParameter<TaskSummary, TaskQuery> pagingParameter) {
+      TaskQueryPagingParameter pagingParameter,
+      TaskQueryFieldsParameter fieldsParameter) {
 
     QueryParamsValidator.validateParams(
         request,
         TaskQueryFilterParameter.class,
         QuerySortParameter.class,
-        QueryPagingParameter.class);
+        QueryPagingParameter.class,
+        TaskQueryPagingParameter.class,
+        TaskQueryFieldsParameter.class);
 
     TaskQuery query = taskService.createTaskQuery();
 
     filterParameter.apply(query);
     sortParameter.apply(query);
+    fieldsParameter.apply(query);
 
     List<TaskSummary> taskSummaries = pagingParameter.apply(query);
 
     TaskSummaryPagedRepresentationModel pagedModels =
         taskSummaryRepresentationModelAssembler.toPagedModel(
             taskSummaries, pagingParameter.getPageMetadata());
+    if (pagingParameter.getNextCursor() != null) {
+      pagedModels.add(
+          Link.of(
+                  ServletUriComponentsBuilder.fromCurrentRequest()
+                      .replaceQueryParam("after", pagingParameter.getNextCursor())
+                      .toUriString())
+              .withRel(IanaLinkRelations.NEXT));
+    }
     return ResponseEntity.ok(pagedModels);
   }
 
@@ -347,6 +369,39 @@ public class TaskController {
         .body(taskRepresentationModelAssembler.toModel(createdTask));
   }
 
+  /**
+   * This endpoint creates multiple persistent Tasks at once. Tasks which can not be created are
+   * reported with their external id.
+   *
+   * @param taskCollectionRepresentationModel the Tasks which should be created.
+   * @return the external ids of the Tasks which could not be created and the reasons
+   * @throws InvalidArgumentException if the list of Tasks is missing
+   * @title Create multiple Tasks
+   */
+  @PostMapping(path = RestEndpoints.URL_TASKS_BULK)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<BulkOperationResultsRepresentationModel> createTasks(
+      @RequestBody TaskCollectionRepresentationModel taskCollectionRepresentationModel)
+      throws InvalidArgumentException {
+    if (taskCollectionRepresentationModel.getContent() == null) {
+      throw new InvalidArgumentException("List of Tasks must not be null.");
+    }
+    List<Task> tasks = new ArrayList<>();
+    for (TaskRepresentationModel taskRepresentationModel :
+        taskCollectionRepresentationModel.getContent()) {
+      tasks.add(taskRepresentationModelAssembler.toEntityModel(taskRepresentationModel));
+    }
+
+    BulkOperationResults<String, TaskanaException> result = taskService.createTasks(tasks);
+
+    BulkOperationResultsRepresentationModel resultModel =
+        new BulkOperationResultsRepresentationModel();
+    resultModel.setErrors(
+        result.getErrorMap().entrySet().stream()
+            .collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().getErrorCode())));
+    return ResponseEntity.ok(resultModel);
+  }
+
   /**
    * This endpoint transfers a given Task to a given Workbasket, if possible.
    *
@@ -475,6 +530,53 @@ public class TaskController {
     }
   }
 
+  public static class TaskQueryPagingParameter
+      extends QueryPagingParameter<TaskSummary, TaskQuery> {
+
+    /**
+     * Request the page which follows the given cursor instead of a page number. The cursor of the
+     * next page is provided by the 'next' link, an empty value requests the first page. The
+     * elements are not counted. This requires the definition of the 'page-size' and can not be
+     * combined with 'page'.
+     */
+    @JsonProperty("after")
+    private final String after;
+
+    @JsonIgnore private String nextCursor;
+
+    @ConstructorProperties({"page", "page-size", "skip-count", "after"})
+    public TaskQueryPagingParameter(
+        Integer page, Integer pageSize, Boolean skipCount, String after)
+        throws InvalidArgumentException {
+      super(page, pageSize, skipCount);
+      if (after != null && (page != null || pageSize == null)) {
+        throw new InvalidArgumentException(
+            "The parameter 'after' requires 'page-size' and can not be combined with 'page'.");
+      }
+      this.after = after;
+    }
+
+    public String getNextCursor() {
+      return nextCursor;
+    }
+
+    @Override
+    public List<TaskSummary> apply(TaskQuery query) {
+      if (after == null) {
+        return super.apply(query);
+      }
+      int pageSize = getPageSize();
+      // one additional task is read to find out whether there is a next page
+      List<TaskSummary> taskSummaries =
+          query.listAfter(after.isEmpty() ? null : after, pageSize + 1);
+      if (taskSummaries.size() > pageSize) {
+        taskSummaries = taskSummaries.subList(0, pageSize);
+        nextCursor = query.createCursor(taskSummaries.get(pageSize - 1));
+      }
+      return taskSummaries;
+    }
+  }
+
   // Unfortunately this class is necessary, since spring can not inject the generic 'sort-by'
   // parameter from the super class.
   public static class TaskQuerySortParameter
@@ -0,0 +1,106 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.QueryParameter;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.TaskQueryColumnName;
+
+public class TaskQueryFieldsParameter implements QueryParameter<TaskQuery, Void> {
+
+  @JsonIgnore
+  private static final Map<String, List<TaskQueryColumnName>> COLUMNS_BY_FIELD = new HashMap<>();
+
+  static {
+    addField("taskId", TaskQueryColumnName.ID);
+    addField("externalId", TaskQueryColumnName.EXTERNAL_ID);
+    addField("created", TaskQueryColumnName.CREATED);
+    addField("claimed", TaskQueryColumnName.CLAIMED);
+    addField("completed", TaskQueryColumnName.COMPLETED);
+    addField("modified", TaskQueryColumnName.MODIFIED);
+    addField("planned", TaskQueryColumnName.PLANNED);
+    addField("received", TaskQueryColumnName.RECEIVED);
+    addField("due", TaskQueryColumnName.DUE);
+    addField("name", TaskQueryColumnName.NAME);
+    addField("creator", TaskQueryColumnName.CREATOR);
+    addField("note", TaskQueryColumnName.NOTE);
+    addField("description", TaskQueryColumnName.DESCRIPTION);
+    addField("priority", TaskQueryColumnName.PRIORITY);
+    addField("state", TaskQueryColumnName.STATE);
+    addField("businessProcessId", TaskQueryColumnName.BUSINESS_PROCESS_ID);
+    addField("parentBusinessProcessId", TaskQueryColumnName.PARENT_BUSINESS_PROCESS_ID);
+    addField("owner", TaskQueryColumnName.OWNER);
+    addField(
+        "primaryObjRef",
+        TaskQueryColumnName.POR_COMPANY,
+        TaskQueryColumnName.POR_SYSTEM,
+        TaskQueryColumnName.POR_INSTANCE,
+        TaskQueryColumnName.POR_TYPE,
+        TaskQueryColumnName.POR_VALUE);
+    addField("read", TaskQueryColumnName.IS_READ);
+    addField("transferred", TaskQueryColumnName.IS_TRANSFERRED);
+    for (int i = 1; i <= 16; i++) {
+      addField("custom" + i, TaskQueryColumnName.valueOf("CUSTOM_" + i));
+    }
+    addField("classificationSummary");
+    addField("workbasketSummary");
+    addField("attachmentSummaries");
+  }
+
+  /**
+   * Restrict the attributes of the returned tasks to the given fields, e.g. 'taskId', 'name',
+   * 'due', 'priority' or 'owner'. Only these columns are read from the database. The summaries of
+   * the classification, the workbasket and the attachments are only loaded if one of the fields
+   * 'classificationSummary', 'workbasketSummary' or 'attachmentSummaries' is requested. The other
+   * fields are empty or have their default value. By default, all fields are returned.
+   */
+  @JsonProperty("fields")
+  private final String[] fields;
+
+  @ConstructorProperties("fields")
+  public TaskQueryFieldsParameter(String[] fields) throws InvalidArgumentException {
+    if (fields != null) {
+      List<String> unknownFields = new ArrayList<>(Arrays.asList(fields));
+      unknownFields.removeAll(COLUMNS_BY_FIELD.keySet());
+      if (!unknownFields.isEmpty()) {
+        throw new InvalidArgumentException(
+            String.format("The fields %s of the tasks are unknown.", unknownFields));
+      }
+    }
+    this.fields = fields;
+  }
+
+  @Override
+  public Void apply(TaskQuery query) {
+    if (fields == null) {
+      return null;
+    }
+    List<TaskQueryColumnName> columnNames = new ArrayList<>();
+    boolean withContainedSummaries = false;
+    for (String field : fields) {
+      List<TaskQueryColumnName> columns = COLUMNS_BY_FIELD.get(field);
+      if (columns.isEmpty()) {
+        withContainedSummaries = true;
+      }
+      columnNames.addAll(columns);
+    }
+    query.select(columnNames.toArray(new TaskQueryColumnName[0]));
+    if (withContainedSummaries) {
+      query.withContainedSummaries();
+    }
+    return null;
+  }
+
+  private static void addField(String field, TaskQueryColumnName... columnNames) {
+    COLUMNS_BY_FIELD.put(field, Collections.unmodifiableList(Arrays.asList(columnNames)));
+  }
+}
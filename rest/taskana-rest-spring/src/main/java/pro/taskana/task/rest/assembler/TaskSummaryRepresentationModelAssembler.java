@@ -67,13 +67,21 @@ public class TaskSummaryRepresentationModelAssembler
     repModel.setDescription(taskSummary.getDescription());
     repModel.setPriority(taskSummary.getPriority());
     repModel.setState(taskSummary.getState());
-    repModel.setClassificationSummary(
-        classificationAssembler.toModel(taskSummary.getClassificationSummary()));
-    repModel.setWorkbasketSummary(workbasketAssembler.toModel(taskSummary.getWorkbasketSummary()));
+    // the contained objects are missing if the query selected only some columns
+    if (taskSummary.getClassificationSummary() != null) {
+      repModel.setClassificationSummary(
+          classificationAssembler.toModel(taskSummary.getClassificationSummary()));
+    }
+    if (taskSummary.getWorkbasketSummary() != null) {
+      repModel.setWorkbasketSummary(
+          workbasketAssembler.toModel(taskSummary.getWorkbasketSummary()));
+    }
     repModel.setBusinessProcessId(taskSummary.getBusinessProcessId());
     repModel.setParentBusinessProcessId(taskSummary.getParentBusinessProcessId());
     repModel.setOwner(taskSummary.getOwner());
-    repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
+    if (taskSummary.getPrimaryObjRef() != null) {
+      repModel.setPrimaryObjRef(objectReferenceAssembler.toModel(taskSummary.getPrimaryObjRef()));
+    }
     repModel.setRead(taskSummary.isRead());
     repModel.setTransferred(taskSummary.isTransferred());
     repModel.setAttachmentSummaries(
@@ -0,0 +1,23 @@
+package pro.taskana.task.rest.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+import java.util.Collection;
+
+import pro.taskana.common.rest.models.CollectionRepresentationModel;
+
+public class TaskCollectionRepresentationModel
+    extends CollectionRepresentationModel<TaskRepresentationModel> {
+
+  @ConstructorProperties("tasks")
+  public TaskCollectionRepresentationModel(Collection<TaskRepresentationModel> content) {
+    super(content);
+  }
+
+  /** The embedded tasks. */
+  @JsonProperty("tasks")
+  @Override
+  public Collection<TaskRepresentationModel> getContent() {
+    return super.getContent();
+  }
+}
@@ -82,7 +82,7 @@ public class UserController {
    *
    * @title Update a User
    * @param userId the id of the User to update
-   * @param repModel the User with the updated fields
+   * @param repModel the User with the updated fields; missing groups stay unchanged
    * @return the updated User
    * @throws InvalidArgumentException if the id has not been set
    * @throws UserNotFoundException if a User with id is not existing in the database
@@ -101,6 +101,10 @@ public class UserController {
               userId, repModel.getUserId()));
     }
     User user = assembler.toEntityModel(repModel);
+    if (repModel.getGroups() == null) {
+      // e.g. the groups which are synchronized from LDAP must not be lost
+      user.setGroups(userService.getUser(userId).getGroups());
+    }
     user = userService.updateUser(user);
 
     return ResponseEntity.ok(assembler.toModel(user));
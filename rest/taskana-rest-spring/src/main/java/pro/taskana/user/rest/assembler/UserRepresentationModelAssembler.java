@@ -1,5 +1,6 @@
 package pro.taskana.user.rest.assembler;
 
+import java.util.HashSet;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
 import org.springframework.stereotype.Component;
 
@@ -31,6 +32,7 @@ public class UserRepresentationModelAssembler
     repModel.setOrgLevel2(entity.getOrgLevel2());
     repModel.setOrgLevel1(entity.getOrgLevel1());
     repModel.setData(entity.getData());
+    repModel.setGroups(new HashSet<>(entity.getGroups()));
 
     return repModel;
   }
@@ -50,6 +52,9 @@ public class UserRepresentationModelAssembler
     user.setOrgLevel2(repModel.getOrgLevel2());
     user.setOrgLevel1(repModel.getOrgLevel1());
     user.setData(repModel.getData());
+    if (repModel.getGroups() != null) {
+      user.setGroups(new HashSet<>(repModel.getGroups()));
+    }
 
     return user;
   }
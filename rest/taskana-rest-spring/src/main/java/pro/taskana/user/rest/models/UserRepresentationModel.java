@@ -1,6 +1,7 @@
 package pro.taskana.user.rest.models;
 
 import java.util.Objects;
+import java.util.Set;
 import javax.validation.constraints.NotNull;
 import org.springframework.hateoas.RepresentationModel;
 
@@ -35,6 +36,11 @@ public class UserRepresentationModel extends RepresentationModel<UserRepresentat
   protected String orgLevel1;
   /** The data of the User. This field is used for additional information about the User. */
   protected String data;
+  /**
+   * The access ids of the groups which the User is member of. If they are missing when the User is
+   * updated, the groups stay unchanged.
+   */
+  protected Set<String> groups;
 
   public String getUserId() {
     return userId;
@@ -140,6 +146,14 @@ public class UserRepresentationModel extends RepresentationModel<UserRepresentat
     this.data = data;
   }
 
+  public Set<String> getGroups() {
+    return groups;
+  }
+
+  public void setGroups(Set<String> groups) {
+    this.groups = groups;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
@@ -156,7 +170,8 @@ public class UserRepresentationModel extends RepresentationModel<UserRepresentat
         orgLevel3,
         orgLevel2,
         orgLevel1,
-        data);
+        data,
+        groups);
   }
 
   @Override
@@ -186,6 +201,7 @@ public class UserRepresentationModel extends RepresentationModel<UserRepresentat
         && Objects.equals(orgLevel3, other.orgLevel3)
         && Objects.equals(orgLevel2, other.orgLevel2)
         && Objects.equals(orgLevel1, other.orgLevel1)
-        && Objects.equals(data, other.data);
+        && Objects.equals(data, other.data)
+        && Objects.equals(groups, other.groups);
   }
 }
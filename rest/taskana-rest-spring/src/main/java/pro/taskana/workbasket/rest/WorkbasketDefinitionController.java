@@ -1,56 +1,57 @@
 package pro.taskana.workbasket.rest;
 
-import static pro.taskana.common.internal.util.CheckedFunction.wrap;
-
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import pro.taskana.common.api.exceptions.ConcurrencyException;
-import pro.taskana.common.api.exceptions.DomainNotFoundException;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.KeyDomain;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.TaskanaRestExceptionHandler;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
+import pro.taskana.common.rest.util.ChunkedCollection;
+import pro.taskana.common.rest.util.JsonArrayReader;
 import pro.taskana.workbasket.api.WorkbasketQuery;
 import pro.taskana.workbasket.api.WorkbasketService;
-import pro.taskana.workbasket.api.exceptions.WorkbasketAccessItemAlreadyExistException;
-import pro.taskana.workbasket.api.exceptions.WorkbasketAlreadyExistException;
-import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
 import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
-import pro.taskana.workbasket.internal.models.WorkbasketImpl;
 import pro.taskana.workbasket.rest.assembler.WorkbasketAccessItemRepresentationModelAssembler;
 import pro.taskana.workbasket.rest.assembler.WorkbasketDefinitionRepresentationModelAssembler;
 import pro.taskana.workbasket.rest.assembler.WorkbasketRepresentationModelAssembler;
 import pro.taskana.workbasket.rest.models.WorkbasketAccessItemRepresentationModel;
 import pro.taskana.workbasket.rest.models.WorkbasketDefinitionCollectionRepresentationModel;
 import pro.taskana.workbasket.rest.models.WorkbasketDefinitionRepresentationModel;
-import pro.taskana.workbasket.rest.models.WorkbasketRepresentationModel;
 
 /** Controller for all {@link WorkbasketDefinitionRepresentationModel} related endpoints. */
 @RestController
 @EnableHypermediaSupport(type = EnableHypermediaSupport.HypermediaType.HAL)
 public class WorkbasketDefinitionController {
 
+  private static final int EXPORT_CHUNK_SIZE = 1000;
+
   private final WorkbasketService workbasketService;
   private final WorkbasketDefinitionRepresentationModelAssembler workbasketDefinitionAssembler;
   private final WorkbasketRepresentationModelAssembler workbasketAssembler;
@@ -73,28 +74,29 @@ public class WorkbasketDefinitionController {
 
   /**
    * This endpoint exports all Workbaskets with the corresponding Workbasket Access Items and
-   * Distribution Targets. We call this data structure Workbasket Definition.
+   * Distribution Targets. We call this data structure Workbasket Definition. The Workbasket
+   * Definitions are read in chunks while the response is written.
    *
    * @title Export Workbaskets
    * @param domain Filter the export for a specific domain.
    * @return all workbaskets.
+   * @throws NotAuthorizedException if the current user is not authorized to export Workbaskets
    */
   @GetMapping(path = RestEndpoints.URL_WORKBASKET_DEFINITIONS)
   @Transactional(readOnly = true, rollbackFor = Exception.class)
   public ResponseEntity<WorkbasketDefinitionCollectionRepresentationModel> exportWorkbaskets(
-      @RequestParam(required = false) String[] domain) {
+      @RequestParam(required = false) String[] domain) throws NotAuthorizedException {
     WorkbasketQuery query = workbasketService.createWorkbasketQuery();
     Optional.ofNullable(domain).ifPresent(query::domainIn);
 
-    List<WorkbasketSummary> workbasketSummaryList = query.list();
+    List<String> workbasketIds =
+        query.list().stream().map(WorkbasketSummary::getId).collect(Collectors.toList());
 
     WorkbasketDefinitionCollectionRepresentationModel pageModel =
-        workbasketSummaryList.stream()
-            .map(WorkbasketSummary::getId)
-            .map(wrap(workbasketService::getWorkbasket))
-            .collect(
-                Collectors.collectingAndThen(
-                    Collectors.toList(), workbasketDefinitionAssembler::toTaskanaCollectionModel));
+        workbasketDefinitionAssembler.addLinksToCollectionModel(
+            new WorkbasketDefinitionCollectionRepresentationModel(
+                new ChunkedCollection<>(
+                    workbasketIds, EXPORT_CHUNK_SIZE, this::readWorkbasketDefinitions)));
 
     return ResponseEntity.ok(pageModel);
   }
@@ -104,65 +106,46 @@ public class WorkbasketDefinitionController {
    *
    * <p>This does not exactly match the REST norm, but we want to have an option to import all
    * settings at once. When a logical equal (key and domain are equal) Workbasket already exists an
-   * update will be executed. Otherwise a new Workbasket will be created.
+   * update will be executed. Otherwise a new Workbasket will be created. The import file is read
+   * element by element and the Workbaskets are written by a single bulk operation. If any
+   * Workbasket can not be imported, nothing is imported and the errors of all Workbaskets which
+   * could not be imported are returned. They are identified by their key and domain separated by a
+   * slash. The HTTP status is the one of the first error within the import file.
    *
    * @title Import Workbaskets
    * @param file the list of Workbasket Definitions which will be imported to the current system.
-   * @return no content
+   * @return nothing or the errors of the Workbaskets which could not be imported
    * @throws IOException if multipart file cannot be parsed.
    * @throws NotAuthorizedException if the user is not authorized.
-   * @throws DomainNotFoundException if domain information is incorrect.
-   * @throws WorkbasketAlreadyExistException if any Workbasket already exists when trying to create
-   *     a new one.
-   * @throws WorkbasketNotFoundException if do not exists a {@linkplain Workbasket} in the system
-   *     with the used id.
-   * @throws InvalidArgumentException if any Workbasket has invalid information or authorization
-   *     information in {@linkplain Workbasket}s' definitions is incorrect.
-   * @throws WorkbasketAccessItemAlreadyExistException if a WorkbasketAccessItem for the same
-   *     Workbasket and access id already exists.
-   * @throws ConcurrencyException if Workbasket was updated by an other user
+   * @throws InvalidArgumentException if a Distribution Target is neither contained in the import
+   *     file nor exists.
+   * @throws TaskanaException if any Workbasket Access Item or Distribution Target can not be
+   *     imported.
    */
   @PostMapping(path = RestEndpoints.URL_WORKBASKET_DEFINITIONS)
   @Transactional(rollbackFor = Exception.class)
-  public ResponseEntity<Void> importWorkbaskets(@RequestParam("file") MultipartFile file)
-      throws IOException, NotAuthorizedException, DomainNotFoundException, InvalidArgumentException,
-          WorkbasketAlreadyExistException, WorkbasketNotFoundException,
-          WorkbasketAccessItemAlreadyExistException, ConcurrencyException {
-    WorkbasketDefinitionCollectionRepresentationModel definitions =
-        mapper.readValue(
+  public ResponseEntity<BulkOperationResultsRepresentationModel> importWorkbaskets(
+      @RequestParam("file") MultipartFile file)
+      throws IOException, NotAuthorizedException, InvalidArgumentException, TaskanaException {
+    List<WorkbasketDefinitionRepresentationModel> definitions =
+        JsonArrayReader.readArray(
+            mapper,
             file.getInputStream(),
-            new TypeReference<WorkbasketDefinitionCollectionRepresentationModel>() {});
+            "workbasketDefinitions",
+            WorkbasketDefinitionRepresentationModel.class,
+            Function.identity());
 
-    // key: logical ID
-    // value: system ID (in database)
-    Map<String, String> systemIds =
+    // the system IDs (in database) before the import
+    Set<String> systemIds =
         workbasketService.createWorkbasketQuery().list().stream()
-            .collect(Collectors.toMap(this::logicalId, WorkbasketSummary::getId));
-    checkForDuplicates(definitions.getContent());
-
-    // key: old system ID
-    // value: system ID
-    Map<String, String> idConversion = new HashMap<>();
+            .map(WorkbasketSummary::getId)
+            .collect(Collectors.toSet());
 
-    // STEP 1: update or create workbaskets from the import
-    for (WorkbasketDefinitionRepresentationModel definition : definitions.getContent()) {
+    BulkOperationResults<KeyDomain, TaskanaException> results = new BulkOperationResults<>();
+    List<String> importedIds = new ArrayList<>();
+    List<Workbasket> workbaskets = new ArrayList<>();
+    for (WorkbasketDefinitionRepresentationModel definition : definitions) {
       Workbasket importedWb = workbasketAssembler.toEntityModel(definition.getWorkbasket());
-      String newId;
-      WorkbasketImpl wbWithoutId = (WorkbasketImpl) removeId(importedWb);
-      if (systemIds.containsKey(logicalId(importedWb))) {
-        Workbasket modifiedWb =
-            workbasketService.getWorkbasket(importedWb.getKey(), importedWb.getDomain());
-        wbWithoutId.setModified(modifiedWb.getModified());
-        workbasketService.updateWorkbasket(wbWithoutId);
-
-        newId = systemIds.get(logicalId(importedWb));
-      } else {
-        newId = workbasketService.createWorkbasket(wbWithoutId).getId();
-      }
-
-      // Since we would have a n² runtime when doing a lookup and updating the access items we
-      // decided to
-      // simply delete all existing accessItems and create new ones.
       boolean authenticated =
           definition.getAuthorizations().stream()
               .anyMatch(
@@ -170,31 +153,69 @@ public class WorkbasketDefinitionController {
                       (access.getWorkbasketId().equals(importedWb.getId()))
                           && (access.getWorkbasketKey().equals(importedWb.getKey())));
       if (!authenticated && !definition.getAuthorizations().isEmpty()) {
-        throw new InvalidArgumentException(
-            "The given Authentications for Workbasket "
-                + importedWb.getId()
-                + " don't match in WorkbasketId and WorkbasketKey. "
-                + "Please provide consistent WorkbasketDefinitions");
+        results.addError(
+            new KeyDomain(importedWb.getKey(), importedWb.getDomain()),
+            new InvalidArgumentException(
+                "The given Authentications for Workbasket "
+                    + importedWb.getId()
+                    + " don't match in WorkbasketId and WorkbasketKey. "
+                    + "Please provide consistent WorkbasketDefinitions"));
       }
-      for (WorkbasketAccessItem accessItem : workbasketService.getWorkbasketAccessItems(newId)) {
-        workbasketService.deleteWorkbasketAccessItem(accessItem.getId());
-      }
-      for (WorkbasketAccessItemRepresentationModel authorization : definition.getAuthorizations()) {
-        authorization.setWorkbasketId(newId);
-        workbasketService.createWorkbasketAccessItem(
-            accessItemAssembler.toEntityModel(authorization));
+      importedIds.add(importedWb.getId());
+      workbaskets.add(importedWb);
+    }
+
+    // STEP 1: update or create workbaskets from the import
+    if (!results.containsErrors()) {
+      results.addAllErrors(workbasketService.createOrUpdateWorkbaskets(workbaskets));
+    }
+    if (results.containsErrors()) {
+      // the import is all or nothing
+      TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+      BulkOperationResultsRepresentationModel resultModel =
+          new BulkOperationResultsRepresentationModel();
+      HttpStatus status = null;
+      for (Workbasket workbasket : workbaskets) {
+        KeyDomain keyDomain = new KeyDomain(workbasket.getKey(), workbasket.getDomain());
+        TaskanaException error = results.getErrorForId(keyDomain);
+        if (error != null) {
+          if (status == null) {
+            status = TaskanaRestExceptionHandler.getHttpStatus(error.getErrorCode());
+          }
+          resultModel
+              .getErrors()
+              .put(keyDomain.getKey() + "/" + keyDomain.getDomain(), error.getErrorCode());
+        }
       }
-      idConversion.put(importedWb.getId(), newId);
+      return ResponseEntity.status(status).body(resultModel);
     }
 
-    // STEP 2: update distribution targets
+    // key: old system ID
+    // value: system ID
+    Map<String, String> idConversion = new HashMap<>();
+    for (int i = 0; i < workbaskets.size(); i++) {
+      idConversion.put(importedIds.get(i), workbaskets.get(i).getId());
+    }
+
+    // STEP 2: replace the access items and the distribution targets
     // This can not be done in step 1 because the system IDs are only known after step 1
-    for (WorkbasketDefinitionRepresentationModel definition : definitions.getContent()) {
+    for (int i = 0; i < definitions.size(); i++) {
+      WorkbasketDefinitionRepresentationModel definition = definitions.get(i);
+      Workbasket workbasket = workbaskets.get(i);
+      List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+      for (WorkbasketAccessItemRepresentationModel authorization : definition.getAuthorizations()) {
+        authorization.setAccessItemId(null);
+        authorization.setWorkbasketId(workbasket.getId());
+        authorization.setWorkbasketKey(workbasket.getKey());
+        accessItems.add(accessItemAssembler.toEntityModel(authorization));
+      }
+      workbasketService.setWorkbasketAccessItems(workbasket.getId(), accessItems);
+
       List<String> distributionTargets = new ArrayList<>();
       for (String oldId : definition.getDistributionTargets()) {
         if (idConversion.containsKey(oldId)) {
           distributionTargets.add(idConversion.get(oldId));
-        } else if (systemIds.containsValue(oldId)) {
+        } else if (systemIds.contains(oldId)) {
           distributionTargets.add(oldId);
         } else {
           throw new InvalidArgumentException(
@@ -203,38 +224,18 @@ public class WorkbasketDefinitionController {
                   oldId));
         }
       }
-
-      workbasketService.setDistributionTargets(
-          // no verification necessary since the workbasket was already imported in step 1.
-          idConversion.get(definition.getWorkbasket().getWorkbasketId()), distributionTargets);
+      workbasketService.setDistributionTargets(workbasket.getId(), distributionTargets);
     }
     return ResponseEntity.noContent().build();
   }
 
-  private Workbasket removeId(Workbasket importedWb) {
-    WorkbasketRepresentationModel wbRes = workbasketAssembler.toModel(importedWb);
-    wbRes.setWorkbasketId(null);
-    return workbasketAssembler.toEntityModel(wbRes);
-  }
-
-  private void checkForDuplicates(Collection<WorkbasketDefinitionRepresentationModel> definitions)
-      throws WorkbasketAlreadyExistException {
-    Set<String> identifiers = new HashSet<>();
-    for (WorkbasketDefinitionRepresentationModel definition : definitions) {
-      String identifier = logicalId(workbasketAssembler.toEntityModel(definition.getWorkbasket()));
-      if (identifiers.contains(identifier)) {
-        throw new WorkbasketAlreadyExistException(
-            definition.getWorkbasket().getKey(), definition.getWorkbasket().getDomain());
-      }
-      identifiers.add(identifier);
+  private List<WorkbasketDefinitionRepresentationModel> readWorkbasketDefinitions(
+      List<String> workbasketIds) {
+    try {
+      return workbasketDefinitionAssembler.toModels(
+          workbasketService.getWorkbaskets(workbasketIds));
+    } catch (NotAuthorizedException e) {
+      throw new SystemException("Caught Exception", e);
     }
   }
-
-  private String logicalId(WorkbasketSummary workbasket) {
-    return logicalId(workbasket.getKey(), workbasket.getDomain());
-  }
-
-  private String logicalId(String key, String domain) {
-    return key + "|" + domain;
-  }
 }
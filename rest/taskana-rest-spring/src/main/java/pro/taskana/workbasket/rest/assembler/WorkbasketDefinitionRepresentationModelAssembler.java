@@ -1,15 +1,21 @@
 package pro.taskana.workbasket.rest.assembler;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
@@ -32,6 +38,8 @@ public class WorkbasketDefinitionRepresentationModelAssembler
         WorkbasketDefinitionRepresentationModel,
         WorkbasketDefinitionCollectionRepresentationModel> {
 
+  private static final int MAX_IDS_PER_QUERY = 1000;
+
   private final WorkbasketService workbasketService;
   private final WorkbasketAccessItemRepresentationModelAssembler accessItemAssembler;
   private final WorkbasketRepresentationModelAssembler workbasketAssembler;
@@ -62,7 +70,13 @@ public class WorkbasketDefinitionRepresentationModelAssembler
     } catch (NotAuthorizedException | WorkbasketNotFoundException e) {
       throw new SystemException("Caught Exception", e);
     }
+    return toModel(basket, authorizations, distroTargets);
+  }
 
+  private WorkbasketDefinitionRepresentationModel toModel(
+      WorkbasketRepresentationModel basket,
+      Collection<WorkbasketAccessItemRepresentationModel> authorizations,
+      Set<String> distroTargets) {
     WorkbasketDefinitionRepresentationModel repModel =
         new WorkbasketDefinitionRepresentationModel();
 
@@ -72,6 +86,66 @@ public class WorkbasketDefinitionRepresentationModelAssembler
     return repModel;
   }
 
+  /**
+   * Transforms the given workbaskets. The access items and the distribution targets of all
+   * workbaskets are read in batches instead of one by one.
+   *
+   * @param workbaskets the workbaskets to transform
+   * @return the collection of the workbasket definitions
+   */
+  @Override
+  public WorkbasketDefinitionCollectionRepresentationModel toTaskanaCollectionModel(
+      Iterable<Workbasket> workbaskets) {
+    List<Workbasket> workbasketList =
+        StreamSupport.stream(workbaskets.spliterator(), false).collect(Collectors.toList());
+    return addLinksToCollectionModel(buildCollectionEntity(toModels(workbasketList)));
+  }
+
+  /**
+   * Transforms the given workbaskets like {@linkplain #toTaskanaCollectionModel(Iterable)}, but
+   * without the links of a collection.
+   *
+   * @param workbaskets the workbaskets to transform
+   * @return the workbasket definitions in the order of the workbaskets
+   * @throws SystemException if the access items or distribution targets could not be read
+   */
+  public List<WorkbasketDefinitionRepresentationModel> toModels(List<Workbasket> workbaskets) {
+    List<String> workbasketIds =
+        workbaskets.stream().map(Workbasket::getId).collect(Collectors.toList());
+    Map<String, List<WorkbasketAccessItem>> accessItemsByWorkbasketId;
+    Map<String, List<String>> distributionTargetIds;
+    try {
+      List<WorkbasketAccessItem> accessItems = new ArrayList<>();
+      for (List<String> idsOfBatch :
+          CollectionUtil.partitionBasedOnSize(workbasketIds, MAX_IDS_PER_QUERY)) {
+        accessItems.addAll(
+            workbasketService
+                .createWorkbasketAccessItemQuery()
+                .workbasketIdIn(idsOfBatch.toArray(new String[0]))
+                .list());
+      }
+      accessItemsByWorkbasketId =
+          accessItems.stream()
+              .collect(Collectors.groupingBy(WorkbasketAccessItem::getWorkbasketId));
+      distributionTargetIds = workbasketService.getDistributionTargetIds(workbasketIds);
+    } catch (NotAuthorizedException e) {
+      throw new SystemException("Caught Exception", e);
+    }
+
+    return workbaskets.stream()
+        .map(
+            workbasket ->
+                toModel(
+                    workbasketAssembler.toModel(workbasket),
+                    accessItemAssembler
+                        .toCollectionModel(
+                            accessItemsByWorkbasketId.getOrDefault(
+                                workbasket.getId(), Collections.emptyList()))
+                        .getContent(),
+                    new HashSet<>(distributionTargetIds.get(workbasket.getId()))))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public WorkbasketDefinitionCollectionRepresentationModel buildCollectionEntity(
       List<WorkbasketDefinitionRepresentationModel> content) {
@@ -3,6 +3,7 @@ package pro.taskana.classification.rest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,6 +12,7 @@ import java.io.FileOutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
@@ -229,6 +231,34 @@ class ClassificationDefinitionControllerIntTest {
         .isEqualTo(HttpStatus.CONFLICT);
   }
 
+  @Test
+  void should_ReturnErrorsOfAllClassifications_When_ImportContainsSeveralInvalidOnes()
+      throws Exception {
+    ClassificationRepresentationModel typeChange = getClassificationWithKeyAndDomain("T6310", "");
+    typeChange.setType("DOCUMENT");
+    ClassificationRepresentationModel duplicate =
+        createClassification("id14", "ImportKey14", "DOMAIN_A", null, null);
+    ClassificationRepresentationModel valid =
+        createClassification("id15", "ImportKey15", "DOMAIN_A", null, null);
+    ClassificationCollectionRepresentationModel clList =
+        new ClassificationCollectionRepresentationModel(
+            List.of(typeChange, duplicate, duplicate, valid));
+
+    HttpStatusCodeException exception =
+        catchThrowableOfType(() -> importRequest(clList), HttpStatusCodeException.class);
+
+    assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    List<String> failedKeyDomains = new ArrayList<>();
+    mapper
+        .readTree(exception.getResponseBodyAsString())
+        .get("errors")
+        .fieldNames()
+        .forEachRemaining(failedKeyDomains::add);
+    assertThat(failedKeyDomains).containsExactlyInAnyOrder("T6310/", "ImportKey14/DOMAIN_A");
+    assertThat(classificationService.createClassificationQuery().keyIn("ImportKey15").list())
+        .isEmpty();
+  }
+
   @Test
   void should_CreateMultipleClassifications_When_ImportContainsMultipleClassifications()
       throws Exception {
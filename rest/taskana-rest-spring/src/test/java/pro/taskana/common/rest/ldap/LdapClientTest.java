@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -146,8 +147,65 @@ class LdapClientTest {
 
   @Test
   void testLdap_checkForMissingConfigurations() {
-    // optional config fields: minSearchForLength, maxNumberOfReturnedAccessIds
-    assertThat(cut.checkForMissingConfigurations()).hasSize(LdapSettings.values().length - 2);
+    // optional config fields: minSearchForLength, maxNumberOfReturnedAccessIds, the cache, the
+    // page size of the user synchronization and the seven optional user attributes
+    assertThat(cut.checkForMissingConfigurations()).hasSize(LdapSettings.values().length - 12);
+  }
+
+  @Test
+  void should_SearchLdapOnlyOnce_When_CacheIsEnabled() throws Exception {
+    setUpEnvMock();
+    lenient().when(environment.getProperty("taskana.ldap.cache.ttl")).thenReturn("PT1M");
+    cut.init();
+    AccessIdRepresentationModel user = new AccessIdRepresentationModel("testU", "testUId");
+    when(ldapTemplate.search(
+            any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class)))
+        .thenReturn(List.of(user));
+
+    assertThat(cut.searchUsersByNameOrAccessId("test")).containsExactly(user);
+    assertThat(cut.searchUsersByNameOrAccessId("test")).containsExactly(user);
+    assertThat(cut.isUser("testUId")).isTrue();
+    assertThat(cut.isUser("testUId")).isTrue();
+
+    verify(ldapTemplate, times(2))
+        .search(any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class));
+
+    cut.clearCache();
+    cut.searchUsersByNameOrAccessId("test");
+
+    verify(ldapTemplate, times(3))
+        .search(any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class));
+  }
+
+  @Test
+  void should_ReturnCopiesOfCachedAccessIds_When_CacheIsEnabled() throws Exception {
+    setUpEnvMock();
+    lenient().when(environment.getProperty("taskana.ldap.cache.ttl")).thenReturn("PT1M");
+    cut.init();
+    when(ldapTemplate.search(
+            any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class)))
+        .thenReturn(List.of(new AccessIdRepresentationModel("testU", "testUId")));
+
+    cut.searchUsersByNameOrAccessId("test").get(0).setName("changed");
+
+    assertThat(cut.searchUsersByNameOrAccessId("test"))
+        .extracting(AccessIdRepresentationModel::getName)
+        .containsExactly("testU");
+  }
+
+  @Test
+  void should_SearchLdapForEveryLookup_When_CacheIsDisabled() throws Exception {
+    setUpEnvMock();
+    cut.init();
+    when(ldapTemplate.search(
+            any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class)))
+        .thenReturn(List.of());
+
+    cut.searchUsersByNameOrAccessId("test");
+    cut.searchUsersByNameOrAccessId("test");
+
+    verify(ldapTemplate, times(2))
+        .search(any(String.class), any(), anyInt(), any(), any(LdapClient.UserContextMapper.class));
   }
 
   @Test
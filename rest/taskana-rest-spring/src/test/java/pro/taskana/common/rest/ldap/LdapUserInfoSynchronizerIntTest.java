@@ -0,0 +1,89 @@
+package pro.taskana.common.rest.ldap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.common.rest.models.AccessIdRepresentationModel;
+import pro.taskana.common.test.rest.TaskanaSpringBootTest;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.user.api.UserService;
+import pro.taskana.user.api.models.User;
+
+/** Tests the synchronization of the users from LDAP into the database. */
+@TaskanaSpringBootTest
+class LdapUserInfoSynchronizerIntTest {
+
+  private static final String TOO_LONG_USER_ID =
+      "das_ist_eine_sehr_sehr_sehr_sehr_sehr_lange_user_id";
+
+  private final LdapUserInfoSynchronizer synchronizer;
+  private final LdapClient ldapClient;
+  private final UserService userService;
+  private final DataSource dataSource;
+  private final String schemaName;
+
+  @Autowired
+  LdapUserInfoSynchronizerIntTest(
+      LdapUserInfoSynchronizer synchronizer,
+      LdapClient ldapClient,
+      TaskanaEngine taskanaEngine,
+      DataSource dataSource,
+      @Value("${taskana.schemaName:TASKANA}") String schemaName) {
+    this.synchronizer = synchronizer;
+    this.ldapClient = ldapClient;
+    this.userService = taskanaEngine.getUserService();
+    this.dataSource = dataSource;
+    this.schemaName = schemaName;
+  }
+
+  @AfterEach
+  void resetDb() {
+    SampleDataGenerator sampleDataGenerator = new SampleDataGenerator(dataSource, schemaName);
+    sampleDataGenerator.generateSampleData();
+  }
+
+  @Test
+  void should_WriteUsersWithGroupsFromLdap_When_SynchronizingUsers() throws Exception {
+    User userBeforeSynchronization = userService.getUser("teamlead-1");
+
+    BulkOperationResults<String, TaskanaException> results = synchronizer.synchronizeUsers();
+
+    // the id of this user is longer than the column USER_ID
+    assertThat(results.getFailedIds()).containsExactly(TOO_LONG_USER_ID);
+    User user = userService.getUser("teamlead-1");
+    assertThat(user.getFirstName()).isEqualTo("Titus");
+    assertThat(user.getLastName()).isEqualTo("Toll");
+    assertThat(user.getFullName()).isEqualTo("Titus Toll");
+    // the attributes of the other fields are not configured, so the fields keep their values
+    assertThat(user.getEmail()).isEqualTo(userBeforeSynchronization.getEmail());
+    assertThat(user.getData()).isEqualTo(userBeforeSynchronization.getData());
+    List<String> groupsInLdap =
+        ldapClient.searchGroupsAccessIdIsMemberOf("teamlead-1").stream()
+            .map(AccessIdRepresentationModel::getAccessId)
+            .collect(Collectors.toList());
+    assertThat(user.getGroups()).isNotEmpty().containsExactlyInAnyOrderElementsOf(groupsInLdap);
+    assertThat(userService.getUser("user-2-2").getGroups()).isNotEmpty();
+  }
+
+  @Test
+  void should_NotChangeUsers_When_SynchronizingUnchangedUsersAgain() throws Exception {
+    synchronizer.synchronizeUsers();
+    User user = userService.getUser("user-1-1");
+
+    BulkOperationResults<String, TaskanaException> results = synchronizer.synchronizeUsers();
+
+    // the id of this user is longer than the column USER_ID
+    assertThat(results.getFailedIds()).containsExactly(TOO_LONG_USER_ID);
+    assertThat(userService.getUser("user-1-1")).isEqualTo(user);
+  }
+}
@@ -5,15 +5,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import java.io.BufferedWriter;
 import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.sql.DataSource;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
@@ -25,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -38,6 +42,7 @@ import pro.taskana.common.test.rest.TaskanaSpringBootTest;
 import pro.taskana.sampledata.SampleDataGenerator;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.rest.models.ObjectReferenceRepresentationModel;
+import pro.taskana.task.rest.models.TaskCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel.CustomAttribute;
 import pro.taskana.task.rest.models.TaskSummaryCollectionRepresentationModel;
@@ -548,6 +553,144 @@ class TaskControllerIntTest {
     assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isNotNull();
   }
 
+  @Test
+  void should_ReturnAllTasksPageByPage_When_FollowingNextLinksOfKeysetPagination() {
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_TASKS) + "?sort-by=DUE&order=DESCENDING",
+            HttpMethod.GET,
+            auth,
+            TASK_SUMMARY_PAGE_MODEL_TYPE);
+    List<String> expectedIds =
+        response.getBody().getContent().stream()
+            .map(TaskSummaryRepresentationModel::getTaskId)
+            .collect(Collectors.toList());
+
+    List<String> ids = new ArrayList<>();
+    String url =
+        restHelper.toUrl(RestEndpoints.URL_TASKS)
+            + "?sort-by=DUE&order=DESCENDING&page-size=5&after=";
+    int pages = 0;
+    while (url != null) {
+      response = TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getPageMetadata()).isNull();
+      assertThat(response.getBody().getContent()).hasSizeLessThanOrEqualTo(5);
+      response.getBody().getContent().stream()
+          .map(TaskSummaryRepresentationModel::getTaskId)
+          .forEach(ids::add);
+      url = response.getBody().getLink(IanaLinkRelations.NEXT).map(Link::getHref).orElse(null);
+      pages++;
+    }
+
+    assertThat(pages).isEqualTo((expectedIds.size() + 4) / 5);
+    assertThat(ids).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expectedIds);
+  }
+
+  @Test
+  void should_NotCountTasks_When_SkipCountIsRequested() {
+    String url =
+        restHelper.toUrl(RestEndpoints.URL_TASKS)
+            + "?sort-by=DUE&order=DESCENDING&page-size=5&page=2&skip-count=true";
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent()).hasSize(5);
+    assertThat(response.getBody().getPageMetadata().getTotalElements()).isEqualTo(-1);
+    assertThat(response.getBody().getPageMetadata().getTotalPages()).isEqualTo(-1);
+    assertThat(response.getBody().getLink(IanaLinkRelations.LAST)).isEmpty();
+    assertThat(response.getBody().getLink(IanaLinkRelations.PREV)).isPresent();
+    assertThat(response.getBody().getRequiredLink(IanaLinkRelations.NEXT).getHref())
+        .endsWith("page-size=5&skip-count=true&page=3");
+  }
+
+  @Test
+  void should_ThrowException_When_AfterIsCombinedWithPage() {
+    String url = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?page-size=5&page=2&after=";
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ThrowingCallable httpCall =
+        () -> TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpStatusCodeException.class)
+        .extracting(HttpStatusCodeException.class::cast)
+        .extracting(HttpStatusCodeException::getStatusCode)
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  @Test
+  void should_OnlyReturnRequestedFields_When_FieldsAreProvided() {
+    String url =
+        restHelper.toUrl(RestEndpoints.URL_TASKS)
+            + "?fields=taskId,name,due,read&sort-by=DUE&page-size=5&page=1";
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+    ResponseEntity<JsonNode> jsonResponse =
+        TEMPLATE.exchange(url, HttpMethod.GET, auth, JsonNode.class);
+
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent())
+        .hasSize(5)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getTaskId()).isNotNull();
+              assertThat(task.getName()).isNotNull();
+              assertThat(task.getDue()).isNotNull();
+              assertThat(task.getCreated()).isNull();
+              assertThat(task.getClassificationSummary()).isNull();
+              assertThat(task.getWorkbasketSummary()).isNull();
+              assertThat(task.getPrimaryObjRef()).isNull();
+            });
+    assertThat(jsonResponse.getBody()).isNotNull();
+    JsonNode firstTask = jsonResponse.getBody().at("/tasks/0");
+    assertThat(firstTask.has("read")).isTrue();
+    assertThat(firstTask.has("created")).isFalse();
+    assertThat(firstTask.has("classificationSummary")).isFalse();
+    assertThat(firstTask.has("primaryObjRef")).isFalse();
+  }
+
+  @Test
+  void should_ReturnContainedSummaries_When_RequestedAsField() {
+    String url =
+        restHelper.toUrl(RestEndpoints.URL_TASKS)
+            + "?fields=name,classificationSummary&sort-by=DUE&page-size=5&page=1";
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+        TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThat(response.getBody()).isNotNull();
+    assertThat(response.getBody().getContent())
+        .hasSize(5)
+        .allSatisfy(
+            task -> {
+              assertThat(task.getClassificationSummary().getName()).isNotNull();
+              assertThat(task.getWorkbasketSummary().getName()).isNotNull();
+            });
+  }
+
+  @Test
+  void should_ThrowException_When_RequestedFieldIsUnknown() {
+    String url = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?fields=name,unknown";
+    HttpEntity<String> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ThrowingCallable httpCall =
+        () -> TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+    assertThatThrownBy(httpCall)
+        .isInstanceOf(HttpStatusCodeException.class)
+        .extracting(HttpStatusCodeException.class::cast)
+        .extracting(HttpStatusCodeException::getStatusCode)
+        .isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
   @Test
   void should_NotGetEmptyAttachmentList_When_GettingTaskWithAttachment() {
     String url =
@@ -647,6 +790,44 @@ class TaskControllerIntTest {
     assertThat(responseDeleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
   }
 
+  @Test
+  void should_CreateTasksAndReportFailures_When_CreatingTasksInBulk() {
+    TaskRepresentationModel validTask = getTaskResourceSample();
+    validTask.setExternalId("ETI:BULK-CREATED-TASK");
+    TaskRepresentationModel duplicateTask = getTaskResourceSample();
+    duplicateTask.setExternalId("ETI:000000000000000000000000000000000001");
+    TaskCollectionRepresentationModel tasks =
+        new TaskCollectionRepresentationModel(List.of(validTask, duplicateTask));
+    String url = restHelper.toUrl(RestEndpoints.URL_TASKS_BULK);
+    HttpEntity<TaskCollectionRepresentationModel> auth =
+        new HttpEntity<>(tasks, RestHelper.generateHeadersForUser("teamlead-1"));
+
+    ResponseEntity<JsonNode> response =
+        TEMPLATE.exchange(
+            url, HttpMethod.POST, auth, ParameterizedTypeReference.forType(JsonNode.class));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull();
+    JsonNode errors = response.getBody().get("errors");
+    assertThat(errors.size()).isOne();
+    assertThat(errors.get("ETI:000000000000000000000000000000000001").get("key").asText())
+        .isEqualTo("TASK_ALREADY_EXISTS");
+
+    String url2 = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?external-id=ETI:BULK-CREATED-TASK";
+    HttpEntity<Object> auth2 = new HttpEntity<>(RestHelper.generateHeadersForUser("admin"));
+    ResponseEntity<TaskSummaryPagedRepresentationModel> responseQuery =
+        TEMPLATE.exchange(url2, HttpMethod.GET, auth2, TASK_SUMMARY_PAGE_MODEL_TYPE);
+    assertThat(responseQuery.getBody()).isNotNull();
+    assertThat(responseQuery.getBody().getContent()).hasSize(1);
+
+    String taskIdOfCreatedTask = responseQuery.getBody().getContent().iterator().next().getTaskId();
+    String url3 = restHelper.toUrl(RestEndpoints.URL_TASKS_ID, taskIdOfCreatedTask);
+    ResponseEntity<Void> responseDeleted =
+        TEMPLATE.exchange(
+            url3, HttpMethod.DELETE, auth2, ParameterizedTypeReference.forType(Void.class));
+    assertThat(responseDeleted.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+  }
+
   /**
    * TSK-926: If Planned and Due Date is provided to create a task and not matching to service level
    * throw an exception One is calculated by other other date +- service level.
@@ -5,6 +5,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 
+import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +20,7 @@ import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.task.rest.assembler.TaskRepresentationModelAssembler;
+import pro.taskana.task.rest.models.TaskCollectionRepresentationModel;
 import pro.taskana.task.rest.models.TaskRepresentationModel;
 
 @ExtendWith(JaasExtension.class)
@@ -120,6 +122,25 @@ class TaskControllerRestDocTest extends BaseRestDocTest {
         .andExpect(MockMvcResultMatchers.status().isCreated());
   }
 
+  @Test
+  void createTasksDocTest() throws Exception {
+    final Task task = taskService.newTask("WBI:100000000000000000000000000000000004");
+    ObjectReference objectReference = new ObjectReference();
+    objectReference.setCompany("MyCompany1");
+    objectReference.setSystem("MySystem1");
+    objectReference.setSystemInstance("MyInstance1");
+    objectReference.setType("MyType1");
+    objectReference.setValue("00000001");
+    task.setPrimaryObjRef(objectReference);
+    task.setClassificationKey("L11010");
+    TaskCollectionRepresentationModel repModel =
+        new TaskCollectionRepresentationModel(List.of(assembler.toModel(task)));
+    mockMvc
+        .perform(
+            post(RestEndpoints.URL_TASKS_BULK).content(objectMapper.writeValueAsString(repModel)))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
+
   @Test
   void deleteTaskDocTest() throws Exception {
     mockMvc
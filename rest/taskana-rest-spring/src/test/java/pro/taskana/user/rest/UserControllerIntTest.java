@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.common.test.rest.RestHelper.TEMPLATE;
 
+import java.util.Set;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +54,7 @@ class UserControllerIntTest {
     newUser.setLongName("Georg, Hans - (12345)");
     newUser.setEmail("hans.georg@web.com");
     newUser.setMobilePhone("017325862");
+    newUser.setGroups(Set.of("cn=ksc-users,cn=groups,ou=test,o=taskana"));
 
     String url = restHelper.toUrl(RestEndpoints.URL_USERS);
     HttpEntity<?> auth = new HttpEntity<>(newUser, RestHelper.generateHeadersForUser("teamlead-1"));
@@ -107,6 +109,36 @@ class UserControllerIntTest {
     assertThat(responseEntity.getBody().getLastName()).isEqualTo("Mueller");
   }
 
+  @Test
+  void should_KeepGroups_When_CallingUpdateEndpointWithoutGroups() throws Exception {
+    UserRepresentationModel newUser = new UserRepresentationModel();
+    newUser.setUserId("user-with-groups");
+    newUser.setFirstName("Hans");
+    newUser.setLastName("Georg");
+    newUser.setGroups(Set.of("cn=ksc-users,cn=groups,ou=test,o=taskana"));
+    HttpEntity<?> auth = new HttpEntity<>(newUser, RestHelper.generateHeadersForUser("teamlead-1"));
+    TEMPLATE.exchange(
+        restHelper.toUrl(RestEndpoints.URL_USERS),
+        HttpMethod.POST,
+        auth,
+        ParameterizedTypeReference.forType(UserRepresentationModel.class));
+
+    newUser.setLastName("Mueller");
+    newUser.setGroups(null);
+    auth = new HttpEntity<>(newUser, RestHelper.generateHeadersForUser("teamlead-1"));
+    ResponseEntity<UserRepresentationModel> responseEntity =
+        TEMPLATE.exchange(
+            restHelper.toUrl(RestEndpoints.URL_USERS_ID, "user-with-groups"),
+            HttpMethod.PUT,
+            auth,
+            ParameterizedTypeReference.forType(UserRepresentationModel.class));
+
+    assertThat(responseEntity.getBody()).isNotNull();
+    assertThat(responseEntity.getBody().getLastName()).isEqualTo("Mueller");
+    assertThat(responseEntity.getBody().getGroups())
+        .containsExactly("cn=ksc-users,cn=groups,ou=test,o=taskana");
+  }
+
   @Test
   void should_DeleteExistingUser_When_CallingDeleteEndpoint() {
     String url = restHelper.toUrl(RestEndpoints.URL_USERS_ID, "user-1-1");
@@ -2,6 +2,7 @@ package pro.taskana.user.rest.assembler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -39,6 +40,7 @@ class UserRepresentationModelAssemblerTest {
     user.setOrgLevel2("Human Workflow");
     user.setOrgLevel1("TASKANA");
     user.setData("xy");
+    user.setGroups(Set.of("group-1", "group-2"));
 
     UserRepresentationModel repModel = assembler.toModel(user);
     testEquality(user, repModel);
@@ -60,6 +62,7 @@ class UserRepresentationModelAssemblerTest {
     repModel.setOrgLevel2("Human Workflow");
     repModel.setOrgLevel1("TASKANA");
     repModel.setData("xy");
+    repModel.setGroups(Set.of("group-1", "group-2"));
 
     User user = assembler.toEntityModel(repModel);
     testEquality(user, repModel);
@@ -81,6 +84,7 @@ class UserRepresentationModelAssemblerTest {
     user.setOrgLevel2("Human Workflow");
     user.setOrgLevel1("TASKANA");
     user.setData("xy");
+    user.setGroups(Set.of("group-1", "group-2"));
 
     UserRepresentationModel repModel = assembler.toModel(user);
     User userAfterConversion = assembler.toEntityModel(repModel);
@@ -109,5 +113,6 @@ class UserRepresentationModelAssemblerTest {
     assertThat(entity.getOrgLevel2()).isEqualTo(repModel.getOrgLevel2());
     assertThat(entity.getOrgLevel1()).isEqualTo(repModel.getOrgLevel1());
     assertThat(entity.getData()).isEqualTo(repModel.getData());
+    assertThat(entity.getGroups()).isEqualTo(repModel.getGroups());
   }
 }